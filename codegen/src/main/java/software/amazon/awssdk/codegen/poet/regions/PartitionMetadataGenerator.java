@@ -0,0 +1,93 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.regions;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.squareup.javapoet.JavaFile;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import software.amazon.awssdk.regions.internal.model.Partitions;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * Generates the {@code GeneratedPartitionMetadata} class of the regions module from its endpoints.json file. The generated
+ * class is checked in next to the endpoints.json file it was generated from, so it has to be regenerated whenever the
+ * endpoints.json file is updated, e.g. from the root of the repository:
+ *
+ * <pre>
+ * java -cp ... software.amazon.awssdk.codegen.poet.regions.PartitionMetadataGenerator \
+ *     core/regions/src/main/resources/software/amazon/awssdk/regions/internal/region/endpoints.json \
+ *     core/regions/src/main/java
+ * </pre>
+ */
+public final class PartitionMetadataGenerator {
+
+    /**
+     * The generated class is part of the regions module, so it carries the same copyright header as the rest of the module.
+     */
+    private static final String COPYRIGHT_DATE_RANGE = "2010-2018";
+
+    private PartitionMetadataGenerator() {
+    }
+
+    /**
+     * @param args The endpoints.json file to generate the metadata from and the source root to generate the class into.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: PartitionMetadataGenerator <endpoints.json> <source root>");
+        }
+        generate(Paths.get(args[0]), Paths.get(args[1]));
+    }
+
+    public static void generate(Path endpointsFile, Path sourceRoot) throws IOException {
+        Partitions partitions;
+        try (InputStream stream = Files.newInputStream(endpointsFile)) {
+            partitions = JSON.std.with(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)
+                                 .with(JSON.Feature.USE_IS_GETTERS)
+                                 .beanFrom(Partitions.class, stream);
+        }
+
+        PartitionMetadataSpec spec = new PartitionMetadataSpec(partitions);
+        Path outputDirectory = sourceRoot.resolve(spec.className().packageName().replace('.', File.separatorChar));
+        Files.createDirectories(outputDirectory);
+
+        // Written as formatted by JavaPoet rather than through the code writer, whose formatter reflows the copyright header
+        // that the checkstyle rules of the regions module require verbatim
+        JavaFile javaFile = JavaFile.builder(spec.className().packageName(), spec.poetSpec())
+                                    .indent("    ")
+                                    .skipJavaLangImports(true)
+                                    .build();
+        try (Writer writer = Files.newBufferedWriter(outputDirectory.resolve(spec.className().simpleName() + ".java"),
+                                                     StandardCharsets.UTF_8)) {
+            writer.write(fileHeader().trim() + "\n\n");
+            javaFile.writeTo(writer);
+        }
+    }
+
+    private static String fileHeader() throws IOException {
+        try (InputStream inputStream = PartitionMetadataGenerator.class
+            .getResourceAsStream("/software/amazon/awssdk/codegen/DefaultFileHeader.txt")) {
+            return IoUtils.toUtf8String(inputStream).replaceFirst("%COPYRIGHT_DATE_RANGE%", COPYRIGHT_DATE_RANGE);
+        }
+    }
+}
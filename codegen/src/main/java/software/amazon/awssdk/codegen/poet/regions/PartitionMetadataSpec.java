@@ -0,0 +1,243 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.regions;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.lang.model.element.Modifier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.codegen.poet.ClassSpec;
+import software.amazon.awssdk.codegen.poet.PoetUtils;
+import software.amazon.awssdk.regions.internal.model.CredentialScope;
+import software.amazon.awssdk.regions.internal.model.Endpoint;
+import software.amazon.awssdk.regions.internal.model.Partition;
+import software.amazon.awssdk.regions.internal.model.PartitionRegion;
+import software.amazon.awssdk.regions.internal.model.Partitions;
+import software.amazon.awssdk.regions.internal.model.Service;
+import software.amazon.awssdk.utils.StringUtils;
+
+/**
+ * Generates the class holding the partition, region and service endpoint metadata of an endpoints.json file as code, so
+ * the metadata can be created without parsing and binding JSON when a client is first created.
+ *
+ * <p>Every partition and every service of a partition is created by its own method to keep the size of the methods far below
+ * the limit of the class file format.</p>
+ */
+public class PartitionMetadataSpec implements ClassSpec {
+
+    private static final String REGIONS_INTERNAL_PACKAGE = "software.amazon.awssdk.regions.internal";
+
+    private final Partitions partitions;
+    private final Set<String> methodNames = new HashSet<>();
+
+    public PartitionMetadataSpec(Partitions partitions) {
+        this.partitions = partitions;
+    }
+
+    @Override
+    public TypeSpec poetSpec() {
+        TypeSpec.Builder builder = PoetUtils.createClassBuilder(className())
+                                            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                                            .addAnnotation(SdkInternalApi.class)
+                                            .addJavadoc("Partition metadata generated from the endpoints.json file of the "
+                                                        + "regions module, version $L.\n", partitions.getVersion())
+                                            .addMethod(MethodSpec.constructorBuilder()
+                                                                 .addModifiers(Modifier.PRIVATE)
+                                                                 .build());
+
+        List<MethodSpec> partitionMethods = new ArrayList<>();
+        List<MethodSpec> serviceMethods = new ArrayList<>();
+        for (Partition partition : partitions.getPartitions()) {
+            partitionMethods.add(partitionMethod(partition, serviceMethods));
+        }
+
+        builder.addMethod(partitionsMethod(partitionMethods));
+        builder.addMethods(partitionMethods);
+        builder.addMethods(serviceMethods);
+        builder.addMethod(endpointMethod());
+        builder.addMethod(credentialScopeMethod());
+        return builder.build();
+    }
+
+    @Override
+    public ClassName className() {
+        return ClassName.get(REGIONS_INTERNAL_PACKAGE, "GeneratedPartitionMetadata");
+    }
+
+    private MethodSpec partitionsMethod(List<MethodSpec> partitionMethods) {
+        String calls = partitionMethods.stream().map(m -> m.name + "()").collect(Collectors.joining(", "));
+        return MethodSpec.methodBuilder("partitions")
+                         .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                         .addJavadoc("Creates a new, mutable copy of the metadata of all partitions.\n")
+                         .returns(ParameterizedTypeName.get(List.class, Partition.class))
+                         .addStatement("return new $T<>($T.asList($L))", ArrayList.class, Arrays.class, calls)
+                         .build();
+    }
+
+    private MethodSpec partitionMethod(Partition partition, List<MethodSpec> serviceMethods) {
+        MethodSpec.Builder method = MethodSpec.methodBuilder(methodName(partition.getPartition(), "partition"))
+                                              .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                                              .returns(Partition.class);
+
+        // The maps are created first so every variable is declared right before it is used
+        if (partition.getRegions() != null) {
+            method.addStatement("$T<String, $T> regions = new $T<>()", Map.class, PartitionRegion.class, LinkedHashMap.class);
+            partition.getRegions().forEach((name, region) -> method.addStatement("regions.put($S, new $T($S))", name,
+                                                                                 PartitionRegion.class,
+                                                                                 region.getDescription()));
+        }
+        if (partition.getServices() != null) {
+            method.addStatement("$T<String, $T> services = new $T<>()", Map.class, Service.class, LinkedHashMap.class);
+            partition.getServices().forEach((name, service) -> {
+                MethodSpec serviceMethod = serviceMethod(partition.getPartition(), name, service);
+                serviceMethods.add(serviceMethod);
+                method.addStatement("services.put($S, $N())", name, serviceMethod);
+            });
+        }
+
+        method.addStatement("$1T partition = new $1T()", Partition.class)
+              .addStatement("partition.setPartition($S)", partition.getPartition());
+        setIfPresent(method, "partition.setPartitionName($S)", partition.getPartitionName());
+        setIfPresent(method, "partition.setDnsSuffix($S)", partition.getDnsSuffix());
+        setIfPresent(method, "partition.setRegionRegex($S)", partition.getRegionRegex());
+        if (partition.getDefaults() != null) {
+            method.addStatement("partition.setDefaults($L)", endpoint(partition.getDefaults()));
+        }
+        if (partition.getRegions() != null) {
+            method.addStatement("partition.setRegions(regions)");
+        }
+        if (partition.getServices() != null) {
+            method.addStatement("partition.setServices(services)");
+        }
+
+        return method.addStatement("return partition").build();
+    }
+
+    private MethodSpec serviceMethod(String partition, String serviceName, Service service) {
+        MethodSpec.Builder method = MethodSpec.methodBuilder(methodName(partition, serviceName))
+                                              .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                                              .returns(Service.class);
+
+        if (service.getEndpoints() != null) {
+            method.addStatement("$T<String, $T> endpoints = new $T<>()", Map.class, Endpoint.class, LinkedHashMap.class);
+            service.getEndpoints().forEach((name, endpoint) -> method.addStatement("endpoints.put($S, $L)", name,
+                                                                                   endpoint(endpoint)));
+        }
+
+        method.addStatement("$1T service = new $1T()", Service.class);
+        setIfPresent(method, "service.setPartitionEndpoint($S)", service.getPartitionEndpoint());
+        if (service.isRegionalized()) {
+            method.addStatement("service.setIsRegionalized(true)");
+        }
+        if (service.getDefaults() != null) {
+            method.addStatement("service.setDefaults($L)", endpoint(service.getDefaults()));
+        }
+        if (service.getEndpoints() != null) {
+            method.addStatement("service.setEndpoints(endpoints)");
+        }
+
+        return method.addStatement("return service").build();
+    }
+
+    private CodeBlock endpoint(Endpoint endpoint) {
+        if (endpoint.getHostname() == null && endpoint.getCredentialScope() == null && endpoint.getProtocols() == null
+            && endpoint.getSignatureVersions() == null && endpoint.getSslCommonName() == null) {
+            return CodeBlock.of("new $T()", Endpoint.class);
+        }
+
+        CodeBlock credentialScope = endpoint.getCredentialScope() == null
+                                    ? CodeBlock.of("null")
+                                    : CodeBlock.of("credentialScope($S, $S)", endpoint.getCredentialScope().getRegion(),
+                                                   endpoint.getCredentialScope().getService());
+        return CodeBlock.of("endpoint($S,$W$L,$W$L,$W$L,$W$S)", endpoint.getHostname(), credentialScope,
+                            stringList(endpoint.getProtocols()), stringList(endpoint.getSignatureVersions()),
+                            endpoint.getSslCommonName());
+    }
+
+    private CodeBlock stringList(List<String> strings) {
+        if (strings == null) {
+            return CodeBlock.of("null");
+        }
+        CodeBlock elements = strings.stream().map(s -> CodeBlock.of("$S", s)).collect(CodeBlock.joining(",$W"));
+        return CodeBlock.of("$T.asList($L)", Arrays.class, elements);
+    }
+
+    private MethodSpec endpointMethod() {
+        ParameterizedTypeName stringList = ParameterizedTypeName.get(List.class, String.class);
+        return MethodSpec.methodBuilder("endpoint")
+                         .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                         .returns(Endpoint.class)
+                         .addParameter(String.class, "hostname")
+                         .addParameter(CredentialScope.class, "credentialScope")
+                         .addParameter(stringList, "protocols")
+                         .addParameter(stringList, "signatureVersions")
+                         .addParameter(String.class, "sslCommonName")
+                         .addStatement("$1T endpoint = new $1T()", Endpoint.class)
+                         .addStatement("endpoint.setHostname(hostname)")
+                         .addStatement("endpoint.setCredentialScope(credentialScope)")
+                         .addStatement("endpoint.setProtocols(protocols)")
+                         .addStatement("endpoint.setSignatureVersions(signatureVersions)")
+                         .addStatement("endpoint.setSslCommonName(sslCommonName)")
+                         .addStatement("return endpoint")
+                         .build();
+    }
+
+    private MethodSpec credentialScopeMethod() {
+        return MethodSpec.methodBuilder("credentialScope")
+                         .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                         .returns(CredentialScope.class)
+                         .addParameter(String.class, "region")
+                         .addParameter(String.class, "service")
+                         .addStatement("$1T credentialScope = new $1T()", CredentialScope.class)
+                         .addStatement("credentialScope.setRegion(region)")
+                         .addStatement("credentialScope.setService(service)")
+                         .addStatement("return credentialScope")
+                         .build();
+    }
+
+    private static void setIfPresent(MethodSpec.Builder method, String format, String value) {
+        if (value != null) {
+            method.addStatement(format, value);
+        }
+    }
+
+    /**
+     * Creates a camel cased method name from the partition and the service or other suffix, e.g. "awsUsGovApiEcr" for the
+     * "api.ecr" service of the "aws-us-gov" partition.
+     */
+    private String methodName(String partition, String suffix) {
+        String name = Arrays.stream((partition + "-" + suffix).split("[^A-Za-z0-9]+"))
+                            .filter(s -> !s.isEmpty())
+                            .map(StringUtils::capitalize)
+                            .collect(Collectors.joining());
+        name = StringUtils.uncapitalize(name);
+        if (!methodNames.add(name)) {
+            throw new IllegalStateException("Duplicate method name " + name + " generated for " + partition + " " + suffix);
+        }
+        return name;
+    }
+}
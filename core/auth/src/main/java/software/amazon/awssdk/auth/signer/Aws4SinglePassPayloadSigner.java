@@ -0,0 +1,203 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer;
+
+import static software.amazon.awssdk.auth.signer.internal.SignerConstant.STREAMING_PAYLOAD;
+import static software.amazon.awssdk.auth.signer.internal.SignerConstant.UNSIGNED_PAYLOAD;
+import static software.amazon.awssdk.auth.signer.internal.SignerConstant.X_AMZ_CONTENT_SHA256;
+import static software.amazon.awssdk.auth.signer.internal.SignerConstant.X_AMZ_DECODED_CONTENT_LENGTH;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.auth.signer.internal.Aws4SignerRequestParams;
+import software.amazon.awssdk.auth.signer.internal.AwsChunkedEncodingAsyncRequestBody;
+import software.amazon.awssdk.auth.signer.internal.AwsChunkedEncodingInputStream;
+import software.amazon.awssdk.auth.signer.internal.BaseAws4Signer;
+import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.signer.AsyncRequestBodySigner;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Same as {@link Aws4Signer} except the payload is never read before the request is sent, so large uploads are read once,
+ * while they are transmitted, instead of once to hash them and once more to send them.
+ * <p>
+ * Requests sent over HTTPS use <code>UNSIGNED-PAYLOAD</code> as the content SHA-256, like the
+ * {@link Aws4UnsignedPayloadSigner}. Requests sent over HTTP with a <code>Content-Length</code> have their payload
+ * chunk-encoded, every chunk being signed as it's written, using <code>STREAMING-AWS4-HMAC-SHA256-PAYLOAD</code> as the
+ * content SHA-256. Payloads of unknown length sent over HTTP are hashed up front as by the {@link Aws4Signer}.
+ * <p>
+ * The content of asynchronous requests is chunk-encoded as it's published, see {@link AsyncRequestBodySigner}.
+ * <p>
+ * Only use it with services that accept unsigned and chunk-signed payloads, such as S3. It can be used for all requests of a
+ * client or for individual requests, by setting it as the signer of the client or of the request override configuration.
+ */
+@SdkPublicApi
+public final class Aws4SinglePassPayloadSigner extends BaseAws4Signer implements AsyncRequestBodySigner {
+
+    private static final String CONTENT_LENGTH = "Content-Length";
+
+    /**
+     * The signature and signing key of the last request signed with the execution attributes, which the chunks of its
+     * asynchronous content are signed from.
+     */
+    private static final ExecutionAttribute<ChunkSigningSeed> CHUNK_SIGNING_SEED = new ExecutionAttribute<>("ChunkSigningSeed");
+
+    private Aws4SinglePassPayloadSigner() {
+    }
+
+    public static Aws4SinglePassPayloadSigner create() {
+        return new Aws4SinglePassPayloadSigner();
+    }
+
+    @Override
+    public SdkHttpFullRequest sign(SdkHttpFullRequest request, ExecutionAttributes executionAttributes) {
+        request = addContentSha256Header(request);
+        SdkHttpFullRequest signedRequest = super.sign(request, executionAttributes);
+        ChunkSigningSeed seed = signedRequest.contentStreamProvider()
+                                             .filter(ChunkEncodingStreamProvider.class::isInstance)
+                                             .map(provider -> ((ChunkEncodingStreamProvider) provider).seed)
+                                             .orElse(null);
+        executionAttributes.putAttribute(CHUNK_SIGNING_SEED, seed);
+        return signedRequest;
+    }
+
+    @Override
+    public SdkHttpFullRequest sign(SdkHttpFullRequest request, Aws4SignerParams signingParams) {
+        request = addContentSha256Header(request);
+        return super.sign(request, signingParams);
+    }
+
+    @Override
+    protected String calculateContentHash(SdkHttpFullRequest.Builder mutableRequest, Aws4SignerParams signerParams) {
+        if ("https".equals(mutableRequest.protocol())) {
+            return UNSIGNED_PAYLOAD;
+        }
+        Optional<String> contentLength = mutableRequest.firstMatchingHeader(CONTENT_LENGTH);
+        if (!contentLength.isPresent()) {
+            return super.calculateContentHash(mutableRequest, signerParams);
+        }
+        // The chunk-encoded length has to be known up front, since the chunks are only signed as they're sent
+        long decodedContentLength = Long.parseLong(contentLength.get());
+        mutableRequest.putHeader(X_AMZ_DECODED_CONTENT_LENGTH, Long.toString(decodedContentLength));
+        mutableRequest.putHeader(CONTENT_LENGTH,
+                                 Long.toString(AwsChunkedEncodingInputStream.calculateStreamContentLength(decodedContentLength)));
+        return STREAMING_PAYLOAD;
+    }
+
+    /**
+     * Chunk-encodes the payload when its content SHA-256 is <code>STREAMING-AWS4-HMAC-SHA256-PAYLOAD</code>, signing every
+     * chunk with the signature of the previous one, starting from the signature of the request.
+     */
+    @Override
+    protected void processRequestPayload(SdkHttpFullRequest.Builder mutableRequest,
+                                         byte[] signature,
+                                         byte[] signingKey,
+                                         Aws4SignerRequestParams signerRequestParams,
+                                         Aws4SignerParams signerParams) {
+        boolean streaming = mutableRequest.firstMatchingHeader(X_AMZ_CONTENT_SHA256)
+                                          .filter(STREAMING_PAYLOAD::equals)
+                                          .isPresent();
+        if (!streaming) {
+            return;
+        }
+        // Asynchronous requests carry their content separately, a request without content still sends the final chunk
+        ContentStreamProvider streamProvider = mutableRequest.contentStreamProvider() != null
+                                               ? mutableRequest.contentStreamProvider()
+                                               : () -> new ByteArrayInputStream(new byte[0]);
+        ChunkSigningSeed seed = new ChunkSigningSeed(signingKey,
+                                                     signerRequestParams.getFormattedSigningDateTime(),
+                                                     signerRequestParams.getScope(),
+                                                     BinaryUtils.toHex(signature));
+        mutableRequest.contentStreamProvider(new ChunkEncodingStreamProvider(streamProvider, seed));
+    }
+
+    /**
+     * Chunk-encodes the content when the request was signed with a <code>STREAMING-AWS4-HMAC-SHA256-PAYLOAD</code> content
+     * SHA-256. The chunks are signed from the signature and signing key handed over by
+     * {@link #sign(SdkHttpFullRequest, ExecutionAttributes)} in the execution attributes.
+     *
+     * @throws IllegalStateException If the request wasn't signed by this signer with the same execution attributes.
+     */
+    @Override
+    public AsyncRequestBody signAsyncRequestBody(SdkHttpFullRequest request,
+                                                 AsyncRequestBody asyncRequestBody,
+                                                 ExecutionAttributes executionAttributes) {
+        boolean streaming = request.firstMatchingHeader(X_AMZ_CONTENT_SHA256)
+                                   .filter(STREAMING_PAYLOAD::equals)
+                                   .isPresent();
+        if (!streaming) {
+            return asyncRequestBody;
+        }
+        ChunkSigningSeed seed = executionAttributes.getAttribute(CHUNK_SIGNING_SEED);
+        Validate.validState(seed != null, "The request wasn't signed by this signer with the execution attributes its content "
+                                          + "is signed with.");
+
+        return new AwsChunkedEncodingAsyncRequestBody(asyncRequestBody,
+                                                      seed.signingKey,
+                                                      seed.dateTime,
+                                                      seed.scope,
+                                                      seed.signature);
+    }
+
+    private SdkHttpFullRequest addContentSha256Header(SdkHttpFullRequest request) {
+        return request.toBuilder().putHeader(X_AMZ_CONTENT_SHA256, "required").build();
+    }
+
+    /**
+     * What the chunks of a payload are signed from: the signature of the request, which signs the first chunk, and the
+     * signing key of the request.
+     */
+    private static final class ChunkSigningSeed {
+        private final byte[] signingKey;
+        private final String dateTime;
+        private final String scope;
+        private final String signature;
+
+        private ChunkSigningSeed(byte[] signingKey, String dateTime, String scope, String signature) {
+            this.signingKey = signingKey;
+            this.dateTime = dateTime;
+            this.scope = scope;
+            this.signature = signature;
+        }
+    }
+
+    /**
+     * Chunk-encodes every new stream of the payload, keeping the seed the chunks are signed from.
+     */
+    private static final class ChunkEncodingStreamProvider implements ContentStreamProvider {
+        private final ContentStreamProvider delegate;
+        private final ChunkSigningSeed seed;
+
+        private ChunkEncodingStreamProvider(ContentStreamProvider delegate, ChunkSigningSeed seed) {
+            this.delegate = delegate;
+            this.seed = seed;
+        }
+
+        @Override
+        public InputStream newStream() {
+            return new AwsChunkedEncodingInputStream(delegate.newStream(), seed.signingKey, seed.dateTime, seed.scope,
+                                                     seed.signature);
+        }
+    }
+}
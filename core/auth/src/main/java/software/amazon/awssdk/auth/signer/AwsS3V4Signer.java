@@ -157,7 +157,7 @@ public final class AwsS3V4Signer extends AbstractAws4Signer<AwsS3V4SignerParams,
                 signingKey,
                 signerRequestParams.getFormattedSigningDateTime(),
                 signerRequestParams.getScope(),
-                BinaryUtils.toHex(signature), this);
+                BinaryUtils.toHex(signature));
     }
 
     /**
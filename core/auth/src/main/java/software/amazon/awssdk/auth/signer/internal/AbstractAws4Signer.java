@@ -19,7 +19,7 @@ import static software.amazon.awssdk.utils.DateUtils.numberOfDaysSinceEpoch;
 import static software.amazon.awssdk.utils.StringUtils.lowerCase;
 
 import java.io.InputStream;
-import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -54,8 +54,9 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
 
     private static final Logger LOG = Logger.loggerFor(Aws4Signer.class);
     private static final int SIGNER_CACHE_MAX_SIZE = 300;
-    private static final FifoCache<SignerKey> SIGNER_CACHE =
-        new FifoCache<>(SIGNER_CACHE_MAX_SIZE);
+    private static final int CANONICAL_REQUEST_INITIAL_CAPACITY = 512;
+    private static final int AUTHORIZATION_HEADER_INITIAL_CAPACITY = 256;
+    private static final SigningKeyCache SIGNER_CACHE = new SigningKeyCache(SIGNER_CACHE_MAX_SIZE);
     private static final List<String> LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE = Arrays.asList("connection", "x-amzn-trace-id");
 
     protected SdkHttpFullRequest.Builder doSign(SdkHttpFullRequest request,
@@ -76,7 +77,12 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                       .filter(h -> h.equals("required"))
                       .ifPresent(h -> mutableRequest.putHeader(SignerConstant.X_AMZ_CONTENT_SHA256, contentSha256));
 
-        String canonicalRequest = createCanonicalRequest(mutableRequest, contentSha256, signingParams.doubleUrlEncode());
+        Map<String, List<String>> headers = mutableRequest.headers();
+        List<String> signedHeaders = getSortedSignedHeaders(headers);
+        String signedHeadersString = getSignedHeadersString(signedHeaders);
+
+        String canonicalRequest = createCanonicalRequest(mutableRequest, headers, signedHeaders, signedHeadersString,
+                                                         contentSha256, signingParams.doubleUrlEncode());
 
         String stringToSign = createStringToSign(canonicalRequest, requestParams);
 
@@ -85,7 +91,7 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         byte[] signature = computeSignature(stringToSign, signingKey);
 
         mutableRequest.putHeader(SignerConstant.AUTHORIZATION,
-                                 buildAuthorizationHeader(signature, sanitizedCredentials, requestParams, mutableRequest));
+                                 buildAuthorizationHeader(signature, sanitizedCredentials, requestParams, signedHeadersString));
 
         processRequestPayload(mutableRequest, signature, signingKey, requestParams, signingParams);
 
@@ -113,11 +119,17 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         // Add the important parameters for v4 signing
         String timeStamp = requestParams.getFormattedSigningDateTime();
 
-        addPreSignInformationToRequest(mutableRequest, sanitizedCredentials, requestParams, timeStamp, expirationInSeconds);
+        Map<String, List<String>> headers = mutableRequest.headers();
+        List<String> signedHeaders = getSortedSignedHeaders(headers);
+        String signedHeadersString = getSignedHeadersString(signedHeaders);
+
+        addPreSignInformationToRequest(mutableRequest, sanitizedCredentials, requestParams, signedHeadersString, timeStamp,
+                                       expirationInSeconds);
 
         String contentSha256 = calculateContentHashPresign(mutableRequest, signingParams);
 
-        String canonicalRequest = createCanonicalRequest(mutableRequest, contentSha256, signingParams.doubleUrlEncode());
+        String canonicalRequest = createCanonicalRequest(mutableRequest, headers, signedHeaders, signedHeadersString,
+                                                         contentSha256, signingParams.doubleUrlEncode());
 
         String stringToSign = createStringToSign(canonicalRequest, requestParams);
 
@@ -161,24 +173,32 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      * http://docs.aws
      * .amazon.com/general/latest/gr/sigv4-create-canonical-request.html to
      * generate the canonical request.
+     *
+     * The headers, their sorted signed names and the signed header string are computed once by the caller and shared with
+     * the rest of the signing process, and the whole request is appended into a single buffer.
      */
     private String createCanonicalRequest(SdkHttpFullRequest.Builder request,
+                                          Map<String, List<String>> headers,
+                                          List<String> signedHeaders,
+                                          String signedHeadersString,
                                           String contentSha256,
                                           boolean doubleUrlEncode) {
 
-        String canonicalRequest = request.method().toString() +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  // This would optionally double url-encode the resource path
-                                  getCanonicalizedResourcePath(request.encodedPath(), doubleUrlEncode) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  getCanonicalizedQueryString(request.rawQueryParameters()) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  getCanonicalizedHeaderString(request.headers()) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  getSignedHeadersString(request.headers()) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  contentSha256;
-
+        StringBuilder buffer = new StringBuilder(CANONICAL_REQUEST_INITIAL_CAPACITY);
+        buffer.append(request.method().toString())
+              .append(SignerConstant.LINE_SEPARATOR)
+              // This would optionally double url-encode the resource path
+              .append(getCanonicalizedResourcePath(request.encodedPath(), doubleUrlEncode))
+              .append(SignerConstant.LINE_SEPARATOR)
+              .append(getCanonicalizedQueryString(request.rawQueryParameters()))
+              .append(SignerConstant.LINE_SEPARATOR);
+        appendCanonicalizedHeaderString(buffer, headers, signedHeaders);
+        buffer.append(SignerConstant.LINE_SEPARATOR)
+              .append(signedHeadersString)
+              .append(SignerConstant.LINE_SEPARATOR)
+              .append(contentSha256);
+
+        String canonicalRequest = buffer.toString();
         LOG.trace(() -> "AWS4 Canonical Request: " + canonicalRequest);
         return canonicalRequest;
     }
@@ -209,15 +229,17 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      * http://docs.aws.amazon
      * .com/general/latest/gr/sigv4-calculate-signature.html
      */
-    private byte[] deriveSigningKey(AwsCredentials credentials,
+    protected byte[] deriveSigningKey(AwsCredentials credentials,
                                     Aws4SignerRequestParams signerRequestParams) {
 
-        String cacheKey = computeSigningCacheKeyName(credentials, signerRequestParams);
+        String secretKey = credentials.secretAccessKey();
+        String regionName = signerRequestParams.getRegionName();
+        String serviceName = signerRequestParams.getServiceSigningName();
         long daysSinceEpochSigningDate = numberOfDaysSinceEpoch(signerRequestParams.getSigningDateTimeMilli());
 
-        SignerKey signerKey = SIGNER_CACHE.get(cacheKey);
+        SignerKey signerKey = SIGNER_CACHE.get(secretKey, regionName, serviceName, daysSinceEpochSigningDate);
 
-        if (signerKey != null && daysSinceEpochSigningDate == signerKey.getNumberOfDaysSinceEpoch()) {
+        if (signerKey != null) {
             return signerKey.getSigningKey();
         }
 
@@ -225,21 +247,12 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                         TimeUnit.DAYS.toMillis(daysSinceEpochSigningDate));
         byte[] signingKey = newSigningKey(credentials,
                                           signerRequestParams.getFormattedSigningDate(),
-                                          signerRequestParams.getRegionName(),
-                                          signerRequestParams.getServiceSigningName());
-        SIGNER_CACHE.add(cacheKey, new SignerKey(daysSinceEpochSigningDate, signingKey));
+                                          regionName,
+                                          serviceName);
+        SIGNER_CACHE.put(secretKey, regionName, serviceName, new SignerKey(daysSinceEpochSigningDate, signingKey));
         return signingKey;
     }
 
-    /**
-     * Computes the name to be used to reference the signing key in the cache.
-     */
-    private String computeSigningCacheKeyName(AwsCredentials credentials,
-                                              Aws4SignerRequestParams signerRequestParams) {
-        return credentials.secretAccessKey() + "-" + signerRequestParams.getRegionName() + "-" +
-               signerRequestParams.getServiceSigningName();
-    }
-
     /**
      * Step 3 of the AWS Signature version 4 calculation. It involves deriving
      * the signing key and computing the signature. Refer to
@@ -247,7 +260,7 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      * .com/general/latest/gr/sigv4-calculate-signature.html
      */
     private byte[] computeSignature(String stringToSign, byte[] signingKey) {
-        return sign(stringToSign.getBytes(Charset.forName("UTF-8")), signingKey,
+        return sign(stringToSign.getBytes(StandardCharsets.UTF_8), signingKey,
                     SigningAlgorithm.HmacSHA256);
     }
 
@@ -257,15 +270,14 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
     private String buildAuthorizationHeader(byte[] signature,
                                             AwsCredentials credentials,
                                             Aws4SignerRequestParams signerParams,
-                                            SdkHttpFullRequest.Builder mutableRequest) {
-
-        String signingCredentials = credentials.accessKeyId() + "/" + signerParams.getScope();
-        String credential = "Credential=" + signingCredentials;
-        String signerHeaders = "SignedHeaders=" +
-                               getSignedHeadersString(mutableRequest.headers());
-        String signatureHeader = "Signature=" + BinaryUtils.toHex(signature);
-
-        return SignerConstant.AWS4_SIGNING_ALGORITHM + " " + credential + ", " + signerHeaders + ", " + signatureHeader;
+                                            String signedHeadersString) {
+
+        return new StringBuilder(AUTHORIZATION_HEADER_INITIAL_CAPACITY)
+            .append(SignerConstant.AWS4_SIGNING_ALGORITHM)
+            .append(" Credential=").append(credentials.accessKeyId()).append('/').append(signerParams.getScope())
+            .append(", SignedHeaders=").append(signedHeadersString)
+            .append(", Signature=").append(BinaryUtils.toHex(signature))
+            .toString();
     }
 
     /**
@@ -274,6 +286,7 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
     private void addPreSignInformationToRequest(SdkHttpFullRequest.Builder mutableRequest,
                                                 AwsCredentials sanitizedCredentials,
                                                 Aws4SignerRequestParams signerParams,
+                                                String signedHeadersString,
                                                 String timeStamp,
                                                 long expirationInSeconds) {
 
@@ -281,23 +294,32 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
 
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_ALGORITHM, SignerConstant.AWS4_SIGNING_ALGORITHM);
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_DATE, timeStamp);
-        mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_SIGNED_HEADER,
-                                            getSignedHeadersString(mutableRequest.headers()));
+        mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_SIGNED_HEADER, signedHeadersString);
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_EXPIRES,
                                             Long.toString(expirationInSeconds));
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_CREDENTIAL, signingCredentials);
     }
 
 
-    private String getCanonicalizedHeaderString(Map<String, List<String>> headers) {
-        List<String> sortedHeaders = new ArrayList<>(headers.keySet());
+    /**
+     * Returns the names of the headers to be signed, sorted case-insensitively. The result is shared between the canonical
+     * headers and the signed header list so that the headers only need to be sorted once per request.
+     */
+    private List<String> getSortedSignedHeaders(Map<String, List<String>> headers) {
+        List<String> sortedHeaders = new ArrayList<>(headers.size());
+        for (String header : headers.keySet()) {
+            if (!shouldExcludeHeaderFromSigning(header)) {
+                sortedHeaders.add(header);
+            }
+        }
         sortedHeaders.sort(String.CASE_INSENSITIVE_ORDER);
+        return sortedHeaders;
+    }
 
-        StringBuilder buffer = new StringBuilder();
+    private void appendCanonicalizedHeaderString(StringBuilder buffer,
+                                                 Map<String, List<String>> headers,
+                                                 List<String> sortedHeaders) {
         for (String header : sortedHeaders) {
-            if (shouldExcludeHeaderFromSigning(header)) {
-                continue;
-            }
             String key = lowerCase(header);
 
             for (String headerValue : headers.get(header)) {
@@ -309,8 +331,6 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                 buffer.append("\n");
             }
         }
-
-        return buffer.toString();
     }
 
     /**
@@ -354,15 +374,9 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\u000b' || ch == '\r' || ch == '\f';
     }
 
-    private String getSignedHeadersString(Map<String, List<String>> headers) {
-        List<String> sortedHeaders = new ArrayList<>(headers.keySet());
-        sortedHeaders.sort(String.CASE_INSENSITIVE_ORDER);
-
+    private String getSignedHeadersString(List<String> sortedHeaders) {
         StringBuilder buffer = new StringBuilder();
         for (String header : sortedHeaders) {
-            if (shouldExcludeHeaderFromSigning(header)) {
-                continue;
-            }
             if (buffer.length() > 0) {
                 buffer.append(";");
             }
@@ -418,7 +432,7 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
     private byte[] newSigningKey(AwsCredentials credentials,
                                  String dateStamp, String regionName, String serviceName) {
         byte[] kSecret = ("AWS4" + credentials.secretAccessKey())
-            .getBytes(Charset.forName("UTF-8"));
+            .getBytes(StandardCharsets.UTF_8);
         byte[] kDate = sign(dateStamp, kSecret, SigningAlgorithm.HmacSHA256);
         byte[] kRegion = sign(regionName, kDate, SigningAlgorithm.HmacSHA256);
         byte[] kService = sign(serviceName, kRegion,
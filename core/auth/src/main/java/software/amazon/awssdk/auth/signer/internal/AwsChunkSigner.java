@@ -0,0 +1,181 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+/**
+ * Signs the chunks of a chunk-encoded payload, each chunk being signed with the signature of the previous one, starting from
+ * the signature of the request headers.
+ *
+ * <p>The chunk headers, <code>hex(chunk-size);chunk-signature=signature\r\n</code>, are written into arrays provided by the
+ * caller, and the strings to sign, digests and signatures are kept in arrays reused for every chunk, so signing a chunk
+ * doesn't allocate.</p>
+ */
+@NotThreadSafe
+@SdkInternalApi
+public final class AwsChunkSigner {
+
+    /**
+     * Size of the chunks of the payload, every chunk except the last two hold that many bytes.
+     */
+    public static final int CHUNK_SIZE = 128 * 1024;
+
+    /**
+     * Room needed for the longest chunk header, <code>hex(chunk-size);chunk-signature=signature\r\n</code> is at most
+     * 8 + 17 + 64 + 2 bytes long.
+     */
+    public static final int MAX_HEADER_LENGTH = 96;
+
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final byte[] CHUNK_SIGNATURE_HEADER = ";chunk-signature=".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EMPTY_STRING_SHA256 =
+        ("\n" + AbstractAws4Signer.EMPTY_STRING_SHA256_HEX + "\n").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+    private static final int SIGNATURE_LENGTH = 64;
+    private static final String CHUNK_STRING_TO_SIGN_PREFIX = "AWS4-HMAC-SHA256-PAYLOAD";
+
+    private final MessageDigest sha256;
+    private final Mac hmacSha256;
+    private final byte[] stringToSignPrefix;
+    private final byte[] headerSignature;
+    private final byte[] priorChunkSignature = new byte[SIGNATURE_LENGTH];
+    private final byte[] chunkHash = new byte[SIGNATURE_LENGTH];
+    private final byte[] digest = new byte[SIGNATURE_LENGTH / 2];
+
+    /**
+     * @param signingKey      Signing key.
+     * @param dateTime        Datetime, as used in SigV4.
+     * @param keyPath         Keypath/Scope, as used in SigV4.
+     * @param headerSignature The signature of the signed headers, used to sign the first chunk.
+     */
+    public AwsChunkSigner(byte[] signingKey, String dateTime, String keyPath, String headerSignature) {
+        try {
+            this.sha256 = MessageDigest.getInstance("SHA-256");
+            String signingAlgo = SigningAlgorithm.HmacSHA256.toString();
+            this.hmacSha256 = Mac.getInstance(signingAlgo);
+            hmacSha256.init(new SecretKeySpec(signingKey, signingAlgo));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (InvalidKeyException e) {
+            throw new IllegalArgumentException(e);
+        }
+        this.stringToSignPrefix = (CHUNK_STRING_TO_SIGN_PREFIX + "\n" + dateTime + "\n" + keyPath + "\n")
+            .getBytes(StandardCharsets.UTF_8);
+        this.headerSignature = headerSignature.getBytes(StandardCharsets.UTF_8);
+        reset();
+    }
+
+    /**
+     * Starts over from the first chunk, when the payload is sent again.
+     */
+    public void reset() {
+        System.arraycopy(headerSignature, 0, priorChunkSignature, 0, SIGNATURE_LENGTH);
+    }
+
+    /**
+     * Signs the next chunk of the payload.
+     *
+     * @param data   Array holding the chunk data.
+     * @param offset Offset of the chunk data in the array.
+     * @param length Length of the chunk data, zero for the final chunk.
+     * @param header Array the chunk header is written into, from offset zero. Must hold {@link #MAX_HEADER_LENGTH} bytes.
+     * @return The length of the chunk header.
+     */
+    public int signChunk(byte[] data, int offset, int length, byte[] header) {
+        sha256.update(data, offset, length);
+        return signChunk(length, header);
+    }
+
+    /**
+     * Signs the next chunk of the payload, without changing the position of the buffer.
+     *
+     * @param data   The remaining bytes of the buffer are the chunk data.
+     * @param header Array the chunk header is written into, from offset zero. Must hold {@link #MAX_HEADER_LENGTH} bytes.
+     * @return The length of the chunk header.
+     */
+    public int signChunk(ByteBuffer data, byte[] header) {
+        int position = data.position();
+        int length = data.remaining();
+        sha256.update(data);
+        data.position(position);
+        return signChunk(length, header);
+    }
+
+    /**
+     * @return The length of a chunk holding that many bytes of data once encoded, including its header and trailer.
+     */
+    public static long signedChunkLength(long chunkDataSize) {
+        return Long.toHexString(chunkDataSize).length()
+               + CHUNK_SIGNATURE_HEADER.length
+               + SIGNATURE_LENGTH
+               + CRLF.length
+               + chunkDataSize
+               + CRLF.length;
+    }
+
+    private int signChunk(int length, byte[] header) {
+        try {
+            sha256.digest(digest, 0, digest.length);
+            toHex(digest, chunkHash);
+
+            hmacSha256.update(stringToSignPrefix);
+            hmacSha256.update(priorChunkSignature);
+            hmacSha256.update(EMPTY_STRING_SHA256);
+            hmacSha256.update(chunkHash);
+            hmacSha256.doFinal(digest, 0);
+            toHex(digest, priorChunkSignature);
+        } catch (GeneralSecurityException e) {
+            throw SdkClientException.builder()
+                                    .message("Unable to sign the chunked data. " + e.getMessage())
+                                    .cause(e)
+                                    .build();
+        }
+
+        int pos = writeHexLength(length, header);
+        System.arraycopy(CHUNK_SIGNATURE_HEADER, 0, header, pos, CHUNK_SIGNATURE_HEADER.length);
+        pos += CHUNK_SIGNATURE_HEADER.length;
+        System.arraycopy(priorChunkSignature, 0, header, pos, SIGNATURE_LENGTH);
+        pos += SIGNATURE_LENGTH;
+        System.arraycopy(CRLF, 0, header, pos, CRLF.length);
+        return pos + CRLF.length;
+    }
+
+    private static int writeHexLength(int length, byte[] dest) {
+        int digits = Math.max(1, (Integer.SIZE - Integer.numberOfLeadingZeros(length) + 3) / 4);
+        for (int i = digits - 1, remaining = length; i >= 0; i--, remaining >>>= 4) {
+            dest[i] = HEX_DIGITS[remaining & 0xF];
+        }
+        return digits;
+    }
+
+    private static void toHex(byte[] bytes, byte[] dest) {
+        for (int i = 0; i < bytes.length; i++) {
+            dest[2 * i] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+            dest[2 * i + 1] = HEX_DIGITS[bytes[i] & 0xF];
+        }
+    }
+}
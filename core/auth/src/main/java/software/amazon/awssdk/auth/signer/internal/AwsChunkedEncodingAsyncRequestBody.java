@@ -0,0 +1,263 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static software.amazon.awssdk.auth.signer.internal.AwsChunkSigner.CHUNK_SIZE;
+import static software.amazon.awssdk.auth.signer.internal.AwsChunkSigner.MAX_HEADER_LENGTH;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+
+/**
+ * The asynchronous counterpart of {@link AwsChunkedEncodingInputStream}, chunk-encoding and signing the content of an
+ * {@link AsyncRequestBody} as it's published.
+ *
+ * <p>The content is copied once, into an array holding a whole signed chunk: the chunk header is written in front of the
+ * chunk data once it's been signed, and the chunk is published as a single buffer. Every subscription signs the chunks
+ * again, so the body can be resent when the request is retried.</p>
+ */
+@SdkInternalApi
+public final class AwsChunkedEncodingAsyncRequestBody implements AsyncRequestBody {
+
+    private final AsyncRequestBody delegate;
+    private final byte[] signingKey;
+    private final String dateTime;
+    private final String keyPath;
+    private final String headerSignature;
+
+    /**
+     * @param delegate        The content to chunk-encode.
+     * @param signingKey      Signing key.
+     * @param dateTime        Datetime, as used in SigV4.
+     * @param keyPath         Keypath/Scope, as used in SigV4.
+     * @param headerSignature The signature of the signed headers, used to sign the first chunk.
+     */
+    public AwsChunkedEncodingAsyncRequestBody(AsyncRequestBody delegate,
+                                              byte[] signingKey,
+                                              String dateTime,
+                                              String keyPath,
+                                              String headerSignature) {
+        this.delegate = delegate;
+        this.signingKey = signingKey.clone();
+        this.dateTime = dateTime;
+        this.keyPath = keyPath;
+        this.headerSignature = headerSignature;
+    }
+
+    @Override
+    public Optional<Long> contentLength() {
+        return delegate.contentLength().map(AwsChunkedEncodingInputStream::calculateStreamContentLength);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+        AwsChunkSigner chunkSigner = new AwsChunkSigner(signingKey, dateTime, keyPath, headerSignature);
+        delegate.subscribe(new ChunkingSubscriber(subscriber, chunkSigner));
+    }
+
+    /**
+     * Fills chunks with the published content, requesting more content only while the subscriber is waiting for a chunk.
+     *
+     * <p>The state is guarded by the monitor, but the subscriber and the publisher are only ever called from the drain loop,
+     * outside of the monitor. Only one thread runs the loop at a time: a thread finding it running leaves the work to that
+     * thread. This also keeps the stack from growing with every buffer of a publisher publishing synchronously.</p>
+     */
+    private static final class ChunkingSubscriber implements Subscriber<ByteBuffer>, Subscription {
+
+        private final Subscriber<? super ByteBuffer> subscriber;
+        private final AwsChunkSigner chunkSigner;
+        private final byte[] header = new byte[MAX_HEADER_LENGTH];
+        private final Queue<ByteBuffer> signedChunks = new ArrayDeque<>();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private Subscription subscription;
+        private byte[] chunk;
+        private int chunkDataLength;
+        private long demand;
+        private boolean requestedContent;
+        private boolean contentComplete;
+        private Throwable error;
+        private boolean done;
+
+        private ChunkingSubscriber(Subscriber<? super ByteBuffer> subscriber, AwsChunkSigner chunkSigner) {
+            this.subscriber = subscriber;
+            this.chunkSigner = chunkSigner;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            synchronized (this) {
+                this.subscription = subscription;
+            }
+            subscriber.onSubscribe(this);
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                // Reactive Streams rule 3.9: the content is no longer needed, the subscriber is signalled the error
+                Subscription toCancel;
+                synchronized (this) {
+                    if (error == null) {
+                        error = new IllegalArgumentException("Demand must be positive");
+                    }
+                    toCancel = subscription;
+                }
+                toCancel.cancel();
+                drain();
+                return;
+            }
+            synchronized (this) {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            Subscription toCancel;
+            synchronized (this) {
+                done = true;
+                signedChunks.clear();
+                toCancel = subscription;
+            }
+            toCancel.cancel();
+        }
+
+        @Override
+        public void onNext(ByteBuffer content) {
+            synchronized (this) {
+                requestedContent = false;
+                if (done) {
+                    return;
+                }
+                while (content.hasRemaining()) {
+                    if (chunk == null) {
+                        chunk = new byte[MAX_HEADER_LENGTH + CHUNK_SIZE + 2];
+                    }
+                    int count = Math.min(content.remaining(), CHUNK_SIZE - chunkDataLength);
+                    content.get(chunk, MAX_HEADER_LENGTH + chunkDataLength, count);
+                    chunkDataLength += count;
+                    if (chunkDataLength == CHUNK_SIZE) {
+                        signChunk();
+                    }
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            synchronized (this) {
+                if (error == null) {
+                    error = t;
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (this) {
+                contentComplete = true;
+                if (chunkDataLength > 0) {
+                    signChunk();
+                }
+                // The final, empty, chunk
+                signChunk();
+            }
+            drain();
+        }
+
+        private void signChunk() {
+            if (chunk == null) {
+                chunk = new byte[MAX_HEADER_LENGTH + 2];
+            }
+            int headerLength = chunkSigner.signChunk(chunk, MAX_HEADER_LENGTH, chunkDataLength, header);
+            int chunkStart = MAX_HEADER_LENGTH - headerLength;
+            System.arraycopy(header, 0, chunk, chunkStart, headerLength);
+            int trailerStart = MAX_HEADER_LENGTH + chunkDataLength;
+            chunk[trailerStart] = '\r';
+            chunk[trailerStart + 1] = '\n';
+            signedChunks.add(ByteBuffer.wrap(chunk, chunkStart, headerLength + chunkDataLength + 2));
+            chunk = null;
+            chunkDataLength = 0;
+        }
+
+        /**
+         * Publishes the signed chunks the subscriber asked for, then either terminates or asks for more content. Signals
+         * arriving while the loop runs, including the ones made from within the calls of the loop, are handled by the loop
+         * before it exits.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                drainSignals();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Makes the calls to the subscriber and the publisher the state allows, one at a time.
+         */
+        private void drainSignals() {
+            while (true) {
+                ByteBuffer signedChunk = null;
+                Throwable failure = null;
+                Subscription contentSubscription = null;
+                synchronized (this) {
+                    if (done) {
+                        return;
+                    }
+                    if (error != null) {
+                        done = true;
+                        signedChunks.clear();
+                        failure = error;
+                    } else if (demand > 0 && !signedChunks.isEmpty()) {
+                        demand--;
+                        signedChunk = signedChunks.poll();
+                    } else if (signedChunks.isEmpty() && contentComplete) {
+                        done = true;
+                    } else if (signedChunks.isEmpty() && demand > 0 && !requestedContent) {
+                        requestedContent = true;
+                        contentSubscription = subscription;
+                    } else {
+                        return;
+                    }
+                }
+                if (failure != null) {
+                    subscriber.onError(failure);
+                } else if (signedChunk != null) {
+                    subscriber.onNext(signedChunk);
+                } else if (contentSubscription != null) {
+                    contentSubscription.request(1);
+                } else {
+                    subscriber.onComplete();
+                }
+            }
+        }
+    }
+}
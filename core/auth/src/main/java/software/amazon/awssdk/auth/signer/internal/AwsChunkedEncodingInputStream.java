@@ -17,18 +17,8 @@ package software.amazon.awssdk.auth.signer.internal;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
-import java.security.InvalidKeyException;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.Arrays;
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.auth.signer.AwsS3V4Signer;
-import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.io.SdkInputStream;
-import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Logger;
 
 /**
@@ -37,31 +27,25 @@ import software.amazon.awssdk.utils.Logger;
 @SdkInternalApi
 public final class AwsChunkedEncodingInputStream extends SdkInputStream {
 
-    private static final int DEFAULT_CHUNK_SIZE = 128 * 1024;
+    private static final int DEFAULT_CHUNK_SIZE = AwsChunkSigner.CHUNK_SIZE;
     private static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
-
-    private static final String CRLF = "\r\n";
-    private static final String CHUNK_STRING_TO_SIGN_PREFIX = "AWS4-HMAC-SHA256-PAYLOAD";
-    private static final String CHUNK_SIGNATURE_HEADER = ";chunk-signature=";
-    private static final int SIGNATURE_LENGTH = 64;
-    private static final byte[] FINAL_CHUNK = new byte[0];
+    private static final byte[] TRAILER = {'\r', '\n'};
     private static final Logger log = Logger.loggerFor(AwsChunkedEncodingInputStream.class);
 
     private InputStream is = null;
     private final int maxBufferSize;
-    private final String dateTime;
-    private final String keyPath;
-    private final String headerSignature;
-    private String priorChunkSignature;
-    private final AwsS3V4Signer aws4Signer;
-
-    private final MessageDigest sha256;
-    private final Mac hmacSha256;
+    private final AwsChunkSigner chunkSigner;
 
     /**
-     * Iterator on the current chunk that has been signed
+     * The chunk currently read, made of its header, data and trailer. The arrays are reused for every chunk.
      */
-    private ChunkContentIterator currentChunkIterator;
+    private final byte[] chunkHeader = new byte[AwsChunkSigner.MAX_HEADER_LENGTH];
+    private final byte[] chunkData;
+    private final byte[] singleByte = new byte[1];
+    private int chunkHeaderLength;
+    private int chunkDataLength;
+    private int chunkLength;
+    private int chunkPosition;
 
     /**
      * Iterator on the buffer of the decoded stream,
@@ -74,9 +58,8 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
     private boolean isTerminating = false;
 
     public AwsChunkedEncodingInputStream(InputStream in, byte[] kSigning,
-                                         String datetime, String keyPath, String headerSignature,
-                                         AwsS3V4Signer aws4Signer) {
-        this(in, DEFAULT_BUFFER_SIZE, kSigning, datetime, keyPath, headerSignature, aws4Signer);
+                                         String datetime, String keyPath, String headerSignature) {
+        this(in, DEFAULT_BUFFER_SIZE, kSigning, datetime, keyPath, headerSignature);
     }
 
     /**
@@ -96,52 +79,37 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
      * @param keyPath         Keypath/Scope, as used in SigV4.
      * @param headerSignature The signature of the signed headers. This will be used for
      *                        calculating the signature of the first chunk.
-     * @param aws4Signer      The AWS4Signer used for hashing and signing.
      */
     public AwsChunkedEncodingInputStream(InputStream in, int maxBufferSize,
                                          byte[] kSigning, String datetime, String keyPath,
-                                         String headerSignature, AwsS3V4Signer aws4Signer) {
+                                         String headerSignature) {
         if (in instanceof AwsChunkedEncodingInputStream) {
             // This could happen when the request is retried, and we need to re-calculate the signatures.
             AwsChunkedEncodingInputStream originalChunkedStream = (AwsChunkedEncodingInputStream) in;
             maxBufferSize = Math.max(originalChunkedStream.maxBufferSize, maxBufferSize);
             is = originalChunkedStream.is;
             decodedStreamBuffer = originalChunkedStream.decodedStreamBuffer;
+            chunkData = originalChunkedStream.chunkData;
         } else {
             is = in;
             decodedStreamBuffer = null;
+            chunkData = new byte[DEFAULT_CHUNK_SIZE];
         }
 
         if (maxBufferSize < DEFAULT_CHUNK_SIZE) {
             throw new IllegalArgumentException("Max buffer size should not be less than chunk size");
         }
 
-        try {
-            this.sha256 = MessageDigest.getInstance("SHA-256");
-            String signingAlgo = SigningAlgorithm.HmacSHA256.toString();
-            this.hmacSha256 = Mac.getInstance(signingAlgo);
-            hmacSha256.init(new SecretKeySpec(kSigning, signingAlgo));
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException(e);
-        } catch (InvalidKeyException e) {
-            throw new IllegalArgumentException(e);
-        }
         this.maxBufferSize = maxBufferSize;
-        this.dateTime = datetime;
-        this.keyPath = keyPath;
-        this.headerSignature = headerSignature;
-        this.priorChunkSignature = headerSignature;
-        this.aws4Signer = aws4Signer;
+        this.chunkSigner = new AwsChunkSigner(kSigning, datetime, keyPath, headerSignature);
     }
 
     @Override
     public int read() throws IOException {
-        byte[] tmp = new byte[1];
-        int count = read(tmp, 0, 1);
+        int count = read(singleByte, 0, 1);
         if (count != -1) {
             log.debug(() -> "One byte read from the stream.");
-            int unsignedByte = (int) tmp[0] & 0xFF;
-            return unsignedByte;
+            return singleByte[0] & 0xFF;
         } else {
             return count;
         }
@@ -158,7 +126,7 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
             return 0;
         }
 
-        if (null == currentChunkIterator || !currentChunkIterator.hasNext()) {
+        if (chunkPosition == chunkLength) {
             if (isTerminating) {
                 return -1;
             } else {
@@ -166,7 +134,7 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
             }
         }
 
-        int count = currentChunkIterator.read(b, off, len);
+        int count = readChunk(b, off, len);
         if (count > 0) {
             isAtStart = false;
             log.trace(() -> count + " byte read from the stream.");
@@ -179,15 +147,17 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
         if (n <= 0) {
             return 0;
         }
+        abortIfNeeded();
         long remaining = n;
-        int toskip = (int) Math.min(DEFAULT_BUFFER_SIZE, n);
-        byte[] temp = new byte[toskip];
         while (remaining > 0) {
-            int count = read(temp, 0, toskip);
-            if (count < 0) {
-                break;
+            if (chunkPosition == chunkLength) {
+                if (isTerminating) {
+                    break;
+                }
+                isTerminating = setUpNextChunk();
             }
-            remaining -= count;
+            remaining -= readChunk(null, 0, (int) Math.min(Integer.MAX_VALUE, remaining));
+            isAtStart = false;
         }
         return n - remaining;
     }
@@ -228,8 +198,9 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
     public void reset() throws IOException {
         abortIfNeeded();
         // Clear up any encoded data
-        currentChunkIterator = null;
-        priorChunkSignature = headerSignature;
+        chunkPosition = 0;
+        chunkLength = 0;
+        chunkSigner.reset();
         // Reset the wrapped stream if it is mark-supported,
         // otherwise use our buffered data.
         if (is.markSupported()) {
@@ -244,7 +215,6 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
             decodedStreamBuffer.startReadBuffer();
         }
 
-        currentChunkIterator = null;
         isAtStart = true;
         isTerminating = false;
     }
@@ -256,34 +226,24 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
 
         long maxSizeChunks = originalLength / DEFAULT_CHUNK_SIZE;
         long remainingBytes = originalLength % DEFAULT_CHUNK_SIZE;
-        return maxSizeChunks * calculateSignedChunkLength(DEFAULT_CHUNK_SIZE)
-                + (remainingBytes > 0 ? calculateSignedChunkLength(remainingBytes) : 0)
-                + calculateSignedChunkLength(0);
-    }
-
-    private static long calculateSignedChunkLength(long chunkDataSize) {
-        return Long.toHexString(chunkDataSize).length()
-                + CHUNK_SIGNATURE_HEADER.length()
-                + SIGNATURE_LENGTH
-                + CRLF.length()
-                + chunkDataSize
-                + CRLF.length();
+        return maxSizeChunks * AwsChunkSigner.signedChunkLength(DEFAULT_CHUNK_SIZE)
+                + (remainingBytes > 0 ? AwsChunkSigner.signedChunkLength(remainingBytes) : 0)
+                + AwsChunkSigner.signedChunkLength(0);
     }
 
     /**
-     * Read in the next chunk of data, and create the necessary chunk extensions.
+     * Read in the next chunk of data, and sign it.
      *
      * @return Returns true if next chunk is the last empty chunk.
      */
     private boolean setUpNextChunk() throws IOException {
-        byte[] chunkData = new byte[DEFAULT_CHUNK_SIZE];
         int chunkSizeInBytes = 0;
         while (chunkSizeInBytes < DEFAULT_CHUNK_SIZE) {
+            int bytesToRead = DEFAULT_CHUNK_SIZE - chunkSizeInBytes;
             /** Read from the buffer of the decoded stream */
             if (null != decodedStreamBuffer && decodedStreamBuffer.hasNext()) {
-                chunkData[chunkSizeInBytes++] = decodedStreamBuffer.next();
+                chunkSizeInBytes += decodedStreamBuffer.next(chunkData, chunkSizeInBytes, bytesToRead);
             } else { /** Read from the wrapped stream */
-                int bytesToRead = DEFAULT_CHUNK_SIZE - chunkSizeInBytes;
                 int count = is.read(chunkData, chunkSizeInBytes, bytesToRead);
                 if (count != -1) {
                     if (null != decodedStreamBuffer) {
@@ -295,59 +255,38 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
                 }
             }
         }
-        if (chunkSizeInBytes == 0) {
-            byte[] signedFinalChunk = createSignedChunk(FINAL_CHUNK);
-            currentChunkIterator = new ChunkContentIterator(signedFinalChunk);
-            return true;
-        } else {
-            if (chunkSizeInBytes < chunkData.length) {
-                chunkData = Arrays.copyOf(chunkData, chunkSizeInBytes);
-            }
-            byte[] signedChunkContent = createSignedChunk(chunkData);
-            currentChunkIterator = new ChunkContentIterator(signedChunkContent);
-            return false;
-        }
+        chunkDataLength = chunkSizeInBytes;
+        chunkHeaderLength = chunkSigner.signChunk(chunkData, 0, chunkDataLength, chunkHeader);
+        chunkLength = chunkHeaderLength + chunkDataLength + TRAILER.length;
+        chunkPosition = 0;
+        return chunkSizeInBytes == 0;
+    }
+
+    /**
+     * Copies the next bytes of the current chunk, or only skips them when the destination is null.
+     */
+    private int readChunk(byte[] b, int off, int len) {
+        int count = readSegment(chunkHeader, 0, chunkHeaderLength, b, off, len);
+        count += readSegment(chunkData, chunkHeaderLength, chunkDataLength, b, off + count, len - count);
+        count += readSegment(TRAILER, chunkHeaderLength + chunkDataLength, TRAILER.length, b, off + count, len - count);
+        return count;
     }
 
-    private byte[] createSignedChunk(byte[] chunkData) {
-        StringBuilder chunkHeader = new StringBuilder();
-        // chunk-size
-        chunkHeader.append(Integer.toHexString(chunkData.length));
-        // sig-extension
-        String chunkStringToSign =
-            CHUNK_STRING_TO_SIGN_PREFIX + "\n" +
-            dateTime + "\n" +
-            keyPath + "\n" +
-            priorChunkSignature + "\n" +
-            AbstractAws4Signer.EMPTY_STRING_SHA256_HEX + "\n" +
-            BinaryUtils.toHex(sha256.digest(chunkData));
-        String chunkSignature =
-                BinaryUtils.toHex(aws4Signer.signWithMac(chunkStringToSign, hmacSha256));
-        priorChunkSignature = chunkSignature;
-        chunkHeader.append(CHUNK_SIGNATURE_HEADER)
-                .append(chunkSignature)
-                .append(CRLF)
-        ;
-        try {
-            byte[] header = chunkHeader.toString().getBytes(StandardCharsets.UTF_8);
-            byte[] trailer = CRLF.getBytes(StandardCharsets.UTF_8);
-            byte[] signedChunk = new byte[header.length + chunkData.length + trailer.length];
-            System.arraycopy(header, 0, signedChunk, 0, header.length);
-            System.arraycopy(chunkData, 0, signedChunk, header.length, chunkData.length);
-            System.arraycopy(trailer, 0,
-                    signedChunk, header.length + chunkData.length,
-                    trailer.length);
-            return signedChunk;
-        } catch (Exception e) {
-            throw SdkClientException.builder()
-                                    .message("Unable to sign the chunked data. " + e.getMessage())
-                                    .cause(e)
-                                    .build();
+    private int readSegment(byte[] segment, int segmentStart, int segmentLength, byte[] b, int off, int len) {
+        int segmentPosition = chunkPosition - segmentStart;
+        if (len == 0 || segmentPosition < 0 || segmentPosition >= segmentLength) {
+            return 0;
         }
+        int count = Math.min(segmentLength - segmentPosition, len);
+        if (b != null) {
+            System.arraycopy(segment, segmentPosition, b, off, count);
+        }
+        chunkPosition += count;
+        return count;
     }
 
     @Override
     protected InputStream getWrappedInputStream() {
         return is;
     }
-}
\ No newline at end of file
+}
@@ -63,8 +63,16 @@ class DecodedStreamBuffer {
         return (pos != -1) && (pos < byteBuffered);
     }
 
-    public byte next() {
-        return bufferArray[pos++];
+    /**
+     * Copies the next buffered bytes into the given array.
+     *
+     * @return The number of bytes copied.
+     */
+    public int next(byte[] dest, int offset, int length) {
+        int count = Math.min(length, byteBuffered - pos);
+        System.arraycopy(bufferArray, pos, dest, offset, count);
+        pos += count;
+        return count;
     }
 
     public void startReadBuffer() {
@@ -29,6 +29,12 @@ public final class SignerConstant {
 
     public static final String X_AMZ_CONTENT_SHA256 = "x-amz-content-sha256";
 
+    public static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+
+    public static final String STREAMING_PAYLOAD = "STREAMING-AWS4-HMAC-SHA256-PAYLOAD";
+
+    public static final String X_AMZ_DECODED_CONTENT_LENGTH = "x-amz-decoded-content-length";
+
     static final String X_AMZ_SECURITY_TOKEN = "X-Amz-Security-Token";
 
     static final String X_AMZ_CREDENTIAL = "X-Amz-Credential";
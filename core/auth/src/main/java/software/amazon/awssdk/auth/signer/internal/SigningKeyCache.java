@@ -0,0 +1,188 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A bounded, lock-free cache of SigV4 signing keys.
+ *
+ * <p>Entries are keyed by the (secret key, region, service) triple and are only returned when they were derived for the
+ * requested signing day, so a cached key is transparently replaced once the day rolls over. When the cache is full, keys
+ * derived before the previous day are evicted first, followed by an arbitrary entry. Keys of the previous day are kept
+ * as requests signed shortly before midnight may still use them.</p>
+ *
+ * <p>Lookups reuse a key per thread rather than allocating one, and the size is bounded by reserving an entry before
+ * adding it, so concurrent additions never push the cache past its maximum size.</p>
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class SigningKeyCache {
+    private static final ThreadLocal<CacheKey> LOOKUP_KEY = ThreadLocal.withInitial(CacheKey::new);
+
+    private final ConcurrentHashMap<CacheKey, SignerKey> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int maxSize;
+
+    /**
+     * @param maxSize the maximum number of entries of the cache
+     */
+    public SigningKeyCache(int maxSize) {
+        this.maxSize = Validate.isPositive(maxSize, "maxSize");
+    }
+
+    /**
+     * Returns the signing key cached for the given secret key, region and service if it was derived for the given day;
+     * or null if no such entry exists.
+     */
+    public SignerKey get(String secretKey, String regionName, String serviceName, long daysSinceEpoch) {
+        CacheKey lookupKey = LOOKUP_KEY.get().set(secretKey, regionName, serviceName);
+        try {
+            SignerKey signerKey = entries.get(lookupKey);
+            if (signerKey == null) {
+                return null;
+            }
+            if (signerKey.getNumberOfDaysSinceEpoch() != daysSinceEpoch) {
+                remove(lookupKey, signerKey);
+                return null;
+            }
+            return signerKey;
+        } finally {
+            // Don't hold on to the secret key past the lookup
+            lookupKey.clear();
+        }
+    }
+
+    /**
+     * Adds an entry to the cache, evicting an existing entry if the cache is full.
+     */
+    public void put(String secretKey, String regionName, String serviceName, SignerKey signerKey) {
+        CacheKey cacheKey = new CacheKey().set(secretKey, regionName, serviceName);
+        if (entries.replace(cacheKey, signerKey) != null) {
+            return;
+        }
+        reserveEntry(signerKey.getNumberOfDaysSinceEpoch());
+        if (entries.put(cacheKey, signerKey) != null) {
+            // Another thread added the same key in the meantime and already counted it
+            size.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the current size of the cache.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Returns the maximum size of the cache.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    private void reserveEntry(long currentDaysSinceEpoch) {
+        while (true) {
+            int current = size.get();
+            if (current < maxSize) {
+                if (size.compareAndSet(current, current + 1)) {
+                    return;
+                }
+            } else {
+                evict(currentDaysSinceEpoch);
+            }
+        }
+    }
+
+    private void evict(long currentDaysSinceEpoch) {
+        boolean evicted = false;
+        for (Map.Entry<CacheKey, SignerKey> entry : entries.entrySet()) {
+            if (entry.getValue().getNumberOfDaysSinceEpoch() < currentDaysSinceEpoch - 1) {
+                evicted |= remove(entry.getKey(), entry.getValue());
+            }
+        }
+
+        Iterator<Map.Entry<CacheKey, SignerKey>> iterator = entries.entrySet().iterator();
+        while (!evicted && iterator.hasNext()) {
+            Map.Entry<CacheKey, SignerKey> eldest = iterator.next();
+            evicted = remove(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    private boolean remove(CacheKey cacheKey, SignerKey signerKey) {
+        if (entries.remove(cacheKey, signerKey)) {
+            size.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Composite key over the inputs of the signing key derivation. The hash code is computed once when the key is set so
+     * that no intermediate string needs to be built for each lookup. Keys added to the cache are never set again, the
+     * per thread lookup key is set for every lookup.
+     */
+    private static final class CacheKey {
+        private String secretKey;
+        private String regionName;
+        private String serviceName;
+        private int hashCode;
+
+        private CacheKey set(String secretKey, String regionName, String serviceName) {
+            this.secretKey = secretKey;
+            this.regionName = regionName;
+            this.serviceName = serviceName;
+            int result = secretKey.hashCode();
+            result = 31 * result + regionName.hashCode();
+            result = 31 * result + serviceName.hashCode();
+            this.hashCode = result;
+            return this;
+        }
+
+        private void clear() {
+            this.secretKey = null;
+            this.regionName = null;
+            this.serviceName = null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return hashCode == other.hashCode &&
+                   secretKey.equals(other.secretKey) &&
+                   regionName.equals(other.regionName) &&
+                   serviceName.equals(other.serviceName);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
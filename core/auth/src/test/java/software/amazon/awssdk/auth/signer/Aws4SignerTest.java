@@ -154,6 +154,20 @@ public class Aws4SignerTest {
                           "Signature=581d0042389009a28d461124138f1fe8eeb8daed87611d2a2b47fd3d68d81d73");
     }
 
+    @Test
+    public void signedHeaders_AreLowerCasedSortedAndExcludeIgnoredHeaders() throws Exception {
+        AwsBasicCredentials credentials = AwsBasicCredentials.create("akid", "skid");
+        SdkHttpFullRequest.Builder request = generateBasicRequest();
+        request.putHeader("Connection", "keep-alive");
+        request.putHeader("Content-Type", "application/x-amz-json-1.0");
+        request.putHeader("X-Amz-Target", "DynamoDB_20120810.GetItem");
+
+        SdkHttpFullRequest actual = SignerTestUtils.signRequest(signer, request.build(), credentials, "demo", signingOverrideClock, "us-east-1");
+
+        assertThat(actual.firstMatchingHeader("Authorization").get())
+                .contains("SignedHeaders=content-type;host;x-amz-archive-description;x-amz-date;x-amz-target, ");
+    }
+
     private SdkHttpFullRequest.Builder generateBasicRequest() {
         return SdkHttpFullRequest.builder()
                                  .contentStreamProvider(() -> new ByteArrayInputStream("{\"TableName\": \"foo\"}".getBytes()))
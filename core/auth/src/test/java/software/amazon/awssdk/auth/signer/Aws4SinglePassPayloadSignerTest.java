@@ -0,0 +1,210 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.signer.internal.AwsChunkedEncodingInputStream;
+import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * Unit tests for the {@link Aws4SinglePassPayloadSigner}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class Aws4SinglePassPayloadSignerTest {
+
+    private static final String PAYLOAD = "{\"TableName\": \"foo\"}";
+    private static final AwsBasicCredentials CREDENTIALS = AwsBasicCredentials.create("access", "secret");
+
+    private Aws4SinglePassPayloadSigner signer = Aws4SinglePassPayloadSigner.create();
+
+    @Mock
+    private Clock signingOverrideClock;
+
+    private int streamsOpened;
+
+    @Before
+    public void setupCase() {
+        Calendar c = new GregorianCalendar();
+        c.set(1981, 1, 16, 6, 30, 0);
+        c.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        when(signingOverrideClock.millis()).thenReturn(c.getTimeInMillis());
+    }
+
+    @Test
+    public void https_DoesNotReadPayload() throws Exception {
+        SdkHttpFullRequest signed = sign(generateBasicRequest("https").putHeader("Content-Length", "20"));
+
+        assertThat(streamsOpened).isZero();
+        assertThat(signed.firstMatchingHeader("x-amz-content-sha256")).hasValue("UNSIGNED-PAYLOAD");
+        assertThat(signed.firstMatchingHeader("Content-Length")).hasValue("20");
+        assertThat(IoUtils.toUtf8String(signed.contentStreamProvider().get().newStream())).isEqualTo(PAYLOAD);
+    }
+
+    @Test
+    public void httpWithContentLength_ChunkSignsPayloadAsItIsSent() throws Exception {
+        SdkHttpFullRequest signed = sign(generateBasicRequest("http").putHeader("Content-Length", "20"));
+
+        assertThat(streamsOpened).isZero();
+        assertThat(signed.firstMatchingHeader("x-amz-content-sha256")).hasValue("STREAMING-AWS4-HMAC-SHA256-PAYLOAD");
+        assertThat(signed.firstMatchingHeader("x-amz-decoded-content-length")).hasValue("20");
+
+        String body = IoUtils.toUtf8String(signed.contentStreamProvider().get().newStream());
+        assertThat(signed.firstMatchingHeader("Content-Length"))
+            .hasValue(Long.toString(AwsChunkedEncodingInputStream.calculateStreamContentLength(20)));
+        assertThat(body.getBytes(StandardCharsets.UTF_8)).hasSize((int) AwsChunkedEncodingInputStream
+            .calculateStreamContentLength(20));
+        assertThat(body).startsWith("14;chunk-signature=").contains(PAYLOAD);
+    }
+
+    @Test
+    public void httpWithoutContentLength_HashesPayload() throws Exception {
+        SdkHttpFullRequest signed = sign(generateBasicRequest("http"));
+
+        assertThat(streamsOpened).isEqualTo(1);
+        assertThat(signed.firstMatchingHeader("x-amz-content-sha256").get()).matches("[0-9a-f]{64}");
+        assertThat(IoUtils.toUtf8String(signed.contentStreamProvider().get().newStream())).isEqualTo(PAYLOAD);
+    }
+
+    @Test
+    public void asyncRequest_IsSignedLikeSyncRequest() {
+        SdkHttpFullRequest syncRequest = sign(generateBasicRequest("http").putHeader("Content-Length", "20"));
+        SdkHttpFullRequest asyncRequest = sign(generateBasicRequest("http").contentStreamProvider(null)
+                                                                           .putHeader("Content-Length", "20"));
+
+        assertThat(asyncRequest.headers()).isEqualTo(syncRequest.headers());
+    }
+
+    @Test
+    public void asyncRequestBody_IsChunkSignedLikeSyncPayload() throws Exception {
+        ExecutionAttributes executionAttributes = executionAttributes();
+        SdkHttpFullRequest request = signer.sign(generateBasicRequest("http").putHeader("Content-Length", "20").build(),
+                                                 executionAttributes);
+
+        AsyncRequestBody asyncBody = signer.signAsyncRequestBody(request, AsyncRequestBody.fromString(PAYLOAD),
+                                                                 executionAttributes);
+
+        assertThat(asyncBody.contentLength())
+            .hasValue(AwsChunkedEncodingInputStream.calculateStreamContentLength(20));
+        assertThat(collect(asyncBody)).isEqualTo(IoUtils.toByteArray(request.contentStreamProvider().get().newStream()));
+    }
+
+    @Test
+    public void asyncRequestBodyOfRequestNotSignedWithExecutionAttributes_ThrowsException() {
+        SdkHttpFullRequest asyncRequest = sign(generateBasicRequest("http").contentStreamProvider(null)
+                                                                           .putHeader("Content-Length", "20"));
+
+        assertThatThrownBy(() -> signer.signAsyncRequestBody(asyncRequest, AsyncRequestBody.fromString(PAYLOAD),
+                                                             executionAttributes()))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void asyncRequestBodyOverHttps_IsNotChunkSigned() {
+        SdkHttpFullRequest asyncRequest = sign(generateBasicRequest("https").contentStreamProvider(null)
+                                                                            .putHeader("Content-Length", "20"));
+        AsyncRequestBody body = AsyncRequestBody.fromString(PAYLOAD);
+
+        assertThat(signer.signAsyncRequestBody(asyncRequest, body, new ExecutionAttributes())).isSameAs(body);
+    }
+
+    private static ExecutionAttributes executionAttributes() {
+        return new ExecutionAttributes().putAttribute(AwsSignerExecutionAttribute.AWS_CREDENTIALS, CREDENTIALS)
+                                        .putAttribute(AwsSignerExecutionAttribute.SERVICE_SIGNING_NAME, "demo")
+                                        .putAttribute(AwsSignerExecutionAttribute.SIGNING_REGION, Region.US_EAST_1);
+    }
+
+    private SdkHttpFullRequest sign(SdkHttpFullRequest.Builder request) {
+        Aws4SignerParams signerParams = Aws4SignerParams.builder()
+                                                        .awsCredentials(CREDENTIALS)
+                                                        .signingName("demo")
+                                                        .signingClockOverride(signingOverrideClock)
+                                                        .signingRegion(Region.US_EAST_1)
+                                                        .build();
+        return signer.sign(request.build(), signerParams);
+    }
+
+    private SdkHttpFullRequest.Builder generateBasicRequest(String protocol) {
+        return SdkHttpFullRequest.builder()
+                                 .contentStreamProvider(this::newStream)
+                                 .method(SdkHttpMethod.PUT)
+                                 .putHeader("Host", "demo.us-east-1.amazonaws.com")
+                                 .encodedPath("/")
+                                 .protocol(protocol)
+                                 .host("demo.us-east-1.amazonaws.com");
+    }
+
+    private InputStream newStream() {
+        streamsOpened++;
+        return new ByteArrayInputStream(PAYLOAD.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] collect(AsyncRequestBody body) {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        body.subscribe(new Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                byte[] bytes = new byte[byteBuffer.remaining()];
+                byteBuffer.get(bytes);
+                content.write(bytes, 0, bytes.length);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                future.completeExceptionally(t);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(content.toByteArray());
+            }
+        });
+        return future.join();
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.auth.signer.internal.AwsChunkedEncodingInputStreamTest.DATE_TIME;
+import static software.amazon.awssdk.auth.signer.internal.AwsChunkedEncodingInputStreamTest.HEADER_SIGNATURE;
+import static software.amazon.awssdk.auth.signer.internal.AwsChunkedEncodingInputStreamTest.SCOPE;
+import static software.amazon.awssdk.auth.signer.internal.AwsChunkedEncodingInputStreamTest.SIGNING_KEY;
+import static software.amazon.awssdk.auth.signer.internal.AwsChunkedEncodingInputStreamTest.expectedEncoding;
+import static software.amazon.awssdk.auth.signer.internal.AwsChunkedEncodingInputStreamTest.randomBytes;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+
+/**
+ * Unit tests for {@link AwsChunkedEncodingAsyncRequestBody}.
+ */
+public class AwsChunkedEncodingAsyncRequestBodyTest {
+
+    @Test
+    public void singleBuffer_IsEncodedLikeInputStream() {
+        byte[] data = randomBytes(300 * 1024);
+
+        AsyncRequestBody body = chunkEncoded(AsyncRequestBody.fromBytes(data));
+
+        assertThat(body.contentLength()).hasValue(AwsChunkedEncodingInputStream.calculateStreamContentLength(data.length));
+        assertThat(collect(body)).isEqualTo(expectedEncoding(data));
+    }
+
+    @Test
+    public void buffersNotAlignedWithChunks_AreEncodedLikeInputStream() {
+        byte[] data = randomBytes(300 * 1024);
+        List<ByteBuffer> buffers = new ArrayList<>();
+        for (int offset = 0; offset < data.length; offset += 10_000) {
+            buffers.add(ByteBuffer.wrap(data, offset, Math.min(10_000, data.length - offset)));
+        }
+
+        assertThat(collect(chunkEncoded(AsyncRequestBody.fromPublisher(new IterablePublisher(buffers)))))
+            .isEqualTo(expectedEncoding(data));
+    }
+
+    @Test
+    public void emptyBody_SendsFinalChunk() {
+        assertThat(collect(chunkEncoded(AsyncRequestBody.empty()))).isEqualTo(expectedEncoding(new byte[0]));
+    }
+
+    @Test
+    public void resubscribing_SignsChunksAgain() {
+        byte[] data = randomBytes(200 * 1024);
+        AsyncRequestBody body = chunkEncoded(AsyncRequestBody.fromBytes(data));
+        collect(body);
+
+        assertThat(collect(body)).isEqualTo(expectedEncoding(data));
+    }
+
+    @Test
+    public void nonPositiveRequest_SignalsIllegalArgumentException() {
+        AtomicBoolean contentCancelled = new AtomicBoolean();
+        AsyncRequestBody content = AsyncRequestBody.fromPublisher(s -> s.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+                contentCancelled.set(true);
+            }
+        }));
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        chunkEncoded(content).subscribe(new Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(0);
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                future.completeExceptionally(new AssertionError("No chunk was requested"));
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                future.completeExceptionally(t);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(null);
+            }
+        });
+
+        assertThatThrownBy(future::join).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(contentCancelled).isTrue();
+    }
+
+    @Test
+    public void subscriberSignals_NotMadeWhileHoldingTheSubscriptionMonitor() {
+        byte[] data = randomBytes(200 * 1024);
+        AtomicBoolean signalledUnderMonitor = new AtomicBoolean();
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        chunkEncoded(AsyncRequestBody.fromBytes(data)).subscribe(new Subscriber<ByteBuffer>() {
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription = s;
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                signalledUnderMonitor.compareAndSet(false, Thread.holdsLock(subscription));
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                future.completeExceptionally(t);
+            }
+
+            @Override
+            public void onComplete() {
+                signalledUnderMonitor.compareAndSet(false, Thread.holdsLock(subscription));
+                future.complete(null);
+            }
+        });
+
+        future.join();
+        assertThat(signalledUnderMonitor).isFalse();
+    }
+
+    private static AsyncRequestBody chunkEncoded(AsyncRequestBody body) {
+        return new AwsChunkedEncodingAsyncRequestBody(body, SIGNING_KEY, DATE_TIME, SCOPE, HEADER_SIGNATURE);
+    }
+
+    /**
+     * Collects the published content, requesting one buffer at a time.
+     */
+    private static byte[] collect(AsyncRequestBody body) {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        body.subscribe(new Subscriber<ByteBuffer>() {
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription = s;
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                byte[] bytes = new byte[byteBuffer.remaining()];
+                byteBuffer.get(bytes);
+                content.write(bytes, 0, bytes.length);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                future.completeExceptionally(t);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(content.toByteArray());
+            }
+        });
+        return future.join();
+    }
+
+    private static final class IterablePublisher implements Publisher<ByteBuffer> {
+
+        private final Iterable<ByteBuffer> buffers;
+
+        private IterablePublisher(Iterable<ByteBuffer> buffers) {
+            this.buffers = buffers;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            Iterator<ByteBuffer> iterator = buffers.iterator();
+            subscriber.onSubscribe(new Subscription() {
+                private boolean completed;
+
+                @Override
+                public void request(long n) {
+                    for (long i = 0; i < n && iterator.hasNext(); i++) {
+                        subscriber.onNext(iterator.next().duplicate());
+                    }
+                    if (!iterator.hasNext() && !completed) {
+                        completed = true;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Random;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.Test;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * Unit tests for {@link AwsChunkedEncodingInputStream}.
+ */
+public class AwsChunkedEncodingInputStreamTest {
+
+    static final byte[] SIGNING_KEY = "signing-key".getBytes(StandardCharsets.UTF_8);
+    static final String DATE_TIME = "19810216T063000Z";
+    static final String SCOPE = "19810216/us-east-1/demo/aws4_request";
+    static final String HEADER_SIGNATURE = "4f232c4386841ef735655705268965c44a0e4690baa4adea153f7db9fa80a0a9";
+
+    @Test
+    public void encodedLength_IsCalculatedLength() throws IOException {
+        for (int length : new int[] {0, 1, 128 * 1024, 300 * 1024}) {
+            byte[] encoded = encode(randomBytes(length));
+
+            assertThat(encoded).hasSize((int) AwsChunkedEncodingInputStream.calculateStreamContentLength(length));
+        }
+    }
+
+    @Test
+    public void chunks_AreSignedWithPriorChunkSignature() throws IOException {
+        byte[] data = randomBytes(300 * 1024);
+
+        assertThat(encode(data)).isEqualTo(expectedEncoding(data));
+    }
+
+    @Test
+    public void singleByteReadsAndSkips_ReadSameBytesAsBulkReads() throws IOException {
+        byte[] data = randomBytes(200 * 1024);
+        byte[] expected = encode(data);
+
+        InputStream stream = newStream(data);
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        for (int i = 0; i < 100; i++) {
+            read.write(stream.read());
+        }
+        assertThat(stream.skip(150 * 1024)).isEqualTo(150 * 1024);
+        read.write(IoUtils.toByteArray(stream));
+
+        byte[] actual = read.toByteArray();
+        assertThat(actual).hasSize(expected.length - 150 * 1024);
+        assertThat(new String(actual, 0, 100, StandardCharsets.ISO_8859_1))
+            .isEqualTo(new String(expected, 0, 100, StandardCharsets.ISO_8859_1));
+        assertThat(new String(actual, 100, actual.length - 100, StandardCharsets.ISO_8859_1))
+            .isEqualTo(new String(expected, 100 + 150 * 1024, actual.length - 100, StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    public void reset_SignsChunksAgain() throws IOException {
+        byte[] data = randomBytes(200 * 1024);
+        InputStream stream = newStream(new UnmarkableInputStream(data));
+        stream.mark(0);
+        IoUtils.toByteArray(stream);
+        stream.reset();
+
+        assertThat(IoUtils.toByteArray(stream)).isEqualTo(expectedEncoding(data));
+    }
+
+    static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Chunk-encodes the data following the specification, building every chunk from strings.
+     */
+    static byte[] expectedEncoding(byte[] data) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(SIGNING_KEY, "HmacSHA256"));
+
+            ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+            String priorSignature = HEADER_SIGNATURE;
+            int offset = 0;
+            int chunkLength;
+            do {
+                chunkLength = Math.min(128 * 1024, data.length - offset);
+                byte[] chunk = new byte[chunkLength];
+                System.arraycopy(data, offset, chunk, 0, chunkLength);
+                String stringToSign = "AWS4-HMAC-SHA256-PAYLOAD\n" + DATE_TIME + "\n" + SCOPE + "\n" + priorSignature + "\n"
+                                      + AbstractAws4Signer.EMPTY_STRING_SHA256_HEX + "\n"
+                                      + BinaryUtils.toHex(sha256.digest(chunk));
+                priorSignature = BinaryUtils.toHex(mac.doFinal(stringToSign.getBytes(StandardCharsets.UTF_8)));
+                encoded.write((Integer.toHexString(chunkLength) + ";chunk-signature=" + priorSignature + "\r\n")
+                                  .getBytes(StandardCharsets.UTF_8));
+                encoded.write(chunk);
+                encoded.write("\r\n".getBytes(StandardCharsets.UTF_8));
+                offset += chunkLength;
+            } while (chunkLength > 0);
+            return encoded.toByteArray();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] encode(byte[] data) throws IOException {
+        return IoUtils.toByteArray(newStream(data));
+    }
+
+    private static InputStream newStream(byte[] data) {
+        return newStream(new ByteArrayInputStream(data));
+    }
+
+    private static InputStream newStream(InputStream data) {
+        return new AwsChunkedEncodingInputStream(data, SIGNING_KEY, DATE_TIME, SCOPE, HEADER_SIGNATURE);
+    }
+
+    private static final class UnmarkableInputStream extends ByteArrayInputStream {
+
+        private UnmarkableInputStream(byte[] data) {
+            super(data);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
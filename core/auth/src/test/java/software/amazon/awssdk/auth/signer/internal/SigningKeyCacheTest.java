@@ -0,0 +1,126 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+
+public class SigningKeyCacheTest {
+
+    private static final byte[] KEY = {1, 2, 3};
+
+    @Test
+    public void cachedKey_IsReturnedForSameDay() {
+        SigningKeyCache cache = new SigningKeyCache(3);
+        cache.put("secret", "us-east-1", "dynamodb", new SignerKey(100, KEY));
+
+        assertThat(cache.get("secret", "us-east-1", "dynamodb", 100).getSigningKey()).isEqualTo(KEY);
+        assertThat(cache.get("secret", "us-west-2", "dynamodb", 100)).isNull();
+        assertThat(cache.get("secret", "us-east-1", "sqs", 100)).isNull();
+        assertThat(cache.get("other", "us-east-1", "dynamodb", 100)).isNull();
+    }
+
+    @Test
+    public void cachedKey_IsInvalidatedOnDayRollover() {
+        SigningKeyCache cache = new SigningKeyCache(3);
+        cache.put("secret", "us-east-1", "dynamodb", new SignerKey(100, KEY));
+
+        assertThat(cache.get("secret", "us-east-1", "dynamodb", 101)).isNull();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void fullCache_EvictsKeysFromBeforePreviousDayFirst() {
+        SigningKeyCache cache = new SigningKeyCache(3);
+        cache.put("k1", "us-east-1", "s3", new SignerKey(101, KEY));
+        cache.put("k2", "us-east-1", "s3", new SignerKey(100, KEY));
+        cache.put("k3", "us-east-1", "s3", new SignerKey(102, KEY));
+        cache.put("k4", "us-east-1", "s3", new SignerKey(102, KEY));
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get("k2", "us-east-1", "s3", 100)).isNull();
+        assertThat(cache.get("k1", "us-east-1", "s3", 101)).isNotNull();
+        assertThat(cache.get("k3", "us-east-1", "s3", 102)).isNotNull();
+        assertThat(cache.get("k4", "us-east-1", "s3", 102)).isNotNull();
+    }
+
+    @Test
+    public void fullCache_KeepsKeysFromPreviousDayWhenOthersCanBeEvicted() {
+        SigningKeyCache cache = new SigningKeyCache(2);
+        cache.put("k1", "us-east-1", "s3", new SignerKey(101, KEY));
+        cache.put("k2", "us-east-1", "s3", new SignerKey(102, KEY));
+        cache.put("k3", "us-east-1", "s3", new SignerKey(102, KEY));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("k3", "us-east-1", "s3", 102)).isNotNull();
+    }
+
+    @Test
+    public void fullCache_NeverExceedsMaxSize() {
+        SigningKeyCache cache = new SigningKeyCache(3);
+        for (int i = 0; i < 10; i++) {
+            cache.put("k" + i, "us-east-1", "s3", new SignerKey(100, KEY));
+        }
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get("k9", "us-east-1", "s3", 100)).isNotNull();
+    }
+
+    @Test
+    public void concurrentPuts_NeverExceedMaxSize() throws Exception {
+        SigningKeyCache cache = new SigningKeyCache(8);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        cache.put("k" + thread + "-" + i, "us-east-1", "s3", new SignerKey(100, KEY));
+                        assertThat(cache.size()).isLessThanOrEqualTo(8);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(cache.size()).isEqualTo(8);
+    }
+
+    @Test
+    public void replacingExistingKey_DoesNotEvict() {
+        SigningKeyCache cache = new SigningKeyCache(1);
+        cache.put("k1", "us-east-1", "s3", new SignerKey(100, KEY));
+        cache.put("k1", "us-east-1", "s3", new SignerKey(101, KEY));
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("k1", "us-east-1", "s3", 101)).isNotNull();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroSize_ThrowsException() {
+        new SigningKeyCache(0);
+    }
+}
@@ -19,17 +19,17 @@ import static java.util.Collections.singletonList;
 import static software.amazon.awssdk.core.http.HttpResponseHandler.X_AMZN_REQUEST_ID_HEADER;
 import static software.amazon.awssdk.utils.FunctionalUtils.runAndLogError;
 
-import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import org.reactivestreams.Publisher;
@@ -49,7 +49,7 @@ import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkCancellationException;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
-import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Validate;
 import software.amazon.eventstream.Message;
 import software.amazon.eventstream.MessageDecoder;
 
@@ -70,6 +70,10 @@ public class EventStreamAsyncResponseTransformer<ResponseT, EventT>
 
     private static final ExecutionAttributes EMPTY_EXECUTION_ATTRIBUTES = new ExecutionAttributes();
 
+    private static final int DEFAULT_PREFETCH = 1;
+
+    private static final int DEFAULT_LOW_WATERMARK = 0;
+
     /**
      * {@link EventStreamResponseHandler} provided by customer.
      */
@@ -104,9 +108,10 @@ public class EventStreamAsyncResponseTransformer<ResponseT, EventT>
 
     /**
      * Event stream message decoder that decodes the binary data into "frames". These frames are then passed to the
-     * unmarshaller to produce the event POJO.
+     * unmarshaller to produce the event POJO. Each frame gets a buffer sized to the message, so an idle stream does not hold
+     * on to a large decoding buffer.
      */
-    private final MessageDecoder decoder = new MessageDecoder(this::handleMessage);
+    private final MessageDecoder decoder = new MessageDecoder(this::handleMessage, ByteBuffer::allocate);
 
     /**
      * Tracks whether we have delivered a terminal notification to the subscriber and response handler
@@ -122,19 +127,39 @@ public class EventStreamAsyncResponseTransformer<ResponseT, EventT>
     /**
      * Queue of events to deliver to downstream subscriber. Will contain mostly objects
      * of type EventT, the special {@link #ON_COMPLETE_EVENT} will be added when all events
-     * have been added to the queue.
+     * have been added to the queue. Events are only added by the decoder and only removed by the
+     * drain loop, both of which hold the queue's monitor while doing so. Backed by an array so queuing
+     * an event does not allocate, and bounded in practice because data is only requested while the
+     * queued events cannot satisfy the outstanding demand.
+     */
+    private final Queue<Object> eventsToDeliver = new ArrayDeque<>();
+
+    /**
+     * Work in progress counter of the drain loop. The caller that moves it away from zero schedules the loop on the
+     * {@link #executor}, any signal arriving while the loop runs (new events, new demand, completion) only increments it
+     * so the loop makes another pass before exiting.
+     */
+    private final AtomicInteger drainWip = new AtomicInteger(0);
+
+    /**
+     * Number of chunks requested from the data publisher that have not been received yet.
+     */
+    private final AtomicInteger outstandingDataRequests = new AtomicInteger(0);
+
+    /**
+     * Number of chunks to have outstanding with the data publisher when replenishing.
      */
-    private final Queue<Object> eventsToDeliver = new LinkedList<>();
+    private final int prefetch;
 
     /**
-     * Flag to indicate we are currently delivering events to the subscriber.
+     * More data is only requested once the outstanding chunks drop to this number.
      */
-    private final AtomicBoolean isDelivering = new AtomicBoolean(false);
+    private final int lowWatermark;
 
     /**
-     * Flag to indicate we are currently requesting demand from the data publisher.
+     * Set once the data publisher has completed, no more data is requested afterwards.
      */
-    private final AtomicBoolean isRequesting = new AtomicBoolean(false);
+    private volatile boolean isDataComplete = false;
 
     /**
      * Future to notify on completion. Note that we do not notify this future in the event of an error, that
@@ -166,7 +191,8 @@ public class EventStreamAsyncResponseTransformer<ResponseT, EventT>
         HttpResponseHandler<? extends EventT> eventResponseHandler,
         HttpResponseHandler<? extends Throwable> exceptionResponseHandler) {
         this(eventStreamResponseHandler, initialResponseHandler, eventResponseHandler, exceptionResponseHandler,
-             Executors.newSingleThreadScheduledExecutor(), new CompletableFuture<>(), "");
+             Executors.newSingleThreadScheduledExecutor(), new CompletableFuture<>(), "", DEFAULT_PREFETCH,
+             DEFAULT_LOW_WATERMARK);
     }
 
     private EventStreamAsyncResponseTransformer(
@@ -176,7 +202,9 @@ public class EventStreamAsyncResponseTransformer<ResponseT, EventT>
         HttpResponseHandler<? extends Throwable> exceptionResponseHandler,
         Executor executor,
         CompletableFuture<Void> future,
-        String serviceName) {
+        String serviceName,
+        int prefetch,
+        int lowWatermark) {
 
         this.eventStreamResponseHandler = eventStreamResponseHandler;
         this.initialResponseHandler = initialResponseHandler;
@@ -185,6 +213,9 @@ public class EventStreamAsyncResponseTransformer<ResponseT, EventT>
         this.executor = executor;
         this.future = future;
         this.serviceName = serviceName;
+        this.prefetch = Validate.isPositive(prefetch, "prefetch");
+        this.lowWatermark = Validate.isNotNegative(lowWatermark, "lowWatermark");
+        Validate.isTrue(lowWatermark < prefetch, "lowWatermark (%s) must be less than prefetch (%s)", lowWatermark, prefetch);
     }
 
     @Override
@@ -207,6 +238,8 @@ public class EventStreamAsyncResponseTransformer<ResponseT, EventT>
         synchronized (this) {
             // Reset to allow more exceptions to propagate for retries
             isDone = false;
+            isDataComplete = false;
+            outstandingDataRequests.set(0);
         }
         CompletableFuture<Subscription> dataSubscriptionFuture = new CompletableFuture<>();
         publisher.subscribe(new ByteSubscriber(dataSubscriptionFuture));
@@ -322,8 +355,9 @@ public class EventStreamAsyncResponseTransformer<ResponseT, EventT>
         //TODO: fix the hard-coded status code
         int statusCode = isException ? 500 : 200;
 
+        InputStream payload = new ByteBufferInputStream(message.getPayloadAsByteBuffer());
         return SdkHttpFullResponse.builder()
-                                  .content(AbortableInputStream.create(new ByteArrayInputStream(message.getPayload())))
+                                  .content(AbortableInputStream.create(payload))
                                   .headers(headers)
                                   .statusCode(statusCode)
                                   .build();
@@ -333,6 +367,49 @@ public class EventStreamAsyncResponseTransformer<ResponseT, EventT>
         return !(t instanceof SdkCancellationException);
     }
 
+    /**
+     * Reads the payload of a message in place, the payload of a decoded message is a view of the decoder's buffer so it's
+     * unmarshalled without copying it into an array first.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int read = Math.min(len, buffer.remaining());
+            buffer.get(b, off, read);
+            return read;
+        }
+
+        @Override
+        public long skip(long n) {
+            int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
     /**
      * Subscriber for the raw bytes from the stream. Feeds them to the {@link MessageDecoder} as they arrive
      * and will request as much as needed to fulfill any outstanding demand.
@@ -360,19 +437,13 @@ public class EventStreamAsyncResponseTransformer<ResponseT, EventT>
             if (isDone) {
                 return;
             }
+            outstandingDataRequests.decrementAndGet();
             synchronized (eventsToDeliver) {
-                decoder.feed(BinaryUtils.copyBytesFrom(buffer));
-                // If we have things to deliver, do so.
-                if (!eventsToDeliver.isEmpty()) {
-                    isRequesting.compareAndSet(true, false);
-                    drainEventsIfNotAlready();
-                } else {
-                    // If we still haven't fulfilled the outstanding demand then keep requesting byte chunks until we do
-                    if (remainingDemand.get() > 0) {
-                        dataSubscription.get().request(1);
-                    }
-                }
+                // The decoder copies the bytes into the frame of the message, so the buffer is read in place
+                decoder.feed(buffer);
             }
+            // Delivers any decoded events, or requests more data if they aren't enough to fulfill the demand
+            drain();
         }
 
         @Override
@@ -383,9 +454,12 @@ public class EventStreamAsyncResponseTransformer<ResponseT, EventT>
 
         @Override
         public void onComplete() {
-            // Add the special on complete event to signal drainEvents to complete the subscriber
-            eventsToDeliver.add(ON_COMPLETE_EVENT);
-            drainEventsIfNotAlready();
+            isDataComplete = true;
+            // Add the special on complete event to signal the drain loop to complete the subscriber
+            synchronized (eventsToDeliver) {
+                eventsToDeliver.add(ON_COMPLETE_EVENT);
+            }
+            drain();
             transformFuture.complete(null);
         }
     }
@@ -411,14 +485,8 @@ public class EventStreamAsyncResponseTransformer<ResponseT, EventT>
                         if (isDone) {
                             return;
                         }
-                        synchronized (eventsToDeliver) {
-                            remainingDemand.addAndGet(l);
-                            if (!eventsToDeliver.isEmpty()) {
-                                drainEventsIfNotAlready();
-                            } else {
-                                requestDataIfNotAlready();
-                            }
-                        }
+                        addDemand(l);
+                        drain();
                     }
 
                     @Override
@@ -434,52 +502,97 @@ public class EventStreamAsyncResponseTransformer<ResponseT, EventT>
     }
 
     /**
-     * Requests data from the {@link ByteBuffer} {@link Publisher} until we have enough data to fulfill demand. If we are
-     * already requesting data this is a no-op.
+     * Adds to the remaining demand, capping it at {@link Long#MAX_VALUE} which is treated as unbounded.
      */
-    private void requestDataIfNotAlready() {
-        if (isRequesting.compareAndSet(false, true)) {
-            dataSubscription.get().request(1);
-        }
+    private void addDemand(long n) {
+        remainingDemand.getAndUpdate(current -> {
+            long updated = current + n;
+            return updated < 0 ? Long.MAX_VALUE : updated;
+        });
     }
 
     /**
-     * Drains events from the queue until the demand is met or all events are delivered. If we are already
-     * in the process of delivering events this is a no-op.
+     * Schedules the drain loop on the {@link #executor} if it isn't already running, otherwise makes the running loop
+     * take another pass.
      */
-    private void drainEventsIfNotAlready() {
-        if (isDelivering.compareAndSet(false, true)) {
-            drainEvents();
+    private void drain() {
+        if (drainWip.getAndIncrement() == 0) {
+            executor.execute(this::drainLoop);
         }
     }
 
     /**
-     * Drains events from the queue until the demand is met or all events are delivered. This differs
-     * from {@link #drainEventsIfNotAlready()} in that it assumes it has the {@link #isDelivering} 'lease' already.
+     * Delivers as many events as the demand allows and requests more data from the {@link ByteBuffer} {@link Publisher}
+     * when needed, until no more signals arrived while doing so. Only ever runs on one thread at a time.
      */
-    private void drainEvents() {
-        // If we've already delivered an exception to the subscriber than bail out
-        if (isDone) {
-            return;
-        }
-        synchronized (eventsToDeliver) {
-            if (eventsToDeliver.peek() == ON_COMPLETE_EVENT) {
+    private void drainLoop() {
+        int missed = 1;
+        do {
+            // If we've already delivered an exception or completion to the subscriber there is nothing left to do
+            if (!isDone) {
+                deliverEvents();
+                requestDataIfNeeded();
+            }
+            missed = drainWip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    /**
+     * Delivers queued events until the demand is met or the queue is empty. Completes the subscriber once the special
+     * {@link #ON_COMPLETE_EVENT} is reached, regardless of demand.
+     */
+    private void deliverEvents() {
+        long demand = remainingDemand.get();
+        long delivered = 0;
+        while (!isDone) {
+            Object event;
+            synchronized (eventsToDeliver) {
+                event = eventsToDeliver.peek();
+                if (event == null || (event != ON_COMPLETE_EVENT && delivered == demand)) {
+                    break;
+                }
+                eventsToDeliver.remove();
+            }
+            if (event == ON_COMPLETE_EVENT) {
                 onEventComplete();
                 return;
             }
-            if (eventsToDeliver.isEmpty() || remainingDemand.get() == 0) {
-                isDelivering.compareAndSet(true, false);
-                // If we still have demand to fulfill then request more if we aren't already requesting
-                if (remainingDemand.get() > 0) {
-                    requestDataIfNotAlready();
-                }
-            } else {
-                // Deliver the event and recursively call ourselves after it's delivered
-                Object event = eventsToDeliver.remove();
-                remainingDemand.decrementAndGet();
-                CompletableFuture.runAsync(() -> deliverEvent(event), executor)
-                                 .thenRunAsync(this::drainEvents, executor);
+            try {
+                deliverEvent(event);
+            } catch (Throwable t) {
+                dataSubscription.get().cancel();
+                exceptionOccurred(t);
+                return;
             }
+            delivered++;
+        }
+        // Unbounded demand is never decremented
+        if (delivered != 0 && demand != Long.MAX_VALUE) {
+            remainingDemand.addAndGet(-delivered);
+        }
+    }
+
+    /**
+     * Requests another batch of data if the queued events can't fulfill the remaining demand and the outstanding requests
+     * have dropped to the low watermark. Tops the outstanding requests back up to {@link #prefetch}.
+     */
+    private void requestDataIfNeeded() {
+        if (isDone || isDataComplete) {
+            return;
+        }
+        int outstanding = outstandingDataRequests.get();
+        if (outstanding > lowWatermark) {
+            return;
+        }
+        int queued;
+        synchronized (eventsToDeliver) {
+            queued = eventsToDeliver.size();
+        }
+        if (remainingDemand.get() > queued) {
+            int toRequest = prefetch - outstanding;
+            // Counted before requesting as the publisher may deliver the data synchronously
+            outstandingDataRequests.addAndGet(toRequest);
+            dataSubscription.get().request(toRequest);
         }
     }
 
@@ -517,6 +630,8 @@ public class EventStreamAsyncResponseTransformer<ResponseT, EventT>
         private Executor executor;
         private CompletableFuture<Void> future;
         private String serviceName;
+        private int prefetch = DEFAULT_PREFETCH;
+        private int lowWatermark = DEFAULT_LOW_WATERMARK;
 
         private Builder() {
         }
@@ -587,6 +702,26 @@ public class EventStreamAsyncResponseTransformer<ResponseT, EventT>
             return this;
         }
 
+        /**
+         * @param prefetch Number of chunks of data to have requested from the response stream whenever more events are
+         * needed to fulfill the demand of the subscriber. Defaults to 1.
+         * @return This object for method chaining.
+         */
+        public Builder<ResponseT, EventT> prefetch(int prefetch) {
+            this.prefetch = prefetch;
+            return this;
+        }
+
+        /**
+         * @param lowWatermark Number of outstanding chunks of data at or below which more data is requested, must be less than
+         * the {@link #prefetch(int)}. Defaults to 0, i.e. more data is only requested once all requested data has arrived.
+         * @return This object for method chaining.
+         */
+        public Builder<ResponseT, EventT> lowWatermark(int lowWatermark) {
+            this.lowWatermark = lowWatermark;
+            return this;
+        }
+
         public EventStreamAsyncResponseTransformer<ResponseT, EventT> build() {
             return new EventStreamAsyncResponseTransformer<>(eventStreamResponseHandler,
                                                              initialResponseHandler,
@@ -594,7 +729,9 @@ public class EventStreamAsyncResponseTransformer<ResponseT, EventT>
                                                              exceptionResponseHandler,
                                                              executor,
                                                              future,
-                                                             serviceName);
+                                                             serviceName,
+                                                             prefetch,
+                                                             lowWatermark);
         }
     }
 
@@ -34,7 +34,6 @@ import software.amazon.awssdk.core.SdkStandardLogger;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.runtime.transform.Unmarshaller;
-import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.utils.Logger;
@@ -51,6 +50,11 @@ import software.amazon.awssdk.utils.XmlUtils;
 public final class StaxResponseHandler<T extends AwsResponse> implements HttpResponseHandler<T> {
     private static final Logger log = Logger.loggerFor(StaxResponseHandler.class);
 
+    /**
+     * The document unmarshalled in place of a response without an XML payload, so the response metadata is still unmarshalled.
+     */
+    private static final byte[] EMPTY_DOCUMENT = "<eof/>".getBytes(StandardCharsets.UTF_8);
+
     /**
      * The StAX unmarshaller to use when handling the response.
      */
@@ -133,7 +137,7 @@ public final class StaxResponseHandler<T extends AwsResponse> implements HttpRes
             InputStream content;
 
             if (!response.content().isPresent() || operationMetadata.isHasStreamingSuccessResponse()) {
-                content = AbortableInputStream.create(new ByteArrayInputStream("<eof/>".getBytes(StandardCharsets.UTF_8)));
+                content = new ByteArrayInputStream(EMPTY_DOCUMENT);
             } else {
                 content = response.content().get();
             }
@@ -39,6 +39,8 @@ import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
 import software.amazon.awssdk.core.interceptor.InterceptorContext;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.internal.metrics.ApiCallMetricsCollector;
+import software.amazon.awssdk.core.internal.metrics.MetricsExecutionAttribute;
 import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Validate;
@@ -56,6 +58,9 @@ public final class AwsClientHandlerUtils {
         ClientExecutionParams<InputT, OutputT> executionParams, SdkClientConfiguration clientConfig) {
 
         SdkRequest originalRequest = executionParams.getInput();
+        // Created first so the API call is timed from the start, resolving credentials may take a while
+        ApiCallMetricsCollector metricsCollector =
+            ApiCallMetricsCollector.create(clientConfig.option(SdkClientOption.METRIC_PUBLISHER), originalRequest);
         AwsCredentialsProvider clientCredentials = clientConfig.option(AwsClientOption.CREDENTIALS_PROVIDER);
         AwsCredentialsProvider credentialsProvider = originalRequest.overrideConfiguration()
                                                                     .filter(c -> c instanceof AwsRequestOverrideConfiguration)
@@ -74,7 +79,8 @@ public final class AwsClientHandlerUtils {
                           clientConfig.option(AwsClientOption.SERVICE_SIGNING_NAME))
             .putAttribute(AwsExecutionAttribute.AWS_REGION, clientConfig.option(AwsClientOption.AWS_REGION))
             .putAttribute(AwsSignerExecutionAttribute.SIGNING_REGION, clientConfig.option(AwsClientOption.SIGNING_REGION))
-            .putAttribute(SdkInternalExecutionAttribute.IS_FULL_DUPLEX, executionParams.isFullDuplex());
+            .putAttribute(SdkInternalExecutionAttribute.IS_FULL_DUPLEX, executionParams.isFullDuplex())
+            .putAttribute(MetricsExecutionAttribute.API_CALL_METRICS_COLLECTOR, metricsCollector);
 
         ExecutionInterceptorChain executionInterceptorChain =
                 new ExecutionInterceptorChain(clientConfig.option(SdkClientOption.EXECUTION_INTERCEPTORS));
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.awscore.protocol.xml;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -41,9 +42,26 @@ public final class StaxUnmarshallerContext {
 
     public final Stack<String> stack = new Stack<>();
     private final XMLEventReader eventReader;
-    private final Map<String, String> headers;
+    private final Map<String, List<String>> responseHeaders;
+    private Map<String, String> headers;
     private XMLEvent currentEvent;
-    private String stackString = "";
+
+    /**
+     * The path of the current position in the document, like "/ListBucketResult/Contents/Key", followed by "/@name" while an
+     * attribute is the current event. Updated in place as the document is parsed rather than rebuilt for every event.
+     */
+    private final StringBuilder path = new StringBuilder(128);
+
+    /**
+     * The length of {@link #path} without the attribute of the current event, if any.
+     */
+    private int elementPathLength;
+
+    /**
+     * The length of {@link #path} before each of the open elements was appended to it, indexed by element depth.
+     */
+    private int[] parentPathLengths = new int[16];
+
     private Map<String, String> metadata = new HashMap<>();
     private List<MetadataExpression> metadataExpressions = new ArrayList<>();
     private Iterator<?> attributeIterator;
@@ -71,10 +89,7 @@ public final class StaxUnmarshallerContext {
      */
     public StaxUnmarshallerContext(XMLEventReader eventReader, Map<String, List<String>> headers) {
         this.eventReader = eventReader;
-
-        this.headers = headers.entrySet().stream()
-                              .collect(HashMap::new, (m, e) -> m.put(e.getKey(), e.getValue().get(0)),
-                                       Map::putAll);
+        this.responseHeaders = headers;
     }
 
     public void setCurrentHeader(String currentHeader) {
@@ -96,14 +111,18 @@ public final class StaxUnmarshallerContext {
      *         response, or null if not present.
      */
     public String getHeader(String header) {
-        if (headers == null) {
-            return null;
-        }
-
-        return headers.get(header);
+        return getHeaders().get(header);
     }
 
+    /**
+     * Returns the first value of each of the response headers. Only created when a response header is unmarshalled, most
+     * responses are unmarshalled from the payload alone.
+     */
     public Map<String, String> getHeaders() {
+        if (headers == null) {
+            headers = new HashMap<>(responseHeaders.size() * 2);
+            responseHeaders.forEach((name, values) -> headers.put(name, values.get(0)));
+        }
         return headers;
     }
 
@@ -121,14 +140,24 @@ public final class StaxUnmarshallerContext {
             return attribute.getValue();
         }
 
-        StringBuilder sb = new StringBuilder();
+        // The text of an element is almost always a single event, so it's only copied when the parser split it up
+        String text = "";
+        StringBuilder sb = null;
         while (true) {
             XMLEvent event = eventReader.peek();
             if (event.getEventType() == XMLStreamConstants.CHARACTERS) {
                 eventReader.nextEvent();
-                sb.append(event.asCharacters().getData());
+                String data = event.asCharacters().getData();
+                if (text.isEmpty()) {
+                    text = data;
+                } else {
+                    if (sb == null) {
+                        sb = new StringBuilder(text);
+                    }
+                    sb.append(data);
+                }
             } else if (event.getEventType() == XMLStreamConstants.END_ELEMENT) {
-                return sb.toString();
+                return sb == null ? text : sb.toString();
             } else {
                 throw new RuntimeException("Encountered unexpected event: " + event.toString());
             }
@@ -159,7 +188,7 @@ public final class StaxUnmarshallerContext {
         if (expression.equals(".")) {
             return true;
         }
-        return stackString.endsWith(expression);
+        return pathEndsWith(expression);
     }
 
     /**
@@ -190,8 +219,27 @@ public final class StaxUnmarshallerContext {
         }
 
 
-        return (startingStackDepth == getCurrentDepth()
-                && stackString.endsWith("/" + expression));
+        int expressionStart = path.length() - expression.length();
+        return startingStackDepth == getCurrentDepth()
+               && expressionStart > 0
+               && path.charAt(expressionStart - 1) == '/'
+               && pathEndsWith(expression);
+    }
+
+    /**
+     * Equivalent to {@code path.toString().endsWith(suffix)}, without creating the string.
+     */
+    private boolean pathEndsWith(String suffix) {
+        int offset = path.length() - suffix.length();
+        if (offset < 0) {
+            return false;
+        }
+        for (int i = suffix.length() - 1; i >= 0; i--) {
+            if (path.charAt(offset + i) != suffix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -225,7 +273,7 @@ public final class StaxUnmarshallerContext {
 
         updateContext(currentEvent);
 
-        if (eventReader.hasNext()) {
+        if (!metadataExpressions.isEmpty() && eventReader.hasNext()) {
             XMLEvent nextEvent = eventReader.peek();
             if (nextEvent != null && nextEvent.isCharacters()) {
                 for (MetadataExpression metadataExpression : metadataExpressions) {
@@ -278,23 +326,28 @@ public final class StaxUnmarshallerContext {
             return;
         }
 
+        // Drop the attribute of the previous event, if any
+        path.setLength(elementPathLength);
+
         if (event.isEndElement()) {
             stack.pop();
-            stackString = "";
-            for (String s : stack) {
-                stackString += "/" + s;
-            }
+            path.setLength(parentPathLengths[stack.size()]);
         } else if (event.isStartElement()) {
-            stack.push(event.asStartElement().getName().getLocalPart());
-            stackString += "/" + event.asStartElement().getName().getLocalPart();
-        } else if (event.isAttribute()) {
-            Attribute attribute = (Attribute) event;
-            stackString = "";
-            for (String s : stack) {
-                stackString += "/" + s;
+            int depth = stack.size();
+            if (depth == parentPathLengths.length) {
+                parentPathLengths = Arrays.copyOf(parentPathLengths, depth * 2);
             }
-            stackString += "/@" + attribute.getName().getLocalPart();
+            parentPathLengths[depth] = path.length();
+
+            String name = event.asStartElement().getName().getLocalPart();
+            stack.push(name);
+            path.append('/').append(name);
+        } else if (event.isAttribute()) {
+            path.append("/@").append(((Attribute) event).getName().getLocalPart());
+            return;
         }
+
+        elementPathLength = path.length();
     }
 
     /**
@@ -20,12 +20,16 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.reactivex.Flowable;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import org.junit.Test;
@@ -36,6 +40,7 @@ import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkServiceException;
 import software.amazon.awssdk.utils.ImmutableMap;
+import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.eventstream.HeaderValue;
 import software.amazon.eventstream.Message;
 
@@ -92,6 +97,116 @@ public class EventStreamAsyncResponseTransformerTest {
             .hasValue(1);
     }
 
+    @Test
+    public void prefetch_RequestsDataInBatchesAndDeliversAllEvents() throws InterruptedException {
+        Message eventMessage = new Message(ImmutableMap.of(":message-type", HeaderValue.fromString("event"),
+                                                           ":event-type", HeaderValue.fromString("foo")),
+                                           new byte[0]);
+
+        List<Long> dataRequests = new CopyOnWriteArrayList<>();
+        Flowable<ByteBuffer> bytePublisher = Flowable.range(0, 6)
+                                                     .map(i -> eventMessage.toByteBuffer())
+                                                     .doOnRequest(dataRequests::add);
+        CountDownLatch completed = new CountDownLatch(1);
+        AtomicInteger numEvents = new AtomicInteger(0);
+
+        Subscriber<Object> subscriber = new Subscriber<Object>() {
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(Object o) {
+                numEvents.incrementAndGet();
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        };
+        AsyncResponseTransformer<SdkResponse, Void> transformer =
+            EventStreamAsyncResponseTransformer.builder()
+                                               .eventStreamResponseHandler(onEventStream(p -> p.subscribe(subscriber)))
+                                               .eventResponseHandler((r, e) -> new Object())
+                                               .executor(Executors.newSingleThreadExecutor())
+                                               .future(new CompletableFuture<>())
+                                               .prefetch(3)
+                                               .build();
+        transformer.prepare();
+        transformer.onStream(SdkPublisher.adapt(bytePublisher));
+
+        assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(numEvents).hasValue(6);
+        assertThat(dataRequests).containsOnly(3L);
+    }
+
+    @Test
+    public void eventPayloadSplitAcrossChunks_IsPassedToUnmarshaller() throws InterruptedException {
+        byte[] payload = "{\"foo\":\"bar\"}".getBytes(StandardCharsets.UTF_8);
+        Message eventMessage = new Message(ImmutableMap.of(":message-type", HeaderValue.fromString("event"),
+                                                           ":event-type", HeaderValue.fromString("foo")),
+                                           payload);
+        ByteBuffer encoded = eventMessage.toByteBuffer();
+        ByteBuffer first = (ByteBuffer) encoded.duplicate().limit(encoded.remaining() - 5);
+        ByteBuffer second = (ByteBuffer) encoded.duplicate().position(encoded.remaining() - 5);
+
+        List<byte[]> payloads = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        Subscriber<Object> subscriber = new Subscriber<Object>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Object o) {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        };
+        AsyncResponseTransformer<SdkResponse, Void> transformer =
+            EventStreamAsyncResponseTransformer.builder()
+                                               .eventStreamResponseHandler(onEventStream(p -> p.subscribe(subscriber)))
+                                               .eventResponseHandler((r, e) -> {
+                                                   payloads.add(IoUtils.toByteArray(r.content().get()));
+                                                   return new Object();
+                                               })
+                                               .executor(Executors.newSingleThreadExecutor())
+                                               .future(new CompletableFuture<>())
+                                               .build();
+        transformer.prepare();
+        transformer.onStream(SdkPublisher.adapt(Flowable.just(first, second)));
+
+        assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(payloads).containsExactly(payload);
+    }
+
+    @Test
+    public void lowWatermarkNotLessThanPrefetch_ThrowsException() {
+        assertThatThrownBy(() -> EventStreamAsyncResponseTransformer.builder()
+                                                                    .prefetch(2)
+                                                                    .lowWatermark(2)
+                                                                    .build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     public void unknownExceptionEventsThrowException() {
         Map<String, HeaderValue> headers = new HashMap<>();
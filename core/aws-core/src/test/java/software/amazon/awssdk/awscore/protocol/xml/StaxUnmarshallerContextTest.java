@@ -0,0 +1,134 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.awscore.protocol.xml;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.events.XMLEvent;
+import org.junit.Test;
+import software.amazon.awssdk.utils.XmlUtils;
+
+public class StaxUnmarshallerContextTest {
+
+    private static final String DOCUMENT =
+        "<ListBucketResult>"
+        + "<Name>bucket</Name>"
+        + "<Contents><Key>a&amp;b</Key><Owner id=\"owner-id\"><DisplayName>name</DisplayName></Owner></Contents>"
+        + "<Contents><Key>c</Key></Contents>"
+        + "<Empty></Empty>"
+        + "</ListBucketResult>";
+
+    @Test
+    public void testExpression_MatchesPathOfCurrentElementAtDepth() throws Exception {
+        StaxUnmarshallerContext context = context(DOCUMENT);
+
+        nextStartElement(context, "Key");
+        assertThat(context.testExpression("Contents/Key", 2)).isTrue();
+        assertThat(context.testExpression("Key", 3)).isTrue();
+        assertThat(context.testExpression("Key", 2)).isFalse();
+        assertThat(context.testExpression("ntents/Key", 2)).isFalse();
+        assertThat(context.testExpression("Contents/Key")).isTrue();
+        assertThat(context.testExpression("ListBucketResult/Contents/Key", 1)).isTrue();
+
+        nextStartElement(context, "DisplayName");
+        assertThat(context.testExpression("Contents/Owner/DisplayName", 2)).isTrue();
+
+        nextStartElement(context, "Key");
+        assertThat(context.getCurrentDepth()).isEqualTo(3);
+        assertThat(context.testExpression("Contents/Key", 2)).isTrue();
+        assertThat(context.testExpression("Owner/Key", 2)).isFalse();
+    }
+
+    @Test
+    public void testExpression_MatchesAttributeOfCurrentElement() throws Exception {
+        StaxUnmarshallerContext context = context(DOCUMENT);
+
+        nextStartElement(context, "Owner");
+        XMLEvent attribute = context.nextEvent();
+
+        assertThat(attribute.isAttribute()).isTrue();
+        assertThat(context.testExpression("Owner/@id", 3)).isTrue();
+        assertThat(context.readText()).isEqualTo("owner-id");
+
+        context.nextEvent();
+        assertThat(context.testExpression("Owner/DisplayName", 3)).isTrue();
+        assertThat(context.testExpression("Owner/@id/DisplayName")).isFalse();
+    }
+
+    @Test
+    public void readText_ReturnsTextOfElement() throws Exception {
+        StaxUnmarshallerContext context = context(DOCUMENT);
+
+        nextStartElement(context, "Name");
+        assertThat(context.readText()).isEqualTo("bucket");
+
+        nextStartElement(context, "Key");
+        assertThat(context.readText()).isEqualTo("a&b");
+
+        nextStartElement(context, "Empty");
+        assertThat(context.readText()).isEmpty();
+    }
+
+    @Test
+    public void metadataExpression_CollectsTextOfMatchingElement() throws Exception {
+        StaxUnmarshallerContext context = context("<Response><ResponseMetadata><RequestId>id</RequestId></ResponseMetadata>"
+                                                  + "</Response>");
+        context.registerMetadataExpression("ResponseMetadata/RequestId", 2, "REQUEST_ID");
+
+        while (!context.nextEvent().isEndDocument()) {
+            // Read the whole document
+        }
+
+        assertThat(context.getMetadata()).containsEntry("REQUEST_ID", "id");
+    }
+
+    @Test
+    public void getHeader_ReturnsFirstValueOfHeader() throws Exception {
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put("x-amz-id", Arrays.asList("first", "second"));
+        StaxUnmarshallerContext context = new StaxUnmarshallerContext(eventReader(DOCUMENT), headers);
+
+        assertThat(context.getHeader("x-amz-id")).isEqualTo("first");
+        assertThat(context.getHeader("x-amz-missing")).isNull();
+        assertThat(context.getHeaders()).containsOnlyKeys("x-amz-id");
+    }
+
+    private static StaxUnmarshallerContext context(String document) throws Exception {
+        return new StaxUnmarshallerContext(eventReader(document), Collections.emptyMap());
+    }
+
+    private static XMLEventReader eventReader(String document) throws Exception {
+        return XmlUtils.xmlInputFactory()
+                       .createXMLEventReader(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void nextStartElement(StaxUnmarshallerContext context, String name) throws Exception {
+        while (true) {
+            XMLEvent event = context.nextEvent();
+            if (event.isStartElement() && event.asStartElement().getName().getLocalPart().equals(name)) {
+                return;
+            }
+        }
+    }
+}
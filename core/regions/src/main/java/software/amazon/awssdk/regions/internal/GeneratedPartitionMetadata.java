@@ -0,0 +1,3295 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.regions.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.regions.internal.model.CredentialScope;
+import software.amazon.awssdk.regions.internal.model.Endpoint;
+import software.amazon.awssdk.regions.internal.model.Partition;
+import software.amazon.awssdk.regions.internal.model.PartitionRegion;
+import software.amazon.awssdk.regions.internal.model.Service;
+
+/**
+ * Partition metadata generated from the endpoints.json file of the regions module, version 3.
+ */
+@Generated("software.amazon.awssdk:codegen")
+@SdkInternalApi
+public final class GeneratedPartitionMetadata {
+    private GeneratedPartitionMetadata() {
+    }
+
+    /**
+     * Creates a new, mutable copy of the metadata of all partitions.
+     */
+    public static List<Partition> partitions() {
+        return new ArrayList<>(Arrays.asList(awsPartition(), awsCnPartition(), awsUsGovPartition()));
+    }
+
+    private static Partition awsPartition() {
+        Map<String, PartitionRegion> regions = new LinkedHashMap<>();
+        regions.put("ap-northeast-1", new PartitionRegion("Asia Pacific (Tokyo)"));
+        regions.put("ap-northeast-2", new PartitionRegion("Asia Pacific (Seoul)"));
+        regions.put("ap-south-1", new PartitionRegion("Asia Pacific (Mumbai)"));
+        regions.put("ap-southeast-1", new PartitionRegion("Asia Pacific (Singapore)"));
+        regions.put("ap-southeast-2", new PartitionRegion("Asia Pacific (Sydney)"));
+        regions.put("ca-central-1", new PartitionRegion("Canada (Central)"));
+        regions.put("eu-central-1", new PartitionRegion("EU (Frankfurt)"));
+        regions.put("eu-west-1", new PartitionRegion("EU (Ireland)"));
+        regions.put("eu-west-2", new PartitionRegion("EU (London)"));
+        regions.put("eu-west-3", new PartitionRegion("EU (Paris)"));
+        regions.put("sa-east-1", new PartitionRegion("South America (Sao Paulo)"));
+        regions.put("us-east-1", new PartitionRegion("US East (N. Virginia)"));
+        regions.put("us-east-2", new PartitionRegion("US East (Ohio)"));
+        regions.put("us-west-1", new PartitionRegion("US West (N. California)"));
+        regions.put("us-west-2", new PartitionRegion("US West (Oregon)"));
+        Map<String, Service> services = new LinkedHashMap<>();
+        services.put("a4b", awsA4b());
+        services.put("acm", awsAcm());
+        services.put("acm-pca", awsAcmPca());
+        services.put("api.mediatailor", awsApiMediatailor());
+        services.put("api.pricing", awsApiPricing());
+        services.put("apigateway", awsApigateway());
+        services.put("application-autoscaling", awsApplicationAutoscaling());
+        services.put("appstream2", awsAppstream2());
+        services.put("athena", awsAthena());
+        services.put("autoscaling", awsAutoscaling());
+        services.put("autoscaling-plans", awsAutoscalingPlans());
+        services.put("batch", awsBatch());
+        services.put("budgets", awsBudgets());
+        services.put("ce", awsCe());
+        services.put("cloud9", awsCloud9());
+        services.put("clouddirectory", awsClouddirectory());
+        services.put("cloudformation", awsCloudformation());
+        services.put("cloudfront", awsCloudfront());
+        services.put("cloudhsm", awsCloudhsm());
+        services.put("cloudhsmv2", awsCloudhsmv2());
+        services.put("cloudsearch", awsCloudsearch());
+        services.put("cloudtrail", awsCloudtrail());
+        services.put("codebuild", awsCodebuild());
+        services.put("codecommit", awsCodecommit());
+        services.put("codedeploy", awsCodedeploy());
+        services.put("codepipeline", awsCodepipeline());
+        services.put("codestar", awsCodestar());
+        services.put("cognito-identity", awsCognitoIdentity());
+        services.put("cognito-idp", awsCognitoIdp());
+        services.put("cognito-sync", awsCognitoSync());
+        services.put("comprehend", awsComprehend());
+        services.put("config", awsConfig());
+        services.put("cur", awsCur());
+        services.put("data.iot", awsDataIot());
+        services.put("datapipeline", awsDatapipeline());
+        services.put("dax", awsDax());
+        services.put("devicefarm", awsDevicefarm());
+        services.put("directconnect", awsDirectconnect());
+        services.put("discovery", awsDiscovery());
+        services.put("dms", awsDms());
+        services.put("ds", awsDs());
+        services.put("dynamodb", awsDynamodb());
+        services.put("ec2", awsEc2());
+        services.put("ecr", awsEcr());
+        services.put("ecs", awsEcs());
+        services.put("elasticache", awsElasticache());
+        services.put("elasticbeanstalk", awsElasticbeanstalk());
+        services.put("elasticfilesystem", awsElasticfilesystem());
+        services.put("elasticloadbalancing", awsElasticloadbalancing());
+        services.put("elasticmapreduce", awsElasticmapreduce());
+        services.put("elastictranscoder", awsElastictranscoder());
+        services.put("email", awsEmail());
+        services.put("entitlement.marketplace", awsEntitlementMarketplace());
+        services.put("es", awsEs());
+        services.put("events", awsEvents());
+        services.put("firehose", awsFirehose());
+        services.put("fms", awsFms());
+        services.put("gamelift", awsGamelift());
+        services.put("glacier", awsGlacier());
+        services.put("glue", awsGlue());
+        services.put("greengrass", awsGreengrass());
+        services.put("guardduty", awsGuardduty());
+        services.put("health", awsHealth());
+        services.put("iam", awsIam());
+        services.put("importexport", awsImportexport());
+        services.put("inspector", awsInspector());
+        services.put("iot", awsIot());
+        services.put("kinesis", awsKinesis());
+        services.put("kinesisanalytics", awsKinesisanalytics());
+        services.put("kinesisvideo", awsKinesisvideo());
+        services.put("kms", awsKms());
+        services.put("lambda", awsLambda());
+        services.put("lightsail", awsLightsail());
+        services.put("logs", awsLogs());
+        services.put("machinelearning", awsMachinelearning());
+        services.put("marketplacecommerceanalytics", awsMarketplacecommerceanalytics());
+        services.put("mediaconvert", awsMediaconvert());
+        services.put("medialive", awsMedialive());
+        services.put("mediapackage", awsMediapackage());
+        services.put("mediastore", awsMediastore());
+        services.put("metering.marketplace", awsMeteringMarketplace());
+        services.put("mgh", awsMgh());
+        services.put("mobileanalytics", awsMobileanalytics());
+        services.put("models.lex", awsModelsLex());
+        services.put("monitoring", awsMonitoring());
+        services.put("mturk-requester", awsMturkRequester());
+        services.put("neptune", awsNeptune());
+        services.put("opsworks", awsOpsworks());
+        services.put("opsworks-cm", awsOpsworksCm());
+        services.put("organizations", awsOrganizations());
+        services.put("pinpoint", awsPinpoint());
+        services.put("polly", awsPolly());
+        services.put("rds", awsRds());
+        services.put("redshift", awsRedshift());
+        services.put("rekognition", awsRekognition());
+        services.put("resource-groups", awsResourceGroups());
+        services.put("route53", awsRoute53());
+        services.put("route53domains", awsRoute53domains());
+        services.put("runtime.lex", awsRuntimeLex());
+        services.put("runtime.sagemaker", awsRuntimeSagemaker());
+        services.put("s3", awsS3());
+        services.put("sagemaker", awsSagemaker());
+        services.put("sdb", awsSdb());
+        services.put("secretsmanager", awsSecretsmanager());
+        services.put("serverlessrepo", awsServerlessrepo());
+        services.put("servicecatalog", awsServicecatalog());
+        services.put("servicediscovery", awsServicediscovery());
+        services.put("shield", awsShield());
+        services.put("sms", awsSms());
+        services.put("snowball", awsSnowball());
+        services.put("sns", awsSns());
+        services.put("sqs", awsSqs());
+        services.put("ssm", awsSsm());
+        services.put("states", awsStates());
+        services.put("storagegateway", awsStoragegateway());
+        services.put("streams.dynamodb", awsStreamsDynamodb());
+        services.put("sts", awsSts());
+        services.put("support", awsSupport());
+        services.put("swf", awsSwf());
+        services.put("tagging", awsTagging());
+        services.put("translate", awsTranslate());
+        services.put("waf", awsWaf());
+        services.put("waf-regional", awsWafRegional());
+        services.put("workdocs", awsWorkdocs());
+        services.put("workmail", awsWorkmail());
+        services.put("workspaces", awsWorkspaces());
+        services.put("xray", awsXray());
+        Partition partition = new Partition();
+        partition.setPartition("aws");
+        partition.setPartitionName("AWS Standard");
+        partition.setDnsSuffix("amazonaws.com");
+        partition.setRegionRegex("^(us|eu|ap|sa|ca)\\-\\w+\\-\\d+$");
+        partition.setDefaults(endpoint("{service}.{region}.{dnsSuffix}", null,
+                Arrays.asList("https"), Arrays.asList("v4"), null));
+        partition.setRegions(regions);
+        partition.setServices(services);
+        return partition;
+    }
+
+    private static Partition awsCnPartition() {
+        Map<String, PartitionRegion> regions = new LinkedHashMap<>();
+        regions.put("cn-north-1", new PartitionRegion("China (Beijing)"));
+        regions.put("cn-northwest-1", new PartitionRegion("China (Ningxia)"));
+        Map<String, Service> services = new LinkedHashMap<>();
+        services.put("apigateway", awsCnApigateway());
+        services.put("application-autoscaling", awsCnApplicationAutoscaling());
+        services.put("autoscaling", awsCnAutoscaling());
+        services.put("cloudformation", awsCnCloudformation());
+        services.put("cloudtrail", awsCnCloudtrail());
+        services.put("codedeploy", awsCnCodedeploy());
+        services.put("cognito-identity", awsCnCognitoIdentity());
+        services.put("config", awsCnConfig());
+        services.put("data.iot", awsCnDataIot());
+        services.put("directconnect", awsCnDirectconnect());
+        services.put("dynamodb", awsCnDynamodb());
+        services.put("ec2", awsCnEc2());
+        services.put("ecr", awsCnEcr());
+        services.put("ecs", awsCnEcs());
+        services.put("elasticache", awsCnElasticache());
+        services.put("elasticbeanstalk", awsCnElasticbeanstalk());
+        services.put("elasticloadbalancing", awsCnElasticloadbalancing());
+        services.put("elasticmapreduce", awsCnElasticmapreduce());
+        services.put("es", awsCnEs());
+        services.put("events", awsCnEvents());
+        services.put("glacier", awsCnGlacier());
+        services.put("iam", awsCnIam());
+        services.put("iot", awsCnIot());
+        services.put("kinesis", awsCnKinesis());
+        services.put("lambda", awsCnLambda());
+        services.put("logs", awsCnLogs());
+        services.put("monitoring", awsCnMonitoring());
+        services.put("rds", awsCnRds());
+        services.put("redshift", awsCnRedshift());
+        services.put("s3", awsCnS3());
+        services.put("sms", awsCnSms());
+        services.put("snowball", awsCnSnowball());
+        services.put("sns", awsCnSns());
+        services.put("sqs", awsCnSqs());
+        services.put("ssm", awsCnSsm());
+        services.put("storagegateway", awsCnStoragegateway());
+        services.put("streams.dynamodb", awsCnStreamsDynamodb());
+        services.put("sts", awsCnSts());
+        services.put("swf", awsCnSwf());
+        services.put("tagging", awsCnTagging());
+        Partition partition = new Partition();
+        partition.setPartition("aws-cn");
+        partition.setPartitionName("AWS China");
+        partition.setDnsSuffix("amazonaws.com.cn");
+        partition.setRegionRegex("^cn\\-\\w+\\-\\d+$");
+        partition.setDefaults(endpoint("{service}.{region}.{dnsSuffix}", null,
+                Arrays.asList("https"), Arrays.asList("v4"), null));
+        partition.setRegions(regions);
+        partition.setServices(services);
+        return partition;
+    }
+
+    private static Partition awsUsGovPartition() {
+        Map<String, PartitionRegion> regions = new LinkedHashMap<>();
+        regions.put("us-gov-west-1", new PartitionRegion("AWS GovCloud (US)"));
+        Map<String, Service> services = new LinkedHashMap<>();
+        services.put("acm", awsUsGovAcm());
+        services.put("apigateway", awsUsGovApigateway());
+        services.put("autoscaling", awsUsGovAutoscaling());
+        services.put("cloudformation", awsUsGovCloudformation());
+        services.put("cloudhsm", awsUsGovCloudhsm());
+        services.put("cloudhsmv2", awsUsGovCloudhsmv2());
+        services.put("cloudtrail", awsUsGovCloudtrail());
+        services.put("codedeploy", awsUsGovCodedeploy());
+        services.put("config", awsUsGovConfig());
+        services.put("directconnect", awsUsGovDirectconnect());
+        services.put("dms", awsUsGovDms());
+        services.put("dynamodb", awsUsGovDynamodb());
+        services.put("ec2", awsUsGovEc2());
+        services.put("ecr", awsUsGovEcr());
+        services.put("ecs", awsUsGovEcs());
+        services.put("elasticache", awsUsGovElasticache());
+        services.put("elasticbeanstalk", awsUsGovElasticbeanstalk());
+        services.put("elasticloadbalancing", awsUsGovElasticloadbalancing());
+        services.put("elasticmapreduce", awsUsGovElasticmapreduce());
+        services.put("es", awsUsGovEs());
+        services.put("events", awsUsGovEvents());
+        services.put("glacier", awsUsGovGlacier());
+        services.put("iam", awsUsGovIam());
+        services.put("inspector", awsUsGovInspector());
+        services.put("kinesis", awsUsGovKinesis());
+        services.put("kms", awsUsGovKms());
+        services.put("lambda", awsUsGovLambda());
+        services.put("logs", awsUsGovLogs());
+        services.put("metering.marketplace", awsUsGovMeteringMarketplace());
+        services.put("monitoring", awsUsGovMonitoring());
+        services.put("polly", awsUsGovPolly());
+        services.put("rds", awsUsGovRds());
+        services.put("redshift", awsUsGovRedshift());
+        services.put("rekognition", awsUsGovRekognition());
+        services.put("s3", awsUsGovS3());
+        services.put("sms", awsUsGovSms());
+        services.put("snowball", awsUsGovSnowball());
+        services.put("sns", awsUsGovSns());
+        services.put("sqs", awsUsGovSqs());
+        services.put("ssm", awsUsGovSsm());
+        services.put("storagegateway", awsUsGovStoragegateway());
+        services.put("streams.dynamodb", awsUsGovStreamsDynamodb());
+        services.put("sts", awsUsGovSts());
+        services.put("swf", awsUsGovSwf());
+        services.put("tagging", awsUsGovTagging());
+        Partition partition = new Partition();
+        partition.setPartition("aws-us-gov");
+        partition.setPartitionName("AWS GovCloud (US)");
+        partition.setDnsSuffix("amazonaws.com");
+        partition.setRegionRegex("^us\\-gov\\-\\w+\\-\\d+$");
+        partition.setDefaults(endpoint("{service}.{region}.{dnsSuffix}", null,
+                Arrays.asList("https"), Arrays.asList("v4"), null));
+        partition.setRegions(regions);
+        partition.setServices(services);
+        return partition;
+    }
+
+    private static Service awsA4b() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-east-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsAcm() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsAcmPca() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsApiMediatailor() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsApiPricing() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, credentialScope(null, "pricing"), null, null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsApigateway() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsApplicationAutoscaling() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint("autoscaling.{region}.amazonaws.com",
+                credentialScope(null, "application-autoscaling"), Arrays.asList("http", "https"),
+                null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsAppstream2() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, credentialScope(null, "appstream"),
+                Arrays.asList("https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsAthena() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsAutoscaling() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("http", "https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsAutoscalingPlans() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint("autoscaling.{region}.amazonaws.com",
+                credentialScope(null, "autoscaling-plans"), Arrays.asList("http", "https"), null,
+                null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsBatch() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsBudgets() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("aws-global", endpoint("budgets.amazonaws.com",
+                credentialScope("us-east-1", null), null, null, null));
+        Service service = new Service();
+        service.setPartitionEndpoint("aws-global");
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCe() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("aws-global", endpoint("ce.us-east-1.amazonaws.com",
+                credentialScope("us-east-1", null), null, null, null));
+        Service service = new Service();
+        service.setPartitionEndpoint("aws-global");
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCloud9() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsClouddirectory() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCloudformation() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCloudfront() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("aws-global", endpoint("cloudfront.amazonaws.com",
+                credentialScope("us-east-1", null), Arrays.asList("http", "https"), null, null));
+        Service service = new Service();
+        service.setPartitionEndpoint("aws-global");
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCloudhsm() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCloudhsmv2() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, credentialScope(null, "cloudhsm"), null, null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCloudsearch() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCloudtrail() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCodebuild() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-1-fips", endpoint("codebuild-fips.us-east-1.amazonaws.com",
+                credentialScope("us-east-1", null), null, null, null));
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-east-2-fips", endpoint("codebuild-fips.us-east-2.amazonaws.com",
+                credentialScope("us-east-2", null), null, null, null));
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-1-fips", endpoint("codebuild-fips.us-west-1.amazonaws.com",
+                credentialScope("us-west-1", null), null, null, null));
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("us-west-2-fips", endpoint("codebuild-fips.us-west-2.amazonaws.com",
+                credentialScope("us-west-2", null), null, null, null));
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCodecommit() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCodedeploy() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCodepipeline() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCodestar() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCognitoIdentity() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCognitoIdp() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCognitoSync() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsComprehend() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsConfig() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCur() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-east-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsDataIot() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, credentialScope(null, "iotdata"), Arrays.asList("https"),
+                null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsDatapipeline() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsDax() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsDevicefarm() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsDirectconnect() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsDiscovery() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsDms() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsDs() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsDynamodb() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("local", endpoint("localhost:8000", credentialScope("us-east-1", null),
+                Arrays.asList("http"), null, null));
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("http", "https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsEc2() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("http", "https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsEcr() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsEcs() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsElasticache() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsElasticbeanstalk() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsElasticfilesystem() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsElasticloadbalancing() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsElasticmapreduce() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", endpoint(null, null, null, null,
+                "{service}.{region}.{dnsSuffix}"));
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", endpoint(null, null, null, null,
+                "{service}.{region}.{dnsSuffix}"));
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("http", "https"), null,
+                "{region}.{service}.{dnsSuffix}"));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsElastictranscoder() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsEmail() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsEntitlementMarketplace() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-east-1", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, credentialScope(null, "aws-marketplace"), null, null,
+                null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsEs() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsEvents() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsFirehose() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsFms() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsGamelift() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsGlacier() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("http", "https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsGlue() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsGreengrass() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setIsRegionalized(true);
+        service.setDefaults(endpoint(null, null, Arrays.asList("https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsGuardduty() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setIsRegionalized(true);
+        service.setDefaults(endpoint(null, null, Arrays.asList("https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsHealth() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-east-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsIam() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("aws-global", endpoint("iam.amazonaws.com",
+                credentialScope("us-east-1", null), null, null, null));
+        Service service = new Service();
+        service.setPartitionEndpoint("aws-global");
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsImportexport() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("aws-global", endpoint("importexport.amazonaws.com",
+                credentialScope("us-east-1", "IngestionService"), null, Arrays.asList("v2", "v4"),
+                null));
+        Service service = new Service();
+        service.setPartitionEndpoint("aws-global");
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsInspector() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsIot() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, credentialScope(null, "execute-api"), null, null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsKinesis() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsKinesisanalytics() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsKinesisvideo() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsKms() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsLambda() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsLightsail() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsLogs() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsMachinelearning() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsMarketplacecommerceanalytics() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-east-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsMediaconvert() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsMedialive() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsMediapackage() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsMediastore() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsMeteringMarketplace() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, credentialScope(null, "aws-marketplace"), null, null,
+                null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsMgh() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsMobileanalytics() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-east-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsModelsLex() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, credentialScope(null, "lex"), null, null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsMonitoring() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("http", "https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsMturkRequester() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("sandbox", endpoint("mturk-requester-sandbox.us-east-1.amazonaws.com", null,
+                null, null, null));
+        endpoints.put("us-east-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsNeptune() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("eu-west-1", endpoint("rds.eu-west-1.amazonaws.com",
+                credentialScope("eu-west-1", null), null, null, null));
+        endpoints.put("us-east-1", endpoint("rds.us-east-1.amazonaws.com",
+                credentialScope("us-east-1", null), null, null, null));
+        endpoints.put("us-east-2", endpoint("rds.us-east-2.amazonaws.com",
+                credentialScope("us-east-2", null), null, null, null));
+        endpoints.put("us-west-2", endpoint("rds.us-west-2.amazonaws.com",
+                credentialScope("us-west-2", null), null, null, null));
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsOpsworks() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsOpsworksCm() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsOrganizations() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("aws-global", endpoint("organizations.us-east-1.amazonaws.com",
+                credentialScope("us-east-1", null), null, null, null));
+        Service service = new Service();
+        service.setPartitionEndpoint("aws-global");
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsPinpoint() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-east-1", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, credentialScope(null, "mobiletargeting"), null, null,
+                null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsPolly() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsRds() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", endpoint(null, null, null, null, "{service}.{dnsSuffix}"));
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsRedshift() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsRekognition() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsResourceGroups() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsRoute53() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("aws-global", endpoint("route53.amazonaws.com",
+                credentialScope("us-east-1", null), null, null, null));
+        Service service = new Service();
+        service.setPartitionEndpoint("aws-global");
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsRoute53domains() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-east-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsRuntimeLex() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, credentialScope(null, "lex"), null, null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsRuntimeSagemaker() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsS3() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", endpoint("s3.ap-northeast-1.amazonaws.com", null, null,
+                Arrays.asList("s3", "s3v4"), null));
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", endpoint("s3.ap-southeast-1.amazonaws.com", null, null,
+                Arrays.asList("s3", "s3v4"), null));
+        endpoints.put("ap-southeast-2", endpoint("s3.ap-southeast-2.amazonaws.com", null, null,
+                Arrays.asList("s3", "s3v4"), null));
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", endpoint("s3.eu-west-1.amazonaws.com", null, null,
+                Arrays.asList("s3", "s3v4"), null));
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("s3-external-1", endpoint("s3-external-1.amazonaws.com",
+                credentialScope("us-east-1", null), null, Arrays.asList("s3", "s3v4"), null));
+        endpoints.put("sa-east-1", endpoint("s3.sa-east-1.amazonaws.com", null, null,
+                Arrays.asList("s3", "s3v4"), null));
+        endpoints.put("us-east-1", endpoint("s3.amazonaws.com", null, null, Arrays.asList("s3",
+                "s3v4"), null));
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", endpoint("s3.us-west-1.amazonaws.com", null, null,
+                Arrays.asList("s3", "s3v4"), null));
+        endpoints.put("us-west-2", endpoint("s3.us-west-2.amazonaws.com", null, null,
+                Arrays.asList("s3", "s3v4"), null));
+        Service service = new Service();
+        service.setPartitionEndpoint("us-east-1");
+        service.setIsRegionalized(true);
+        service.setDefaults(endpoint(null, null, Arrays.asList("http", "https"),
+                Arrays.asList("s3v4"), null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsSagemaker() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsSdb() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", endpoint("sdb.amazonaws.com", null, null, null, null));
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("http", "https"),
+                Arrays.asList("v2"), null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsSecretsmanager() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsServerlessrepo() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", endpoint(null, null, Arrays.asList("https"), null, null));
+        endpoints.put("ap-northeast-2", endpoint(null, null, Arrays.asList("https"), null, null));
+        endpoints.put("ap-south-1", endpoint(null, null, Arrays.asList("https"), null, null));
+        endpoints.put("ap-southeast-1", endpoint(null, null, Arrays.asList("https"), null, null));
+        endpoints.put("ap-southeast-2", endpoint(null, null, Arrays.asList("https"), null, null));
+        endpoints.put("ca-central-1", endpoint(null, null, Arrays.asList("https"), null, null));
+        endpoints.put("eu-central-1", endpoint(null, null, Arrays.asList("https"), null, null));
+        endpoints.put("eu-west-1", endpoint(null, null, Arrays.asList("https"), null, null));
+        endpoints.put("eu-west-2", endpoint(null, null, Arrays.asList("https"), null, null));
+        endpoints.put("sa-east-1", endpoint(null, null, Arrays.asList("https"), null, null));
+        endpoints.put("us-east-1", endpoint(null, null, Arrays.asList("https"), null, null));
+        endpoints.put("us-east-2", endpoint(null, null, Arrays.asList("https"), null, null));
+        endpoints.put("us-west-1", endpoint(null, null, Arrays.asList("https"), null, null));
+        endpoints.put("us-west-2", endpoint(null, null, Arrays.asList("https"), null, null));
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsServicecatalog() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsServicediscovery() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsShield() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-east-1", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("https"), null,
+                "Shield.us-east-1.amazonaws.com"));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsSms() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsSnowball() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsSns() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("http", "https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsSqs() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("fips-us-east-1", new Endpoint());
+        endpoints.put("fips-us-east-2", new Endpoint());
+        endpoints.put("fips-us-west-1", new Endpoint());
+        endpoints.put("fips-us-west-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", endpoint(null, null, null, null, "queue.{dnsSuffix}"));
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("http", "https"), null,
+                "{region}.queue.{dnsSuffix}"));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsSsm() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsStates() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsStoragegateway() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsStreamsDynamodb() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("local", endpoint("localhost:8000", credentialScope("us-east-1", null),
+                Arrays.asList("http"), null, null));
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, credentialScope(null, "dynamodb"), Arrays.asList("http",
+                "https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsSts() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", endpoint("sts.ap-northeast-2.amazonaws.com",
+                credentialScope("ap-northeast-2", null), null, null, null));
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("aws-global", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-1-fips", endpoint("sts-fips.us-east-1.amazonaws.com",
+                credentialScope("us-east-1", null), null, null, null));
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-east-2-fips", endpoint("sts-fips.us-east-2.amazonaws.com",
+                credentialScope("us-east-2", null), null, null, null));
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-1-fips", endpoint("sts-fips.us-west-1.amazonaws.com",
+                credentialScope("us-west-1", null), null, null, null));
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("us-west-2-fips", endpoint("sts-fips.us-west-2.amazonaws.com",
+                credentialScope("us-west-2", null), null, null, null));
+        Service service = new Service();
+        service.setPartitionEndpoint("aws-global");
+        service.setDefaults(endpoint("sts.amazonaws.com", credentialScope("us-east-1", null), null,
+                null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsSupport() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-east-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsSwf() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsTagging() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("eu-west-3", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsTranslate() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsWaf() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("aws-global", endpoint("waf.amazonaws.com",
+                credentialScope("us-east-1", null), null, null, null));
+        Service service = new Service();
+        service.setPartitionEndpoint("aws-global");
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsWafRegional() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsWorkdocs() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsWorkmail() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsWorkspaces() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsXray() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ca-central-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-west-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-east-2", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnApigateway() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnApplicationAutoscaling() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint("autoscaling.{region}.amazonaws.com",
+                credentialScope(null, "application-autoscaling"), Arrays.asList("http", "https"),
+                null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnAutoscaling() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("http", "https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnCloudformation() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnCloudtrail() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnCodedeploy() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnCognitoIdentity() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnConfig() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnDataIot() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, credentialScope(null, "iotdata"), Arrays.asList("https"),
+                null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnDirectconnect() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnDynamodb() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("http", "https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnEc2() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("http", "https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnEcr() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnEcs() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnElasticache() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnElasticbeanstalk() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnElasticloadbalancing() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnElasticmapreduce() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("http", "https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnEs() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnEvents() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnGlacier() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("http", "https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnIam() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("aws-cn-global", endpoint("iam.cn-north-1.amazonaws.com.cn",
+                credentialScope("cn-north-1", null), null, null, null));
+        Service service = new Service();
+        service.setPartitionEndpoint("aws-cn-global");
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnIot() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, credentialScope(null, "execute-api"), null, null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnKinesis() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnLambda() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnLogs() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnMonitoring() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("http", "https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnRds() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnRedshift() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnS3() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("http", "https"),
+                Arrays.asList("s3v4"), null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnSms() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnSnowball() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnSns() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("http", "https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnSqs() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, Arrays.asList("http", "https"), null,
+                "{region}.queue.{dnsSuffix}"));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnSsm() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnStoragegateway() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnStreamsDynamodb() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, credentialScope(null, "dynamodb"), Arrays.asList("http",
+                "https"), null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnSts() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnSwf() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsCnTagging() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("cn-north-1", new Endpoint());
+        endpoints.put("cn-northwest-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovAcm() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovApigateway() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovAutoscaling() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", endpoint(null, null, Arrays.asList("http", "https"), null,
+                null));
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovCloudformation() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovCloudhsm() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovCloudhsmv2() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, credentialScope(null, "cloudhsm"), null, null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovCloudtrail() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovCodedeploy() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovConfig() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovDirectconnect() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovDms() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovDynamodb() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        endpoints.put("us-gov-west-1-fips", endpoint("dynamodb.us-gov-west-1.amazonaws.com",
+                credentialScope("us-gov-west-1", null), null, null, null));
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovEc2() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovEcr() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovEcs() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovElasticache() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovElasticbeanstalk() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovElasticloadbalancing() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", endpoint(null, null, Arrays.asList("http", "https"), null,
+                null));
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovElasticmapreduce() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", endpoint(null, null, Arrays.asList("http", "https"), null,
+                null));
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovEs() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovEvents() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovGlacier() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", endpoint(null, null, Arrays.asList("http", "https"), null,
+                null));
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovIam() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("aws-us-gov-global", endpoint("iam.us-gov.amazonaws.com",
+                credentialScope("us-gov-west-1", null), null, null, null));
+        Service service = new Service();
+        service.setPartitionEndpoint("aws-us-gov-global");
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovInspector() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovKinesis() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovKms() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovLambda() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovLogs() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovMeteringMarketplace() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setDefaults(endpoint(null, credentialScope(null, "aws-marketplace"), null, null,
+                null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovMonitoring() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovPolly() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovRds() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovRedshift() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovRekognition() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovS3() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("fips-us-gov-west-1", endpoint("s3-fips-us-gov-west-1.amazonaws.com",
+                credentialScope("us-gov-west-1", null), null, null, null));
+        endpoints.put("us-gov-west-1", endpoint("s3.us-gov-west-1.amazonaws.com", null,
+                Arrays.asList("http", "https"), null, null));
+        Service service = new Service();
+        service.setDefaults(endpoint(null, null, null, Arrays.asList("s3", "s3v4"), null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovSms() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovSnowball() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovSns() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", endpoint(null, null, Arrays.asList("http", "https"), null,
+                null));
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovSqs() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", endpoint(null, null, Arrays.asList("http", "https"), null,
+                "{region}.queue.{dnsSuffix}"));
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovSsm() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovStoragegateway() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovStreamsDynamodb() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        endpoints.put("us-gov-west-1-fips", endpoint("dynamodb.us-gov-west-1.amazonaws.com",
+                credentialScope("us-gov-west-1", null), null, null, null));
+        Service service = new Service();
+        service.setDefaults(endpoint(null, credentialScope(null, "dynamodb"), null, null, null));
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovSts() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovSwf() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Service awsUsGovTagging() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        Service service = new Service();
+        service.setEndpoints(endpoints);
+        return service;
+    }
+
+    private static Endpoint endpoint(String hostname, CredentialScope credentialScope,
+            List<String> protocols, List<String> signatureVersions, String sslCommonName) {
+        Endpoint endpoint = new Endpoint();
+        endpoint.setHostname(hostname);
+        endpoint.setCredentialScope(credentialScope);
+        endpoint.setProtocols(protocols);
+        endpoint.setSignatureVersions(signatureVersions);
+        endpoint.setSslCommonName(sslCommonName);
+        return endpoint;
+    }
+
+    private static CredentialScope credentialScope(String region, String service) {
+        CredentialScope credentialScope = new CredentialScope();
+        credentialScope.setRegion(region);
+        credentialScope.setService(service);
+        return credentialScope;
+    }
+}
@@ -28,6 +28,10 @@ import software.amazon.awssdk.utils.IoUtils;
 
 /**
  * Loads all the partition files into memory.
+ *
+ * <p>Unless an override partition file is present on the classpath, the partitions are created by
+ * {@link GeneratedPartitionMetadata}, which is generated from the {@link #PARTITIONS_RESOURCE_PATH} file and so avoids
+ * parsing and binding it when the first client is created.</p>
  */
 @SdkInternalApi
 public final class RegionMetadataLoader {
@@ -56,7 +60,7 @@ public final class RegionMetadataLoader {
 
     /**
      * Loads the partition files from the {@link #PARTITIONS_OVERRIDE_RESOURCE_PATH}. If no files are present, then
-     * loads the partition files from the {@link #PARTITIONS_RESOURCE_PATH}
+     * uses the partitions generated from the {@link #PARTITIONS_RESOURCE_PATH}
      * <p>
      * Builds the {@link RegionMetadata} from the partition files.
      */
@@ -85,14 +89,21 @@ public final class RegionMetadataLoader {
             provider = new PartitionMetadataProvider(
                     loadPartitionFromStream(stream, PARTITIONS_OVERRIDE_RESOURCE_PATH).getPartitions());
         } else {
-            stream = CLASS_LOADER.getResourceAsStream(PARTITIONS_RESOURCE_PATH);
-            if (stream == null) {
-                throw SdkClientException.builder()
-                                        .message("Unable to load partition metadata from " + PARTITIONS_RESOURCE_PATH)
-                                        .build();
-            }
-            provider = new PartitionMetadataProvider(loadPartitionFromStream(stream, PARTITIONS_RESOURCE_PATH).getPartitions());
+            provider = new PartitionMetadataProvider(GeneratedPartitionMetadata.partitions());
+        }
+    }
+
+    /**
+     * Loads the partition file from the {@link #PARTITIONS_RESOURCE_PATH}, the source of the generated partitions.
+     */
+    static Partitions loadPartitionsResource() {
+        InputStream stream = CLASS_LOADER.getResourceAsStream(PARTITIONS_RESOURCE_PATH);
+        if (stream == null) {
+            throw SdkClientException.builder()
+                                    .message("Unable to load partition metadata from " + PARTITIONS_RESOURCE_PATH)
+                                    .build();
         }
+        return loadPartitionFromStream(stream, PARTITIONS_RESOURCE_PATH);
     }
 
     private static Partitions loadPartitionFromStream(InputStream stream, String location) {
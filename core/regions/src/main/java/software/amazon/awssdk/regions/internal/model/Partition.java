@@ -57,6 +57,11 @@ public final class Partition {
      */
     private String regionRegex;
 
+    /**
+     * compiled {@link #regionRegex}, matched against every region that isn't explicitly configured in the partition.
+     */
+    private Pattern regionPattern;
+
     /**
      * default endpoint configuration.
      */
@@ -125,6 +130,7 @@ public final class Partition {
      */
     public void setRegionRegex(String regionRegex) {
         this.regionRegex = regionRegex;
+        this.regionPattern = regionRegex == null ? null : Pattern.compile(regionRegex);
     }
 
     /**
@@ -172,8 +178,7 @@ public final class Partition {
     }
 
     private boolean matchesRegionRegex(String region) {
-        Pattern p = Pattern.compile(regionRegex);
-        return p.matcher(region).matches();
+        return regionPattern != null && regionPattern.matcher(region).matches();
     }
 
     @Deprecated
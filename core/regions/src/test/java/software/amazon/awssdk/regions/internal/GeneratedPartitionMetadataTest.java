@@ -0,0 +1,52 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.regions.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import software.amazon.awssdk.regions.internal.model.Partition;
+import software.amazon.awssdk.regions.internal.model.Partitions;
+
+/**
+ * Verifies {@link GeneratedPartitionMetadata} was regenerated after the last change to the endpoints.json file.
+ */
+public class GeneratedPartitionMetadataTest {
+
+    @Test
+    public void generatedPartitions_MatchEndpointsFile() throws Exception {
+        Partitions fromFile = RegionMetadataLoader.loadPartitionsResource();
+        Partitions generated = new Partitions(fromFile.getVersion(), GeneratedPartitionMetadata.partitions());
+
+        assertThat(asMap(generated)).isEqualTo(asMap(fromFile));
+    }
+
+    @Test
+    public void generatedPartitions_AreNewCopies() {
+        List<Partition> partitions = GeneratedPartitionMetadata.partitions();
+        partitions.get(0).getRegions().clear();
+
+        assertThat(GeneratedPartitionMetadata.partitions().get(0).getRegions()).isNotEmpty();
+    }
+
+    private static Map<String, Object> asMap(Partitions partitions) throws Exception {
+        JSON json = JSON.std.with(JSON.Feature.USE_IS_GETTERS);
+        return json.mapFrom(json.asString(partitions));
+    }
+}
@@ -40,6 +40,17 @@ public final class ResponseBytes<ResponseT> extends BytesWrapper {
         return new ResponseBytes<>(response, Arrays.copyOf(bytes, bytes.length));
     }
 
+    /**
+     * Create {@link ResponseBytes} from a byte array <b>without</b> copying the contents of the byte array. This introduces
+     * concurrency risks, allowing the caller to modify the byte array stored in this object after this object is created.
+     * Only use it when the caller no longer uses the array, e.g. it was allocated to hold the response content.
+     *
+     * @see #fromByteArray(Object, byte[])
+     */
+    public static <ResponseT> ResponseBytes<ResponseT> fromByteArrayUnsafe(ResponseT response, byte[] bytes) {
+        return new ResponseBytes<>(response, bytes);
+    }
+
     /**
      * @return the unmarshalled response object from the service.
      */
@@ -113,6 +113,7 @@ public interface AsyncResponseTransformer<ResponseT, ResultT> {
      * @param path        Path to file to write to.
      * @param <ResponseT> Pojo Response type.
      * @return AsyncResponseTransformer instance.
+     * @see ParallelFileDownload to download large objects in byte ranges fetched concurrently.
      */
     static <ResponseT> AsyncResponseTransformer<ResponseT, ResponseT> toFile(Path path) {
         return new FileAsyncResponseTransformer<>(path);
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.async;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A snapshot of the progress of a {@link ParallelFileDownload}: which of the parts of the object have been written to the
+ * file. A download that didn't complete can be resumed from its progress with
+ * {@link ParallelFileDownload.Builder#resumeFrom(FileDownloadProgress)}, which only downloads the missing parts.
+ *
+ * <p>To resume a download in another process, persist the {@link #contentLength()}, {@link #partSizeInBytes()},
+ * {@link #completedParts()} and {@link #eTag()} and recreate the progress with {@link #create(long, long, Collection, String)}.
+ * </p>
+ */
+@Immutable
+@SdkPublicApi
+public final class FileDownloadProgress {
+
+    private final long contentLength;
+    private final long partSizeInBytes;
+    private final BitSet completedParts;
+    private final String eTag;
+
+    FileDownloadProgress(long contentLength, long partSizeInBytes, BitSet completedParts, String eTag) {
+        this.contentLength = contentLength;
+        this.partSizeInBytes = partSizeInBytes;
+        this.completedParts = (BitSet) completedParts.clone();
+        this.eTag = eTag;
+    }
+
+    /**
+     * Recreates the progress of a download without the ETag of the object. The resumed download can't check that the
+     * completed parts were written from the same version of the object as the missing parts.
+     *
+     * @param contentLength The length of the object being downloaded.
+     * @param partSizeInBytes The size of the parts the object is downloaded in.
+     * @param completedParts The zero-based numbers of the parts already written to the file.
+     * @return The progress.
+     */
+    public static FileDownloadProgress create(long contentLength, long partSizeInBytes, Collection<Integer> completedParts) {
+        return create(contentLength, partSizeInBytes, completedParts, null);
+    }
+
+    /**
+     * Recreates the progress of a download.
+     *
+     * @param contentLength The length of the object being downloaded.
+     * @param partSizeInBytes The size of the parts the object is downloaded in.
+     * @param completedParts The zero-based numbers of the parts already written to the file.
+     * @param eTag The ETag of the object the completed parts were downloaded from, or null if it isn't known.
+     * @return The progress.
+     */
+    public static FileDownloadProgress create(long contentLength, long partSizeInBytes, Collection<Integer> completedParts,
+                                              String eTag) {
+        Validate.isTrue(contentLength >= 0, "contentLength must not be negative");
+        Validate.isTrue(partSizeInBytes > 0, "partSizeInBytes must be positive");
+        Validate.paramNotNull(completedParts, "completedParts");
+        int totalParts = totalParts(contentLength, partSizeInBytes);
+        BitSet parts = new BitSet(totalParts);
+        for (Integer part : completedParts) {
+            Validate.isTrue(part >= 0 && part < totalParts, "Part %s is not one of the %s parts of the object", part, totalParts);
+            parts.set(part);
+        }
+        return new FileDownloadProgress(contentLength, partSizeInBytes, parts, eTag);
+    }
+
+    /**
+     * @return The length of the object being downloaded.
+     */
+    public long contentLength() {
+        return contentLength;
+    }
+
+    /**
+     * @return The size of the parts the object is downloaded in, the last part may be shorter.
+     */
+    public long partSizeInBytes() {
+        return partSizeInBytes;
+    }
+
+    /**
+     * @return The number of parts the object is downloaded in.
+     */
+    public int totalParts() {
+        return totalParts(contentLength, partSizeInBytes);
+    }
+
+    /**
+     * @return The zero-based numbers of the parts already written to the file, in ascending order.
+     */
+    public Set<Integer> completedParts() {
+        Set<Integer> parts = new TreeSet<>();
+        completedParts.stream().forEach(parts::add);
+        return Collections.unmodifiableSet(parts);
+    }
+
+    /**
+     * @return The ETag of the object the parts are downloaded from, empty if no part was downloaded yet or the object has no
+     * ETag.
+     */
+    public Optional<String> eTag() {
+        return Optional.ofNullable(eTag);
+    }
+
+    /**
+     * @param part The zero-based number of the part.
+     * @return Whether the part has been written to the file.
+     */
+    public boolean isPartComplete(int part) {
+        return completedParts.get(part);
+    }
+
+    /**
+     * @return The number of bytes of the object written to the file.
+     */
+    public long bytesTransferred() {
+        return completedParts.stream().mapToLong(this::partLength).sum();
+    }
+
+    /**
+     * @return Whether every part of the object has been written to the file.
+     */
+    public boolean isComplete() {
+        return completedParts.cardinality() == totalParts();
+    }
+
+    long partLength(int part) {
+        return Math.min(partSizeInBytes, contentLength - part * partSizeInBytes);
+    }
+
+    BitSet completedPartsBitSet() {
+        return (BitSet) completedParts.clone();
+    }
+
+    static int totalParts(long contentLength, long partSizeInBytes) {
+        long parts = (contentLength + partSizeInBytes - 1) / partSizeInBytes;
+        Validate.isTrue(parts <= Integer.MAX_VALUE, "partSizeInBytes is too small for an object of %s bytes", contentLength);
+        return (int) parts;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("FileDownloadProgress")
+                       .add("contentLength", contentLength)
+                       .add("partSizeInBytes", partSizeInBytes)
+                       .add("completedParts", completedParts.cardinality())
+                       .add("totalParts", totalParts())
+                       .add("eTag", eTag)
+                       .build();
+    }
+}
@@ -0,0 +1,380 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.async;
+
+import java.io.IOException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.internal.async.FilePartAsyncResponseTransformer;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+/**
+ * Downloads an object to a file in byte ranges fetched concurrently, rather than over the single connection used by
+ * {@link AsyncResponseTransformer#toFile(Path)}. Each part is requested with a ranged request made by the caller through the
+ * async client, written at its position in the file and validated against the requested range. For example, with S3:
+ *
+ * <pre>{@code
+ * long size = s3.headObject(r -> r.bucket(bucket).key(key)).join().contentLength();
+ * ParallelFileDownload download = ParallelFileDownload.builder().destination(path).contentLength(size).build();
+ * download.start((range, ifMatch, transformer) ->
+ *                    s3.getObject(r -> r.bucket(bucket).key(key).range(range).ifMatch(ifMatch), transformer))
+ *         .join();
+ * }</pre>
+ *
+ * <p>The first part is downloaded on its own and the other parts are requested with an If-Match header of the ETag it
+ * was received with, so that every part is read from the same version of the object. A part fails if the object changed
+ * in the meantime.</p>
+ *
+ * <p>At most {@link Builder#maxConcurrentParts(Integer)} parts are in flight at any time. If a part fails no further parts
+ * are started, the download fails once the parts in flight are done and the parts that were written are recorded in the
+ * {@link #progress()}. A new download built with {@link Builder#resumeFrom(FileDownloadProgress)} only fetches the parts
+ * that are missing. A new download truncates the file, a resumed download keeps the parts already written to it. The
+ * file is never deleted so the completed parts survive a failure.</p>
+ *
+ * <p>A download can only be started once.</p>
+ */
+@ThreadSafe
+@SdkPublicApi
+public final class ParallelFileDownload {
+
+    private static final Logger log = Logger.loggerFor(ParallelFileDownload.class);
+
+    private static final long DEFAULT_PART_SIZE = 8L * 1024 * 1024;
+    private static final int DEFAULT_MAX_CONCURRENT_PARTS = 8;
+
+    private final Path destination;
+    private final long contentLength;
+    private final long partSizeInBytes;
+    private final int maxConcurrentParts;
+    private final int totalParts;
+    private final BitSet completedParts;
+    private final boolean resumed;
+
+    private AsynchronousFileChannel fileChannel;
+    private CompletableFuture<Void> result;
+    private int nextPart = 0;
+    private int partsInFlight = 0;
+    private boolean eTagResolved;
+    private String eTag;
+    private Throwable failure;
+
+    private ParallelFileDownload(DefaultBuilder builder) {
+        this.destination = Validate.paramNotNull(builder.destination, "destination");
+        this.contentLength = Validate.paramNotNull(builder.contentLength, "contentLength");
+        Validate.isTrue(contentLength >= 0, "contentLength must not be negative");
+        this.partSizeInBytes = builder.partSizeInBytes == null ? DEFAULT_PART_SIZE : builder.partSizeInBytes;
+        Validate.isTrue(partSizeInBytes > 0, "partSizeInBytes must be positive");
+        this.maxConcurrentParts = Validate.isPositive(builder.maxConcurrentParts == null ? DEFAULT_MAX_CONCURRENT_PARTS
+                                                                                         : builder.maxConcurrentParts,
+                                                      "maxConcurrentParts");
+        this.totalParts = FileDownloadProgress.totalParts(contentLength, partSizeInBytes);
+        if (builder.resumeFrom != null) {
+            Validate.isTrue(builder.resumeFrom.contentLength() == contentLength
+                            && builder.resumeFrom.partSizeInBytes() == partSizeInBytes,
+                            "The download can only be resumed with the contentLength and partSizeInBytes of the progress");
+            this.completedParts = builder.resumeFrom.completedPartsBitSet();
+            this.eTag = builder.resumeFrom.eTag().orElse(null);
+            this.resumed = true;
+        } else {
+            this.completedParts = new BitSet(totalParts);
+            this.resumed = false;
+        }
+        this.eTagResolved = eTag != null;
+    }
+
+    /**
+     * @return Builder instance to construct a {@link ParallelFileDownload}.
+     */
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Starts downloading the missing parts of the object.
+     *
+     * @param rangeRequest Makes the ranged request for a part with the given transformer and returns its result.
+     * @param <ResponseT> Response POJO type of the ranged requests.
+     * @return A future completed when every part has been written to the file, or completed exceptionally with the cause of
+     * the first part to fail.
+     * @throws IllegalStateException If the download was already started.
+     */
+    public <ResponseT> CompletableFuture<Void> start(RangeRequest<ResponseT> rangeRequest) {
+        Validate.paramNotNull(rangeRequest, "rangeRequest");
+        CompletableFuture<Void> future;
+        synchronized (this) {
+            Validate.validState(result == null, "The download was already started");
+            result = new CompletableFuture<>();
+            future = result;
+            try {
+                fileChannel = openFile();
+            } catch (IOException e) {
+                result.completeExceptionally(e);
+                return future;
+            }
+        }
+        startParts(rangeRequest);
+        return future;
+    }
+
+    /**
+     * @return A snapshot of the parts written to the file so far.
+     */
+    public synchronized FileDownloadProgress progress() {
+        return new FileDownloadProgress(contentLength, partSizeInBytes, completedParts, eTag);
+    }
+
+    /**
+     * Opens the file, dropping the content of an existing file unless the download is resumed. A resumed download only
+     * drops the bytes past the end of the object.
+     */
+    private AsynchronousFileChannel openFile() throws IOException {
+        if (!resumed) {
+            return AsynchronousFileChannel.open(destination, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                                                StandardOpenOption.TRUNCATE_EXISTING);
+        }
+        AsynchronousFileChannel channel = AsynchronousFileChannel.open(destination, StandardOpenOption.WRITE,
+                                                                       StandardOpenOption.CREATE);
+        try {
+            return channel.truncate(contentLength);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private <ResponseT> void startParts(RangeRequest<ResponseT> rangeRequest) {
+        List<Integer> parts = new ArrayList<>();
+        AsynchronousFileChannel channel;
+        String ifMatch;
+        synchronized (this) {
+            channel = fileChannel;
+            ifMatch = eTag;
+            // Until a part returns the ETag of the object, parts are downloaded one at a time
+            int maxParts = eTagResolved ? maxConcurrentParts : 1;
+            while (failure == null && partsInFlight < maxParts) {
+                nextPart = completedParts.nextClearBit(nextPart);
+                if (nextPart >= totalParts) {
+                    break;
+                }
+                parts.add(nextPart++);
+                partsInFlight++;
+            }
+            finishIfDone();
+        }
+        // Requests are made outside of the lock, they may complete on this thread
+        parts.forEach(part -> startPart(part, channel, ifMatch, rangeRequest));
+    }
+
+    private <ResponseT> void startPart(int part, AsynchronousFileChannel channel, String ifMatch,
+                                       RangeRequest<ResponseT> rangeRequest) {
+        long start = part * partSizeInBytes;
+        long length = Math.min(partSizeInBytes, contentLength - start);
+        String range = "bytes=" + start + "-" + (start + length - 1);
+        FilePartAsyncResponseTransformer<ResponseT> transformer = new FilePartAsyncResponseTransformer<>(channel, start, length);
+        CompletableFuture<ResponseT> partFuture;
+        try {
+            partFuture = rangeRequest.request(range, ifMatch, transformer);
+        } catch (RuntimeException e) {
+            partFuture = new CompletableFuture<>();
+            partFuture.completeExceptionally(e);
+        }
+        partFuture.whenComplete((r, t) -> {
+            onPartComplete(part, transformer, t);
+            startParts(rangeRequest);
+        });
+    }
+
+    private synchronized void onPartComplete(int part, FilePartAsyncResponseTransformer<?> transformer, Throwable t) {
+        partsInFlight--;
+        if (t == null) {
+            completedParts.set(part);
+            if (!eTagResolved) {
+                // Objects served without an ETag can't be pinned, their parts are still downloaded concurrently
+                eTag = transformer.eTag().orElse(null);
+                eTagResolved = true;
+            }
+        } else if (failure == null) {
+            log.debug(() -> "Failed to download part " + part + " of " + destination, t);
+            failure = t;
+        }
+    }
+
+    private void finishIfDone() {
+        if (partsInFlight > 0 || (failure == null && completedParts.cardinality() < totalParts) || result.isDone()) {
+            return;
+        }
+        try {
+            fileChannel.close();
+        } catch (IOException e) {
+            if (failure == null) {
+                failure = e;
+            }
+        }
+        if (failure == null) {
+            result.complete(null);
+        } else {
+            result.completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * Makes the ranged request for a part of the object, see {@link #start(RangeRequest)}.
+     *
+     * @param <ResponseT> Response POJO type of the ranged requests.
+     */
+    @FunctionalInterface
+    public interface RangeRequest<ResponseT> {
+
+        /**
+         * Makes the ranged request for a part with the given transformer.
+         *
+         * @param range The value of the HTTP Range header for the part, e.g. {@code bytes=0-8388607}.
+         * @param ifMatch The value of the HTTP If-Match header for the part, the ETag of the object. Null when the ETag isn't
+         * known yet, which is the case for the first part.
+         * @param transformer The transformer to make the request with.
+         * @return The result of the request.
+         */
+        CompletableFuture<ResponseT> request(String range, String ifMatch,
+                                             AsyncResponseTransformer<ResponseT, ResponseT> transformer);
+    }
+
+    /**
+     * A builder for {@link ParallelFileDownload}.
+     */
+    public interface Builder extends SdkBuilder<Builder, ParallelFileDownload> {
+
+        /**
+         * Sets the file to write the object to. The file is created if it doesn't exist and truncated unless the download
+         * is resumed, so a resumed download has to write to the same file.
+         *
+         * @param destination Path to the file to write to.
+         * @return This builder for method chaining.
+         */
+        Builder destination(Path destination);
+
+        /**
+         * Sets the length of the object to download, e.g. the Content-Length of a HEAD request.
+         *
+         * @param contentLength The length of the object in bytes.
+         * @return This builder for method chaining.
+         */
+        Builder contentLength(Long contentLength);
+
+        /**
+         * Sets the size of the byte ranges the object is downloaded in. Larger parts mean fewer requests, smaller parts
+         * mean less content to download again when a part fails.
+         *
+         * <p>The default part size is 8 MiB.</p>
+         *
+         * @param partSizeInBytes The size of a part in bytes.
+         * @return This builder for method chaining.
+         */
+        Builder partSizeInBytes(Long partSizeInBytes);
+
+        /**
+         * Sets the maximum number of parts downloaded at the same time, each of which uses a connection of the HTTP client.
+         *
+         * <p>The default is 8 parts.</p>
+         *
+         * @param maxConcurrentParts The maximum number of parts in flight.
+         * @return This builder for method chaining.
+         */
+        Builder maxConcurrentParts(Integer maxConcurrentParts);
+
+        /**
+         * Resumes a download that didn't complete, only the parts missing from the progress are downloaded. The progress
+         * must have the same content length and part size as this download.
+         *
+         * @param progress The {@link ParallelFileDownload#progress()} of the download to resume.
+         * @return This builder for method chaining.
+         */
+        Builder resumeFrom(FileDownloadProgress progress);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+
+        private Path destination;
+        private Long contentLength;
+        private Long partSizeInBytes;
+        private Integer maxConcurrentParts;
+        private FileDownloadProgress resumeFrom;
+
+        @Override
+        public Builder destination(Path destination) {
+            this.destination = destination;
+            return this;
+        }
+
+        public void setDestination(Path destination) {
+            destination(destination);
+        }
+
+        @Override
+        public Builder contentLength(Long contentLength) {
+            this.contentLength = contentLength;
+            return this;
+        }
+
+        public void setContentLength(Long contentLength) {
+            contentLength(contentLength);
+        }
+
+        @Override
+        public Builder partSizeInBytes(Long partSizeInBytes) {
+            this.partSizeInBytes = partSizeInBytes;
+            return this;
+        }
+
+        public void setPartSizeInBytes(Long partSizeInBytes) {
+            partSizeInBytes(partSizeInBytes);
+        }
+
+        @Override
+        public Builder maxConcurrentParts(Integer maxConcurrentParts) {
+            this.maxConcurrentParts = maxConcurrentParts;
+            return this;
+        }
+
+        public void setMaxConcurrentParts(Integer maxConcurrentParts) {
+            maxConcurrentParts(maxConcurrentParts);
+        }
+
+        @Override
+        public Builder resumeFrom(FileDownloadProgress resumeFrom) {
+            this.resumeFrom = resumeFrom;
+            return this;
+        }
+
+        public void setResumeFrom(FileDownloadProgress resumeFrom) {
+            resumeFrom(resumeFrom);
+        }
+
+        @Override
+        public ParallelFileDownload build() {
+            return new ParallelFileDownload(this);
+        }
+    }
+}
@@ -27,6 +27,7 @@ import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.metrics.MetricPublisher;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.utils.AttributeMap;
@@ -51,6 +52,7 @@ public final class ClientOverrideConfiguration
     private final AttributeMap advancedOptions;
     private final Duration apiCallAttemptTimeout;
     private final Duration apiCallTimeout;
+    private final MetricPublisher metricPublisher;
 
     /**
      * Initialize this configuration. Private to require use of {@link #builder()}.
@@ -62,6 +64,7 @@ public final class ClientOverrideConfiguration
         this.advancedOptions = builder.advancedOptions();
         this.apiCallTimeout = Validate.isPositiveOrNull(builder.apiCallTimeout(), "apiCallTimeout");
         this.apiCallAttemptTimeout = Validate.isPositiveOrNull(builder.apiCallAttemptTimeout(), "apiCallAttemptTimeout");
+        this.metricPublisher = builder.metricPublisher();
     }
 
     @Override
@@ -71,6 +74,7 @@ public final class ClientOverrideConfiguration
                                                               .retryPolicy(retryPolicy)
                                                               .apiCallTimeout(apiCallTimeout)
                                                               .apiCallAttemptTimeout(apiCallAttemptTimeout)
+                                                              .metricPublisher(metricPublisher)
                                                               .executionInterceptors(executionInterceptors);
     }
 
@@ -158,6 +162,16 @@ public final class ClientOverrideConfiguration
         return Optional.ofNullable(apiCallAttemptTimeout);
     }
 
+    /**
+     * The publisher receiving the latency metrics of every API call made by the client. No metrics are collected when not
+     * set.
+     *
+     * @see Builder#metricPublisher(MetricPublisher)
+     */
+    public Optional<MetricPublisher> metricPublisher() {
+        return Optional.ofNullable(metricPublisher);
+    }
+
     @Override
     public String toString() {
         return ToString.builder("ClientOverrideConfiguration")
@@ -167,6 +181,7 @@ public final class ClientOverrideConfiguration
                        .add("apiCallAttemptTimeout", apiCallAttemptTimeout)
                        .add("executionInterceptors", executionInterceptors)
                        .add("advancedOptions", advancedOptions)
+                       .add("metricPublisher", metricPublisher)
                        .build();
     }
 
@@ -334,6 +349,20 @@ public final class ClientOverrideConfiguration
         Builder apiCallAttemptTimeout(Duration apiCallAttemptTimeout);
 
         Duration apiCallAttemptTimeout();
+
+        /**
+         * Configure the publisher receiving the latency metrics of every API call made by the client: the latency of the
+         * whole call, of marshalling the request and, for every attempt, of signing, acquiring a connection, waiting for the
+         * first byte of the response and unmarshalling it, tagged with the service and operation called.
+         *
+         * <p>No metrics are collected when no publisher is configured, and collecting them adds no allocation to the API call
+         * then.
+         *
+         * @see ClientOverrideConfiguration#metricPublisher()
+         */
+        Builder metricPublisher(MetricPublisher metricPublisher);
+
+        MetricPublisher metricPublisher();
     }
 
     /**
@@ -346,6 +375,7 @@ public final class ClientOverrideConfiguration
         private AttributeMap.Builder advancedOptions = AttributeMap.builder();
         private Duration apiCallTimeout;
         private Duration apiCallAttemptTimeout;
+        private MetricPublisher metricPublisher;
 
         @Override
         public Builder headers(Map<String, List<String>> headers) {
@@ -465,6 +495,21 @@ public final class ClientOverrideConfiguration
             return apiCallAttemptTimeout;
         }
 
+        @Override
+        public Builder metricPublisher(MetricPublisher metricPublisher) {
+            this.metricPublisher = metricPublisher;
+            return this;
+        }
+
+        public void setMetricPublisher(MetricPublisher metricPublisher) {
+            metricPublisher(metricPublisher);
+        }
+
+        @Override
+        public MetricPublisher metricPublisher() {
+            return metricPublisher;
+        }
+
         @Override
         public ClientOverrideConfiguration build() {
             return new ClientOverrideConfiguration(this);
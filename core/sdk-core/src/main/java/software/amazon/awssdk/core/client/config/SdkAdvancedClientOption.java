@@ -48,6 +48,14 @@ public class SdkAdvancedClientOption<T> extends ClientOption<T> {
      */
     public static final SdkAdvancedClientOption<Signer> SIGNER = new SdkAdvancedClientOption<>(Signer.class);
 
+    /**
+     * Whether the client should adapt the rate at which it sends requests when the service starts throttling them. Once a
+     * throttling error is seen, attempts, including the first attempt of new requests, are delayed so that the client sends
+     * requests no faster than the service accepts them. Disabled by default.
+     */
+    public static final SdkAdvancedClientOption<Boolean> ADAPTIVE_RATE_LIMITING_ENABLED =
+        new SdkAdvancedClientOption<>(Boolean.class);
+
     protected SdkAdvancedClientOption(Class<T> valueClass) {
         super(valueClass);
     }
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.core.client.handler;
 
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -32,6 +33,7 @@ import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.http.ExecutionContext;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.InterceptorContext;
+import software.amazon.awssdk.core.internal.async.FileAsyncRequestBody;
 import software.amazon.awssdk.core.internal.http.AmazonAsyncHttpClient;
 import software.amazon.awssdk.core.internal.http.Crc32Validation;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
@@ -41,6 +43,7 @@ import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.http.async.SdkHttpFileContentPublisher;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 
 @SdkProtectedApi
@@ -95,9 +98,7 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
             SdkHttpFullRequest marshalled = finalizeSdkHttpFullRequest(executionParams, executionContext, inputT,
                     clientConfiguration);
 
-            SdkHttpContentPublisher requestProvider = executionParams.getAsyncRequestBody() == null
-                    ? null
-                    : new SdkHttpContentPublisherAdapter(executionParams.getAsyncRequestBody());
+            SdkHttpContentPublisher requestProvider = createRequestProvider(executionParams.getAsyncRequestBody());
 
             TransformingAsyncResponseHandler<ReturnT> successResponseHandler = new InterceptorCallingHttpResponseHandler<>(
                 sdkHttpResponseHandler, executionContext);
@@ -108,12 +109,14 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
             return invoke(marshalled, requestProvider, inputT,
                     executionContext, successResponseHandler, errorHandler)
                     .handle((resp, err) -> {
+                        metricsCollector(executionContext).publish(err == null);
                         if (err != null) {
                             throw ThrowableUtils.failure(err);
                         }
                         return resp;
                     });
         } catch (Throwable t) {
+            metricsCollector(executionContext).publish(false);
             return CompletableFutureUtils.failedFuture(ThrowableUtils.asSdkException(t));
         }
     }
@@ -265,6 +268,17 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
         }
     }
 
+    private static SdkHttpContentPublisher createRequestProvider(AsyncRequestBody asyncRequestBody) {
+        if (asyncRequestBody == null) {
+            return null;
+        }
+        // Lets the HTTP client send files without reading them through the publisher
+        if (asyncRequestBody instanceof FileAsyncRequestBody) {
+            return new SdkHttpFileContentPublisherAdapter((FileAsyncRequestBody) asyncRequestBody);
+        }
+        return new SdkHttpContentPublisherAdapter(asyncRequestBody);
+    }
+
     /**
      * When an operation has a streaming input, the customer must supply an {@link AsyncRequestBody} to
      * provide the request content in a non-blocking manner. This adapts that interface to the
@@ -289,4 +303,31 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
         }
 
     }
+
+    /**
+     * Adapts a {@link FileAsyncRequestBody} to the {@link SdkHttpFileContentPublisher}, exposing the file being sent.
+     */
+    private static final class SdkHttpFileContentPublisherAdapter implements SdkHttpFileContentPublisher {
+
+        private final FileAsyncRequestBody fileRequestBody;
+
+        private SdkHttpFileContentPublisherAdapter(FileAsyncRequestBody fileRequestBody) {
+            this.fileRequestBody = fileRequestBody;
+        }
+
+        @Override
+        public Path file() {
+            return fileRequestBody.path();
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return fileRequestBody.contentLength();
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> s) {
+            fileRequestBody.subscribe(s);
+        }
+    }
 }
@@ -30,6 +30,8 @@ import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
 import software.amazon.awssdk.core.interceptor.InterceptorContext;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.internal.http.response.SdkErrorResponseHandler;
+import software.amazon.awssdk.core.internal.metrics.ApiCallMetricsCollector;
+import software.amazon.awssdk.core.internal.metrics.MetricsExecutionAttribute;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 
 @SdkProtectedApi
@@ -51,17 +53,30 @@ public abstract class BaseClientHandler {
         SdkClientConfiguration clientConfiguration) {
 
         runBeforeMarshallingInterceptors(executionContext);
+        ApiCallMetricsCollector metricsCollector = metricsCollector(executionContext);
+        long marshallingStart = metricsCollector.startTimer();
         Request<InputT> request = executionParams.getMarshaller().marshall(inputT);
+        metricsCollector.recordMarshalling(marshallingStart);
         request.setEndpoint(clientConfiguration.option(SdkClientOption.ENDPOINT));
 
         executionContext.executionAttributes().putAttribute(SdkExecutionAttribute.SERVICE_NAME,
                                                             request.getServiceName());
+        metricsCollector.serviceName(request.getServiceName());
 
         addHttpRequest(executionContext, SdkHttpFullRequestAdapter.toHttpFullRequest(request));
         runAfterMarshallingInterceptors(executionContext);
         return runModifyHttpRequestInterceptors(executionContext);
     }
 
+    /**
+     * @return The collector of the latency metrics of the API call, a no-op collector when the client doesn't publish metrics.
+     */
+    static ApiCallMetricsCollector metricsCollector(ExecutionContext executionContext) {
+        ApiCallMetricsCollector collector =
+            executionContext.executionAttributes().getAttribute(MetricsExecutionAttribute.API_CALL_METRICS_COLLECTOR);
+        return collector == null ? ApiCallMetricsCollector.NO_OP : collector;
+    }
+
     private static void runBeforeExecutionInterceptors(ExecutionContext executionContext) {
         executionContext.interceptorChain().beforeExecution(executionContext.interceptorContext(),
                                                             executionContext.executionAttributes());
@@ -132,7 +147,10 @@ public abstract class BaseClientHandler {
         SdkRequest originalRequest = params.getInput();
         ExecutionAttributes executionAttributes = new ExecutionAttributes()
             .putAttribute(SdkExecutionAttribute.SERVICE_CONFIG,
-                          clientConfiguration.option(SdkClientOption.SERVICE_CONFIGURATION));
+                          clientConfiguration.option(SdkClientOption.SERVICE_CONFIGURATION))
+            .putAttribute(MetricsExecutionAttribute.API_CALL_METRICS_COLLECTOR,
+                          ApiCallMetricsCollector.create(clientConfiguration.option(SdkClientOption.METRIC_PUBLISHER),
+                                                         originalRequest));
 
         ExecutionInterceptorChain interceptorChain =
                 new ExecutionInterceptorChain(clientConfiguration.option(SdkClientOption.EXECUTION_INTERCEPTORS));
@@ -100,15 +100,22 @@ public abstract class BaseSyncClientHandler extends BaseClientHandler implements
         ExecutionContext executionContext,
         HttpResponseHandler<ReturnT> responseHandler) {
 
-        InputT inputT = finalizeSdkRequest(executionContext);
-
-        SdkHttpFullRequest marshalled = finalizeSdkHttpFullRequest(executionParams, executionContext, inputT,
-                                                                   clientConfiguration);
-        return invoke(marshalled,
-                      inputT,
-                      executionContext,
-                      responseHandler,
-                      executionParams.getErrorResponseHandler());
+        boolean succeeded = false;
+        try {
+            InputT inputT = finalizeSdkRequest(executionContext);
+
+            SdkHttpFullRequest marshalled = finalizeSdkHttpFullRequest(executionParams, executionContext, inputT,
+                                                                       clientConfiguration);
+            ReturnT result = invoke(marshalled,
+                                    inputT,
+                                    executionContext,
+                                    responseHandler,
+                                    executionParams.getErrorResponseHandler());
+            succeeded = true;
+            return result;
+        } finally {
+            metricsCollector(executionContext).publish(succeeded);
+        }
     }
 
     private static class HttpResponseHandlerAdapter<ReturnT, OutputT extends SdkResponse>
@@ -25,6 +25,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.ReviewBeforeRelease;
@@ -41,6 +43,16 @@ public final class ClasspathInterceptorChainFactory {
 
     private static final String GLOBAL_INTERCEPTOR_PATH = "software/amazon/awssdk/global/handlers/execution.interceptors";
 
+    private static final ClassLoader SDK_CLASS_LOADER = ClasspathInterceptorChainFactory.class.getClassLoader();
+
+    /**
+     * The interceptor classes listed in the resources of the class loader that loaded the SDK, by resource path. Scanning the
+     * classpath for the resources and loading the classes they list is only done for the first client that is created, every
+     * client still gets its own interceptor instances. Lookups through any other context class loader, like the one of an
+     * application deployed to an application server, are not cached so that they don't keep it from being unloaded.
+     */
+    private static final Map<String, List<Class<?>>> SDK_CLASS_LOADER_INTERCEPTORS = new ConcurrentHashMap<>();
+
     /**
      * Constructs a new request handler chain by analyzing the specified classpath resource.
      *
@@ -59,8 +71,16 @@ public final class ClasspathInterceptorChainFactory {
     }
 
     private List<ExecutionInterceptor> createExecutionInterceptorsFromClasspath(String path) {
+        ClassLoader classLoader = classLoader();
+        List<Class<?>> interceptorClasses =
+            classLoader == SDK_CLASS_LOADER ? SDK_CLASS_LOADER_INTERCEPTORS.computeIfAbsent(path, this::loadInterceptorClasses)
+                                            : loadInterceptorClasses(path);
+        return interceptorClasses.stream().map(this::createExecutionInterceptor).collect(Collectors.toList());
+    }
+
+    private List<Class<?>> loadInterceptorClasses(String path) {
         try {
-            return createExecutionInterceptorsFromResources(classLoader().getResources(path)).collect(Collectors.toList());
+            return loadInterceptorClassesFromResources(classLoader().getResources(path)).collect(Collectors.toList());
         } catch (IOException e) {
             throw SdkClientException.builder()
                                     .message("Unable to instantiate execution interceptor chain.")
@@ -69,21 +89,21 @@ public final class ClasspathInterceptorChainFactory {
         }
     }
 
-    private Stream<ExecutionInterceptor> createExecutionInterceptorsFromResources(Enumeration<URL> resources) {
+    private Stream<Class<?>> loadInterceptorClassesFromResources(Enumeration<URL> resources) {
         if (resources == null) {
             return Stream.empty();
         }
 
-        return Collections.list(resources).stream().flatMap(this::createExecutionInterceptorFromResource);
+        return Collections.list(resources).stream().flatMap(this::loadInterceptorClassesFromResource);
     }
 
-    private Stream<ExecutionInterceptor> createExecutionInterceptorFromResource(URL resource) {
+    private Stream<Class<?>> loadInterceptorClassesFromResource(URL resource) {
         try {
             if (resource == null) {
                 return Stream.empty();
             }
 
-            List<ExecutionInterceptor> interceptors = new ArrayList<>();
+            List<Class<?>> interceptorClasses = new ArrayList<>();
 
             try (InputStream stream = resource.openStream();
                  InputStreamReader streamReader = new InputStreamReader(stream, StandardCharsets.UTF_8);
@@ -91,15 +111,15 @@ public final class ClasspathInterceptorChainFactory {
 
                 String interceptorClassName = fileReader.readLine();
                 while (interceptorClassName != null) {
-                    ExecutionInterceptor interceptor = createExecutionInterceptor(interceptorClassName);
-                    if (interceptor != null) {
-                        interceptors.add(interceptor);
+                    Class<?> interceptorClass = loadInterceptorClass(interceptorClassName);
+                    if (interceptorClass != null) {
+                        interceptorClasses.add(interceptorClass);
                     }
                     interceptorClassName = fileReader.readLine();
                 }
             }
 
-            return interceptors.stream();
+            return interceptorClasses.stream();
         } catch (IOException e) {
             throw SdkClientException.builder()
                                     .message("Unable to instantiate execution interceptor chain.")
@@ -108,15 +128,24 @@ public final class ClasspathInterceptorChainFactory {
         }
     }
 
-    private ExecutionInterceptor createExecutionInterceptor(String interceptorClassName) {
+    private Class<?> loadInterceptorClass(String interceptorClassName) {
         interceptorClassName = interceptorClassName.trim();
         if (interceptorClassName.equals("")) {
             return null;
         }
 
         try {
-            Class<?> executionInterceptorClass = ClassLoaderHelper.loadClass(interceptorClassName,
-                                                                             ExecutionInterceptor.class, getClass());
+            return ClassLoaderHelper.loadClass(interceptorClassName, ExecutionInterceptor.class, getClass());
+        } catch (ClassNotFoundException e) {
+            throw SdkClientException.builder()
+                                    .message("Unable to instantiate executor interceptor for client.")
+                                    .cause(e)
+                                    .build();
+        }
+    }
+
+    private ExecutionInterceptor createExecutionInterceptor(Class<?> executionInterceptorClass) {
+        try {
             Object executionInterceptorObject = executionInterceptorClass.newInstance();
 
             if (executionInterceptorObject instanceof ExecutionInterceptor) {
@@ -124,11 +153,11 @@ public final class ClasspathInterceptorChainFactory {
             } else {
                 throw SdkClientException.builder()
                                         .message("Unable to instantiate request handler chain for client. Listed"
-                                                + " request handler ('" + interceptorClassName + "') does not implement" +
-                                                " the " + ExecutionInterceptor.class + " API.")
+                                                + " request handler ('" + executionInterceptorClass.getName()
+                                                + "') does not implement the " + ExecutionInterceptor.class + " API.")
                                         .build();
             }
-        } catch (IllegalAccessException | ClassNotFoundException | InstantiationException e) {
+        } catch (IllegalAccessException | InstantiationException e) {
             throw SdkClientException.builder()
                                     .message("Unable to instantiate executor interceptor for client.")
                                     .cause(e)
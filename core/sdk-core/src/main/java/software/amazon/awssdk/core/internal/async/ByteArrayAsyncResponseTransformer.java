@@ -15,10 +15,9 @@
 
 package software.amazon.awssdk.core.internal.async;
 
-import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
-
-import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.reactivestreams.Subscriber;
@@ -27,12 +26,15 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
-import software.amazon.awssdk.utils.BinaryUtils;
 
 /**
  * Implementation of {@link AsyncResponseTransformer} that dumps content into a byte array and supports further
  * conversions into types, like strings.
  *
+ * <p>The chunks are gathered as they arrive and assembled into the array with a single copy once the stream completes, so
+ * the content is never reallocated as it grows. The Content-Length isn't used to pre-size the array, it comes from the
+ * remote end and can't be trusted before the content confirms it.</p>
+ *
  * This can be created with static methods on {@link AsyncResponseTransformer}.
  *
  * @param <ResponseT> Pojo response type.
@@ -42,13 +44,18 @@ import software.amazon.awssdk.utils.BinaryUtils;
 public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
         AsyncResponseTransformer<ResponseT, ResponseBytes<ResponseT>> {
 
+    /**
+     * The largest array most JVMs can allocate, longer content couldn't be held in a byte array anyway.
+     */
+    private static final long MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
     private volatile CompletableFuture<byte[]> cf;
     private volatile ResponseT response;
 
     @Override
     public CompletableFuture<ResponseBytes<ResponseT>> prepare() {
         cf = new CompletableFuture<>();
-        return cf.thenApply(arr -> ResponseBytes.fromByteArray(response, arr));
+        return cf.thenApply(arr -> ResponseBytes.fromByteArrayUnsafe(response, arr));
     }
 
     @Override
@@ -58,7 +65,7 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
 
     @Override
     public void onStream(SdkPublisher<ByteBuffer> publisher) {
-        publisher.subscribe(new BaosSubscriber(cf));
+        publisher.subscribe(new ByteArraySubscriber(cf));
     }
 
     @Override
@@ -66,14 +73,21 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
         cf.completeExceptionally(throwable);
     }
 
-    static class BaosSubscriber implements Subscriber<ByteBuffer> {
+    static class ByteArraySubscriber implements Subscriber<ByteBuffer> {
         private final CompletableFuture<byte[]> resultFuture;
 
-        private ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        /**
+         * Copies of the chunks received so far, the buffers passed to {@link #onNext(ByteBuffer)} may be reused.
+         */
+        private List<byte[]> chunks = new ArrayList<>();
+
+        private long size;
+
+        private boolean terminated;
 
         private Subscription subscription;
 
-        BaosSubscriber(CompletableFuture<byte[]> resultFuture) {
+        ByteArraySubscriber(CompletableFuture<byte[]> resultFuture) {
             this.resultFuture = resultFuture;
         }
 
@@ -89,19 +103,54 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            invokeSafely(() -> baos.write(BinaryUtils.copyBytesFrom(byteBuffer)));
+            if (terminated) {
+                // Chunks may still arrive after the subscription was cancelled
+                return;
+            }
+            int length = byteBuffer.remaining();
+            if (size + length > MAX_ARRAY_LENGTH) {
+                subscription.cancel();
+                onError(new IllegalStateException("Content is too large to be held in a byte array."));
+                return;
+            }
+            byte[] chunk = new byte[length];
+            byteBuffer.get(chunk);
+            chunks.add(chunk);
+            size += length;
             subscription.request(1);
         }
 
         @Override
         public void onError(Throwable throwable) {
-            baos = null;
+            if (terminated) {
+                return;
+            }
+            terminated = true;
+            chunks = null;
             resultFuture.completeExceptionally(throwable);
         }
 
         @Override
         public void onComplete() {
-            resultFuture.complete(baos.toByteArray());
+            if (terminated) {
+                return;
+            }
+            terminated = true;
+            resultFuture.complete(assemble());
+            chunks = null;
+        }
+
+        private byte[] assemble() {
+            if (chunks.size() == 1) {
+                return chunks.get(0);
+            }
+            byte[] content = new byte[(int) size];
+            int offset = 0;
+            for (byte[] chunk : chunks) {
+                System.arraycopy(chunk, 0, content, offset, chunk.length);
+                offset += chunk.length;
+            }
+            return content;
         }
     }
 }
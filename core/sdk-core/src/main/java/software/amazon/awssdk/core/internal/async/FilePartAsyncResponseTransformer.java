@@ -0,0 +1,240 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.async;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+/**
+ * {@link AsyncResponseTransformer} that writes the response to a byte range of a ranged request at its position in a file
+ * shared with the other parts of the download, see {@link software.amazon.awssdk.core.async.ParallelFileDownload}.
+ *
+ * <p>The part is validated: the Content-Range of the response, when there is one, must be the requested range and the
+ * response must have exactly the length of the range. The future only completes once the whole part is on disk.</p>
+ *
+ * @param <ResponseT> Response POJO type.
+ */
+@SdkInternalApi
+public final class FilePartAsyncResponseTransformer<ResponseT> implements AsyncResponseTransformer<ResponseT, ResponseT> {
+
+    private final AsynchronousFileChannel fileChannel;
+    private final long start;
+    private final long length;
+    private volatile CompletableFuture<Void> cf;
+    private volatile ResponseT response;
+
+    /**
+     * @param fileChannel The file to write to, not closed by the transformer.
+     * @param start The position of the first byte of the range in the object and the file.
+     * @param length The length of the range.
+     */
+    public FilePartAsyncResponseTransformer(AsynchronousFileChannel fileChannel, long start, long length) {
+        this.fileChannel = fileChannel;
+        this.start = start;
+        this.length = length;
+    }
+
+    @Override
+    public CompletableFuture<ResponseT> prepare() {
+        cf = new CompletableFuture<>();
+        return cf.thenApply(ignored -> response);
+    }
+
+    @Override
+    public void onResponse(ResponseT response) {
+        this.response = response;
+    }
+
+    @Override
+    public void onStream(SdkPublisher<ByteBuffer> publisher) {
+        Optional<String> contentRange = contentRange();
+        String expectedRange = "bytes " + start + "-" + (start + length - 1) + "/";
+        if (contentRange.isPresent() && !contentRange.get().startsWith(expectedRange)) {
+            cf.completeExceptionally(SdkClientException.create("Expected the range " + expectedRange + "* but received "
+                                                            + contentRange.get()));
+            publisher.subscribe(new CancellingSubscriber());
+            return;
+        }
+        // onStream may be called multiple times, every attempt writes the part from its start
+        publisher.subscribe(new PartSubscriber(cf));
+    }
+
+    @Override
+    public void exceptionOccurred(Throwable throwable) {
+        cf.completeExceptionally(throwable);
+    }
+
+    /**
+     * @return The ETag of the object the part was downloaded from, empty if the response had none.
+     */
+    public Optional<String> eTag() {
+        return header("ETag");
+    }
+
+    private Optional<String> contentRange() {
+        return header("Content-Range");
+    }
+
+    private Optional<String> header(String name) {
+        if (!(response instanceof SdkResponse) || ((SdkResponse) response).sdkHttpResponse() == null) {
+            return Optional.empty();
+        }
+        return ((SdkResponse) response).sdkHttpResponse().firstMatchingHeader(name);
+    }
+
+    /**
+     * Writes the chunks of the part one at a time, each at its position in the file.
+     */
+    private final class PartSubscriber implements Subscriber<ByteBuffer> {
+        private final CompletableFuture<Void> future;
+        private Subscription subscription;
+        private long written = 0;
+        private boolean writeInProgress = false;
+        private boolean complete = false;
+
+        private PartSubscriber(CompletableFuture<Void> future) {
+            this.future = future;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (this.subscription != null) {
+                s.cancel();
+                return;
+            }
+            this.subscription = s;
+            s.request(1);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            if (byteBuffer == null) {
+                throw new NullPointerException("Element must not be null");
+            }
+            synchronized (this) {
+                if (future.isDone()) {
+                    return;
+                }
+                if (written + byteBuffer.remaining() > length) {
+                    subscription.cancel();
+                    future.completeExceptionally(SdkClientException.create("Received more than the " + length + " bytes of the "
+                                                                        + "range starting at " + start));
+                    return;
+                }
+                writeInProgress = true;
+            }
+            write(byteBuffer);
+        }
+
+        private void write(ByteBuffer byteBuffer) {
+            long position;
+            synchronized (this) {
+                position = start + written;
+            }
+            fileChannel.write(byteBuffer, position, byteBuffer, new CompletionHandler<Integer, ByteBuffer>() {
+                @Override
+                public void completed(Integer result, ByteBuffer attachment) {
+                    synchronized (PartSubscriber.this) {
+                        written += result;
+                    }
+                    if (attachment.hasRemaining()) {
+                        write(attachment);
+                        return;
+                    }
+                    boolean requestMore;
+                    synchronized (PartSubscriber.this) {
+                        writeInProgress = false;
+                        requestMore = !complete;
+                    }
+                    if (requestMore) {
+                        subscription.request(1);
+                    } else {
+                        finish();
+                    }
+                }
+
+                @Override
+                public void failed(Throwable exc, ByteBuffer attachment) {
+                    subscription.cancel();
+                    future.completeExceptionally(exc);
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            // Error handled by response handler
+        }
+
+        @Override
+        public void onComplete() {
+            boolean finishNow;
+            synchronized (this) {
+                complete = true;
+                finishNow = !writeInProgress;
+            }
+            if (finishNow) {
+                finish();
+            }
+        }
+
+        private void finish() {
+            long total;
+            synchronized (this) {
+                total = written;
+            }
+            if (total == length) {
+                future.complete(null);
+            } else {
+                future.completeExceptionally(SdkClientException.create("Received " + total + " of the " + length + " bytes of "
+                                                                    + "the range starting at " + start));
+            }
+        }
+    }
+
+    /**
+     * Cancels the stream of a response that failed validation.
+     */
+    private static final class CancellingSubscriber implements Subscriber<ByteBuffer> {
+        @Override
+        public void onSubscribe(Subscription s) {
+            s.cancel();
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
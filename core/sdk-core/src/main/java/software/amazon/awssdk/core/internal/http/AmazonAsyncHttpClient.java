@@ -22,6 +22,7 @@ import software.amazon.awssdk.annotations.ReviewBeforeRelease;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkException;
@@ -42,6 +43,7 @@ import software.amazon.awssdk.core.internal.http.pipeline.stages.MergeCustomQuer
 import software.amazon.awssdk.core.internal.http.pipeline.stages.MoveParametersToBodyStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.SigningStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.UnwrapResponseContainer;
+import software.amazon.awssdk.core.internal.retry.RateLimitingTokenBucket;
 import software.amazon.awssdk.core.internal.retry.SdkDefaultRetrySetting;
 import software.amazon.awssdk.core.internal.util.CapacityManager;
 import software.amazon.awssdk.core.internal.util.ThrowableUtils;
@@ -59,6 +61,7 @@ public final class AmazonAsyncHttpClient implements SdkAutoCloseable {
         this.httpClientDependencies = HttpClientDependencies.builder()
                                                             .clientConfiguration(clientConfiguration)
                                                             .capacityManager(createCapacityManager())
+                                                            .sendRateLimiter(createSendRateLimiter(clientConfiguration))
                                                             .build();
     }
 
@@ -68,6 +71,11 @@ public final class AmazonAsyncHttpClient implements SdkAutoCloseable {
         return new CapacityManager(SdkDefaultRetrySetting.RETRY_THROTTLING_COST * SdkDefaultRetrySetting.THROTTLED_RETRIES);
     }
 
+    private RateLimitingTokenBucket createSendRateLimiter(SdkClientConfiguration clientConfiguration) {
+        Boolean enabled = clientConfiguration.option(SdkAdvancedClientOption.ADAPTIVE_RATE_LIMITING_ENABLED);
+        return Boolean.TRUE.equals(enabled) ? new RateLimitingTokenBucket() : null;
+    }
+
     /**
      * Shuts down this HTTP client object, releasing any resources that might be held open. This is
      * an optional method, and callers are not expected to call it, but can if they want to
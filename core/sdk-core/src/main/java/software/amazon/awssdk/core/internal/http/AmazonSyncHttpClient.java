@@ -20,6 +20,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.Request;
 import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkException;
@@ -48,6 +49,7 @@ import software.amazon.awssdk.core.internal.http.pipeline.stages.RetryableStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.SigningStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.TimeoutExceptionHandlingStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.UnwrapResponseContainer;
+import software.amazon.awssdk.core.internal.retry.RateLimitingTokenBucket;
 import software.amazon.awssdk.core.internal.retry.SdkDefaultRetrySetting;
 import software.amazon.awssdk.core.internal.util.CapacityManager;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
@@ -65,6 +67,7 @@ public final class AmazonSyncHttpClient implements SdkAutoCloseable {
         this.httpClientDependencies = HttpClientDependencies.builder()
                                                             .clientConfiguration(clientConfiguration)
                                                             .capacityManager(createCapacityManager())
+                                                            .sendRateLimiter(createSendRateLimiter(clientConfiguration))
                                                             .build();
     }
 
@@ -74,6 +77,11 @@ public final class AmazonSyncHttpClient implements SdkAutoCloseable {
         return new CapacityManager(SdkDefaultRetrySetting.RETRY_THROTTLING_COST * SdkDefaultRetrySetting.THROTTLED_RETRIES);
     }
 
+    private RateLimitingTokenBucket createSendRateLimiter(SdkClientConfiguration clientConfiguration) {
+        Boolean enabled = clientConfiguration.option(SdkAdvancedClientOption.ADAPTIVE_RATE_LIMITING_ENABLED);
+        return Boolean.TRUE.equals(enabled) ? new RateLimitingTokenBucket() : null;
+    }
+
     /**
      * Shuts down this HTTP client object, releasing any resources that might be held open. This is
      * an optional method, and callers are not expected to call it, but can if they want to
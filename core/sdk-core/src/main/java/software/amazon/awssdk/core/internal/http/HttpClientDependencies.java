@@ -17,11 +17,13 @@ package software.amazon.awssdk.core.internal.http;
 
 import static software.amazon.awssdk.utils.Validate.paramNotNull;
 
+import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkGlobalTime;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder;
+import software.amazon.awssdk.core.internal.retry.RateLimitingTokenBucket;
 import software.amazon.awssdk.core.internal.util.CapacityManager;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 
@@ -33,6 +35,7 @@ import software.amazon.awssdk.utils.SdkAutoCloseable;
 public final class HttpClientDependencies implements SdkAutoCloseable {
     private final SdkClientConfiguration clientConfiguration;
     private final CapacityManager capacityManager;
+    private final RateLimitingTokenBucket sendRateLimiter;
 
     /**
      * Time offset may be mutated by {@link RequestPipeline} implementations if a clock skew is detected.
@@ -42,6 +45,7 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
     private HttpClientDependencies(Builder builder) {
         this.clientConfiguration = paramNotNull(builder.clientConfiguration, "ClientConfiguration");
         this.capacityManager = paramNotNull(builder.capacityManager, "CapacityManager");
+        this.sendRateLimiter = builder.sendRateLimiter;
     }
 
     public static Builder builder() {
@@ -59,6 +63,13 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
         return capacityManager;
     }
 
+    /**
+     * @return Token bucket used to adapt the send rate of the client to throttling, if adaptive rate limiting is enabled.
+     */
+    public Optional<RateLimitingTokenBucket> sendRateLimiter() {
+        return Optional.ofNullable(sendRateLimiter);
+    }
+
     /**
      * @return Current time offset. This is mutable and should not be cached.
      */
@@ -85,6 +96,7 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
     public static class Builder {
         private SdkClientConfiguration clientConfiguration;
         private CapacityManager capacityManager;
+        private RateLimitingTokenBucket sendRateLimiter;
 
         private Builder() {}
 
@@ -98,6 +110,11 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
             return this;
         }
 
+        public Builder sendRateLimiter(RateLimitingTokenBucket sendRateLimiter) {
+            this.sendRateLimiter = sendRateLimiter;
+            return this;
+        }
+
         public HttpClientDependencies build() {
             return new HttpClientDependencies(this);
         }
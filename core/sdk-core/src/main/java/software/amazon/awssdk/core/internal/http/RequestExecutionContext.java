@@ -25,6 +25,8 @@ import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
+import software.amazon.awssdk.core.internal.metrics.ApiCallMetricsCollector;
+import software.amazon.awssdk.core.internal.metrics.MetricsExecutionAttribute;
 import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
 import software.amazon.awssdk.utils.Validate;
@@ -40,6 +42,7 @@ public final class RequestExecutionContext {
     private final SdkHttpContentPublisher requestProvider;
     private final SdkRequest originalRequest;
     private final ExecutionContext executionContext;
+    private SdkHttpContentPublisher attemptRequestProvider;
     private TimeoutTracker apiCallTimeoutTracker;
     private TimeoutTracker apiCallAttemptTimeoutTracker;
 
@@ -60,6 +63,20 @@ public final class RequestExecutionContext {
         return requestProvider;
     }
 
+    /**
+     * @return The content sent by the current attempt, the {@link #requestProvider()} unless the signer replaced it.
+     */
+    public SdkHttpContentPublisher attemptRequestProvider() {
+        return attemptRequestProvider == null ? requestProvider : attemptRequestProvider;
+    }
+
+    /**
+     * Sets the content sent by the current attempt, e.g. the content signed for this attempt.
+     */
+    public void attemptRequestProvider(SdkHttpContentPublisher attemptRequestProvider) {
+        this.attemptRequestProvider = attemptRequestProvider;
+    }
+
     /**
      * @return Execution interceptors to hook into execution lifecycle.
      */
@@ -77,6 +94,15 @@ public final class RequestExecutionContext {
         return executionContext;
     }
 
+    /**
+     * @return The collector of the latency metrics of the API call, a no-op collector when metrics are disabled.
+     */
+    public ApiCallMetricsCollector metricsCollector() {
+        ApiCallMetricsCollector collector =
+            executionAttributes().getAttribute(MetricsExecutionAttribute.API_CALL_METRICS_COLLECTOR);
+        return collector == null ? ApiCallMetricsCollector.NO_OP : collector;
+    }
+
     public SdkRequest originalRequest() {
         return originalRequest;
     }
@@ -31,6 +31,7 @@ import software.amazon.awssdk.core.internal.Response;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.retry.RateLimitingTokenBucket;
 import software.amazon.awssdk.core.internal.retry.RetryHandler;
 import software.amazon.awssdk.core.internal.util.CapacityManager;
 import software.amazon.awssdk.core.internal.util.ClockSkewUtil;
@@ -54,6 +55,7 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
     private final HttpClientDependencies dependencies;
     private final CapacityManager retryCapacity;
     private final RetryPolicy retryPolicy;
+    private final RateLimitingTokenBucket sendRateLimiter;
 
     public AsyncRetryableStage(HttpClientDependencies dependencies,
                                RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>> requestPipeline) {
@@ -61,6 +63,7 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
         this.scheduledExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
         this.retryPolicy = dependencies.clientConfiguration().option(SdkClientOption.RETRY_POLICY);
         this.retryCapacity = dependencies.retryCapacity();
+        this.sendRateLimiter = dependencies.sendRateLimiter().orElse(null);
         this.requestPipeline = requestPipeline;
     }
 
@@ -83,7 +86,7 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
         private RetryExecutor(SdkHttpFullRequest request, RequestExecutionContext context) {
             this.request = request;
             this.context = context;
-            this.retryHandler = new RetryHandler(retryPolicy, retryCapacity);
+            this.retryHandler = new RetryHandler(retryPolicy, retryCapacity, sendRateLimiter);
         }
 
         public CompletableFuture<Response<OutputT>> execute() throws Exception {
@@ -93,21 +96,39 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
 
         public CompletableFuture<Response<OutputT>> execute(CompletableFuture<Response<OutputT>> future) throws Exception {
             beforeExecute();
-            doExecute().whenComplete((resp, err) -> retryIfNeeded(future, resp, err));
+            Duration sendDelay = retryHandler.acquireSendToken();
+            if (sendDelay.isZero()) {
+                doExecute().whenComplete((resp, err) -> retryIfNeeded(future, resp, err));
+            } else {
+                SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Delaying request by " + sendDelay.toMillis() + "ms to stay "
+                                                             + "within the adaptive send rate");
+                scheduledExecutor.schedule(() -> executeDelayed(future), sendDelay.toNanos(), TimeUnit.NANOSECONDS);
+            }
             return future;
         }
 
+        private void executeDelayed(CompletableFuture<Response<OutputT>> future) {
+            try {
+                doExecute().whenComplete((resp, err) -> retryIfNeeded(future, resp, err));
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }
+
         private void retryIfNeeded(CompletableFuture<Response<OutputT>> future,
                                    Response<OutputT> resp,
                                    Throwable err) {
+            context.metricsCollector().currentAttempt().end();
             try {
                 if (resp != null) {
+                    retryHandler.updateSendRate(resp.isSuccess() ? null : resp.exception());
                     retryResponseIfNeeded(resp, future);
                 } else {
                     if (err instanceof CompletionException) {
                         err = err.getCause();
                     }
                     SdkException sdkException = ThrowableUtils.asSdkException(err);
+                    retryHandler.updateSendRate(sdkException);
                     retryErrorIfNeeded(sdkException, future);
                 }
             } catch (Throwable t) {
@@ -175,6 +196,7 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
             SdkStandardLogger.REQUEST_LOGGER.debug(() -> (retryHandler.isRetry() ? "Retrying " : "Sending ") +
                                                          "Request: " + request);
 
+            context.metricsCollector().startAttempt().recordSendRate(retryHandler.sendRate());
             return requestPipeline.execute(retryHandler.addRetryInfoHeader(request, requestCount), context);
         }
     }
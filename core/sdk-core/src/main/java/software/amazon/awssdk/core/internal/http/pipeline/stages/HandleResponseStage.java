@@ -29,6 +29,7 @@ import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.internal.Response;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.metrics.ApiCallAttemptMetricsCollector;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.utils.IoUtils;
 
@@ -55,9 +56,12 @@ public class HandleResponseStage<OutputT> implements RequestPipeline<SdkHttpFull
     @Override
     public Response<OutputT> execute(SdkHttpFullResponse httpResponse, RequestExecutionContext context) throws Exception {
         boolean didRequestFail = true;
+        ApiCallAttemptMetricsCollector attemptMetrics = context.metricsCollector().currentAttempt();
+        long unmarshallingStart = attemptMetrics.startTimer();
         try {
             Response<OutputT> response = handleResponse(httpResponse, context);
             didRequestFail = response.isFailure();
+            attemptMetrics.recordUnmarshalling(unmarshallingStart);
             return response;
         } finally {
             closeInputStreamIfNeeded(httpResponse, didRequestFail);
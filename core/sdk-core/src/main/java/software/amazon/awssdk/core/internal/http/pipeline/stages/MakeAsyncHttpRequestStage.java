@@ -39,6 +39,7 @@ import software.amazon.awssdk.core.internal.http.async.SimpleHttpContentPublishe
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
 import software.amazon.awssdk.core.internal.http.timers.TimerUtils;
+import software.amazon.awssdk.core.internal.metrics.ApiCallAttemptMetricsCollector;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpMethod;
@@ -93,11 +94,12 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         //FIXME(dongie): We need to be careful to only call responseHandler.prepare() exactly once per execute() call
         //because it calls prepare() under the hood and we guarantee that we call that once per execution. It would be good
         //to find a way to prevent multiple calls to prepare() within a single execution to only call prepare() once.
-        ResponseHandler handler = new ResponseHandler(responseHandler.prepare(), errorResponseFuture);
+        ApiCallAttemptMetricsCollector attemptMetrics = context.metricsCollector().currentAttempt();
+        ResponseHandler handler = new ResponseHandler(responseHandler.prepare(), errorResponseFuture, attemptMetrics);
 
-        SdkHttpContentPublisher requestProvider = context.requestProvider() == null
+        SdkHttpContentPublisher requestProvider = context.attemptRequestProvider() == null
                                                   ? new SimpleHttpContentPublisher(request)
-                                                  : context.requestProvider();
+                                                  : context.attemptRequestProvider();
         // Set content length if it hasn't been set already.
         SdkHttpFullRequest requestWithContentLength = getRequestWithContentLength(request, requestProvider);
 
@@ -106,8 +108,10 @@ public final class MakeAsyncHttpRequestStage<OutputT>
                                                                 .requestContentPublisher(requestProvider)
                                                                 .responseHandler(handler)
                                                                 .fullDuplex(isFullDuplex(context.executionAttributes()))
+                                                                .metricsListener(attemptMetrics.httpMetricsListener())
                                                                 .build();
 
+        handler.requestStart = attemptMetrics.startTimer();
         CompletableFuture<Void> httpClientFuture = sdkAsyncHttpClient.execute(executeRequest);
 
         CompletableFuture<Response<OutputT>> transformFuture = handler.prepare();
@@ -176,16 +180,23 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         private final CompletableFuture<SdkHttpResponse> headersFuture = new CompletableFuture<>();
         private final CompletableFuture<OutputT> transformFuture;
         private final CompletableFuture<? extends SdkException> errorTransformFuture;
+        private final ApiCallAttemptMetricsCollector attemptMetrics;
         private volatile SdkHttpFullResponse response;
+        private volatile long requestStart;
+        private volatile long responseStart;
 
         ResponseHandler(CompletableFuture<OutputT> transformFuture,
-                        CompletableFuture<? extends SdkException> errorTransformFuture) {
+                        CompletableFuture<? extends SdkException> errorTransformFuture,
+                        ApiCallAttemptMetricsCollector attemptMetrics) {
             this.transformFuture = transformFuture;
             this.errorTransformFuture = errorTransformFuture;
+            this.attemptMetrics = attemptMetrics;
         }
 
         @Override
         public void onHeaders(SdkHttpResponse response) {
+            attemptMetrics.recordTimeToFirstByte(requestStart);
+            responseStart = attemptMetrics.startTimer();
             headersFuture.complete(response);
             if (response.isSuccessful()) {
                 SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Received successful response: " + response.statusCode());
@@ -226,9 +237,15 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         public CompletableFuture<Response<OutputT>> prepare() {
             return headersFuture.thenCompose(headers -> {
                 if (headers.isSuccessful()) {
-                    return transformFuture.thenApply(r -> Response.fromSuccess(r, response));
+                    return transformFuture.thenApply(r -> {
+                        attemptMetrics.recordUnmarshalling(responseStart);
+                        return Response.fromSuccess(r, response);
+                    });
                 } else {
-                    return errorTransformFuture.thenApply(e -> Response.fromFailure(e, response));
+                    return errorTransformFuture.thenApply(e -> {
+                        attemptMetrics.recordUnmarshalling(responseStart);
+                        return Response.fromFailure(e, response);
+                    });
                 }
             });
         }
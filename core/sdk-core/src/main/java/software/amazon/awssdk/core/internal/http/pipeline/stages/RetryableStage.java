@@ -30,6 +30,8 @@ import software.amazon.awssdk.core.internal.http.InterruptMonitor;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestToResponsePipeline;
+import software.amazon.awssdk.core.internal.metrics.ApiCallAttemptMetricsCollector;
+import software.amazon.awssdk.core.internal.retry.RateLimitingTokenBucket;
 import software.amazon.awssdk.core.internal.retry.RetryHandler;
 import software.amazon.awssdk.core.internal.util.CapacityManager;
 import software.amazon.awssdk.core.internal.util.ClockSkewUtil;
@@ -51,12 +53,14 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
     private final HttpClientDependencies dependencies;
     private final CapacityManager retryCapacity;
     private final RetryPolicy retryPolicy;
+    private final RateLimitingTokenBucket sendRateLimiter;
 
     public RetryableStage(HttpClientDependencies dependencies,
                           RequestPipeline<SdkHttpFullRequest, Response<OutputT>> requestPipeline) {
         this.dependencies = dependencies;
         this.retryCapacity = dependencies.retryCapacity();
         this.retryPolicy = dependencies.clientConfiguration().option(SdkClientOption.RETRY_POLICY);
+        this.sendRateLimiter = dependencies.sendRateLimiter().orElse(null);
         this.requestPipeline = requestPipeline;
     }
 
@@ -78,7 +82,7 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
         private RetryExecutor(SdkHttpFullRequest request, RequestExecutionContext context) {
             this.request = request;
             this.context = context;
-            this.retryHandler = new RetryHandler(retryPolicy, retryCapacity);
+            this.retryHandler = new RetryHandler(retryPolicy, retryCapacity, sendRateLimiter);
         }
 
         public Response<OutputT> execute() throws Exception {
@@ -86,6 +90,7 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
                 try {
                     beforeExecute();
                     Response<OutputT> response = doExecute();
+                    retryHandler.updateSendRate(response.isSuccess() ? null : response.exception());
                     if (response.isSuccess()) {
                         retryHandler.releaseRetryCapacity();
                         return response;
@@ -93,7 +98,9 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
                         retryHandler.setLastRetriedException(handleUnmarshalledException(response));
                     }
                 } catch (SdkClientException | IOException e) {
-                    retryHandler.setLastRetriedException(handleThrownException(e));
+                    SdkClientException sdkClientException = asSdkClientException(e);
+                    retryHandler.updateSendRate(sdkClientException);
+                    retryHandler.setLastRetriedException(handleThrownException(sdkClientException, e));
                 }
             }
         }
@@ -108,11 +115,18 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
             if (retryHandler.isRetry()) {
                 doPauseBeforeRetry();
             }
+            doPauseForSendToken();
 
             SdkStandardLogger.REQUEST_LOGGER.debug(() -> (retryHandler.isRetry() ? "Retrying " : "Sending ") + "Request: " +
                                                          request);
 
-            return requestPipeline.execute(retryHandler.addRetryInfoHeader(request, requestCount), context);
+            ApiCallAttemptMetricsCollector attemptMetrics = context.metricsCollector().startAttempt();
+            attemptMetrics.recordSendRate(retryHandler.sendRate());
+            try {
+                return requestPipeline.execute(retryHandler.addRetryInfoHeader(request, requestCount), context);
+            } finally {
+                attemptMetrics.end();
+            }
         }
 
         private SdkException handleUnmarshalledException(Response<OutputT> response) {
@@ -131,13 +145,16 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
             return exception;
         }
 
-        private SdkException handleThrownException(Exception e) {
-            SdkClientException sdkClientException = e instanceof SdkClientException ?
+        private SdkClientException asSdkClientException(Exception e) {
+            return e instanceof SdkClientException ?
                     (SdkClientException) e : SdkClientException.builder()
                                                                .message("Unable to execute HTTP request: " +
                                                                         e.getMessage())
                                                                .cause(e)
                                                                .build();
+        }
+
+        private SdkException handleThrownException(SdkClientException sdkClientException, Exception e) {
             boolean willRetry = retryHandler.shouldRetry(null, request, context, sdkClientException, requestCount);
 
             log.debug(() -> sdkClientException.getMessage() + (willRetry ? " Request will be retried." : ""), e);
@@ -160,5 +177,17 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
                                                          + " attempt number " + retriesAttempted);
             TimeUnit.MILLISECONDS.sleep(delay.toMillis());
         }
+
+        /**
+         * Sleep until the adaptive rate limiter, if enabled, allows the next attempt to be sent.
+         */
+        private void doPauseForSendToken() throws InterruptedException {
+            Duration delay = retryHandler.acquireSendToken();
+            if (!delay.isZero()) {
+                SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Delaying request by " + delay.toMillis() + "ms to stay within "
+                                                             + "the adaptive send rate");
+                TimeUnit.NANOSECONDS.sleep(delay.toNanos());
+            }
+        }
     }
 }
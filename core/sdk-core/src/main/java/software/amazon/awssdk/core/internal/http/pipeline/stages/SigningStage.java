@@ -15,7 +15,11 @@
 
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.http.ExecutionContext;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
@@ -23,13 +27,15 @@ import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.InterruptMonitor;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestToRequestPipeline;
+import software.amazon.awssdk.core.internal.metrics.ApiCallAttemptMetricsCollector;
+import software.amazon.awssdk.core.signer.AsyncRequestBodySigner;
 import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
 
 /**
  * Sign the marshalled request (if applicable).
  */
-// TODO how does signing work with a request provider
 @SdkInternalApi
 public class SigningStage implements RequestToRequestPipeline {
 
@@ -57,12 +63,50 @@ public class SigningStage implements RequestToRequestPipeline {
 
         if (shouldSign(signer)) {
             adjustForClockSkew(context.executionAttributes());
-            return signer.sign(request, context.executionAttributes());
+            ApiCallAttemptMetricsCollector attemptMetrics = context.metricsCollector().currentAttempt();
+            long signingStart = attemptMetrics.startTimer();
+            SdkHttpFullRequest signedRequest = signer.sign(addContentLength(request, signer, context),
+                                                           context.executionAttributes());
+            signAsyncRequestBody(signedRequest, signer, context);
+            attemptMetrics.recordSigning(signingStart);
+            return signedRequest;
         }
 
         return request;
     }
 
+    /**
+     * Signers of asynchronous content size the content they send from the Content-Length, which the asynchronous client
+     * otherwise only sets once the request has been signed.
+     */
+    private SdkHttpFullRequest addContentLength(SdkHttpFullRequest request, Signer signer, RequestExecutionContext context) {
+        SdkHttpContentPublisher requestProvider = context.requestProvider();
+        if (!(signer instanceof AsyncRequestBodySigner)
+            || requestProvider == null
+            || !requestProvider.contentLength().isPresent()
+            || request.firstMatchingHeader("Content-Length").isPresent()) {
+            return request;
+        }
+        return request.toBuilder()
+                      .putHeader("Content-Length", String.valueOf(requestProvider.contentLength().get()))
+                      .build();
+    }
+
+    /**
+     * Lets the signer sign the content of the asynchronous request, the content of every attempt is signed again from the
+     * content of the request.
+     */
+    private void signAsyncRequestBody(SdkHttpFullRequest signedRequest, Signer signer, RequestExecutionContext context) {
+        if (!(signer instanceof AsyncRequestBodySigner) || context.requestProvider() == null) {
+            return;
+        }
+        AsyncRequestBody requestBody = new ContentPublisherRequestBody(context.requestProvider());
+        AsyncRequestBody signedBody = ((AsyncRequestBodySigner) signer).signAsyncRequestBody(signedRequest, requestBody,
+                                                                                             context.executionAttributes());
+        // Keep sending the original content when it isn't signed, the HTTP client may be able to send it more efficiently
+        context.attemptRequestProvider(signedBody == requestBody ? null : new RequestBodyContentPublisher(signedBody));
+    }
+
     /**
      * TODO: Remove when we stop having two copies of the request.
      */
@@ -85,4 +129,42 @@ public class SigningStage implements RequestToRequestPipeline {
     private void adjustForClockSkew(ExecutionAttributes attributes) {
         attributes.putAttribute(SdkExecutionAttribute.TIME_OFFSET, dependencies.timeOffset());
     }
+
+    private static final class ContentPublisherRequestBody implements AsyncRequestBody {
+
+        private final SdkHttpContentPublisher contentPublisher;
+
+        private ContentPublisherRequestBody(SdkHttpContentPublisher contentPublisher) {
+            this.contentPublisher = contentPublisher;
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return contentPublisher.contentLength();
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> s) {
+            contentPublisher.subscribe(s);
+        }
+    }
+
+    private static final class RequestBodyContentPublisher implements SdkHttpContentPublisher {
+
+        private final AsyncRequestBody requestBody;
+
+        private RequestBodyContentPublisher(AsyncRequestBody requestBody) {
+            this.requestBody = requestBody;
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return requestBody.contentLength();
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> s) {
+            requestBody.subscribe(s);
+        }
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.metrics;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.metrics.ApiCallAttemptMetrics;
+import software.amazon.awssdk.http.HttpRequestMetricsListener;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * Collects the {@link ApiCallAttemptMetrics} of a single attempt of an API call. Created by
+ * {@link ApiCallMetricsCollector#startAttempt()}, which times the attempt from then on until {@link #end()}.
+ *
+ * <p>The stages of an attempt run one after another, but not necessarily on the same thread, so every metric is a volatile
+ * field written once.</p>
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ApiCallAttemptMetricsCollector implements ApiCallAttemptMetrics, HttpRequestMetricsListener {
+
+    /**
+     * The collector used when metrics are disabled, records nothing.
+     */
+    public static final ApiCallAttemptMetricsCollector NO_OP = new ApiCallAttemptMetricsCollector(false);
+
+    private final boolean enabled;
+    private final long startTime;
+
+    private volatile long latencyNanos;
+    private volatile long signingNanos;
+    private volatile long connectionAcquireNanos = -1;
+    private volatile long timeToFirstByteNanos;
+    private volatile long unmarshallingNanos;
+    private volatile double sendRate = Double.NaN;
+
+    private ApiCallAttemptMetricsCollector(boolean enabled) {
+        this.enabled = enabled;
+        this.startTime = enabled ? System.nanoTime() : 0;
+    }
+
+    static ApiCallAttemptMetricsCollector create() {
+        return new ApiCallAttemptMetricsCollector(true);
+    }
+
+    /**
+     * @return The current time, to be passed to a record method once the timed work is done. Zero when metrics are
+     * disabled.
+     */
+    public long startTimer() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    public void recordSigning(long startTime) {
+        if (enabled) {
+            signingNanos = System.nanoTime() - startTime;
+        }
+    }
+
+    public void recordTimeToFirstByte(long startTime) {
+        if (enabled) {
+            timeToFirstByteNanos = System.nanoTime() - startTime;
+        }
+    }
+
+    public void recordUnmarshalling(long startTime) {
+        if (enabled) {
+            unmarshallingNanos = System.nanoTime() - startTime;
+        }
+    }
+
+    public void recordSendRate(OptionalDouble sendRate) {
+        if (enabled && sendRate.isPresent()) {
+            this.sendRate = sendRate.getAsDouble();
+        }
+    }
+
+    /**
+     * Stops timing the attempt.
+     */
+    public void end() {
+        if (enabled) {
+            latencyNanos = System.nanoTime() - startTime;
+        }
+    }
+
+    /**
+     * @return The listener to hand to the HTTP client, {@link HttpRequestMetricsListener#NONE} when metrics are disabled so
+     * the client can skip timing the request altogether.
+     */
+    public HttpRequestMetricsListener httpMetricsListener() {
+        return enabled ? this : HttpRequestMetricsListener.NONE;
+    }
+
+    @Override
+    public void connectionAcquired(long acquireDurationNanos) {
+        if (enabled) {
+            connectionAcquireNanos = acquireDurationNanos;
+        }
+    }
+
+    @Override
+    public Duration latency() {
+        return Duration.ofNanos(latencyNanos);
+    }
+
+    @Override
+    public Duration signingLatency() {
+        return Duration.ofNanos(signingNanos);
+    }
+
+    @Override
+    public Optional<Duration> connectionAcquireLatency() {
+        long acquireNanos = connectionAcquireNanos;
+        return acquireNanos < 0 ? Optional.empty() : Optional.of(Duration.ofNanos(acquireNanos));
+    }
+
+    @Override
+    public Duration timeToFirstByte() {
+        return Duration.ofNanos(timeToFirstByteNanos);
+    }
+
+    @Override
+    public Duration unmarshallingLatency() {
+        return Duration.ofNanos(unmarshallingNanos);
+    }
+
+    @Override
+    public OptionalDouble sendRate() {
+        double rate = sendRate;
+        return Double.isNaN(rate) ? OptionalDouble.empty() : OptionalDouble.of(rate);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ApiCallAttemptMetrics")
+                       .add("latency", latency())
+                       .add("signingLatency", signingLatency())
+                       .add("connectionAcquireLatency", connectionAcquireLatency().orElse(null))
+                       .add("timeToFirstByte", timeToFirstByte())
+                       .add("unmarshallingLatency", unmarshallingLatency())
+                       .add("sendRate", sendRate().isPresent() ? sendRate().getAsDouble() : null)
+                       .build();
+    }
+}
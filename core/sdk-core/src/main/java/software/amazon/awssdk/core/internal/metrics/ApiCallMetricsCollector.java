@@ -0,0 +1,205 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.metrics.ApiCallAttemptMetrics;
+import software.amazon.awssdk.core.metrics.ApiCallMetrics;
+import software.amazon.awssdk.core.metrics.MetricPublisher;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * Collects the {@link ApiCallMetrics} of a single API call as it progresses through the client handler and the request
+ * pipeline, and publishes them once the call completes.
+ *
+ * <p>Stages take a timestamp with {@link #startTimer()} and record the time elapsed since with one of the record methods.
+ * When the client has no {@link MetricPublisher} the shared {@link #NO_OP} collector is used: it never reads the clock and
+ * ignores everything recorded, so the instrumentation costs a field read and a branch per stage.</p>
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ApiCallMetricsCollector implements ApiCallMetrics {
+
+    /**
+     * The collector used when metrics are disabled, records nothing.
+     */
+    public static final ApiCallMetricsCollector NO_OP = new ApiCallMetricsCollector(null, "");
+
+    private static final Logger log = Logger.loggerFor(ApiCallMetricsCollector.class);
+    private static final String REQUEST_SUFFIX = "Request";
+
+    private final MetricPublisher publisher;
+    private final String operationName;
+    private final long startTime;
+    private final List<ApiCallAttemptMetricsCollector> attempts;
+
+    private volatile String serviceName = "";
+    private volatile long marshallingNanos;
+    private volatile long apiCallNanos;
+    private volatile boolean succeeded;
+
+    private ApiCallMetricsCollector(MetricPublisher publisher, String operationName) {
+        this.publisher = publisher;
+        this.operationName = operationName;
+        this.startTime = publisher == null ? 0 : System.nanoTime();
+        this.attempts = publisher == null ? Collections.emptyList() : new ArrayList<>(1);
+    }
+
+    /**
+     * Starts collecting the metrics of an API call, timing it from now.
+     *
+     * @param publisher The publisher of the client, {@code null} when metrics are disabled.
+     * @param request The request of the API call.
+     */
+    public static ApiCallMetricsCollector create(MetricPublisher publisher, SdkRequest request) {
+        return publisher == null ? NO_OP : new ApiCallMetricsCollector(publisher, operationName(request));
+    }
+
+    /**
+     * The name of the operation a request is for, derived from the name of its class, e.g. {@code GetObjectRequest} is a
+     * request for {@code GetObject}.
+     */
+    private static String operationName(SdkRequest request) {
+        String requestName = request.getClass().getSimpleName();
+        return requestName.endsWith(REQUEST_SUFFIX) ? requestName.substring(0, requestName.length() - REQUEST_SUFFIX.length())
+                                                    : requestName;
+    }
+
+    /**
+     * @return The current time, to be passed to a record method once the timed work is done. Zero when metrics are
+     * disabled.
+     */
+    public long startTimer() {
+        return publisher == null ? 0 : System.nanoTime();
+    }
+
+    public void serviceName(String serviceName) {
+        if (publisher != null && serviceName != null) {
+            this.serviceName = serviceName;
+        }
+    }
+
+    public void recordMarshalling(long startTime) {
+        if (publisher != null) {
+            marshallingNanos = System.nanoTime() - startTime;
+        }
+    }
+
+    /**
+     * Starts timing a new attempt of the API call.
+     *
+     * @return The collector of the new attempt, which becomes the {@link #currentAttempt()}.
+     */
+    public ApiCallAttemptMetricsCollector startAttempt() {
+        if (publisher == null) {
+            return ApiCallAttemptMetricsCollector.NO_OP;
+        }
+        ApiCallAttemptMetricsCollector attempt = ApiCallAttemptMetricsCollector.create();
+        synchronized (attempts) {
+            attempts.add(attempt);
+        }
+        return attempt;
+    }
+
+    /**
+     * @return The collector of the last attempt started, a no-op collector if none was started.
+     */
+    public ApiCallAttemptMetricsCollector currentAttempt() {
+        if (publisher == null) {
+            return ApiCallAttemptMetricsCollector.NO_OP;
+        }
+        synchronized (attempts) {
+            return attempts.isEmpty() ? ApiCallAttemptMetricsCollector.NO_OP : attempts.get(attempts.size() - 1);
+        }
+    }
+
+    /**
+     * Stops timing the API call and hands its metrics to the publisher. Failures of the publisher are logged, they never
+     * fail the API call.
+     *
+     * @param succeeded Whether the API call completed successfully.
+     */
+    public void publish(boolean succeeded) {
+        if (publisher == null) {
+            return;
+        }
+        this.apiCallNanos = System.nanoTime() - startTime;
+        this.succeeded = succeeded;
+        try {
+            publisher.publish(this);
+        } catch (RuntimeException e) {
+            log.warn(() -> "Failed to publish the metrics of " + operationName, e);
+        }
+    }
+
+    @Override
+    public String serviceName() {
+        return serviceName;
+    }
+
+    @Override
+    public String operationName() {
+        return operationName;
+    }
+
+    @Override
+    public boolean succeeded() {
+        return succeeded;
+    }
+
+    @Override
+    public Duration apiCallLatency() {
+        return Duration.ofNanos(apiCallNanos);
+    }
+
+    @Override
+    public Duration marshallingLatency() {
+        return Duration.ofNanos(marshallingNanos);
+    }
+
+    @Override
+    public int retryCount() {
+        synchronized (attempts) {
+            return Math.max(0, attempts.size() - 1);
+        }
+    }
+
+    @Override
+    public List<ApiCallAttemptMetrics> attempts() {
+        synchronized (attempts) {
+            return Collections.unmodifiableList(new ArrayList<>(attempts));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ApiCallMetrics")
+                       .add("serviceName", serviceName)
+                       .add("operationName", operationName)
+                       .add("succeeded", succeeded)
+                       .add("apiCallLatency", apiCallLatency())
+                       .add("marshallingLatency", marshallingLatency())
+                       .add("attempts", attempts())
+                       .build();
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.metrics;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+
+/**
+ * Execution attributes carrying the metrics of an API call through its execution. Kept out of
+ * {@link software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute} so the protected API doesn't expose the
+ * internal collector types.
+ */
+@SdkInternalApi
+public final class MetricsExecutionAttribute {
+
+    /**
+     * The collector of the latency metrics of the API call, {@link ApiCallMetricsCollector#NO_OP} when the client doesn't
+     * publish metrics.
+     */
+    public static final ExecutionAttribute<ApiCallMetricsCollector> API_CALL_METRICS_COLLECTOR =
+        new ExecutionAttribute<>("ApiCallMetricsCollector");
+
+    private MetricsExecutionAttribute() {
+    }
+}
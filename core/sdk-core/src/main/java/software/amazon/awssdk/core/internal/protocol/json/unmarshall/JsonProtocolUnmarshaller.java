@@ -15,24 +15,26 @@
 
 package software.amazon.awssdk.core.internal.protocol.json.unmarshall;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.internal.protocol.json.IonFactory;
 import software.amazon.awssdk.core.internal.protocol.json.StringToValueConverter;
 import software.amazon.awssdk.core.io.ReleasableInputStream;
-import software.amazon.awssdk.core.protocol.MarshallLocation;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.core.protocol.SdkField;
 import software.amazon.awssdk.core.protocol.SdkPojo;
 import software.amazon.awssdk.core.protocol.traits.ListTrait;
 import software.amazon.awssdk.core.protocol.traits.MapTrait;
-import software.amazon.awssdk.core.protocol.traits.PayloadTrait;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.utils.builder.SdkBuilder;
 
@@ -69,8 +71,19 @@ public final class JsonProtocolUnmarshaller<TypeT extends SdkPojo> {
 
     private final ObjectMapper mapper;
 
+    /**
+     * Whether the payload can be unmarshalled straight from the parser's token stream. Only plain text JSON is streamed;
+     * binary formats (CBOR, Ion) surface blobs and timestamps as embedded objects and are unmarshalled from a tree.
+     */
+    private final boolean streamingSupported;
+
     public JsonProtocolUnmarshaller(ObjectMapper objectMapper) {
         mapper = objectMapper;
+        streamingSupported = isPlainJson(objectMapper.getFactory());
+    }
+
+    private static boolean isPlainJson(JsonFactory factory) {
+        return !(factory instanceof IonFactory) && JsonFactory.FORMAT_NAME_JSON.equals(factory.getFormatName());
     }
 
     private static SdkPojo unmarshallStructured(JsonUnmarshallerContext context, JsonNode jsonContent, SdkField<SdkPojo> f) {
@@ -126,38 +139,32 @@ public final class JsonProtocolUnmarshaller<TypeT extends SdkPojo> {
 
     public TypeT unmarshall(SdkPojo sdkPojo,
                             SdkHttpFullResponse response) throws IOException {
-        if (hasPayloadMembers(sdkPojo) && !hasExplicitBlobPayloadMember(sdkPojo)) {
-            JsonNode jsonNode = mapper.readTree(ReleasableInputStream.wrap(response.content().orElse(null)).disableClose());
+        SdkFieldIndex fieldIndex = SdkFieldIndex.of(sdkPojo);
+        if (fieldIndex.hasPayloadMembers() && !fieldIndex.hasExplicitBlobPayloadMember()) {
+            InputStream content = ReleasableInputStream.wrap(response.content().orElse(null)).disableClose();
+            if (streamingSupported) {
+                try (JsonParser parser = mapper.getFactory().createParser(content)) {
+                    return JsonStreamingUnmarshaller.unmarshall(parser, sdkPojo, createContext(response));
+                }
+            }
+            JsonNode jsonNode = mapper.readTree(content);
             return unmarshall(sdkPojo, response, jsonNode);
         } else {
             return unmarshall(sdkPojo, response, null);
         }
     }
 
-    private boolean hasExplicitBlobPayloadMember(SdkPojo sdkPojo) {
-        return sdkPojo.sdkFields()
-                      .stream()
-                      .anyMatch(f -> isExplicitPayloadMember(f) && f.marshallingType() == MarshallingType.SDK_BYTES);
-    }
-
-    private static boolean isExplicitPayloadMember(SdkField<?> f) {
-        return f.containsTrait(PayloadTrait.class);
-    }
-
-    private boolean hasPayloadMembers(SdkPojo sdkPojo) {
-        return sdkPojo.sdkFields()
-                      .stream()
-                      .anyMatch(f -> f.location() == MarshallLocation.PAYLOAD);
-    }
-
     public TypeT unmarshall(SdkPojo sdkPojo,
                             SdkHttpFullResponse response,
                             JsonNode jsonContent) {
-        JsonUnmarshallerContext context = JsonUnmarshallerContext.builder()
-                                                                 .unmarshallerRegistry(REGISTRY)
-                                                                 .response(response)
-                                                                 .build();
-        return unmarshallStructured(sdkPojo, jsonContent, context);
+        return unmarshallStructured(sdkPojo, jsonContent, createContext(response));
+    }
+
+    private static JsonUnmarshallerContext createContext(SdkHttpFullResponse response) {
+        return JsonUnmarshallerContext.builder()
+                                      .unmarshallerRegistry(REGISTRY)
+                                      .response(response)
+                                      .build();
     }
 
     @SuppressWarnings("unchecked")
@@ -165,7 +172,7 @@ public final class JsonProtocolUnmarshaller<TypeT extends SdkPojo> {
                                                                       JsonNode jsonContent,
                                                                       JsonUnmarshallerContext context) {
         for (SdkField<?> field : sdkPojo.sdkFields()) {
-            if (isExplicitPayloadMember(field) && field.marshallingType() == MarshallingType.SDK_BYTES) {
+            if (SdkFieldIndex.isExplicitPayloadMember(field) && field.marshallingType() == MarshallingType.SDK_BYTES) {
                 field.set(sdkPojo, SdkBytes.fromInputStream(context.response().content().orElse(null)));
             } else {
                 JsonNode jsonFieldContent = getJsonNode(jsonContent, field);
@@ -180,7 +187,7 @@ public final class JsonProtocolUnmarshaller<TypeT extends SdkPojo> {
         if (jsonContent == null) {
             return null;
         }
-        return isExplicitPayloadMember(field) ? jsonContent : jsonContent.get(field.locationName());
+        return SdkFieldIndex.isExplicitPayloadMember(field) ? jsonContent : jsonContent.get(field.locationName());
     }
 
 }
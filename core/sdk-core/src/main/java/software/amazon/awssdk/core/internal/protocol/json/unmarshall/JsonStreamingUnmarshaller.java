@@ -0,0 +1,198 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.protocol.json.unmarshall;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.internal.protocol.json.StringToValueConverter;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.protocol.SdkField;
+import software.amazon.awssdk.core.protocol.SdkPojo;
+import software.amazon.awssdk.core.protocol.traits.ListTrait;
+import software.amazon.awssdk.core.protocol.traits.MapTrait;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+/**
+ * Unmarshalls a JSON document directly from a {@link JsonParser} token stream into an {@link SdkPojo}, without first
+ * materializing it as a {@link com.fasterxml.jackson.databind.JsonNode} tree. Produces the same result as the tree based
+ * unmarshalling in {@link JsonProtocolUnmarshaller}; non-payload members (headers, status code) are still resolved through
+ * the {@link UnmarshallerRegistry} of the {@link JsonUnmarshallerContext}.
+ */
+@SdkInternalApi
+final class JsonStreamingUnmarshaller {
+
+    private static final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> SIMPLE_TYPES;
+
+    static {
+        Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> simpleTypes = new HashMap<>();
+        simpleTypes.put(MarshallingType.STRING, StringToValueConverter.TO_STRING);
+        simpleTypes.put(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER);
+        simpleTypes.put(MarshallingType.LONG, StringToValueConverter.TO_LONG);
+        simpleTypes.put(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE);
+        simpleTypes.put(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN);
+        simpleTypes.put(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT);
+        simpleTypes.put(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES);
+        simpleTypes.put(MarshallingType.INSTANT, StringToValueConverter.TO_INSTANT);
+        SIMPLE_TYPES = Collections.unmodifiableMap(simpleTypes);
+    }
+
+    private JsonStreamingUnmarshaller() {
+    }
+
+    /**
+     * Unmarshalls the next JSON value of the parser into the given POJO builder.
+     *
+     * @param parser Parser positioned before the root value of the document.
+     * @param sdkPojo Builder of the POJO to unmarshall into.
+     * @param context Context used to resolve members that are not bound to the payload.
+     * @return The built POJO.
+     */
+    static <TypeT extends SdkPojo> TypeT unmarshall(JsonParser parser,
+                                                   SdkPojo sdkPojo,
+                                                   JsonUnmarshallerContext context) throws IOException {
+        parser.nextToken();
+        return unmarshallStructured(parser, sdkPojo, context);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <TypeT extends SdkPojo> TypeT unmarshallStructured(JsonParser parser,
+                                                                      SdkPojo sdkPojo,
+                                                                      JsonUnmarshallerContext context) throws IOException {
+        SdkFieldIndex fieldIndex = SdkFieldIndex.of(sdkPojo);
+
+        for (SdkField<?> field : fieldIndex.nonPayloadFields()) {
+            JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+            field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+        }
+
+        SdkField<?> explicitPayloadField = fieldIndex.explicitPayloadField();
+        if (explicitPayloadField != null) {
+            explicitPayloadField.set(sdkPojo, readValue(parser, explicitPayloadField, context));
+        } else {
+            readPayloadFields(parser, sdkPojo, fieldIndex, context);
+        }
+        return ((SdkBuilder<?, TypeT>) sdkPojo).build();
+    }
+
+    private static void readPayloadFields(JsonParser parser,
+                                          SdkPojo sdkPojo,
+                                          SdkFieldIndex fieldIndex,
+                                          JsonUnmarshallerContext context) throws IOException {
+        List<SdkField<?>> payloadFields = fieldIndex.payloadFields();
+        boolean[] seen = new boolean[payloadFields.size()];
+
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                int index = fieldIndex.payloadFieldIndex(parser.getCurrentName());
+                parser.nextToken();
+                if (index < 0) {
+                    parser.skipChildren();
+                } else {
+                    SdkField<?> field = payloadFields.get(index);
+                    field.set(sdkPojo, readValue(parser, field, context));
+                    seen[index] = true;
+                }
+            }
+        } else {
+            parser.skipChildren();
+        }
+
+        // Members absent from the document are explicitly cleared, as they would be when unmarshalling from a tree
+        for (int i = 0; i < seen.length; i++) {
+            if (!seen[i]) {
+                payloadFields.get(i).set(sdkPojo, null);
+            }
+        }
+    }
+
+    /**
+     * Reads the value the parser is currently positioned on, leaving the parser on the last token of that value.
+     */
+    private static Object readValue(JsonParser parser, SdkField<?> field, JsonUnmarshallerContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        MarshallingType<?> marshallingType = field.marshallingType();
+        if (marshallingType == MarshallingType.SDK_POJO) {
+            return unmarshallStructured(parser, field.constructor().get(), context);
+        } else if (marshallingType == MarshallingType.LIST) {
+            return readList(parser, field, context);
+        } else if (marshallingType == MarshallingType.MAP) {
+            return readMap(parser, field, context);
+        }
+        return readSimpleValue(parser, field);
+    }
+
+    private static List<Object> readList(JsonParser parser, SdkField<?> field, JsonUnmarshallerContext context)
+            throws IOException {
+        List<Object> list = new ArrayList<>();
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return list;
+        }
+        SdkField<?> memberInfo = field.getTrait(ListTrait.class).memberFieldInfo();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readValue(parser, memberInfo, context));
+        }
+        return list;
+    }
+
+    private static Map<String, Object> readMap(JsonParser parser, SdkField<?> field, JsonUnmarshallerContext context)
+            throws IOException {
+        Map<String, Object> map = new HashMap<>();
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return map;
+        }
+        SdkField<?> valueInfo = field.getTrait(MapTrait.class).valueFieldInfo();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.getCurrentName();
+            parser.nextToken();
+            map.put(key, readValue(parser, valueInfo, context));
+        }
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object readSimpleValue(JsonParser parser, SdkField<?> field) throws IOException {
+        StringToValueConverter.StringToValue<Object> stringToValue =
+            (StringToValueConverter.StringToValue<Object>) SIMPLE_TYPES.get(field.marshallingType());
+        if (stringToValue == null) {
+            throw SdkClientException.create(String.format("No unmarshaller registered for type %s at location %s",
+                                                          field.marshallingType(), field.location()));
+        }
+
+        String text;
+        if (parser.currentToken().isStructStart()) {
+            // Containers have no textual value, mirroring JsonNode#asText
+            parser.skipChildren();
+            text = "";
+        } else {
+            text = parser.getText();
+        }
+        return stringToValue.convert(text, (SdkField<Object>) field);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.protocol.json.unmarshall;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.protocol.SdkField;
+import software.amazon.awssdk.core.protocol.SdkPojo;
+import software.amazon.awssdk.core.protocol.traits.PayloadTrait;
+
+/**
+ * Precomputed, per POJO class view of {@link SdkPojo#sdkFields()} used by the JSON, CBOR and Ion unmarshallers. Fields are
+ * split by where they are unmarshalled from, payload members can be looked up by their wire name, and the flags that decide
+ * whether a response body needs to be parsed at all are computed once instead of for every response.
+ */
+@SdkInternalApi
+final class SdkFieldIndex {
+
+    /**
+     * Index of each POJO class, set from the first instance unmarshalled since {@link SdkPojo#sdkFields()} is an instance
+     * method. Kept in a {@link ClassValue} rather than a map so the SDK never holds on to the class loaders of the models.
+     */
+    private static final ClassValue<AtomicReference<SdkFieldIndex>> INDEXES = new ClassValue<AtomicReference<SdkFieldIndex>>() {
+        @Override
+        protected AtomicReference<SdkFieldIndex> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
+    private final List<SdkField<?>> payloadFields;
+    private final Map<String, Integer> payloadFieldIndexes;
+    private final List<SdkField<?>> nonPayloadFields;
+    private final SdkField<?> explicitPayloadField;
+    private final boolean hasPayloadMembers;
+    private final boolean hasExplicitBlobPayloadMember;
+
+    private SdkFieldIndex(List<SdkField<?>> sdkFields) {
+        List<SdkField<?>> payload = new ArrayList<>();
+        List<SdkField<?>> nonPayload = new ArrayList<>();
+        Map<String, Integer> indexes = new HashMap<>();
+        SdkField<?> explicitPayload = null;
+        boolean payloadMembers = false;
+
+        for (SdkField<?> field : sdkFields) {
+            payloadMembers |= field.location() == MarshallLocation.PAYLOAD;
+            if (isExplicitPayloadMember(field)) {
+                explicitPayload = field;
+            } else if (field.location() == MarshallLocation.PAYLOAD) {
+                indexes.put(field.locationName(), payload.size());
+                payload.add(field);
+            } else {
+                nonPayload.add(field);
+            }
+        }
+
+        this.payloadFields = Collections.unmodifiableList(payload);
+        this.payloadFieldIndexes = indexes;
+        this.nonPayloadFields = Collections.unmodifiableList(nonPayload);
+        this.explicitPayloadField = explicitPayload;
+        this.hasPayloadMembers = payloadMembers;
+        this.hasExplicitBlobPayloadMember = explicitPayload != null &&
+                                            explicitPayload.marshallingType() == MarshallingType.SDK_BYTES;
+    }
+
+    /**
+     * Returns the index for the class of the given POJO, creating it on first use.
+     */
+    static SdkFieldIndex of(SdkPojo sdkPojo) {
+        AtomicReference<SdkFieldIndex> holder = INDEXES.get(sdkPojo.getClass());
+        SdkFieldIndex index = holder.get();
+        if (index == null) {
+            SdkFieldIndex computed = new SdkFieldIndex(sdkPojo.sdkFields());
+            index = holder.compareAndSet(null, computed) ? computed : holder.get();
+        }
+        return index;
+    }
+
+    static boolean isExplicitPayloadMember(SdkField<?> field) {
+        return field.containsTrait(PayloadTrait.class);
+    }
+
+    /**
+     * @return Members bound to a named location in the payload, in declaration order.
+     */
+    List<SdkField<?>> payloadFields() {
+        return payloadFields;
+    }
+
+    /**
+     * @return Position in {@link #payloadFields()} of the payload member with the given wire name, or -1 if there is none.
+     */
+    int payloadFieldIndex(String locationName) {
+        Integer index = payloadFieldIndexes.get(locationName);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * @return Members bound to a header or the status code of the response.
+     */
+    List<SdkField<?>> nonPayloadFields() {
+        return nonPayloadFields;
+    }
+
+    /**
+     * @return The member bound to the entire payload, or null if there is none.
+     */
+    SdkField<?> explicitPayloadField() {
+        return explicitPayloadField;
+    }
+
+    boolean hasPayloadMembers() {
+        return hasPayloadMembers;
+    }
+
+    boolean hasExplicitBlobPayloadMember() {
+        return hasExplicitBlobPayloadMember;
+    }
+}
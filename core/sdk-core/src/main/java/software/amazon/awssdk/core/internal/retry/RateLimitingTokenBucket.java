@@ -0,0 +1,177 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Client scoped token bucket that adapts the rate at which requests are sent to the rate at which the service accepts them.
+ *
+ * <p>The bucket is inactive, and never delays a request, until the first throttling error is observed. From then on every
+ * attempt needs a token and the fill rate of the bucket is driven by a CUBIC congestion controller: a throttling response
+ * multiplicatively decreases the rate, and successful responses grow it back along a cubic curve towards, and past, the rate
+ * at which throttling last occurred. The rate is never raised above twice the measured sending rate.</p>
+ *
+ * <p>Tokens are reserved rather than waited for, so the capacity may become negative. {@link #acquire()} returns how long
+ * the caller has to wait before its reservation becomes available, which lets the synchronous pipeline sleep and the
+ * asynchronous pipeline schedule the attempt without blocking a thread.</p>
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class RateLimitingTokenBucket {
+
+    private static final Logger log = Logger.loggerFor(RateLimitingTokenBucket.class);
+
+    private static final double MIN_FILL_RATE = 0.5;
+    private static final double MIN_CAPACITY = 1.0;
+    private static final double SMOOTH = 0.8;
+    private static final double BETA = 0.7;
+    private static final double SCALE_CONSTANT = 0.4;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final LongSupplier nanoClock;
+
+    private double fillRate;
+    private double maxCapacity;
+    private double currentCapacity;
+    private double lastTimestamp;
+    private boolean enabled;
+
+    private double measuredTxRate;
+    private double lastTxRateBucket;
+    private long requestCount;
+    private double lastMaxRate;
+    private double lastThrottleTime;
+    private double timeWindow;
+
+    public RateLimitingTokenBucket() {
+        this(System::nanoTime);
+    }
+
+    @SdkTestInternalApi
+    RateLimitingTokenBucket(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        double now = now();
+        this.lastTimestamp = now;
+        this.lastTxRateBucket = Math.floor(now);
+        this.lastThrottleTime = now;
+    }
+
+    /**
+     * Reserves a token for the next attempt.
+     *
+     * @return How long the attempt has to be delayed, {@link Duration#ZERO} if it can be sent right away.
+     */
+    public synchronized Duration acquire() {
+        if (!enabled) {
+            return Duration.ZERO;
+        }
+        refill();
+        currentCapacity -= 1;
+        if (currentCapacity >= 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos((long) (-currentCapacity / fillRate * NANOS_PER_SECOND));
+    }
+
+    /**
+     * Updates the sending rate with the outcome of an attempt.
+     *
+     * @param throttled Whether the attempt failed with a throttling error.
+     */
+    public synchronized void updateSendingRate(boolean throttled) {
+        updateMeasuredRate();
+
+        double calculatedRate;
+        if (throttled) {
+            double rateToUse = enabled ? Math.min(measuredTxRate, fillRate) : measuredTxRate;
+            lastMaxRate = rateToUse;
+            calculateTimeWindow();
+            lastThrottleTime = now();
+            calculatedRate = rateToUse * BETA;
+            enabled = true;
+        } else {
+            calculateTimeWindow();
+            calculatedRate = SCALE_CONSTANT * Math.pow(now() - lastThrottleTime - timeWindow, 3) + lastMaxRate;
+        }
+
+        updateFillRate(Math.min(calculatedRate, 2 * measuredTxRate));
+
+        if (throttled) {
+            double newRate = fillRate;
+            log.debug(() -> String.format("Throttling detected, reduced send rate to %.2f requests per second", newRate));
+        }
+    }
+
+    /**
+     * @return The rate, in requests per second, at which tokens are currently added to the bucket. Only limits attempts once
+     * the bucket has been {@link #enabled()}.
+     */
+    public synchronized double sendRate() {
+        return fillRate;
+    }
+
+    /**
+     * @return The smoothed rate, in requests per second, at which attempts have completed.
+     */
+    public synchronized double measuredSendRate() {
+        return measuredTxRate;
+    }
+
+    /**
+     * @return Whether throttling has been observed and attempts are being rate limited.
+     */
+    public synchronized boolean enabled() {
+        return enabled;
+    }
+
+    private void refill() {
+        double timestamp = now();
+        currentCapacity = Math.min(maxCapacity, currentCapacity + (timestamp - lastTimestamp) * fillRate);
+        lastTimestamp = timestamp;
+    }
+
+    private void updateFillRate(double newRate) {
+        refill();
+        fillRate = Math.max(newRate, MIN_FILL_RATE);
+        maxCapacity = Math.max(newRate, MIN_CAPACITY);
+        currentCapacity = Math.min(currentCapacity, maxCapacity);
+    }
+
+    private void updateMeasuredRate() {
+        double timeBucket = Math.floor(now() * 2) / 2;
+        requestCount++;
+        if (timeBucket > lastTxRateBucket) {
+            double currentRate = requestCount / (timeBucket - lastTxRateBucket);
+            measuredTxRate = currentRate * SMOOTH + measuredTxRate * (1 - SMOOTH);
+            requestCount = 0;
+            lastTxRateBucket = timeBucket;
+        }
+    }
+
+    private void calculateTimeWindow() {
+        timeWindow = Math.cbrt(lastMaxRate * (1 - BETA) / SCALE_CONSTANT);
+    }
+
+    private double now() {
+        return nanoClock.getAsLong() / NANOS_PER_SECOND;
+    }
+}
@@ -18,6 +18,7 @@ package software.amazon.awssdk.core.internal.retry;
 import static java.util.Collections.singletonList;
 
 import java.time.Duration;
+import java.util.OptionalDouble;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
@@ -35,6 +36,7 @@ public final class RetryHandler {
 
     private final RetryPolicy retryPolicy;
     private final CapacityManager retryCapacity;
+    private final RateLimitingTokenBucket sendRateLimiter;
 
     private Duration lastBackoffDelay = Duration.ZERO;
     private boolean retryCapacityConsumed;
@@ -43,8 +45,15 @@ public final class RetryHandler {
 
     public RetryHandler(RetryPolicy retryPolicy,
                         CapacityManager retryCapacity) {
+        this(retryPolicy, retryCapacity, null);
+    }
+
+    public RetryHandler(RetryPolicy retryPolicy,
+                        CapacityManager retryCapacity,
+                        RateLimitingTokenBucket sendRateLimiter) {
         this.retryPolicy = retryPolicy;
         this.retryCapacity = retryCapacity;
+        this.sendRateLimiter = sendRateLimiter;
     }
 
     public boolean shouldRetry(SdkHttpFullResponse httpResponse,
@@ -110,6 +119,34 @@ public final class RetryHandler {
         return lastBackoffDelay;
     }
 
+    /**
+     * Reserves a send token for the next attempt if adaptive rate limiting is enabled.
+     *
+     * @return How long the attempt has to be delayed to stay within the current send rate of the client.
+     */
+    public Duration acquireSendToken() {
+        return sendRateLimiter == null ? Duration.ZERO : sendRateLimiter.acquire();
+    }
+
+    /**
+     * @return The current adaptive send rate in requests per second, empty unless attempts are being rate limited.
+     */
+    public OptionalDouble sendRate() {
+        return sendRateLimiter != null && sendRateLimiter.enabled() ? OptionalDouble.of(sendRateLimiter.sendRate())
+                                                                     : OptionalDouble.empty();
+    }
+
+    /**
+     * Feeds the outcome of an attempt to the adaptive rate limiter, if enabled. Only throttling errors reduce the send rate.
+     *
+     * @param exception The exception the attempt failed with, including client side errors, or null if it succeeded.
+     */
+    public void updateSendRate(SdkException exception) {
+        if (sendRateLimiter != null) {
+            sendRateLimiter.updateSendingRate(exception != null && RetryUtils.isThrottlingException(exception));
+        }
+    }
+
     /**
      * Sets whether retry capacity has been consumed for this request
      */
@@ -15,18 +15,27 @@
 
 package software.amazon.awssdk.core.internal.util;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
 
 /**
  * Manages capacity of a finite resource.  Capacity can be acquired and
  * released.
+ *
+ * <p>A single instance is shared by every request of a client, so capacity is
+ * updated with compare-and-set instead of a lock, and the statistics counters
+ * are striped to keep them off the contended path.</p>
  */
+@ThreadSafe
 @SdkInternalApi
 public class CapacityManager {
 
     private final int maxCapacity;
-    private final Object lock = new Object();
-    private volatile int availableCapacity;
+    private final AtomicInteger availableCapacity;
+    private final LongAdder acquireFailures = new LongAdder();
+    private final LongAdder refills = new LongAdder();
 
     /**
      * Creates a CapacityManager.
@@ -38,7 +47,7 @@ public class CapacityManager {
      */
     public CapacityManager(final int maxCapacity) {
         this.maxCapacity = maxCapacity;
-        this.availableCapacity = maxCapacity;
+        this.availableCapacity = new AtomicInteger(maxCapacity);
     }
 
     /**
@@ -64,17 +73,19 @@ public class CapacityManager {
             throw new IllegalArgumentException("capacity to acquire cannot be negative");
         }
 
-        if (availableCapacity < 0) {
+        if (maxCapacity < 0) {
             return true;
         }
 
-        synchronized (lock) {
-            if (availableCapacity - capacity >= 0) {
-                availableCapacity -= capacity;
-                return true;
-            } else {
+        while (true) {
+            int available = availableCapacity.get();
+            if (available - capacity < 0) {
+                acquireFailures.increment();
                 return false;
             }
+            if (availableCapacity.compareAndSet(available, available - capacity)) {
+                return true;
+            }
         }
     }
 
@@ -98,11 +109,20 @@ public class CapacityManager {
             throw new IllegalArgumentException("capacity to release cannot be negative");
         }
 
-        // in the common 'good' case where we have our full capacity available we can
-        // short circuit going any further and avoid unnecessary locking.
-        if (availableCapacity >= 0 && availableCapacity != maxCapacity) {
-            synchronized (lock) {
-                availableCapacity = Math.min((availableCapacity + capacity), maxCapacity);
+        if (maxCapacity < 0) {
+            return;
+        }
+
+        while (true) {
+            int available = availableCapacity.get();
+            // in the common 'good' case where we have our full capacity available we can
+            // short circuit going any further and avoid an unnecessary write.
+            if (available == maxCapacity) {
+                return;
+            }
+            if (availableCapacity.compareAndSet(available, Math.min(available + capacity, maxCapacity))) {
+                refills.increment();
+                return;
             }
         }
     }
@@ -113,7 +133,7 @@ public class CapacityManager {
      * @return consumed capacity
      */
     public int consumedCapacity() {
-        return (availableCapacity < 0) ? 0 : (maxCapacity - availableCapacity);
+        return (maxCapacity < 0) ? 0 : (maxCapacity - availableCapacity.get());
     }
 
     /**
@@ -122,6 +142,25 @@ public class CapacityManager {
      * @return available capacity
      */
     public int availableCapacity() {
-        return availableCapacity;
+        return availableCapacity.get();
+    }
+
+    /**
+     * Returns the number of acquire attempts that failed because not enough capacity was available.
+     *
+     * @return number of failed acquire attempts
+     */
+    public long acquireFailureCount() {
+        return acquireFailures.sum();
+    }
+
+    /**
+     * Returns the number of releases that returned capacity to the pool. Releases made while the pool was already full are not
+     * counted.
+     *
+     * @return number of refills
+     */
+    public long refillCount() {
+        return refills.sum();
     }
 }
@@ -0,0 +1,429 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link ScheduledExecutorService} backed by a hashed timer wheel.
+ *
+ * <p>Unlike {@link java.util.concurrent.ScheduledThreadPoolExecutor}, which keeps every pending task in a single heap
+ * guarded by one lock, scheduling and cancelling a task here only appends to a lock-free queue. A single timer thread moves
+ * new tasks into the wheel and expires a bucket every tick, handing due tasks to a pool of worker threads. This makes it
+ * suitable for the large number of short lived timers created by the SDK for retries, API call timeouts and API call attempt
+ * timeouts, which are almost always cancelled before they fire. Tasks fire with a precision of one tick.</p>
+ *
+ * <p>The timer thread is only started when the first task is scheduled and the worker threads when the first task is run,
+ * so an executor that is created for every client costs next to nothing until the client actually needs it.</p>
+ *
+ * <p>As with {@link java.util.concurrent.ScheduledThreadPoolExecutor}, tasks that are already scheduled still run after
+ * {@link #shutdown()} and only {@link #shutdownNow()} discards them.</p>
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class HashedWheelScheduledExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private static final Logger log = Logger.loggerFor(HashedWheelScheduledExecutor.class);
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final ExecutorService workers;
+    private final Thread timerThread;
+    private final long startTime;
+
+    private final Queue<WheelTask<?>> newTasks = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTask<?>> cancelledTasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingTasks = new AtomicInteger();
+    private final AtomicBoolean timerStarted = new AtomicBoolean();
+    private final CountDownLatch timerTerminated = new CountDownLatch(1);
+
+    private volatile boolean shutdown;
+    private volatile boolean shutdownNow;
+
+    /**
+     * Only accessed by the timer thread.
+     */
+    private long currentTick;
+
+    /**
+     * @param tickDuration Duration of a single tick of the wheel, in the given unit.
+     * @param unit Unit of the tick duration.
+     * @param ticksPerWheel Number of buckets in the wheel. Rounded up to the next power of two.
+     * @param workerThreads Number of threads that run expired tasks.
+     * @param threadFactory Factory for the timer thread and the worker threads.
+     */
+    public HashedWheelScheduledExecutor(long tickDuration, TimeUnit unit, int ticksPerWheel, int workerThreads,
+                                        ThreadFactory threadFactory) {
+        Validate.isTrue(tickDuration > 0, "tickDuration must be positive");
+        Validate.isPositive(ticksPerWheel, "ticksPerWheel");
+        Validate.isPositive(workerThreads, "workerThreads");
+        Validate.paramNotNull(threadFactory, "threadFactory");
+
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheel = createWheel(ticksPerWheel);
+        this.mask = wheel.length - 1;
+        this.workers = Executors.newFixedThreadPool(workerThreads, threadFactory);
+        this.startTime = System.nanoTime();
+        this.timerThread = threadFactory.newThread(this::runTimer);
+    }
+
+    private static Bucket[] createWheel(int ticksPerWheel) {
+        int size = 1;
+        while (size < ticksPerWheel) {
+            size <<= 1;
+        }
+        Bucket[] buckets = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new Bucket();
+        }
+        return buckets;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        Validate.paramNotNull(command, "command");
+        return schedule(new WheelTask<Void>(command, null, triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        Validate.paramNotNull(callable, "callable");
+        return schedule(new WheelTask<>(callable, triggerTime(delay, unit), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        Validate.paramNotNull(command, "command");
+        Validate.isTrue(period > 0, "period must be positive");
+        return schedule(new WheelTask<Void>(command, null, triggerTime(initialDelay, unit), unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        Validate.paramNotNull(command, "command");
+        Validate.isTrue(delay > 0, "delay must be positive");
+        return schedule(new WheelTask<Void>(command, null, triggerTime(initialDelay, unit), -unit.toNanos(delay)));
+    }
+
+    private <V> ScheduledFuture<V> schedule(WheelTask<V> task) {
+        if (shutdown || !enqueue(task)) {
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+        startTimer();
+        return task;
+    }
+
+    /**
+     * Hands the task to the timer thread, unless the executor was shut down in the meantime: the timer thread may have seen
+     * no pending task and exited before the task was added, so the task is taken back rather than left to never run.
+     *
+     * @return False if the executor was shut down and the task wasn't enqueued.
+     */
+    private boolean enqueue(WheelTask<?> task) {
+        pendingTasks.incrementAndGet();
+        newTasks.add(task);
+        if (shutdown && newTasks.remove(task)) {
+            pendingTasks.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Validate.paramNotNull(command, "command");
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+        workers.execute(command);
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        // The timer thread exits right away when nothing was scheduled, and shuts the workers down on its way out
+        startTimer();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        shutdownNow = true;
+        startTimer();
+        timerThread.interrupt();
+
+        List<Runnable> notRun = new ArrayList<>();
+        for (WheelTask<?> task = newTasks.poll(); task != null; task = newTasks.poll()) {
+            notRun.add(task);
+        }
+        notRun.addAll(workers.shutdownNow());
+        return notRun;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return timerTerminated.getCount() == 0 && workers.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        if (!timerTerminated.await(timeout, unit)) {
+            return false;
+        }
+        return workers.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return The number of scheduled tasks that have been neither run nor cancelled yet.
+     */
+    public int pendingTasks() {
+        return pendingTasks.get();
+    }
+
+    private long triggerTime(long delay, TimeUnit unit) {
+        return plusSaturated(System.nanoTime() - startTime, unit.toNanos(Math.max(delay, 0)));
+    }
+
+    /**
+     * Adds a non-negative delay to a trigger time, saturating at {@link Long#MAX_VALUE} like
+     * {@link java.util.concurrent.ScheduledThreadPoolExecutor} does for huge delays.
+     */
+    private static long plusSaturated(long time, long delayNanos) {
+        return delayNanos > Long.MAX_VALUE - time ? Long.MAX_VALUE : time + delayNanos;
+    }
+
+    private void startTimer() {
+        if (!timerStarted.get() && timerStarted.compareAndSet(false, true)) {
+            timerThread.start();
+        }
+    }
+
+    private void runTimer() {
+        try {
+            // Start at the tick of the current time, the ticks since the executor was created have no tasks to expire
+            currentTick = (System.nanoTime() - startTime) / tickNanos;
+            while (!shutdownNow && !(shutdown && pendingTasks.get() == 0)) {
+                waitForNextTick();
+                unlinkCancelledTasks();
+                transferNewTasks();
+                expire(wheel[(int) (currentTick & mask)]);
+                currentTick++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error(() -> "Timer thread terminated unexpectedly", e);
+        } finally {
+            timerTerminated.countDown();
+            if (shutdownNow) {
+                workers.shutdownNow();
+            } else {
+                workers.shutdown();
+            }
+        }
+    }
+
+    private void waitForNextTick() throws InterruptedException {
+        long deadline = tickNanos * (currentTick + 1);
+        long sleepNanos = deadline - (System.nanoTime() - startTime);
+        if (sleepNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(sleepNanos);
+        }
+    }
+
+    private void unlinkCancelledTasks() {
+        for (WheelTask<?> task = cancelledTasks.poll(); task != null; task = cancelledTasks.poll()) {
+            if (task.bucket != null) {
+                task.bucket.remove(task);
+                pendingTasks.decrementAndGet();
+            }
+        }
+    }
+
+    private void transferNewTasks() {
+        for (WheelTask<?> task = newTasks.poll(); task != null; task = newTasks.poll()) {
+            if (task.isCancelled()) {
+                pendingTasks.decrementAndGet();
+                continue;
+            }
+            long dueTick = task.triggerTime / tickNanos;
+            task.remainingRounds = Math.max(dueTick - currentTick, 0) / wheel.length;
+            wheel[(int) (Math.max(dueTick, currentTick) & mask)].add(task);
+        }
+    }
+
+    private void expire(Bucket bucket) {
+        WheelTask<?> task = bucket.head;
+        while (task != null) {
+            WheelTask<?> next = task.next;
+            if (task.remainingRounds <= 0) {
+                bucket.remove(task);
+                pendingTasks.decrementAndGet();
+                if (!task.isCancelled()) {
+                    dispatch(task);
+                }
+            } else {
+                task.remainingRounds--;
+            }
+            task = next;
+        }
+    }
+
+    private void dispatch(WheelTask<?> task) {
+        try {
+            workers.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.cancel(false);
+        }
+    }
+
+    /**
+     * Doubly linked list of the tasks of a single wheel slot. Only accessed by the timer thread.
+     */
+    private static final class Bucket {
+        private WheelTask<?> head;
+        private WheelTask<?> tail;
+
+        private void add(WheelTask<?> task) {
+            task.bucket = this;
+            if (head == null) {
+                head = task;
+                tail = task;
+            } else {
+                tail.next = task;
+                task.prev = tail;
+                tail = task;
+            }
+        }
+
+        private void remove(WheelTask<?> task) {
+            if (task.prev != null) {
+                task.prev.next = task.next;
+            } else {
+                head = task.next;
+            }
+            if (task.next != null) {
+                task.next.prev = task.prev;
+            } else {
+                tail = task.prev;
+            }
+            task.prev = null;
+            task.next = null;
+            task.bucket = null;
+        }
+    }
+
+    private final class WheelTask<V> extends FutureTask<V> implements ScheduledFuture<V> {
+
+        /**
+         * Positive for fixed rate, negative for fixed delay and zero for one-shot tasks.
+         */
+        private final long period;
+        private volatile long triggerTime;
+
+        // Only accessed by the timer thread
+        private long remainingRounds;
+        private Bucket bucket;
+        private WheelTask<?> prev;
+        private WheelTask<?> next;
+
+        private WheelTask(Runnable runnable, V result, long triggerTime, long period) {
+            super(runnable, result);
+            this.triggerTime = triggerTime;
+            this.period = period;
+        }
+
+        private WheelTask(Callable<V> callable, long triggerTime, long period) {
+            super(callable);
+            this.triggerTime = triggerTime;
+            this.period = period;
+        }
+
+        @Override
+        public void run() {
+            if (period == 0) {
+                super.run();
+            } else if (super.runAndReset()) {
+                triggerTime = period > 0 ? plusSaturated(triggerTime, period)
+                                         : plusSaturated(System.nanoTime() - startTime, -period);
+                // Periodic tasks stop once the executor is shut down
+                if (!enqueue(this)) {
+                    super.cancel(false);
+                }
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                cancelledTasks.add(this);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(triggerTime - (System.nanoTime() - startTime), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.metrics;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * Latency metrics of a single attempt, i.e. HTTP request, made to complete an API call.
+ *
+ * <p>Latencies of stages the attempt didn't reach, for example because the connection to the service couldn't be
+ * established, are {@link Duration#ZERO}.</p>
+ */
+@SdkPublicApi
+public interface ApiCallAttemptMetrics {
+
+    /**
+     * @return Time taken by the whole attempt, excluding the backoff delay before it.
+     */
+    Duration latency();
+
+    /**
+     * @return Time taken to sign the request.
+     */
+    Duration signingLatency();
+
+    /**
+     * @return Time spent waiting for a connection from the connection pool of the HTTP client. Only reported by HTTP
+     * clients that support it, empty otherwise.
+     */
+    Optional<Duration> connectionAcquireLatency();
+
+    /**
+     * @return Time from handing the request to the HTTP client until the response headers were received. This includes
+     * acquiring a connection and sending the request body.
+     */
+    Duration timeToFirstByte();
+
+    /**
+     * @return Time from receiving the response headers until the response, or the error response, was read and
+     * unmarshalled.
+     */
+    Duration unmarshallingLatency();
+
+    /**
+     * @return The adaptive send rate of the client, in requests per second, when the attempt was made. Only present when
+     * adaptive rate limiting is enabled for the client and throttling has been observed, i.e. while attempts are rate limited.
+     */
+    OptionalDouble sendRate();
+}
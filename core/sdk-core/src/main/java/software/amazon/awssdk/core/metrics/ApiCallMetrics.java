@@ -0,0 +1,63 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.metrics;
+
+import java.time.Duration;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * Latency metrics of a single API call, including all of its attempts, published to a {@link MetricPublisher}.
+ */
+@SdkPublicApi
+public interface ApiCallMetrics {
+
+    /**
+     * @return The name of the service called, e.g. {@code "Amazon S3"}. Empty if the call failed before the request was
+     * marshalled.
+     */
+    String serviceName();
+
+    /**
+     * @return The name of the operation called, e.g. {@code "GetObject"}.
+     */
+    String operationName();
+
+    /**
+     * @return Whether the API call completed successfully.
+     */
+    boolean succeeded();
+
+    /**
+     * @return Time taken by the whole API call, from the call to the client until its result was available.
+     */
+    Duration apiCallLatency();
+
+    /**
+     * @return Time taken to marshal the request into an HTTP request.
+     */
+    Duration marshallingLatency();
+
+    /**
+     * @return Number of times the request was retried, zero when the first attempt completed the call.
+     */
+    int retryCount();
+
+    /**
+     * @return The metrics of every attempt made to complete the call, in the order they were made.
+     */
+    List<ApiCallAttemptMetrics> attempts();
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.metrics;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Receives the latency metrics of every API call made by a client, configured with
+ * {@link software.amazon.awssdk.core.client.config.ClientOverrideConfiguration.Builder#metricPublisher(MetricPublisher)}.
+ * No metrics are collected when a client doesn't have a publisher.
+ *
+ * <p>{@link #publish(ApiCallMetrics)} is invoked once an API call completes, successfully or not, on the thread completing
+ * the call: the caller's thread for synchronous clients and the future completion executor for asynchronous clients.
+ * Implementations should hand the metrics off, e.g. to a queue or a metrics library, rather than doing any I/O inline.
+ * Exceptions thrown by the publisher are logged and never fail the API call.</p>
+ */
+@SdkPublicApi
+@ThreadSafe
+@FunctionalInterface
+public interface MetricPublisher {
+
+    /**
+     * Publishes the metrics of a completed API call.
+     *
+     * @param metrics The metrics of the API call, not modified after this method is invoked.
+     */
+    void publish(ApiCallMetrics metrics);
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.signer;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+
+/**
+ * Interface for the signers that sign the content of asynchronous requests as it's sent, rather than hashing it when the
+ * request is signed. Asynchronous clients call it with the content of every attempt, once the request has been signed.
+ */
+@SdkPublicApi
+@FunctionalInterface
+public interface AsyncRequestBodySigner {
+    /**
+     * Method that takes in the signed request and its content, and returns the content to send.
+     *
+     * @param request The request signed by the {@link Signer}
+     * @param asyncRequestBody The content of the request
+     * @param executionAttributes Contains the attributes required for signing the request
+     * @return The content to send, which may be the given content if it doesn't need signing
+     */
+    AsyncRequestBody signAsyncRequestBody(SdkHttpFullRequest request,
+                                          AsyncRequestBody asyncRequestBody,
+                                          ExecutionAttributes executionAttributes);
+}
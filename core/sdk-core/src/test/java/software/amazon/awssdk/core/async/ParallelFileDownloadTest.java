@@ -0,0 +1,321 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.async;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * Tests for {@link ParallelFileDownload} against a stub server serving the ranges of an object.
+ */
+public class ParallelFileDownloadTest {
+
+    private static final int OBJECT_SIZE = 100 * 1024;
+    private static final long PART_SIZE = 16 * 1024;
+    private static final int CHUNK_SIZE = 4 * 1024;
+    private static final String ETAG = "\"etag\"";
+
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(0);
+
+    private final byte[] object = new byte[OBJECT_SIZE];
+    private final List<String> requestedRanges = new CopyOnWriteArrayList<>();
+    private final Map<String, String> ifMatchByRange = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private ExecutorService executor;
+    private Path destination;
+
+    @Before
+    public void setup() throws IOException {
+        new Random().nextBytes(object);
+        executor = Executors.newCachedThreadPool();
+        destination = Files.createTempFile("ParallelFileDownloadTest", ".bin");
+        Files.delete(destination);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        executor.shutdownNow();
+        Files.deleteIfExists(destination);
+    }
+
+    @Test
+    public void downloadsAllParts_FileMatchesObject() throws Exception {
+        stubRanges(50);
+        ParallelFileDownload download = newDownload(3).build();
+
+        download.start(rangeRequest()).get(10, TimeUnit.SECONDS);
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(object);
+        assertThat(requestedRanges).hasSize(7);
+        assertThat(maxInFlight.get()).isBetween(2, 3);
+        assertThat(download.progress().isComplete()).isTrue();
+        assertThat(download.progress().bytesTransferred()).isEqualTo(OBJECT_SIZE);
+    }
+
+    @Test
+    public void maxConcurrentParts_IsNeverExceeded() throws Exception {
+        stubRanges(100);
+        ParallelFileDownload download = newDownload(2).build();
+
+        download.start(rangeRequest()).get(10, TimeUnit.SECONDS);
+
+        assertThat(requestedRanges).hasSize(7);
+        assertThat(maxInFlight.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void existingLongerFile_IsTruncated() throws Exception {
+        stubRanges(0);
+        Files.write(destination, new byte[OBJECT_SIZE * 2]);
+
+        newDownload(3).build().start(rangeRequest()).get(10, TimeUnit.SECONDS);
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(object);
+    }
+
+    @Test
+    public void partsAfterFirst_PinnedToETagOfFirstPart() throws Exception {
+        stubRanges(0);
+        ParallelFileDownload download = newDownload(3).build();
+
+        download.start(rangeRequest()).get(10, TimeUnit.SECONDS);
+
+        assertThat(requestedRanges.get(0)).isEqualTo(range(0));
+        assertThat(ifMatchByRange).doesNotContainKey(range(0)).hasSize(6).containsValue(ETAG);
+        assertThat(ifMatchByRange.values()).containsOnly(ETAG);
+        assertThat(download.progress().eTag()).hasValue(ETAG);
+    }
+
+    @Test
+    public void objectChangedDuringDownload_FailsPart() {
+        stubRanges(0);
+        stubFor(get(urlEqualTo("/object")).withHeader("Range", equalTo(range(3)))
+                                          .withHeader("If-Match", equalTo(ETAG))
+                                          .willReturn(aResponse().withStatus(412)));
+        ParallelFileDownload download = newDownload(1).build();
+
+        assertThatThrownBy(() -> download.start(rangeRequest()).join()).hasMessageContaining("412");
+        assertThat(download.progress().completedParts()).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    public void emptyObject_CreatesEmptyFile() throws Exception {
+        ParallelFileDownload download = ParallelFileDownload.builder().destination(destination).contentLength(0L).build();
+
+        download.start(rangeRequest()).get(10, TimeUnit.SECONDS);
+
+        assertThat(Files.size(destination)).isZero();
+        assertThat(requestedRanges).isEmpty();
+    }
+
+    @Test
+    public void failedPart_ResumedDownloadOnlyFetchesMissingParts() throws Exception {
+        stubRanges(0);
+        stubFor(get(urlEqualTo("/object")).withHeader("Range", equalTo(range(2)))
+                                          .willReturn(aResponse().withStatus(500)));
+        ParallelFileDownload download = newDownload(1).build();
+
+        assertThatThrownBy(() -> download.start(rangeRequest()).join()).hasMessageContaining("500");
+        FileDownloadProgress progress = download.progress();
+        assertThat(progress.completedParts()).containsExactly(0, 1);
+
+        stubRanges(0);
+        requestedRanges.clear();
+        FileDownloadProgress persisted = FileDownloadProgress.create(progress.contentLength(), progress.partSizeInBytes(),
+                                                                     progress.completedParts(), progress.eTag().orElse(null));
+        newDownload(2).resumeFrom(persisted).build().start(rangeRequest()).get(10, TimeUnit.SECONDS);
+
+        assertThat(requestedRanges).doesNotContain(range(0), range(1)).hasSize(5);
+        assertThat(ifMatchByRange).containsEntry(range(2), ETAG);
+        assertThat(Files.readAllBytes(destination)).isEqualTo(object);
+    }
+
+    @Test
+    public void wholeObjectReturnedForRange_FailsPart() {
+        stubFor(get(urlEqualTo("/object")).willReturn(aResponse().withStatus(200).withBody(object)));
+        ParallelFileDownload download = newDownload(2).build();
+
+        assertThatThrownBy(() -> download.start(rangeRequest()).join()).hasCauseInstanceOf(SdkClientException.class);
+        assertThat(download.progress().completedParts()).isEmpty();
+    }
+
+    @Test
+    public void wrongContentRange_FailsPart() {
+        stubFor(get(urlEqualTo("/object")).willReturn(aResponse().withStatus(206)
+                                                                 .withHeader("Content-Range", "bytes 0-99/" + OBJECT_SIZE)
+                                                                 .withBody(Arrays.copyOf(object, 100))));
+        ParallelFileDownload download = newDownload(1).build();
+
+        assertThatThrownBy(() -> download.start(rangeRequest()).join()).hasMessageContaining("Expected the range");
+    }
+
+    @Test
+    public void startedTwice_ThrowsException() {
+        stubRanges(0);
+        ParallelFileDownload download = newDownload(1).build();
+        download.start(rangeRequest()).join();
+
+        assertThatThrownBy(() -> download.start(rangeRequest())).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void resumeFromDifferentPartSize_ThrowsException() {
+        FileDownloadProgress progress = FileDownloadProgress.create(OBJECT_SIZE, PART_SIZE * 2, Arrays.asList(0));
+
+        assertThatThrownBy(() -> newDownload(1).resumeFrom(progress).build()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ParallelFileDownload.Builder newDownload(int maxConcurrentParts) {
+        return ParallelFileDownload.builder()
+                                   .destination(destination)
+                                   .contentLength((long) OBJECT_SIZE)
+                                   .partSizeInBytes(PART_SIZE)
+                                   .maxConcurrentParts(maxConcurrentParts);
+    }
+
+    private void stubRanges(int delayMillis) {
+        for (int part = 0; part * PART_SIZE < OBJECT_SIZE; part++) {
+            int start = (int) (part * PART_SIZE);
+            int end = (int) Math.min(OBJECT_SIZE, start + PART_SIZE) - 1;
+            stubFor(get(urlEqualTo("/object")).withHeader("Range", equalTo(range(part)))
+                                              .willReturn(aResponse().withStatus(206)
+                                                                     .withFixedDelay(delayMillis)
+                                                                     .withHeader("ETag", ETAG)
+                                                                     .withHeader("Content-Range",
+                                                                                 "bytes " + start + "-" + end + "/" + OBJECT_SIZE)
+                                                                     .withBody(Arrays.copyOfRange(object, start, end + 1))));
+        }
+    }
+
+    private static String range(int part) {
+        long start = part * PART_SIZE;
+        return "bytes=" + start + "-" + (Math.min(OBJECT_SIZE, start + PART_SIZE) - 1);
+    }
+
+    /**
+     * Makes the ranged request with a blocking connection on another thread and streams the response to the transformer,
+     * as the async client would.
+     */
+    private ParallelFileDownload.RangeRequest<SdkResponse> rangeRequest() {
+        return (range, ifMatch, transformer) -> {
+            requestedRanges.add(range);
+            if (ifMatch != null) {
+                ifMatchByRange.put(range, ifMatch);
+            }
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            CompletableFuture<SdkResponse> result = transformer.prepare();
+            executor.submit(() -> {
+                try {
+                    fetch(range, ifMatch, transformer);
+                } catch (Exception e) {
+                    transformer.exceptionOccurred(e);
+                }
+            });
+            return result.whenComplete((r, t) -> inFlight.decrementAndGet());
+        };
+    }
+
+    private void fetch(String range, String ifMatch, AsyncResponseTransformer<SdkResponse, SdkResponse> transformer)
+            throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + mockServer.port() + "/object")
+            .openConnection();
+        connection.setRequestProperty("Range", range);
+        if (ifMatch != null) {
+            connection.setRequestProperty("If-Match", ifMatch);
+        }
+        if (connection.getResponseCode() >= 400) {
+            throw new IOException("Received status code " + connection.getResponseCode());
+        }
+        byte[] body;
+        try (InputStream content = connection.getInputStream()) {
+            body = IoUtils.toByteArray(content);
+        }
+
+        SdkHttpFullResponse.Builder httpResponse = SdkHttpFullResponse.builder().statusCode(connection.getResponseCode());
+        if (connection.getHeaderField("Content-Range") != null) {
+            httpResponse.putHeader("Content-Range", connection.getHeaderField("Content-Range"));
+        }
+        if (connection.getHeaderField("ETag") != null) {
+            httpResponse.putHeader("ETag", connection.getHeaderField("ETag"));
+        }
+        SdkResponse response = mock(SdkResponse.class);
+        when(response.sdkHttpResponse()).thenReturn(httpResponse.build());
+        transformer.onResponse(response);
+        transformer.onStream(SdkPublisher.adapt(subscriber -> subscriber.onSubscribe(new Subscription() {
+            private int position = 0;
+            private boolean done;
+
+            @Override
+            public void request(long n) {
+                for (long i = 0; i < n && !done; i++) {
+                    if (position == body.length) {
+                        done = true;
+                        subscriber.onComplete();
+                        return;
+                    }
+                    int length = Math.min(CHUNK_SIZE, body.length - position);
+                    ByteBuffer chunk = ByteBuffer.wrap(body, position, length);
+                    position += length;
+                    subscriber.onNext(chunk);
+                }
+            }
+
+            @Override
+            public void cancel() {
+                done = true;
+            }
+        })));
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.client.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import software.amazon.awssdk.core.DefaultRequest;
+import software.amazon.awssdk.core.Request;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.async.EmptyPublisher;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.metrics.ApiCallAttemptMetrics;
+import software.amazon.awssdk.core.metrics.ApiCallMetrics;
+import software.amazon.awssdk.core.protocol.VoidSdkResponse;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.core.runtime.transform.Marshaller;
+import software.amazon.awssdk.http.HttpRequestMetricsListener;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import utils.HttpTestUtils;
+
+/**
+ * Verifies the latency metrics published by {@link SdkAsyncClientHandler}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncClientHandlerMetricsTest {
+    private static final long ACQUIRE_NANOS = Duration.ofMillis(5).toNanos();
+
+    private final SdkRequest request = NoopTestRequest.builder().build();
+
+    private final List<ApiCallMetrics> published = new ArrayList<>();
+
+    private final List<AsyncExecuteRequest> executeRequests = new ArrayList<>();
+
+    @Mock
+    private Marshaller<Request<SdkRequest>, SdkRequest> marshaller;
+
+    @Mock
+    private SdkAsyncHttpClient httpClient;
+
+    @Mock
+    private HttpResponseHandler<SdkResponse> responseHandler;
+
+    @Mock
+    private HttpResponseHandler<SdkServiceException> errorResponseHandler;
+
+    @Before
+    public void setup() throws Exception {
+        when(marshaller.marshall(request)).thenReturn(new DefaultRequest<>(request, "TestService"));
+        when(responseHandler.handle(any(), any())).thenReturn(VoidSdkResponse.builder().build());
+    }
+
+    @Test
+    public void successfulCall_PublishesMetricsOfCallAndAttempt() throws Exception {
+        respondWith(200);
+
+        handler(RetryPolicy.none()).execute(clientExecutionParams()).get(1, TimeUnit.SECONDS);
+
+        assertThat(published).hasSize(1);
+        ApiCallMetrics metrics = published.get(0);
+        assertThat(metrics.serviceName()).isEqualTo("TestService");
+        assertThat(metrics.operationName()).isEqualTo("NoopTest");
+        assertThat(metrics.succeeded()).isTrue();
+        assertThat(metrics.retryCount()).isZero();
+        assertThat(metrics.attempts()).hasSize(1);
+
+        ApiCallAttemptMetrics attempt = metrics.attempts().get(0);
+        assertThat(attempt.connectionAcquireLatency()).contains(Duration.ofNanos(ACQUIRE_NANOS));
+        assertThat(metrics.apiCallLatency()).isGreaterThanOrEqualTo(attempt.latency());
+        assertThat(attempt.latency()).isGreaterThanOrEqualTo(attempt.timeToFirstByte());
+    }
+
+    @Test
+    public void retriedCall_PublishesEveryAttempt() throws Exception {
+        when(httpClient.execute(any())).thenAnswer(i -> {
+            AsyncExecuteRequest executeRequest = i.getArgumentAt(0, AsyncExecuteRequest.class);
+            executeRequests.add(executeRequest);
+            IOException error = new IOException("Connection reset");
+            executeRequest.responseHandler().onError(error);
+            return CompletableFutureUtils.failedFuture(error);
+        }).thenAnswer(i -> respond(i.getArgumentAt(0, AsyncExecuteRequest.class), 200));
+
+        handler(RetryPolicy.builder().numRetries(1).backoffStrategy(BackoffStrategy.none()).build())
+            .execute(clientExecutionParams()).get(1, TimeUnit.SECONDS);
+
+        ApiCallMetrics metrics = published.get(0);
+        assertThat(metrics.succeeded()).isTrue();
+        assertThat(metrics.retryCount()).isEqualTo(1);
+        assertThat(metrics.attempts()).hasSize(2);
+    }
+
+    @Test
+    public void failedCall_PublishesMetricsOfFailure() throws Exception {
+        when(errorResponseHandler.handle(any(), any())).thenReturn(SdkServiceException.builder().statusCode(500).build());
+        respondWith(500);
+
+        CompletableFuture<SdkResponse> response = handler(RetryPolicy.none()).execute(clientExecutionParams());
+
+        assertThatThrownBy(() -> response.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(SdkServiceException.class);
+        assertThat(published).hasSize(1);
+        assertThat(published.get(0).succeeded()).isFalse();
+        assertThat(published.get(0).attempts()).hasSize(1);
+    }
+
+    @Test
+    public void noPublisher_HttpClientNotAskedForMetrics() throws Exception {
+        respondWith(200);
+        SdkAsyncClientHandler handler = new SdkAsyncClientHandler(clientConfiguration(RetryPolicy.none()).toBuilder()
+            .option(SdkClientOption.METRIC_PUBLISHER, null)
+            .build());
+
+        handler.execute(clientExecutionParams()).get(1, TimeUnit.SECONDS);
+
+        assertThat(published).isEmpty();
+        assertThat(executeRequests.get(0).metricsListener()).isSameAs(HttpRequestMetricsListener.NONE);
+    }
+
+    private void respondWith(int statusCode) {
+        when(httpClient.execute(any())).thenAnswer(i -> respond(i.getArgumentAt(0, AsyncExecuteRequest.class), statusCode));
+    }
+
+    private CompletableFuture<Void> respond(AsyncExecuteRequest executeRequest, int statusCode) {
+        executeRequests.add(executeRequest);
+        executeRequest.metricsListener().connectionAcquired(ACQUIRE_NANOS);
+        SdkAsyncHttpResponseHandler responseHandler = executeRequest.responseHandler();
+        responseHandler.onHeaders(SdkHttpFullResponse.builder().statusCode(statusCode).build());
+        responseHandler.onStream(new EmptyPublisher<>());
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private SdkAsyncClientHandler handler(RetryPolicy retryPolicy) {
+        return new SdkAsyncClientHandler(clientConfiguration(retryPolicy));
+    }
+
+    private ClientExecutionParams<SdkRequest, SdkResponse> clientExecutionParams() {
+        return new ClientExecutionParams<SdkRequest, SdkResponse>()
+                .withInput(request)
+                .withMarshaller(marshaller)
+                .withResponseHandler(responseHandler)
+                .withErrorResponseHandler(errorResponseHandler);
+    }
+
+    private SdkClientConfiguration clientConfiguration(RetryPolicy retryPolicy) {
+        return HttpTestUtils.testClientConfiguration().toBuilder()
+                            .option(SdkClientOption.ASYNC_HTTP_CLIENT, httpClient)
+                            .option(SdkClientOption.RETRY_POLICY, retryPolicy)
+                            .option(SdkClientOption.METRIC_PUBLISHER, published::add)
+                            .build();
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.client.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import software.amazon.awssdk.core.DefaultRequest;
+import software.amazon.awssdk.core.Request;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.metrics.ApiCallAttemptMetrics;
+import software.amazon.awssdk.core.metrics.ApiCallMetrics;
+import software.amazon.awssdk.core.protocol.VoidSdkResponse;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.core.runtime.transform.Marshaller;
+import software.amazon.awssdk.http.AbortableCallable;
+import software.amazon.awssdk.http.ExecuteRequest;
+import software.amazon.awssdk.http.HttpRequestMetricsListener;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import utils.HttpTestUtils;
+
+/**
+ * Verifies the latency metrics published by {@link SdkSyncClientHandler}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SyncClientHandlerMetricsTest {
+    private static final long ACQUIRE_NANOS = Duration.ofMillis(5).toNanos();
+
+    private final SdkRequest request = NoopTestRequest.builder().build();
+
+    private final List<ApiCallMetrics> published = new ArrayList<>();
+
+    private final List<ExecuteRequest> executeRequests = new ArrayList<>();
+
+    @Mock
+    private Marshaller<Request<SdkRequest>, SdkRequest> marshaller;
+
+    @Mock
+    private SdkHttpClient httpClient;
+
+    @Mock
+    private AbortableCallable<SdkHttpFullResponse> httpClientCall;
+
+    @Mock
+    private HttpResponseHandler<SdkResponse> responseHandler;
+
+    @Mock
+    private HttpResponseHandler<SdkServiceException> errorResponseHandler;
+
+    @Before
+    public void setup() throws Exception {
+        when(marshaller.marshall(request)).thenReturn(new DefaultRequest<>(request, "TestService"));
+        when(httpClient.prepareRequest(any())).thenAnswer(i -> {
+            ExecuteRequest executeRequest = i.getArgumentAt(0, ExecuteRequest.class);
+            executeRequests.add(executeRequest);
+            executeRequest.metricsListener().connectionAcquired(ACQUIRE_NANOS);
+            return httpClientCall;
+        });
+        when(responseHandler.handle(any(), any())).thenReturn(VoidSdkResponse.builder().build());
+    }
+
+    @Test
+    public void successfulCall_PublishesMetricsOfCallAndAttempt() throws Exception {
+        when(httpClientCall.call()).thenReturn(SdkHttpFullResponse.builder().statusCode(200).build());
+
+        handler(RetryPolicy.none()).execute(clientExecutionParams());
+
+        assertThat(published).hasSize(1);
+        ApiCallMetrics metrics = published.get(0);
+        assertThat(metrics.serviceName()).isEqualTo("TestService");
+        assertThat(metrics.operationName()).isEqualTo("NoopTest");
+        assertThat(metrics.succeeded()).isTrue();
+        assertThat(metrics.retryCount()).isZero();
+        assertThat(metrics.attempts()).hasSize(1);
+
+        ApiCallAttemptMetrics attempt = metrics.attempts().get(0);
+        assertThat(attempt.connectionAcquireLatency()).contains(Duration.ofNanos(ACQUIRE_NANOS));
+        assertThat(metrics.apiCallLatency()).isGreaterThanOrEqualTo(attempt.latency());
+        assertThat(attempt.latency()).isGreaterThanOrEqualTo(attempt.timeToFirstByte());
+    }
+
+    @Test
+    public void retriedCall_PublishesEveryAttempt() throws Exception {
+        when(httpClientCall.call()).thenThrow(new IOException("Connection reset"))
+                                   .thenReturn(SdkHttpFullResponse.builder().statusCode(200).build());
+
+        handler(RetryPolicy.builder().numRetries(1).backoffStrategy(BackoffStrategy.none()).build())
+            .execute(clientExecutionParams());
+
+        ApiCallMetrics metrics = published.get(0);
+        assertThat(metrics.succeeded()).isTrue();
+        assertThat(metrics.retryCount()).isEqualTo(1);
+        assertThat(metrics.attempts()).hasSize(2);
+    }
+
+    @Test
+    public void adaptiveRateLimiting_PublishesSendRateOnceThrottled() throws Exception {
+        when(httpClientCall.call()).thenReturn(SdkHttpFullResponse.builder().statusCode(429).build())
+                                   .thenReturn(SdkHttpFullResponse.builder().statusCode(200).build());
+        when(errorResponseHandler.handle(any(), any())).thenReturn(SdkServiceException.builder().statusCode(429).build());
+        RetryPolicy retryPolicy = RetryPolicy.builder()
+                                             .numRetries(1)
+                                             .backoffStrategy(BackoffStrategy.none())
+                                             .throttlingBackoffStrategy(BackoffStrategy.none())
+                                             .build();
+        SdkSyncClientHandler handler = new SdkSyncClientHandler(clientConfiguration(retryPolicy).toBuilder()
+            .option(SdkAdvancedClientOption.ADAPTIVE_RATE_LIMITING_ENABLED, true)
+            .build());
+
+        handler.execute(clientExecutionParams());
+
+        List<ApiCallAttemptMetrics> attempts = published.get(0).attempts();
+        assertThat(attempts).hasSize(2);
+        assertThat(attempts.get(0).sendRate()).isEmpty();
+        assertThat(attempts.get(1).sendRate()).isPresent();
+    }
+
+    @Test
+    public void adaptiveRateLimitingDisabled_PublishesNoSendRate() throws Exception {
+        when(httpClientCall.call()).thenReturn(SdkHttpFullResponse.builder().statusCode(200).build());
+
+        handler(RetryPolicy.none()).execute(clientExecutionParams());
+
+        assertThat(published.get(0).attempts().get(0).sendRate()).isEmpty();
+    }
+
+    @Test
+    public void failedCall_PublishesMetricsOfFailure() throws Exception {
+        when(httpClientCall.call()).thenThrow(new IOException("Connection reset"));
+
+        assertThatThrownBy(() -> handler(RetryPolicy.none()).execute(clientExecutionParams()));
+
+        assertThat(published).hasSize(1);
+        assertThat(published.get(0).succeeded()).isFalse();
+        assertThat(published.get(0).attempts()).hasSize(1);
+    }
+
+    @Test
+    public void publisherThrows_CallSucceeds() throws Exception {
+        when(httpClientCall.call()).thenReturn(SdkHttpFullResponse.builder().statusCode(200).build());
+        SdkSyncClientHandler handler = new SdkSyncClientHandler(clientConfiguration(RetryPolicy.none()).toBuilder()
+            .option(SdkClientOption.METRIC_PUBLISHER, m -> {
+                throw new IllegalStateException("Publisher failed");
+            })
+            .build());
+
+        assertThat(handler.execute(clientExecutionParams())).isNotNull();
+    }
+
+    @Test
+    public void noPublisher_HttpClientNotAskedForMetrics() throws Exception {
+        when(httpClientCall.call()).thenReturn(SdkHttpFullResponse.builder().statusCode(200).build());
+        SdkSyncClientHandler handler = new SdkSyncClientHandler(clientConfiguration(RetryPolicy.none()).toBuilder()
+            .option(SdkClientOption.METRIC_PUBLISHER, null)
+            .build());
+
+        handler.execute(clientExecutionParams());
+
+        assertThat(executeRequests.get(0).metricsListener()).isSameAs(HttpRequestMetricsListener.NONE);
+    }
+
+    private SdkSyncClientHandler handler(RetryPolicy retryPolicy) {
+        return new SdkSyncClientHandler(clientConfiguration(retryPolicy));
+    }
+
+    private ClientExecutionParams<SdkRequest, SdkResponse> clientExecutionParams() {
+        return new ClientExecutionParams<SdkRequest, SdkResponse>()
+                .withInput(request)
+                .withMarshaller(marshaller)
+                .withResponseHandler(responseHandler)
+                .withErrorResponseHandler(errorResponseHandler);
+    }
+
+    private SdkClientConfiguration clientConfiguration(RetryPolicy retryPolicy) {
+        return HttpTestUtils.testClientConfiguration().toBuilder()
+                            .option(SdkClientOption.SYNC_HTTP_CLIENT, httpClient)
+                            .option(SdkClientOption.RETRY_POLICY, retryPolicy)
+                            .option(SdkClientOption.METRIC_PUBLISHER, published::add)
+                            .build();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.Test;
+
+public class ClasspathInterceptorChainFactoryTest {
+
+    private static final String TEST_INTERCEPTORS = "software/amazon/awssdk/core/interceptor/test.interceptors";
+
+    @Test
+    public void getInterceptors_CreatesListedInterceptorsInOrder() {
+        List<ExecutionInterceptor> interceptors = new ClasspathInterceptorChainFactory().getInterceptors(TEST_INTERCEPTORS);
+
+        assertThat(interceptors).hasSize(2);
+        assertThat(interceptors.get(0)).isInstanceOf(TestInterceptor.class);
+        assertThat(interceptors.get(1)).isInstanceOf(OtherTestInterceptor.class);
+    }
+
+    @Test
+    public void getInterceptors_CreatesNewInstancesForEveryCall() {
+        List<ExecutionInterceptor> first = new ClasspathInterceptorChainFactory().getInterceptors(TEST_INTERCEPTORS);
+        List<ExecutionInterceptor> second = new ClasspathInterceptorChainFactory().getInterceptors(TEST_INTERCEPTORS);
+
+        assertThat(second).hasSameSizeAs(first);
+        assertThat(second.get(0)).isNotSameAs(first.get(0));
+        assertThat(second.get(1)).isNotSameAs(first.get(1));
+    }
+
+    @Test
+    public void getInterceptors_MissingResource_ReturnsEmptyList() {
+        assertThat(new ClasspathInterceptorChainFactory().getInterceptors("does/not/exist.interceptors")).isEmpty();
+    }
+
+    public static class TestInterceptor implements ExecutionInterceptor {
+    }
+
+    public static class OtherTestInterceptor implements ExecutionInterceptor {
+    }
+}
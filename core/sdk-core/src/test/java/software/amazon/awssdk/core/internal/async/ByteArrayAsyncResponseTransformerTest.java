@@ -0,0 +1,147 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+
+/**
+ * Unit tests for {@link ByteArrayAsyncResponseTransformer}.
+ */
+public class ByteArrayAsyncResponseTransformerTest {
+
+    private static final List<String> CHUNKS = Arrays.asList("Hello", ", ", "World", "!");
+    private static final String CONTENT = String.join("", CHUNKS);
+
+    @Test
+    public void contentLengthMatchesContent_ReturnsContent() throws Exception {
+        assertThat(transform(String.valueOf(CONTENT.length())).asUtf8String()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    public void noContentLength_ReturnsContent() throws Exception {
+        assertThat(transform(null).asUtf8String()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    public void contentLongerThanContentLength_ReturnsContent() throws Exception {
+        assertThat(transform("3").asUtf8String()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    public void contentShorterThanContentLength_ReturnsContent() throws Exception {
+        assertThat(transform("1000").asUtf8String()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    public void invalidContentLength_ReturnsContent() throws Exception {
+        assertThat(transform("not-a-number").asUtf8String()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    public void emptyContent_ReturnsEmptyArray() throws Exception {
+        ByteArrayAsyncResponseTransformer<SdkResponse> transformer = new ByteArrayAsyncResponseTransformer<>();
+        CompletableFuture<ResponseBytes<SdkResponse>> result = transformer.prepare();
+        transformer.onResponse(response("0"));
+        transformer.onStream(publisherOf());
+
+        assertThat(result.get().asByteArray()).isEmpty();
+    }
+
+    @Test
+    public void largeContentInManyChunks_ReturnsContent() throws Exception {
+        byte[] content = new byte[5 * 1024 * 1024 + 1];
+        new Random(42).nextBytes(content);
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        ByteArrayAsyncResponseTransformer.ByteArraySubscriber subscriber =
+            new ByteArrayAsyncResponseTransformer.ByteArraySubscriber(result);
+        subscriber.onSubscribe(mock(Subscription.class));
+        for (int offset = 0; offset < content.length; offset += 64 * 1024) {
+            subscriber.onNext(ByteBuffer.wrap(content, offset, Math.min(64 * 1024, content.length - offset)));
+        }
+        subscriber.onComplete();
+
+        assertThat(result.get()).isEqualTo(content);
+    }
+
+    @Test
+    public void chunkAfterError_IsIgnored() {
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        ByteArrayAsyncResponseTransformer.ByteArraySubscriber subscriber =
+            new ByteArrayAsyncResponseTransformer.ByteArraySubscriber(result);
+        subscriber.onSubscribe(mock(Subscription.class));
+        subscriber.onError(new IOException("Connection reset"));
+        subscriber.onNext(ByteBuffer.wrap(CONTENT.getBytes(UTF_8)));
+        subscriber.onComplete();
+
+        assertThat(result).isCompletedExceptionally();
+    }
+
+    private ResponseBytes<SdkResponse> transform(String contentLength) throws Exception {
+        ByteArrayAsyncResponseTransformer<SdkResponse> transformer = new ByteArrayAsyncResponseTransformer<>();
+        CompletableFuture<ResponseBytes<SdkResponse>> result = transformer.prepare();
+        transformer.onResponse(response(contentLength));
+        transformer.onStream(publisherOf(CHUNKS.toArray(new String[0])));
+        return result.get();
+    }
+
+    private static SdkResponse response(String contentLength) {
+        SdkHttpFullResponse.Builder httpResponse = SdkHttpFullResponse.builder().statusCode(200);
+        if (contentLength != null) {
+            httpResponse.putHeader("Content-Length", contentLength);
+        }
+        SdkResponse response = mock(SdkResponse.class);
+        when(response.sdkHttpResponse()).thenReturn(httpResponse.build());
+        return response;
+    }
+
+    private static SdkPublisher<ByteBuffer> publisherOf(String... chunks) {
+        return SdkPublisher.adapt(subscriber -> subscriber.onSubscribe(new Subscription() {
+            private boolean done;
+
+            @Override
+            public void request(long n) {
+                if (done) {
+                    return;
+                }
+                done = true;
+                for (String chunk : chunks) {
+                    subscriber.onNext(ByteBuffer.wrap(chunk.getBytes(UTF_8)));
+                }
+                subscriber.onComplete();
+            }
+
+            @Override
+            public void cancel() {
+            }
+        }));
+    }
+}
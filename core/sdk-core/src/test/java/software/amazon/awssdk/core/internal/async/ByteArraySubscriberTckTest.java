@@ -22,21 +22,21 @@ import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import org.reactivestreams.tck.SubscriberWhiteboxVerification;
 import org.reactivestreams.tck.TestEnvironment;
-import software.amazon.awssdk.core.internal.async.ByteArrayAsyncResponseTransformer.BaosSubscriber;
+import software.amazon.awssdk.core.internal.async.ByteArrayAsyncResponseTransformer.ByteArraySubscriber;
 
 /**
- * TCK verification test for {@link BaosSubscriber}.
+ * TCK verification test for {@link ByteArraySubscriber}.
  */
-public class BaosSubscriberTckTest extends SubscriberWhiteboxVerification<ByteBuffer> {
+public class ByteArraySubscriberTckTest extends SubscriberWhiteboxVerification<ByteBuffer> {
     private static final byte[] CONTENT = new byte[16];
 
-    public BaosSubscriberTckTest() {
+    public ByteArraySubscriberTckTest() {
         super(new TestEnvironment());
     }
 
     @Override
     public Subscriber<ByteBuffer> createSubscriber(WhiteboxSubscriberProbe<ByteBuffer> whiteboxSubscriberProbe) {
-        return new BaosSubscriber(new CompletableFuture<>()) {
+        return new ByteArraySubscriber(new CompletableFuture<>()) {
 
             @Override
             public void onSubscribe(Subscription s) {
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.protocol.json.unmarshall;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import org.junit.Test;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+
+/**
+ * Unit tests for {@link JsonStreamingUnmarshaller}, through {@link JsonProtocolUnmarshaller} which streams plain JSON
+ * payloads. Results are compared with the tree based unmarshalling the streaming one replaces.
+ */
+public class JsonStreamingUnmarshallerTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final JsonProtocolUnmarshaller<TestPojo> unmarshaller = new JsonProtocolUnmarshaller<>(MAPPER);
+
+    @Test
+    public void scalarFields_AreUnmarshalled() throws Exception {
+        TestPojo pojo = unmarshall("{\"Name\":\"foo\",\"Count\":42}");
+
+        assertThat(pojo.name).isEqualTo("foo");
+        assertThat(pojo.count).isEqualTo(42);
+    }
+
+    @Test
+    public void nestedFields_AreUnmarshalled() throws Exception {
+        TestPojo pojo = unmarshall("{\"Nested\":{\"Name\":\"inner\",\"Nested\":{\"Count\":7}},"
+                                   + "\"Tags\":[\"a\",\"b\"],\"Counts\":{\"x\":1,\"y\":2}}");
+
+        assertThat(pojo.nested.name).isEqualTo("inner");
+        assertThat(pojo.nested.nested.count).isEqualTo(7);
+        assertThat(pojo.nested.nested.nested).isNull();
+        assertThat(pojo.tags).containsExactly("a", "b");
+        assertThat(pojo.counts).containsEntry("x", 1).containsEntry("y", 2).hasSize(2);
+    }
+
+    @Test
+    public void unknownFields_AreSkipped() throws Exception {
+        TestPojo pojo = unmarshall("{\"Unknown\":{\"Name\":\"ignored\",\"Deep\":[1,{\"Count\":3}]},"
+                                   + "\"Name\":\"foo\",\"Other\":[\"x\"],\"Count\":5}");
+
+        assertThat(pojo.name).isEqualTo("foo");
+        assertThat(pojo.count).isEqualTo(5);
+        assertThat(pojo.nested).isNull();
+    }
+
+    @Test
+    public void nullFields_AreCleared() throws Exception {
+        TestPojo pojo = unmarshall("{\"Name\":null,\"Nested\":null,\"Tags\":null,\"Counts\":null}");
+
+        assertThat(pojo.name).isNull();
+        assertThat(pojo.nested).isNull();
+        assertThat(pojo.tags).isNull();
+        assertThat(pojo.counts).isNull();
+    }
+
+    @Test
+    public void absentFields_AreCleared() throws Exception {
+        TestPojo pojo = unmarshall("{}");
+
+        assertThat(pojo.name).isNull();
+        assertThat(pojo.count).isNull();
+    }
+
+    @Test
+    public void nullListMembersAndMapValues_ArePreserved() throws Exception {
+        TestPojo pojo = unmarshall("{\"Tags\":[\"a\",null],\"Counts\":{\"x\":null}}");
+
+        assertThat(pojo.tags).containsExactly("a", null);
+        assertThat(pojo.counts).containsEntry("x", null);
+    }
+
+    @Test
+    public void headerFields_AreUnmarshalledFromResponse() throws Exception {
+        TestPojo pojo = unmarshall("{\"Name\":\"foo\"}");
+
+        assertThat(pojo.requestId).isEqualTo("request-id");
+    }
+
+    @Test
+    public void streamingResult_MatchesTreeResult() throws Exception {
+        String json = "{\"Name\":\"foo\",\"Count\":1,\"Nested\":{\"Tags\":[\"t\"]},\"Counts\":{\"k\":3},\"Extra\":true}";
+
+        TestPojo streamed = unmarshall(json);
+        TestPojo tree = unmarshaller.unmarshall(new TestPojo(), response(json), MAPPER.readTree(json));
+
+        assertThat(streamed.toString()).isEqualTo(tree.toString());
+    }
+
+    private TestPojo unmarshall(String json) throws Exception {
+        return unmarshaller.unmarshall(new TestPojo(), response(json));
+    }
+
+    private static SdkHttpFullResponse response(String json) {
+        return SdkHttpFullResponse.builder()
+                                  .statusCode(200)
+                                  .putHeader("x-amzn-RequestId", "request-id")
+                                  .content(AbortableInputStream.create(new ByteArrayInputStream(json.getBytes(UTF_8))))
+                                  .build();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.protocol.json.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.protocol.SdkField;
+import software.amazon.awssdk.core.protocol.SdkPojo;
+import software.amazon.awssdk.core.protocol.traits.LocationTrait;
+import software.amazon.awssdk.core.protocol.traits.PayloadTrait;
+
+/**
+ * Unit tests for {@link SdkFieldIndex}.
+ */
+public class SdkFieldIndexTest {
+
+    @Test
+    public void payloadFieldIndex_KnownName_ReturnsPositionOfField() {
+        SdkFieldIndex index = SdkFieldIndex.of(new TestPojo());
+
+        int position = index.payloadFieldIndex("Nested");
+
+        assertThat(position).isGreaterThanOrEqualTo(0);
+        assertThat(index.payloadFields().get(position)).isSameAs(TestPojo.NESTED_FIELD);
+    }
+
+    @Test
+    public void payloadFieldIndex_UnknownName_ReturnsMinusOne() {
+        SdkFieldIndex index = SdkFieldIndex.of(new TestPojo());
+
+        assertThat(index.payloadFieldIndex("Unknown")).isEqualTo(-1);
+        assertThat(index.payloadFieldIndex("name")).isEqualTo(-1);
+    }
+
+    @Test
+    public void payloadFieldIndex_NonPayloadName_ReturnsMinusOne() {
+        SdkFieldIndex index = SdkFieldIndex.of(new TestPojo());
+
+        assertThat(index.payloadFieldIndex("x-amzn-RequestId")).isEqualTo(-1);
+    }
+
+    @Test
+    public void fields_AreSplitByLocation() {
+        SdkFieldIndex index = SdkFieldIndex.of(new TestPojo());
+
+        assertThat(index.payloadFields()).containsExactly(TestPojo.NAME_FIELD, TestPojo.COUNT_FIELD, TestPojo.NESTED_FIELD,
+                                                          TestPojo.TAGS_FIELD, TestPojo.COUNTS_FIELD);
+        assertThat(index.nonPayloadFields()).containsExactly(TestPojo.REQUEST_ID_FIELD);
+        assertThat(index.explicitPayloadField()).isNull();
+        assertThat(index.hasPayloadMembers()).isTrue();
+        assertThat(index.hasExplicitBlobPayloadMember()).isFalse();
+    }
+
+    @Test
+    public void of_SameClass_ReturnsCachedIndex() {
+        assertThat(SdkFieldIndex.of(new TestPojo())).isSameAs(SdkFieldIndex.of(new TestPojo()));
+    }
+
+    @Test
+    public void explicitBlobPayload_IsNotIndexedByName() {
+        SdkFieldIndex index = SdkFieldIndex.of(new BlobPayloadPojo());
+
+        assertThat(index.explicitPayloadField()).isSameAs(BlobPayloadPojo.BODY_FIELD);
+        assertThat(index.hasExplicitBlobPayloadMember()).isTrue();
+        assertThat(index.payloadFields()).isEmpty();
+        assertThat(index.payloadFieldIndex("Body")).isEqualTo(-1);
+    }
+
+    private static final class BlobPayloadPojo implements SdkPojo {
+
+        private static final SdkField<?> BODY_FIELD = SdkField
+            .builder(MarshallingType.SDK_BYTES)
+            .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName("Body").build(),
+                    PayloadTrait.create())
+            .build();
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return Collections.singletonList(BODY_FIELD);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.protocol.json.unmarshall;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.protocol.SdkField;
+import software.amazon.awssdk.core.protocol.SdkPojo;
+import software.amazon.awssdk.core.protocol.traits.ListTrait;
+import software.amazon.awssdk.core.protocol.traits.LocationTrait;
+import software.amazon.awssdk.core.protocol.traits.MapTrait;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+/**
+ * Mutable POJO, acting as its own builder, with a member of each kind the JSON unmarshallers handle.
+ */
+class TestPojo implements SdkPojo, SdkBuilder<TestPojo, TestPojo> {
+
+    static final SdkField<String> NAME_FIELD = SdkField
+        .<String>builder(MarshallingType.STRING)
+        .setter((pojo, value) -> ((TestPojo) pojo).name = value)
+        .traits(location(MarshallLocation.PAYLOAD, "Name"))
+        .build();
+
+    static final SdkField<Integer> COUNT_FIELD = SdkField
+        .<Integer>builder(MarshallingType.INTEGER)
+        .setter((pojo, value) -> ((TestPojo) pojo).count = value)
+        .traits(location(MarshallLocation.PAYLOAD, "Count"))
+        .build();
+
+    static final SdkField<SdkPojo> NESTED_FIELD = SdkField
+        .<SdkPojo>builder(MarshallingType.SDK_POJO)
+        .setter((pojo, value) -> ((TestPojo) pojo).nested = (TestPojo) value)
+        .constructor(TestPojo::new)
+        .traits(location(MarshallLocation.PAYLOAD, "Nested"))
+        .build();
+
+    static final SdkField<List<String>> TAGS_FIELD = SdkField
+        .<List<String>>builder(MarshallingType.LIST)
+        .setter((pojo, value) -> ((TestPojo) pojo).tags = value)
+        .traits(location(MarshallLocation.PAYLOAD, "Tags"),
+                ListTrait.builder()
+                         .memberFieldInfo(SdkField.<String>builder(MarshallingType.STRING)
+                                                  .traits(location(MarshallLocation.PAYLOAD, "member"))
+                                                  .build())
+                         .build())
+        .build();
+
+    static final SdkField<Map<String, Integer>> COUNTS_FIELD = SdkField
+        .<Map<String, Integer>>builder(MarshallingType.MAP)
+        .setter((pojo, value) -> ((TestPojo) pojo).counts = value)
+        .traits(location(MarshallLocation.PAYLOAD, "Counts"),
+                MapTrait.builder()
+                        .valueFieldInfo(SdkField.<Integer>builder(MarshallingType.INTEGER)
+                                                .traits(location(MarshallLocation.PAYLOAD, "value"))
+                                                .build())
+                        .build())
+        .build();
+
+    static final SdkField<String> REQUEST_ID_FIELD = SdkField
+        .<String>builder(MarshallingType.STRING)
+        .setter((pojo, value) -> ((TestPojo) pojo).requestId = value)
+        .traits(location(MarshallLocation.HEADER, "x-amzn-RequestId"))
+        .build();
+
+    private static final List<SdkField<?>> SDK_FIELDS = Collections.unmodifiableList(
+        Arrays.asList(NAME_FIELD, COUNT_FIELD, NESTED_FIELD, TAGS_FIELD, COUNTS_FIELD, REQUEST_ID_FIELD));
+
+    String name = "unset";
+    Integer count = -1;
+    TestPojo nested;
+    List<String> tags;
+    Map<String, Integer> counts;
+    String requestId;
+
+    @Override
+    public List<SdkField<?>> sdkFields() {
+        return SDK_FIELDS;
+    }
+
+    @Override
+    public TestPojo build() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "TestPojo(name=" + name + ", count=" + count + ", nested=" + nested + ", tags=" + tags + ", counts=" + counts
+               + ", requestId=" + requestId + ")";
+    }
+
+    private static LocationTrait location(MarshallLocation location, String locationName) {
+        return LocationTrait.builder().location(location).locationName(locationName).build();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RateLimitingTokenBucketTest {
+
+    private long nanoTime;
+    private RateLimitingTokenBucket bucket;
+
+    @Before
+    public void setup() {
+        nanoTime = TimeUnit.SECONDS.toNanos(1000);
+        bucket = new RateLimitingTokenBucket(() -> nanoTime);
+    }
+
+    @Test
+    public void noThrottling_NeverDelays() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(bucket.acquire()).isEqualTo(Duration.ZERO);
+            bucket.updateSendingRate(false);
+            advance(10);
+        }
+        assertThat(bucket.enabled()).isFalse();
+    }
+
+    @Test
+    public void throttling_ReducesSendRateBelowMeasuredRate() {
+        sendAtRate(20, 2000);
+        double measuredRate = bucket.measuredSendRate();
+        assertThat(measuredRate).isGreaterThan(15);
+
+        bucket.updateSendingRate(true);
+
+        assertThat(bucket.enabled()).isTrue();
+        assertThat(bucket.sendRate()).isLessThan(measuredRate);
+    }
+
+    @Test
+    public void throttling_DelaysAttemptsOnceCapacityIsExhausted() {
+        sendAtRate(20, 2000);
+        bucket.updateSendingRate(true);
+
+        Duration delay = Duration.ZERO;
+        for (int i = 0; i < 20 && delay.isZero(); i++) {
+            delay = bucket.acquire();
+        }
+
+        assertThat(delay).isGreaterThan(Duration.ZERO);
+    }
+
+    @Test
+    public void successesAfterThrottling_GrowSendRateBack() {
+        sendAtRate(20, 2000);
+        bucket.updateSendingRate(true);
+        double throttledRate = bucket.sendRate();
+
+        sendAtRate(20, 5000);
+
+        assertThat(bucket.sendRate()).isGreaterThan(throttledRate);
+    }
+
+    private void sendAtRate(int requestsPerSecond, int durationMillis) {
+        long intervalMillis = 1000 / requestsPerSecond;
+        for (long elapsed = 0; elapsed < durationMillis; elapsed += intervalMillis) {
+            bucket.updateSendingRate(false);
+            advance(intervalMillis);
+        }
+    }
+
+    private void advance(long millis) {
+        nanoTime += TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
@@ -15,6 +15,12 @@
 
 package software.amazon.awssdk.core.internal.util;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -69,4 +75,50 @@ public class CapacityManagerTest {
         Assert.assertEquals(mgr.consumedCapacity(), 0);
     }
 
+    /**
+     * Tests that failed acquires and effective releases are counted.
+     */
+    @Test
+    public void counters() {
+        CapacityManager mgr = new CapacityManager(10);
+        mgr.release();
+        Assert.assertEquals(mgr.refillCount(), 0);
+        mgr.acquire(10);
+        Assert.assertFalse(mgr.acquire());
+        Assert.assertFalse(mgr.acquire(5));
+        Assert.assertEquals(mgr.acquireFailureCount(), 2);
+        mgr.release(5);
+        mgr.release(5);
+        Assert.assertEquals(mgr.refillCount(), 2);
+    }
+
+    /**
+     * Tests that concurrent acquires never hand out more capacity than is available.
+     */
+    @Test
+    public void concurrentAcquire() throws Exception {
+        CapacityManager mgr = new CapacityManager(1000);
+        AtomicInteger acquired = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 100; j++) {
+                        if (mgr.acquire()) {
+                            acquired.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(acquired.get(), 1000);
+        Assert.assertEquals(mgr.availableCapacity(), 0);
+        Assert.assertEquals(mgr.acquireFailureCount(), 600);
+    }
 }
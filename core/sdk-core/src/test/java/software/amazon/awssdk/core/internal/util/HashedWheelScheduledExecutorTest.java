@@ -0,0 +1,185 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+public class HashedWheelScheduledExecutorTest {
+
+    private HashedWheelScheduledExecutor executor;
+
+    @Before
+    public void setup() {
+        executor = new HashedWheelScheduledExecutor(5, TimeUnit.MILLISECONDS, 8, 2,
+                                                    new ThreadFactoryBuilder().threadNamePrefix("wheel-test").build());
+    }
+
+    @After
+    public void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void scheduledCallable_RunsAfterDelay() throws Exception {
+        long start = System.nanoTime();
+        ScheduledFuture<String> future = executor.schedule(() -> "done", 50, TimeUnit.MILLISECONDS);
+
+        assertThat(future.get(1, TimeUnit.SECONDS)).isEqualTo("done");
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    public void delayLongerThanWheel_RunsAfterDelay() throws Exception {
+        long start = System.nanoTime();
+        ScheduledFuture<?> future = executor.schedule(() -> { }, 100, TimeUnit.MILLISECONDS);
+
+        future.get(1, TimeUnit.SECONDS);
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    public void cancelledTask_DoesNotRun() throws Exception {
+        AtomicBoolean ran = new AtomicBoolean();
+        ScheduledFuture<?> future = executor.schedule(() -> ran.set(true), 50, TimeUnit.MILLISECONDS);
+
+        assertThat(future.cancel(false)).isTrue();
+        Thread.sleep(150);
+
+        assertThat(ran).isFalse();
+        assertThat(future.isCancelled()).isTrue();
+        assertThat(executor.pendingTasks()).isZero();
+    }
+
+    @Test
+    public void fixedRateTask_RunsRepeatedlyUntilCancelled() throws Exception {
+        CountDownLatch latch = new CountDownLatch(3);
+        ScheduledFuture<?> future = executor.scheduleAtFixedRate(latch::countDown, 0, 10, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        future.cancel(false);
+    }
+
+    @Test
+    public void shutdown_RunsAlreadyScheduledTasksAndRejectsNewOnes() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        executor.schedule(runs::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+        executor.shutdown();
+
+        assertThatThrownBy(() -> executor.schedule(runs::incrementAndGet, 0, TimeUnit.MILLISECONDS))
+            .isInstanceOf(RejectedExecutionException.class);
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    public void scheduleRacingShutdown_EveryAcceptedTaskRuns() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            HashedWheelScheduledExecutor racingExecutor =
+                new HashedWheelScheduledExecutor(1, TimeUnit.MILLISECONDS, 8, 2,
+                                                 new ThreadFactoryBuilder().threadNamePrefix("wheel-race").build());
+            List<ScheduledFuture<?>> accepted = new CopyOnWriteArrayList<>();
+            Thread scheduler = new Thread(() -> {
+                try {
+                    while (true) {
+                        accepted.add(racingExecutor.schedule(() -> { }, 0, TimeUnit.MILLISECONDS));
+                    }
+                } catch (RejectedExecutionException e) {
+                    // The executor was shut down
+                }
+            });
+            scheduler.start();
+            racingExecutor.shutdown();
+            scheduler.join();
+
+            assertThat(racingExecutor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(accepted).allMatch(ScheduledFuture::isDone);
+        }
+    }
+
+    @Test
+    public void hugeDelay_SaturatesInsteadOfOverflowing() {
+        ScheduledFuture<?> future = executor.schedule(() -> { }, Long.MAX_VALUE, TimeUnit.DAYS);
+
+        assertThat(future.getDelay(TimeUnit.DAYS)).isPositive();
+        assertThat(future.isDone()).isFalse();
+    }
+
+    @Test
+    public void fixedRateTask_CancelledOnShutdown() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        ScheduledFuture<?> future = executor.scheduleAtFixedRate(latch::countDown, 0, 10, TimeUnit.MILLISECONDS);
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.isCancelled()).isTrue();
+    }
+
+    @Test
+    public void shutdownNow_DiscardsScheduledTasks() throws Exception {
+        AtomicBoolean ran = new AtomicBoolean();
+        executor.schedule(() -> ran.set(true), 10, TimeUnit.SECONDS);
+
+        executor.shutdownNow();
+
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(ran).isFalse();
+    }
+
+    @Test
+    public void threads_AreNotStartedUntilFirstTaskIsScheduled() throws Exception {
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        HashedWheelScheduledExecutor lazyExecutor = new HashedWheelScheduledExecutor(5, TimeUnit.MILLISECONDS, 8, 2, r -> {
+            Thread thread = new Thread(r);
+            threads.add(thread);
+            return thread;
+        });
+        try {
+            // Only the timer thread has been created, and it hasn't been started
+            assertThat(threads).hasSize(1);
+            assertThat(threads.get(0).getState()).isEqualTo(Thread.State.NEW);
+
+            assertThat(lazyExecutor.schedule(() -> "done", 20, TimeUnit.MILLISECONDS).get(1, TimeUnit.SECONDS))
+                .isEqualTo("done");
+            assertThat(threads).hasSize(2);
+        } finally {
+            lazyExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shutdown_BeforeAnyTaskIsScheduled_Terminates() throws Exception {
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.isTerminated()).isTrue();
+    }
+}
@@ -20,7 +20,6 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
@@ -40,19 +39,38 @@ public class Message {
     static final int MESSAGE_OVERHEAD = Prelude.LENGTH_WITH_CRC + TRAILING_CRC_LENGTH;
 
     private final Map<String, HeaderValue> headers;
-    private final byte[] payload;
+    private final ByteBuffer payload;
 
     public Message(Map<String, HeaderValue> headers, byte[] payload) {
+        this(headers, ByteBuffer.wrap(payload.clone()));
+    }
+
+    private Message(Map<String, HeaderValue> headers, ByteBuffer payload) {
         this.headers = headers;
-        this.payload = payload.clone();
+        this.payload = payload;
     }
 
     public Map<String, HeaderValue> getHeaders() {
         return headers;
     }
 
+    /**
+     * @return a copy of the payload of this message
+     */
     public byte[] getPayload() {
-        return payload.clone();
+        byte[] copy = new byte[payload.remaining()];
+        payload.duplicate().get(copy);
+        return copy;
+    }
+
+    /**
+     * Returns the payload of this message as a read-only buffer, without copying it. Each invocation returns a new view
+     * with its own position and limit.
+     *
+     * @return a read-only view of the payload of this message
+     */
+    public ByteBuffer getPayloadAsByteBuffer() {
+        return payload.asReadOnlyBuffer();
     }
 
     public static Message decode(ByteBuffer buf) {
@@ -71,16 +89,46 @@ public class Message {
         validateMessageCrc(buf, totalLength);
         buf.position(buf.position() + Prelude.LENGTH_WITH_CRC);
 
-        long headersLength = prelude.getHeadersLength();
-        byte[] headerBytes = new byte[Math.toIntExact(headersLength)];
-        buf.get(headerBytes);
-        Map<String, HeaderValue> headers = decodeHeaders(ByteBuffer.wrap(headerBytes));
+        Map<String, HeaderValue> headers = decodeHeaders(prelude, buf);
 
-        byte[] payload = new byte[Math.toIntExact(totalLength - MESSAGE_OVERHEAD - headersLength)];
+        byte[] payload = new byte[payloadLength(prelude)];
         buf.get(payload);
         buf.getInt(); // skip past the message CRC
 
-        return new Message(headers, payload);
+        return new Message(headers, ByteBuffer.wrap(payload));
+    }
+
+    /**
+     * Decodes a message with an already decoded prelude, without copying its payload. The payload of the returned message
+     * is a read-only view of {@code buf}, which must therefore not be modified afterwards.
+     *
+     * @param prelude Decoded prelude of message.
+     * @param buf Data of message (including prelude which will be skipped over).
+     * @return Decoded message
+     */
+    static Message decodeView(Prelude prelude, ByteBuffer buf) {
+        int totalLength = prelude.getTotalLength();
+        validateMessageCrc(buf, totalLength);
+        buf.position(buf.position() + Prelude.LENGTH_WITH_CRC);
+
+        Map<String, HeaderValue> headers = decodeHeaders(prelude, buf);
+
+        ByteBuffer payload = (ByteBuffer) buf.slice().limit(payloadLength(prelude));
+        buf.position(buf.position() + payload.remaining());
+        buf.getInt(); // skip past the message CRC
+
+        return new Message(headers, payload.asReadOnlyBuffer());
+    }
+
+    private static Map<String, HeaderValue> decodeHeaders(Prelude prelude, ByteBuffer buf) {
+        int headersLength = Math.toIntExact(prelude.getHeadersLength());
+        Map<String, HeaderValue> headers = decodeHeaders((ByteBuffer) buf.slice().limit(headersLength));
+        buf.position(buf.position() + headersLength);
+        return headers;
+    }
+
+    private static int payloadLength(Prelude prelude) {
+        return Math.toIntExact(prelude.getTotalLength() - MESSAGE_OVERHEAD - prelude.getHeadersLength());
     }
 
     private static void validateMessageCrc(ByteBuffer buf, int totalLength) {
@@ -158,7 +206,7 @@ public class Message {
     private void encodeOrThrow(OutputStream os) throws IOException {
         ByteArrayOutputStream headersAndPayload = new ByteArrayOutputStream();
         headersAndPayload.write(encodeHeaders(headers.entrySet()));
-        headersAndPayload.write(payload);
+        writePayload(headersAndPayload);
 
         int totalLength = Prelude.LENGTH_WITH_CRC + headersAndPayload.size() + 4;
 
@@ -178,11 +226,19 @@ public class Message {
         headersAndPayload.writeTo(os);
     }
 
+    private void writePayload(OutputStream os) throws IOException {
+        if (payload.hasArray()) {
+            os.write(payload.array(), payload.arrayOffset() + payload.position(), payload.remaining());
+        } else {
+            os.write(getPayload());
+        }
+    }
+
     private byte[] getPrelude(int totalLength) throws IOException {
         ByteArrayOutputStream baos = new ByteArrayOutputStream(8);
         DataOutputStream dos = new DataOutputStream(baos);
 
-        int headerLength = totalLength - Message.MESSAGE_OVERHEAD - payload.length;
+        int headerLength = totalLength - Message.MESSAGE_OVERHEAD - payload.remaining();
         dos.writeInt(totalLength);
         dos.writeInt(headerLength);
 
@@ -198,13 +254,13 @@ public class Message {
         Message message = (Message) o;
 
         if (!headers.equals(message.headers)) return false;
-        return Arrays.equals(payload, message.payload);
+        return payload.equals(message.payload);
     }
 
     @Override
     public int hashCode() {
         int result = headers.hashCode();
-        result = 31 * result + Arrays.hashCode(payload);
+        result = 31 * result + payload.hashCode();
         return result;
     }
 
@@ -223,9 +279,9 @@ public class Message {
         String contentType = headers.getOrDefault(":content-type", HeaderValue.fromString("application/octet-stream"))
             .getString();
         if (contentType.contains("json") || contentType.contains("text")) {
-            ret.append(new String(payload, StandardCharsets.UTF_8));
+            ret.append(StandardCharsets.UTF_8.decode(payload.duplicate()));
         } else {
-            ret.append(Base64.getEncoder().encodeToString(payload));
+            ret.append(Base64.getEncoder().encodeToString(getPayload()));
         }
         ret.append('\n');
         return ret.toString();
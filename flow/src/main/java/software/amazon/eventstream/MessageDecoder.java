@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.IntFunction;
 
 /**
  * A simple decoder that accumulates chunks of bytes and emits eventstream
@@ -18,8 +19,10 @@ public final class MessageDecoder {
     private static final int INITIAL_BUFFER_SIZE = 2048 * 1024;
 
     private final Consumer<Message> messageConsumer;
+    private final IntFunction<ByteBuffer> frameAllocator;
     private List<Message> bufferedOutput;
     private ByteBuffer buf;
+    private ByteBuffer frame;
     private Prelude currentPrelude;
 
     /**
@@ -30,6 +33,7 @@ public final class MessageDecoder {
         this.messageConsumer = message -> this.bufferedOutput.add(message);
         this.bufferedOutput = new ArrayList<>();
         this.buf = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+        this.frameAllocator = null;
     }
 
     /**
@@ -50,6 +54,31 @@ public final class MessageDecoder {
         this.messageConsumer = messageConsumer;
         this.buf = ByteBuffer.allocate(initialBufferSize);
         this.bufferedOutput = null;
+        this.frameAllocator = null;
+    }
+
+    /**
+     * Creates a {@code MessageDecoder} instance that will publish messages incrementally to the supplied {@code
+     * messageConsumer} as they are decoded, without copying their payloads.
+     *
+     * <p>Each message is accumulated into its own frame buffer, obtained from {@code frameAllocator} once the length of the
+     * message is known, and the payload of the published {@link Message} is a read-only view of that buffer (see
+     * {@link Message#getPayloadAsByteBuffer()}). Between messages, the decoder only holds on to the few bytes of the next
+     * prelude, so a large number of mostly idle decoders costs almost no memory. The allocator may for instance be
+     * {@link ByteBuffer#allocate(int)}, {@link ByteBuffer#allocateDirect(int)} or hand out buffers from a pool; frame buffers
+     * are never reused by the decoder, so a pooled buffer may only be recycled once the consumer is done with the message.
+     *
+     * <p>The resulting instance does not support the {@link #getDecodedMessages()} operation, and will throw an exception if
+     * it is invoked.
+     *
+     * @param messageConsumer a function that consumes {@link Message} instances
+     * @param frameAllocator a function that returns a buffer with at least the given number of bytes remaining
+     */
+    public MessageDecoder(Consumer<Message> messageConsumer, IntFunction<ByteBuffer> frameAllocator) {
+        this.messageConsumer = messageConsumer;
+        this.frameAllocator = frameAllocator;
+        this.buf = ByteBuffer.allocate(Prelude.LENGTH_WITH_CRC);
+        this.bufferedOutput = null;
     }
 
     /**
@@ -83,6 +112,10 @@ public final class MessageDecoder {
      * @return this {@code MessageDecoder} instance
      */
     public MessageDecoder feed(ByteBuffer byteBuffer) {
+        if (frameAllocator != null) {
+            return feedFrames(byteBuffer);
+        }
+
         int bytesToRead = byteBuffer.remaining();
         int bytesConsumed = 0;
         while (bytesConsumed < bytesToRead) {
@@ -130,9 +163,54 @@ public final class MessageDecoder {
         return this;
     }
 
+    /**
+     * Decodes messages into a frame buffer per message. {@link #buf} only ever holds the prelude of the next message.
+     */
+    private MessageDecoder feedFrames(ByteBuffer byteBuffer) {
+        while (byteBuffer.hasRemaining()) {
+            if (frame == null) {
+                transfer(byteBuffer, buf, Math.min(buf.remaining(), byteBuffer.remaining()));
+                if (buf.hasRemaining()) {
+                    return this;
+                }
+
+                buf.flip();
+                currentPrelude = Prelude.decode(buf);
+                frame = allocateFrame(currentPrelude.getTotalLength());
+                frame.put(buf);
+                buf.clear();
+            }
+
+            transfer(byteBuffer, frame, Math.min(frame.remaining(), byteBuffer.remaining()));
+
+            if (!frame.hasRemaining()) {
+                frame.flip();
+                Message message = Message.decodeView(currentPrelude, frame);
+                frame = null;
+                currentPrelude = null;
+                messageConsumer.accept(message);
+            }
+        }
+
+        return this;
+    }
+
+    private ByteBuffer allocateFrame(int totalLength) {
+        ByteBuffer allocated = frameAllocator.apply(totalLength);
+        if (allocated.remaining() < totalLength) {
+            throw new IllegalStateException("Frame allocator returned a buffer with " + allocated.remaining()
+                                            + " bytes remaining, " + totalLength + " bytes are required");
+        }
+        return (ByteBuffer) allocated.slice().limit(totalLength);
+    }
+
     private void feedBuf(ByteBuffer byteBuffer, int numBytesToWrite) {
-        buf.put((ByteBuffer) byteBuffer.duplicate().limit(byteBuffer.position() + numBytesToWrite));
-        byteBuffer.position(byteBuffer.position() + numBytesToWrite);
+        transfer(byteBuffer, buf, numBytesToWrite);
+    }
+
+    private static void transfer(ByteBuffer src, ByteBuffer dst, int numBytesToWrite) {
+        dst.put((ByteBuffer) src.duplicate().limit(src.position() + numBytesToWrite));
+        src.position(src.position() + numBytesToWrite);
     }
 
     private ByteBuffer updateReadView() {
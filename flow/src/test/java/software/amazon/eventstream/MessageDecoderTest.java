@@ -7,6 +7,7 @@ import static org.junit.Assert.assertThat;
 import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
@@ -208,4 +209,69 @@ public class MessageDecoderTest {
         assertThat(decoder.currentBufferSize(), greaterThan(9001));
     }
 
+    @Test
+    public void frameDecoder_DecodesRandomChunks() {
+        TestUtils utils = new TestUtils(SEED);
+        Random rand = new Random(SEED);
+        List<Message> expected = IntStream.range(0, 10_000)
+                                          .mapToObj(x -> utils.randomMessage())
+                                          .collect(Collectors.toList());
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        expected.forEach(x -> x.encode(baos));
+        ByteBuffer buf = ByteBuffer.wrap(baos.toByteArray());
+
+        List<Message> actual = new ArrayList<>();
+        MessageDecoder decoder = new MessageDecoder(actual::add, ByteBuffer::allocateDirect);
+        while (buf.remaining() > 0) {
+            int bufSize = Math.min(1 + rand.nextInt(1024), buf.remaining());
+            byte[] bs = new byte[bufSize];
+            buf.get(bs);
+            decoder.feed(bs);
+        }
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void frameDecoder_ExposesPayloadAsReadOnlyViewOfFrame() {
+        TestUtils utils = new TestUtils(SEED);
+        Message message = utils.randomMessage(4096);
+
+        List<ByteBuffer> frames = new ArrayList<>();
+        List<Message> actual = new ArrayList<>();
+        MessageDecoder decoder = new MessageDecoder(actual::add, size -> {
+            ByteBuffer frame = ByteBuffer.allocateDirect(size);
+            frames.add(frame);
+            return frame;
+        });
+        decoder.feed(message.toByteBuffer());
+
+        assertThat(actual, Matchers.hasSize(1));
+        assertThat(frames, Matchers.hasSize(1));
+        assertEquals(message.toByteBuffer().remaining(), frames.get(0).capacity());
+
+        ByteBuffer payload = actual.get(0).getPayloadAsByteBuffer();
+        Assert.assertTrue(payload.isReadOnly());
+        Assert.assertTrue(payload.isDirect());
+        assertEquals(ByteBuffer.wrap(message.getPayload()), payload);
+    }
+
+    @Test
+    public void frameDecoder_AllocatesFramePerMessage() {
+        TestUtils utils = new TestUtils(SEED);
+        Message small = utils.randomMessage(100);
+        Message large = utils.randomMessage(9001);
+
+        List<Integer> frameSizes = new ArrayList<>();
+        List<Message> actual = new ArrayList<>();
+        MessageDecoder decoder = new MessageDecoder(actual::add, size -> {
+            frameSizes.add(size);
+            return ByteBuffer.allocate(size);
+        });
+        decoder.feed(large.toByteBuffer());
+        decoder.feed(small.toByteBuffer());
+
+        assertEquals(Arrays.asList(large, small), actual);
+        assertEquals(Arrays.asList(large.toByteBuffer().remaining(), small.toByteBuffer().remaining()), frameSizes);
+    }
 }
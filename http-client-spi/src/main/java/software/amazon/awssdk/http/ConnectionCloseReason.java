@@ -0,0 +1,48 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * Why an HTTP client closed a pooled connection, reported by {@link ConnectionPoolMetrics#closedConnections}.
+ *
+ * <p>Not every client can tell every reason apart, connections a client can't attribute are reported as {@link #OTHER}.</p>
+ */
+@SdkPublicApi
+public enum ConnectionCloseReason {
+
+    /**
+     * Closed by the client after staying unused in the pool for longer than the maximum idle time.
+     */
+    IDLE,
+
+    /**
+     * Closed by the client after an I/O error, a timeout, a failed health check or an aborted request on the connection.
+     */
+    ERROR,
+
+    /**
+     * Closed by the server.
+     */
+    REMOTE,
+
+    /**
+     * Closed for any other reason, like the response not allowing the connection to be reused or the client being closed.
+     */
+    OTHER
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http;
+
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * Snapshot of the state of the connection pool an HTTP client keeps for a single endpoint, along with statistics accumulated
+ * since the pool was created. Obtained via {@link SdkHttpClient#connectionPoolMetrics()} or
+ * {@link software.amazon.awssdk.http.async.SdkAsyncHttpClient#connectionPoolMetrics()}.
+ *
+ * <p>A pool with pending acquires and no idle connections is saturated, requests are waiting for a connection, which shows
+ * up in the tail of the {@link #acquireLatency()}.</p>
+ */
+@SdkPublicApi
+@Immutable
+public interface ConnectionPoolMetrics {
+
+    /**
+     * @return The endpoint connections are pooled for, as {@code scheme://host:port}.
+     */
+    String endpoint();
+
+    /**
+     * @return Number of connections currently leased to requests. For HTTP/2 this is the number of streams in use, since
+     * connections are shared by concurrent requests.
+     */
+    int leasedConnections();
+
+    /**
+     * @return Number of open connections not used by any request.
+     */
+    int idleConnections();
+
+    /**
+     * @return Number of requests waiting for a connection to become available.
+     */
+    int pendingAcquires();
+
+    /**
+     * @return Maximum number of connections, or HTTP/2 streams, that can be leased at the same time.
+     */
+    int maxConnections();
+
+    /**
+     * @return Number of connections established since the pool was created.
+     */
+    long createdConnections();
+
+    /**
+     * @param reason Reason the connections were closed for.
+     * @return Number of connections closed for the given reason since the pool was created.
+     */
+    long closedConnections(ConnectionCloseReason reason);
+
+    /**
+     * @return Distribution of the time requests waited to acquire a connection, including establishing a new connection
+     * when none was available.
+     */
+    LatencyHistogram acquireLatency();
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Accumulates the connection statistics of the connection pool of a single endpoint, for HTTP clients to report them as
+ * {@link ConnectionPoolMetrics}. Recording never blocks nor allocates, so it can be done from I/O threads.
+ *
+ * <p>The pool state (leased, idle and pending connections) is owned by the pool itself, it's passed in when taking a
+ * {@link #snapshot}.</p>
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class ConnectionPoolMetricsRecorder {
+
+    /**
+     * Bucket {@code i} holds latencies below 2<sup>i</sup> microseconds, the last one anything longer.
+     */
+    private static final int BUCKET_COUNT = 40;
+
+    private final String endpoint;
+    private final LongAdder createdConnections = new LongAdder();
+    private final Map<ConnectionCloseReason, LongAdder> closedConnections = new EnumMap<>(ConnectionCloseReason.class);
+    private final AtomicLongArray acquireLatencyBuckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalAcquireNanos = new LongAdder();
+    private final LongAccumulator maxAcquireNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * @param endpoint The endpoint connections are pooled for, as {@code scheme://host:port}.
+     */
+    public ConnectionPoolMetricsRecorder(String endpoint) {
+        this.endpoint = Validate.paramNotNull(endpoint, "endpoint");
+        for (ConnectionCloseReason reason : ConnectionCloseReason.values()) {
+            closedConnections.put(reason, new LongAdder());
+        }
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+
+    public void connectionCreated() {
+        createdConnections.increment();
+    }
+
+    public void connectionClosed(ConnectionCloseReason reason) {
+        closedConnections.get(Validate.paramNotNull(reason, "reason")).increment();
+    }
+
+    /**
+     * @param acquireDurationNanos Time a request waited for a connection, in nanoseconds.
+     */
+    public void connectionAcquired(long acquireDurationNanos) {
+        long nanos = Math.max(acquireDurationNanos, 0);
+        acquireLatencyBuckets.incrementAndGet(bucketOf(nanos));
+        totalAcquireNanos.add(nanos);
+        maxAcquireNanos.accumulate(nanos);
+    }
+
+    /**
+     * Captures the statistics recorded so far along with the current state of the pool.
+     *
+     * @param leased Number of connections, or HTTP/2 streams, currently leased.
+     * @param idle Number of open connections not used by any request.
+     * @param pending Number of requests waiting for a connection.
+     * @param max Maximum number of connections, or HTTP/2 streams, that can be leased at the same time.
+     */
+    public ConnectionPoolMetrics snapshot(int leased, int idle, int pending, int max) {
+        long[] buckets = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = acquireLatencyBuckets.get(i);
+            count += buckets[i];
+        }
+        Map<ConnectionCloseReason, Long> closed = new EnumMap<>(ConnectionCloseReason.class);
+        closedConnections.forEach((reason, adder) -> closed.put(reason, adder.sum()));
+        Histogram acquireLatency = new Histogram(buckets, count, totalAcquireNanos.sum(), maxAcquireNanos.get());
+        return new Snapshot(endpoint, leased, idle, pending, max, createdConnections.sum(), closed, acquireLatency);
+    }
+
+    private static int bucketOf(long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        return Math.min(Long.SIZE - Long.numberOfLeadingZeros(micros), BUCKET_COUNT - 1);
+    }
+
+    private static Duration upperBoundOf(int bucket) {
+        if (bucket == BUCKET_COUNT - 1) {
+            return Duration.ofNanos(Long.MAX_VALUE);
+        }
+        return Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(1L << bucket));
+    }
+
+    @Immutable
+    private static final class Snapshot implements ConnectionPoolMetrics {
+        private final String endpoint;
+        private final int leased;
+        private final int idle;
+        private final int pending;
+        private final int max;
+        private final long created;
+        private final Map<ConnectionCloseReason, Long> closed;
+        private final LatencyHistogram acquireLatency;
+
+        private Snapshot(String endpoint, int leased, int idle, int pending, int max, long created,
+                         Map<ConnectionCloseReason, Long> closed, LatencyHistogram acquireLatency) {
+            this.endpoint = endpoint;
+            this.leased = leased;
+            this.idle = idle;
+            this.pending = pending;
+            this.max = max;
+            this.created = created;
+            this.closed = closed;
+            this.acquireLatency = acquireLatency;
+        }
+
+        @Override
+        public String endpoint() {
+            return endpoint;
+        }
+
+        @Override
+        public int leasedConnections() {
+            return leased;
+        }
+
+        @Override
+        public int idleConnections() {
+            return idle;
+        }
+
+        @Override
+        public int pendingAcquires() {
+            return pending;
+        }
+
+        @Override
+        public int maxConnections() {
+            return max;
+        }
+
+        @Override
+        public long createdConnections() {
+            return created;
+        }
+
+        @Override
+        public long closedConnections(ConnectionCloseReason reason) {
+            return closed.get(Validate.paramNotNull(reason, "reason"));
+        }
+
+        @Override
+        public LatencyHistogram acquireLatency() {
+            return acquireLatency;
+        }
+
+        @Override
+        public String toString() {
+            return ToString.builder("ConnectionPoolMetrics")
+                           .add("endpoint", endpoint)
+                           .add("leasedConnections", leased)
+                           .add("idleConnections", idle)
+                           .add("pendingAcquires", pending)
+                           .add("maxConnections", max)
+                           .add("createdConnections", created)
+                           .add("closedConnections", closed)
+                           .add("acquireLatency", acquireLatency)
+                           .build();
+        }
+    }
+
+    @Immutable
+    private static final class Histogram implements LatencyHistogram {
+        private final long[] buckets;
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        private Histogram(long[] buckets, long count, long totalNanos, long maxNanos) {
+            this.buckets = buckets;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        @Override
+        public long count() {
+            return count;
+        }
+
+        @Override
+        public Duration mean() {
+            return count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos / count);
+        }
+
+        @Override
+        public Duration max() {
+            return Duration.ofNanos(maxNanos);
+        }
+
+        @Override
+        public Duration percentile(double percentile) {
+            Validate.isTrue(percentile > 0 && percentile <= 100, "percentile must be greater than 0 and at most 100");
+            if (count == 0) {
+                return Duration.ZERO;
+            }
+            long rank = (long) Math.ceil(count * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    Duration upperBound = upperBoundOf(i);
+                    return upperBound.compareTo(max()) < 0 ? upperBound : max();
+                }
+            }
+            return max();
+        }
+
+        @Override
+        public SortedMap<Duration, Long> buckets() {
+            SortedMap<Duration, Long> result = new TreeMap<>();
+            for (int i = 0; i < buckets.length; i++) {
+                if (buckets[i] > 0) {
+                    result.put(upperBoundOf(i), buckets[i]);
+                }
+            }
+            return Collections.unmodifiableSortedMap(result);
+        }
+
+        @Override
+        public String toString() {
+            return ToString.builder("LatencyHistogram")
+                           .add("count", count)
+                           .add("mean", mean())
+                           .add("p50", percentile(50))
+                           .add("p99", percentile(99))
+                           .add("max", max())
+                           .build();
+        }
+    }
+}
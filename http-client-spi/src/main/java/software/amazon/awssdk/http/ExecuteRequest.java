@@ -16,6 +16,7 @@
 package software.amazon.awssdk.http;
 
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * Request object containing the parameters necessary to make a synchronous HTTP request.
@@ -27,10 +28,12 @@ public final class ExecuteRequest {
 
     private final SdkHttpFullRequest request;
     private final boolean isFullDuplex;
+    private final HttpRequestMetricsListener metricsListener;
 
     private ExecuteRequest(BuilderImpl builder) {
         this.request = builder.request;
         this.isFullDuplex = builder.isFullDuplex;
+        this.metricsListener = builder.metricsListener;
     }
 
     /**
@@ -44,6 +47,14 @@ public final class ExecuteRequest {
         return isFullDuplex;
     }
 
+    /**
+     * @return The listener to notify of timings observed by the HTTP client, {@link HttpRequestMetricsListener#NONE} when the
+     * SDK doesn't collect them.
+     */
+    public HttpRequestMetricsListener metricsListener() {
+        return metricsListener;
+    }
+
     public static Builder builder() {
         return new BuilderImpl();
     }
@@ -68,12 +79,21 @@ public final class ExecuteRequest {
          */
         Builder fullDuplex(boolean fullDuplex);
 
+        /**
+         * Set the listener to notify of timings observed by the HTTP client, like the time spent acquiring a connection.
+         *
+         * @param metricsListener The listener.
+         * @return This builder for method chaining.
+         */
+        Builder metricsListener(HttpRequestMetricsListener metricsListener);
+
         ExecuteRequest build();
     }
 
     private static class BuilderImpl implements Builder {
         private SdkHttpFullRequest request;
         private boolean isFullDuplex;
+        private HttpRequestMetricsListener metricsListener = HttpRequestMetricsListener.NONE;
 
         @Override
         public Builder request(SdkHttpFullRequest request) {
@@ -87,6 +107,12 @@ public final class ExecuteRequest {
             return this;
         }
 
+        @Override
+        public Builder metricsListener(HttpRequestMetricsListener metricsListener) {
+            this.metricsListener = Validate.paramNotNull(metricsListener, "metricsListener");
+            return this;
+        }
+
         @Override
         public ExecuteRequest build() {
             return new ExecuteRequest(this);
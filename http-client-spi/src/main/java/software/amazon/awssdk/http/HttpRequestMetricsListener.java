@@ -0,0 +1,46 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Notified by an HTTP client of timings of a single request that only the client can observe, so the SDK can include them
+ * in the latency metrics of the request. Provided with the {@link ExecuteRequest} or
+ * {@link software.amazon.awssdk.http.async.AsyncExecuteRequest}, clients that don't support it simply never call it.
+ *
+ * <p>Methods may be invoked from the I/O threads of the client, implementations must not block.</p>
+ */
+@SdkProtectedApi
+@ThreadSafe
+public interface HttpRequestMetricsListener {
+
+    /**
+     * A listener ignoring all notifications, used when the SDK doesn't collect metrics.
+     */
+    HttpRequestMetricsListener NONE = new HttpRequestMetricsListener() {
+    };
+
+    /**
+     * Invoked once the connection the request is sent on was acquired from the connection pool of the client.
+     *
+     * @param acquireDurationNanos Time spent waiting for the connection, including establishing a new connection when
+     * none was available in the pool, in nanoseconds.
+     */
+    default void connectionAcquired(long acquireDurationNanos) {
+    }
+}
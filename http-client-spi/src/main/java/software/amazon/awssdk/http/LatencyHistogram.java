@@ -0,0 +1,61 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http;
+
+import java.time.Duration;
+import java.util.SortedMap;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * Distribution of latencies recorded by an HTTP client. Latencies are counted in buckets whose upper bounds are powers of two
+ * microseconds, so percentiles are accurate to within a factor of two, which is enough to tell a healthy pool from a
+ * saturated one while keeping recording free of locks and allocations.
+ */
+@SdkPublicApi
+@Immutable
+public interface LatencyHistogram {
+
+    /**
+     * @return Number of recorded latencies.
+     */
+    long count();
+
+    /**
+     * @return Average of the recorded latencies, {@link Duration#ZERO} if none was recorded.
+     */
+    Duration mean();
+
+    /**
+     * @return Highest recorded latency, {@link Duration#ZERO} if none was recorded.
+     */
+    Duration max();
+
+    /**
+     * Estimates a percentile of the recorded latencies as the upper bound of the bucket it falls in, capped by {@link #max()}.
+     *
+     * @param percentile Percentile to estimate, greater than 0 and at most 100.
+     * @return The estimated percentile, {@link Duration#ZERO} if none was recorded.
+     */
+    Duration percentile(double percentile);
+
+    /**
+     * @return Number of recorded latencies per bucket, keyed by the exclusive upper bound of the bucket. Only buckets with
+     * at least one latency are included.
+     */
+    SortedMap<Duration, Long> buckets();
+}
@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.http;
 
+import java.util.Collections;
+import java.util.List;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
@@ -41,6 +43,16 @@ public interface SdkHttpClient extends SdkAutoCloseable {
      */
     AbortableCallable<SdkHttpFullResponse> prepareRequest(ExecuteRequest request);
 
+    /**
+     * Reports the state of the connection pools of this client, one per endpoint it has sent requests to.
+     *
+     * @return A snapshot of the connection pool of each endpoint, empty if the client doesn't pool connections or doesn't
+     * report on them.
+     */
+    default List<ConnectionPoolMetrics> connectionPoolMetrics() {
+        return Collections.emptyList();
+    }
+
     /**
      * Interface for creating an {@link SdkHttpClient} with service specific defaults applied.
      */
@@ -16,7 +16,9 @@
 package software.amazon.awssdk.http.async;
 
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.http.HttpRequestMetricsListener;
 import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * Request object containing the parameters necessary to make an asynchronous HTTP request.
@@ -29,12 +31,14 @@ public final class AsyncExecuteRequest {
     private final SdkHttpContentPublisher requestContentPublisher;
     private final SdkAsyncHttpResponseHandler responseHandler;
     private final boolean isFullDuplex;
+    private final HttpRequestMetricsListener metricsListener;
 
     private AsyncExecuteRequest(BuilderImpl builder) {
         this.request = builder.request;
         this.requestContentPublisher = builder.requestContentPublisher;
         this.responseHandler = builder.responseHandler;
         this.isFullDuplex = builder.isFullDuplex;
+        this.metricsListener = builder.metricsListener;
     }
 
     /**
@@ -65,6 +69,14 @@ public final class AsyncExecuteRequest {
         return isFullDuplex;
     }
 
+    /**
+     * @return The listener to notify of timings observed by the HTTP client, {@link HttpRequestMetricsListener#NONE} when the
+     * SDK doesn't collect them.
+     */
+    public HttpRequestMetricsListener metricsListener() {
+        return metricsListener;
+    }
+
     public static Builder builder() {
         return new BuilderImpl();
     }
@@ -105,6 +117,14 @@ public final class AsyncExecuteRequest {
          */
         Builder fullDuplex(boolean fullDuplex);
 
+        /**
+         * Set the listener to notify of timings observed by the HTTP client, like the time spent acquiring a connection.
+         *
+         * @param metricsListener The listener.
+         * @return This builder for method chaining.
+         */
+        Builder metricsListener(HttpRequestMetricsListener metricsListener);
+
         AsyncExecuteRequest build();
     }
 
@@ -113,6 +133,7 @@ public final class AsyncExecuteRequest {
         private SdkHttpContentPublisher requestContentPublisher;
         private SdkAsyncHttpResponseHandler responseHandler;
         private boolean isFullDuplex;
+        private HttpRequestMetricsListener metricsListener = HttpRequestMetricsListener.NONE;
 
         @Override
         public Builder request(SdkHttpRequest request) {
@@ -138,6 +159,12 @@ public final class AsyncExecuteRequest {
             return this;
         }
 
+        @Override
+        public Builder metricsListener(HttpRequestMetricsListener metricsListener) {
+            this.metricsListener = Validate.paramNotNull(metricsListener, "metricsListener");
+            return this;
+        }
+
         @Override
         public AsyncExecuteRequest build() {
             return new AsyncExecuteRequest(this);
@@ -15,11 +15,14 @@
 
 package software.amazon.awssdk.http.async;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.http.ConnectionPoolMetrics;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 import software.amazon.awssdk.utils.builder.SdkBuilder;
@@ -47,6 +50,16 @@ public interface SdkAsyncHttpClient extends SdkAutoCloseable {
      */
     CompletableFuture<Void> execute(AsyncExecuteRequest request);
 
+    /**
+     * Reports the state of the connection pools of this client, one per endpoint it has sent requests to.
+     *
+     * @return A snapshot of the connection pool of each endpoint, empty if the client doesn't pool connections or doesn't
+     * report on them.
+     */
+    default List<ConnectionPoolMetrics> connectionPoolMetrics() {
+        return Collections.emptyList();
+    }
+
     @FunctionalInterface
     interface Builder<T extends SdkAsyncHttpClient.Builder<T>> extends SdkBuilder<T, SdkAsyncHttpClient> {
         /**
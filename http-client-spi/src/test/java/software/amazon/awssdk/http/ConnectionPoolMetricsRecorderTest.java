@@ -0,0 +1,85 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class ConnectionPoolMetricsRecorderTest {
+
+    private final ConnectionPoolMetricsRecorder recorder = new ConnectionPoolMetricsRecorder("https://localhost:443");
+
+    @Test
+    public void snapshot_ReportsPoolStateAndCounters() {
+        recorder.connectionCreated();
+        recorder.connectionCreated();
+        recorder.connectionClosed(ConnectionCloseReason.IDLE);
+
+        ConnectionPoolMetrics metrics = recorder.snapshot(1, 2, 3, 4);
+
+        assertThat(metrics.endpoint()).isEqualTo("https://localhost:443");
+        assertThat(metrics.leasedConnections()).isEqualTo(1);
+        assertThat(metrics.idleConnections()).isEqualTo(2);
+        assertThat(metrics.pendingAcquires()).isEqualTo(3);
+        assertThat(metrics.maxConnections()).isEqualTo(4);
+        assertThat(metrics.createdConnections()).isEqualTo(2);
+        assertThat(metrics.closedConnections(ConnectionCloseReason.IDLE)).isEqualTo(1);
+        assertThat(metrics.closedConnections(ConnectionCloseReason.ERROR)).isZero();
+    }
+
+    @Test
+    public void snapshot_IsNotUpdatedByLaterRecordings() {
+        ConnectionPoolMetrics metrics = recorder.snapshot(0, 0, 0, 1);
+        recorder.connectionCreated();
+        recorder.connectionAcquired(1000);
+
+        assertThat(metrics.createdConnections()).isZero();
+        assertThat(metrics.acquireLatency().count()).isZero();
+    }
+
+    @Test
+    public void noAcquireRecorded_HistogramIsEmpty() {
+        LatencyHistogram histogram = recorder.snapshot(0, 0, 0, 1).acquireLatency();
+
+        assertThat(histogram.count()).isZero();
+        assertThat(histogram.mean()).isEqualTo(Duration.ZERO);
+        assertThat(histogram.max()).isEqualTo(Duration.ZERO);
+        assertThat(histogram.percentile(99)).isEqualTo(Duration.ZERO);
+        assertThat(histogram.buckets()).isEmpty();
+    }
+
+    @Test
+    public void acquireLatencies_AreBucketedByPowersOfTwoMicroseconds() {
+        for (int i = 0; i < 99; i++) {
+            recorder.connectionAcquired(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        recorder.connectionAcquired(TimeUnit.MILLISECONDS.toNanos(10));
+
+        LatencyHistogram histogram = recorder.snapshot(0, 0, 0, 1).acquireLatency();
+
+        assertThat(histogram.count()).isEqualTo(100);
+        assertThat(histogram.max()).isEqualTo(Duration.ofMillis(10));
+        assertThat(histogram.percentile(50)).isEqualTo(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(128)));
+        assertThat(histogram.percentile(99)).isEqualTo(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(128)));
+        assertThat(histogram.percentile(100)).isEqualTo(Duration.ofMillis(10));
+        assertThat(histogram.buckets()).containsOnlyKeys(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(128)),
+                                                         Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(16384)));
+    }
+}
@@ -63,7 +63,9 @@ import org.apache.http.protocol.HttpRequestExecutor;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.http.AbortableCallable;
 import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ConnectionPoolMetrics;
 import software.amazon.awssdk.http.ExecuteRequest;
+import software.amazon.awssdk.http.HttpRequestMetricsListener;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
@@ -71,7 +73,10 @@ import software.amazon.awssdk.http.apache.internal.ApacheHttpRequestConfig;
 import software.amazon.awssdk.http.apache.internal.DefaultConfiguration;
 import software.amazon.awssdk.http.apache.internal.SdkProxyRoutePlanner;
 import software.amazon.awssdk.http.apache.internal.conn.ClientConnectionManagerFactory;
+import software.amazon.awssdk.http.apache.internal.conn.ConnectionAcquireListener;
+import software.amazon.awssdk.http.apache.internal.conn.ConnectionPoolMetricsTracker;
 import software.amazon.awssdk.http.apache.internal.conn.IdleConnectionReaper;
+import software.amazon.awssdk.http.apache.internal.conn.MetricsConnectionFactory;
 import software.amazon.awssdk.http.apache.internal.conn.SdkConnectionKeepAliveStrategy;
 import software.amazon.awssdk.http.apache.internal.conn.SdkTlsSocketFactory;
 import software.amazon.awssdk.http.apache.internal.impl.ApacheHttpRequestFactory;
@@ -98,6 +103,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
     private final ConnectionManagerAwareHttpClient httpClient;
     private final ApacheHttpRequestConfig requestConfig;
     private final AttributeMap resolvedOptions;
+    private final ConnectionPoolMetricsTracker connectionPoolMetrics = new ConnectionPoolMetricsTracker();
 
     private ApacheHttpClient(DefaultBuilder builder, AttributeMap resolvedOptions) {
         this.httpClient = createClient(builder, resolvedOptions);
@@ -117,7 +123,8 @@ public final class ApacheHttpClient implements SdkHttpClient {
         // Note that it is important we register the original connection manager with the
         // IdleConnectionReaper as it's required for the successful deregistration of managers
         // from the reaper. See https://github.com/aws/aws-sdk-java/issues/722.
-        HttpClientConnectionManager cm = cmFactory.create(configuration, standardOptions);
+        PoolingHttpClientConnectionManager cm = cmFactory.create(configuration, standardOptions, connectionPoolMetrics);
+        connectionPoolMetrics.pool(cm);
 
         builder.setRequestExecutor(new HttpRequestExecutor())
                // SDK handles decompression
@@ -126,7 +133,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
                .disableRedirectHandling()
                .disableAutomaticRetries()
                .setUserAgent("") // SDK will set the user agent header in the pipeline. Don't let Apache waste time
-               .setConnectionManager(ClientConnectionManagerFactory.wrap(cm));
+               .setConnectionManager(ClientConnectionManagerFactory.wrap(cm, connectionPoolMetrics));
 
         addProxyConfig(builder, configuration.proxyConfiguration);
 
@@ -181,10 +188,19 @@ public final class ApacheHttpClient implements SdkHttpClient {
     @Override
     public AbortableCallable<SdkHttpFullResponse> prepareRequest(ExecuteRequest request) {
         HttpRequestBase apacheRequest = toApacheRequest(request);
+        HttpRequestMetricsListener metricsListener = request.metricsListener();
         return new AbortableCallable<SdkHttpFullResponse>() {
             @Override
             public SdkHttpFullResponse call() throws Exception {
-                return execute(apacheRequest);
+                if (metricsListener == HttpRequestMetricsListener.NONE) {
+                    return execute(apacheRequest);
+                }
+                ConnectionAcquireListener.set(metricsListener);
+                try {
+                    return execute(apacheRequest);
+                } finally {
+                    ConnectionAcquireListener.clear();
+                }
             }
 
             @Override
@@ -194,6 +210,14 @@ public final class ApacheHttpClient implements SdkHttpClient {
         };
     }
 
+    /**
+     * @return The state of the connection pool of each route this client has requested connections for.
+     */
+    @Override
+    public List<ConnectionPoolMetrics> connectionPoolMetrics() {
+        return connectionPoolMetrics.metrics();
+    }
+
     @Override
     public void close() {
         HttpClientConnectionManager cm = httpClient.getHttpClientConnectionManager();
@@ -454,14 +478,15 @@ public final class ApacheHttpClient implements SdkHttpClient {
 
     private static class ApacheConnectionManagerFactory {
 
-        public HttpClientConnectionManager create(ApacheHttpClient.DefaultBuilder configuration,
-                                                  AttributeMap standardOptions) {
+        public PoolingHttpClientConnectionManager create(ApacheHttpClient.DefaultBuilder configuration,
+                                                         AttributeMap standardOptions,
+                                                         ConnectionPoolMetricsTracker metricsTracker) {
             ConnectionSocketFactory sslsf = getPreferredSocketFactory(standardOptions);
 
             PoolingHttpClientConnectionManager cm = new
                     PoolingHttpClientConnectionManager(
                     createSocketFactoryRegistry(sslsf),
-                    null,
+                    new MetricsConnectionFactory(metricsTracker),
                     DefaultSchemePortResolver.INSTANCE,
                     null,
                     Optional.ofNullable(configuration.connectionTimeToLive)
@@ -21,10 +21,12 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import org.apache.http.conn.ConnectionRequest;
 import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.pool.ConnPoolControl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ConnectionPoolMetricsRecorder;
 
 @SdkInternalApi
 public final class ClientConnectionManagerFactory {
@@ -40,6 +42,17 @@ public final class ClientConnectionManagerFactory {
      * @param orig the target instance to be wrapped
      */
     public static HttpClientConnectionManager wrap(HttpClientConnectionManager orig) {
+        return wrap(orig, null);
+    }
+
+    /**
+     * Returns a wrapped instance of {@link HttpClientConnectionManager} recording the latency of connection requests with
+     * the given tracker.
+     *
+     * @param orig the target instance to be wrapped
+     * @param tracker the tracker to record connection request latencies with, null to not record them
+     */
+    public static HttpClientConnectionManager wrap(HttpClientConnectionManager orig, ConnectionPoolMetricsTracker tracker) {
         if (orig instanceof Wrapped) {
             throw new IllegalArgumentException();
         }
@@ -59,7 +72,7 @@ public final class ClientConnectionManagerFactory {
                 // https://github.com/aws/aws-sdk-java/pull/48#issuecomment-29454423
                 ClientConnectionManagerFactory.class.getClassLoader(),
                 interfaces,
-                new Handler(orig));
+                new Handler(orig, tracker));
     }
 
     /**
@@ -69,19 +82,23 @@ public final class ClientConnectionManagerFactory {
      */
     private static class Handler implements InvocationHandler {
         private final HttpClientConnectionManager orig;
+        private final ConnectionPoolMetricsTracker tracker;
 
-        Handler(HttpClientConnectionManager real) {
+        Handler(HttpClientConnectionManager real, ConnectionPoolMetricsTracker tracker) {
             this.orig = real;
+            this.tracker = tracker;
         }
 
         @Override
         public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
             try {
                 Object ret = method.invoke(orig, args);
-                return ret instanceof ConnectionRequest
-                        ? ClientConnectionRequestFactory.wrap((ConnectionRequest) ret)
-                        : ret
-                        ;
+                if (!(ret instanceof ConnectionRequest)) {
+                    return ret;
+                }
+                // requestConnection(HttpRoute route, Object state)
+                ConnectionPoolMetricsRecorder recorder = tracker == null ? null : tracker.recorder((HttpRoute) args[0]);
+                return ClientConnectionRequestFactory.wrap((ConnectionRequest) ret, recorder);
             } catch (InvocationTargetException e) {
                 log.debug("", e);
                 throw e.getCause();
@@ -24,6 +24,8 @@ import org.apache.http.conn.ConnectionRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ConnectionPoolMetricsRecorder;
+import software.amazon.awssdk.http.HttpRequestMetricsListener;
 
 @SdkInternalApi
 final class ClientConnectionRequestFactory {
@@ -41,8 +43,9 @@ final class ClientConnectionRequestFactory {
      * to capture the necessary performance metrics.
      *
      * @param orig the target instance to be wrapped
+     * @param recorder the recorder of the pool of the requested route, null to not record the latency
      */
-    static ConnectionRequest wrap(ConnectionRequest orig) {
+    static ConnectionRequest wrap(ConnectionRequest orig, ConnectionPoolMetricsRecorder recorder) {
         if (orig instanceof Wrapped) {
             throw new IllegalArgumentException();
         }
@@ -50,7 +53,7 @@ final class ClientConnectionRequestFactory {
                 // https://github.com/aws/aws-sdk-java/pull/48#issuecomment-29454423
                 ClientConnectionRequestFactory.class.getClassLoader(),
                 INTERFACES,
-                new Handler(orig));
+                new Handler(orig, recorder));
     }
 
     /**
@@ -61,25 +64,29 @@ final class ClientConnectionRequestFactory {
      */
     private static class Handler implements InvocationHandler {
         private final ConnectionRequest orig;
+        private final ConnectionPoolMetricsRecorder recorder;
 
-        Handler(ConnectionRequest orig) {
+        Handler(ConnectionRequest orig, ConnectionPoolMetricsRecorder recorder) {
             this.orig = orig;
+            this.recorder = recorder;
         }
 
         @Override
         public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
             try {
-                // TODO v2 service metrics
-                //                if ("get".equals(method.getName())) {
-                //                    ServiceLatencyProvider latencyProvider = new ServiceLatencyProvider(
-                //                            AWSServiceMetrics.HttpClientGetConnectionTime);
-                //                    try {
-                //                        return method.invoke(orig, args);
-                //                    } finally {
-                //                        AwsSdkMetrics.getServiceMetricCollector()
-                //                                .collectLatency(latencyProvider.endTiming());
-                //                    }
-                //                }
+                HttpRequestMetricsListener listener = ConnectionAcquireListener.current();
+                if ((listener != null || recorder != null) && "get".equals(method.getName())) {
+                    long acquireStart = System.nanoTime();
+                    Object connection = method.invoke(orig, args);
+                    long acquireDuration = System.nanoTime() - acquireStart;
+                    if (listener != null) {
+                        listener.connectionAcquired(acquireDuration);
+                    }
+                    if (recorder != null) {
+                        recorder.connectionAcquired(acquireDuration);
+                    }
+                    return connection;
+                }
                 return method.invoke(orig, args);
             } catch (InvocationTargetException e) {
                 log.debug("", e);
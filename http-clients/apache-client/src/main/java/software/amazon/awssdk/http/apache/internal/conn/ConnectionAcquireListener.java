@@ -0,0 +1,47 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpRequestMetricsListener;
+
+/**
+ * Hands the {@link HttpRequestMetricsListener} of a request to the {@link ClientConnectionRequestFactory} timing its
+ * connection request. Apache requests the connection on the thread executing the request, which doesn't have access to
+ * the SDK request, so the listener is bound to that thread for the duration of the execution.
+ */
+@SdkInternalApi
+public final class ConnectionAcquireListener {
+    private static final ThreadLocal<HttpRequestMetricsListener> LISTENER = new ThreadLocal<>();
+
+    private ConnectionAcquireListener() {
+    }
+
+    /**
+     * Binds the listener to the current thread until {@link #clear()} is called.
+     */
+    public static void set(HttpRequestMetricsListener listener) {
+        LISTENER.set(listener);
+    }
+
+    public static void clear() {
+        LISTENER.remove();
+    }
+
+    static HttpRequestMetricsListener current() {
+        return LISTENER.get();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.pool.PoolStats;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ConnectionPoolMetrics;
+import software.amazon.awssdk.http.ConnectionPoolMetricsRecorder;
+
+/**
+ * Connection pool statistics of an Apache client, one {@link ConnectionPoolMetricsRecorder} per route. The state of the pool
+ * is read from the connection manager, the connections are tracked by the {@link MetricsConnectionFactory} creating them and
+ * acquire latencies by the {@link ClientConnectionRequestFactory}.
+ */
+@SdkInternalApi
+public final class ConnectionPoolMetricsTracker {
+
+    private final ConcurrentMap<HttpRoute, ConnectionPoolMetricsRecorder> recorders = new ConcurrentHashMap<>();
+    private volatile ConnPoolControl<HttpRoute> pool;
+
+    /**
+     * Sets the pool whose state is reported, which can only be created once its connection factory, taking this tracker,
+     * exists.
+     */
+    public void pool(ConnPoolControl<HttpRoute> pool) {
+        this.pool = pool;
+    }
+
+    ConnectionPoolMetricsRecorder recorder(HttpRoute route) {
+        return recorders.computeIfAbsent(route, r -> new ConnectionPoolMetricsRecorder(endpoint(r.getTargetHost())));
+    }
+
+    /**
+     * @return The state of the pool of each route a connection was requested for.
+     */
+    public List<ConnectionPoolMetrics> metrics() {
+        ConnPoolControl<HttpRoute> control = pool;
+        return recorders.entrySet().stream()
+                        .map(e -> {
+                            if (control == null) {
+                                return e.getValue().snapshot(0, 0, 0, 0);
+                            }
+                            PoolStats stats = control.getStats(e.getKey());
+                            return e.getValue().snapshot(stats.getLeased(), stats.getAvailable(), stats.getPending(),
+                                                         stats.getMax());
+                        })
+                        .collect(Collectors.toList());
+    }
+
+    private static String endpoint(HttpHost host) {
+        int port = host.getPort();
+        if (port < 0) {
+            port = "https".equalsIgnoreCase(host.getSchemeName()) ? 443 : 80;
+        }
+        return host.getSchemeName() + "://" + host.getHostName() + ":" + port;
+    }
+}
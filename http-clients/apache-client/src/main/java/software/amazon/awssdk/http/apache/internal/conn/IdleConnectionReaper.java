@@ -37,6 +37,8 @@ public final class IdleConnectionReaper {
 
     private static final IdleConnectionReaper INSTANCE = new IdleConnectionReaper();
 
+    private static final ThreadLocal<Boolean> REAPER_THREAD = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
     private final Map<HttpClientConnectionManager, Long> connectionManagers;
 
     private final Supplier<ExecutorService> executorServiceSupplier;
@@ -99,6 +101,13 @@ public final class IdleConnectionReaper {
         return wasRemoved;
     }
 
+    /**
+     * @return Whether the current thread is reaping idle connections, so connections it closes were idle.
+     */
+    static boolean isReaperThread() {
+        return REAPER_THREAD.get();
+    }
+
     /**
      * @return The singleton instance of this class.
      */
@@ -145,6 +154,7 @@ public final class IdleConnectionReaper {
 
         @Override
         public void run() {
+            REAPER_THREAD.set(Boolean.TRUE);
             while (!stopping) {
                 try {
                     Thread.sleep(sleepPeriod);
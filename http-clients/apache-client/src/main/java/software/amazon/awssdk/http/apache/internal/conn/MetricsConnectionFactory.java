@@ -0,0 +1,120 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.http.config.ConnectionConfig;
+import org.apache.http.conn.HttpConnectionFactory;
+import org.apache.http.conn.ManagedHttpClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.ManagedHttpClientConnectionFactory;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ConnectionCloseReason;
+import software.amazon.awssdk.http.ConnectionPoolMetricsRecorder;
+
+/**
+ * Creates connections through the {@link ManagedHttpClientConnectionFactory}, recording their creation and closure with the
+ * {@link ConnectionPoolMetricsTracker}.
+ *
+ * <p>Apache shuts a connection down on I/O errors and aborted requests and closes it otherwise, so a shutdown is attributed
+ * to {@link ConnectionCloseReason#ERROR}. A close is attributed to {@link ConnectionCloseReason#IDLE} when done by the
+ * {@link IdleConnectionReaper}, to {@link ConnectionCloseReason#REMOTE} when the connection was found stale, i.e. closed by
+ * the server, when validated before reuse, and to {@link ConnectionCloseReason#OTHER} otherwise.</p>
+ */
+@SdkInternalApi
+public final class MetricsConnectionFactory implements HttpConnectionFactory<HttpRoute, ManagedHttpClientConnection> {
+    private static final Class<?>[] INTERFACES = {
+            ManagedHttpClientConnection.class,
+            Wrapped.class
+    };
+
+    private final HttpConnectionFactory<HttpRoute, ManagedHttpClientConnection> delegate =
+            ManagedHttpClientConnectionFactory.INSTANCE;
+    private final ConnectionPoolMetricsTracker tracker;
+
+    public MetricsConnectionFactory(ConnectionPoolMetricsTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    public ManagedHttpClientConnection create(HttpRoute route, ConnectionConfig config) {
+        ConnectionPoolMetricsRecorder recorder = tracker.recorder(route);
+        ManagedHttpClientConnection connection = delegate.create(route, config);
+        recorder.connectionCreated();
+        return (ManagedHttpClientConnection) Proxy.newProxyInstance(
+                // https://github.com/aws/aws-sdk-java/pull/48#issuecomment-29454423
+                MetricsConnectionFactory.class.getClassLoader(),
+                INTERFACES,
+                new Handler(connection, recorder));
+    }
+
+    /**
+     * The handler behind the dynamic proxy for {@link ManagedHttpClientConnection} recording why the connection is closed.
+     */
+    private static class Handler implements InvocationHandler {
+        private final ManagedHttpClientConnection orig;
+        private final ConnectionPoolMetricsRecorder recorder;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean stale;
+
+        Handler(ManagedHttpClientConnection orig, ConnectionPoolMetricsRecorder recorder) {
+            this.orig = orig;
+            this.recorder = recorder;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            try {
+                switch (method.getName()) {
+                    case "shutdown":
+                        recordClosed(ConnectionCloseReason.ERROR);
+                        break;
+                    case "close":
+                        recordClosed(closeReason());
+                        break;
+                    default:
+                        break;
+                }
+                Object ret = method.invoke(orig, args);
+                if ("isStale".equals(method.getName()) && Boolean.TRUE.equals(ret)) {
+                    stale = true;
+                }
+                return ret;
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private ConnectionCloseReason closeReason() {
+            if (IdleConnectionReaper.isReaperThread()) {
+                return ConnectionCloseReason.IDLE;
+            }
+            return stale ? ConnectionCloseReason.REMOTE : ConnectionCloseReason.OTHER;
+        }
+
+        private void recordClosed(ConnectionCloseReason reason) {
+            // Only the first close or shutdown counts, a connection shut down is usually closed again once released
+            if (closed.compareAndSet(false, true)) {
+                recorder.connectionClosed(reason);
+            }
+        }
+    }
+}
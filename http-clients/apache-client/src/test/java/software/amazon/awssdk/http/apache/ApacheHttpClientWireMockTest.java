@@ -15,12 +15,15 @@
 
 package software.amazon.awssdk.http.apache;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
 
 import java.net.HttpURLConnection;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.runners.MockitoJUnitRunner;
+import software.amazon.awssdk.http.ConnectionCloseReason;
+import software.amazon.awssdk.http.ConnectionPoolMetrics;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpClientTestSuite;
 import software.amazon.awssdk.utils.AttributeMap;
@@ -41,4 +44,31 @@ public class ApacheHttpClientWireMockTest extends SdkHttpClientTestSuite {
 
         testForResponseCodeUsingHttps(client, HttpURLConnection.HTTP_OK);
     }
+
+    @Test
+    public void connectionPoolMetrics_ReportConnectionsOfEachRoute() throws Exception {
+        SdkHttpClient client = ApacheHttpClient.builder()
+                                               .maxConnections(5)
+                                               .buildWithDefaults(AttributeMap.builder()
+                                                                              .put(TRUST_ALL_CERTIFICATES, Boolean.TRUE)
+                                                                              .build());
+
+        testForResponseCodeUsingHttps(client, HttpURLConnection.HTTP_OK);
+
+        assertThat(client.connectionPoolMetrics()).hasSize(1);
+        ConnectionPoolMetrics metrics = client.connectionPoolMetrics().get(0);
+        assertThat(metrics.endpoint()).isEqualTo("https://localhost:" + mockServer.httpsPort());
+        assertThat(metrics.leasedConnections()).isZero();
+        assertThat(metrics.idleConnections()).isEqualTo(1);
+        assertThat(metrics.pendingAcquires()).isZero();
+        assertThat(metrics.maxConnections()).isEqualTo(5);
+        assertThat(metrics.createdConnections()).isEqualTo(1);
+        assertThat(metrics.acquireLatency().count()).isEqualTo(1);
+
+        client.close();
+
+        metrics = client.connectionPoolMetrics().get(0);
+        assertThat(metrics.idleConnections()).isZero();
+        assertThat(metrics.closedConnections(ConnectionCloseReason.OTHER)).isEqualTo(1);
+    }
 }
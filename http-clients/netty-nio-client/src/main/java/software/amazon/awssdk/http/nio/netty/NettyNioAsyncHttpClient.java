@@ -35,18 +35,25 @@ import io.netty.handler.ssl.SupportedCipherSuiteFilter;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import java.net.URI;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 import javax.net.ssl.SSLException;
 import javax.net.ssl.TrustManagerFactory;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.ConnectionPoolMetrics;
+import software.amazon.awssdk.http.ConnectionPoolMetricsRecorder;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.internal.ChannelPipelineInitializer;
-import software.amazon.awssdk.http.nio.netty.internal.HandlerRemovingChannelPool;
+import software.amazon.awssdk.http.nio.netty.internal.ConnectionMetricsHandler;
+import software.amazon.awssdk.http.nio.netty.internal.HandlerResettingChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.NettyRequestExecutor;
 import software.amazon.awssdk.http.nio.netty.internal.NonManagedEventLoopGroup;
@@ -55,6 +62,8 @@ import software.amazon.awssdk.http.nio.netty.internal.RequestContext;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelOptions;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPoolMap;
 import software.amazon.awssdk.http.nio.netty.internal.SharedSdkEventLoopGroup;
+import software.amazon.awssdk.http.nio.netty.internal.TlsHandshakeRecorder;
+import software.amazon.awssdk.http.nio.netty.internal.Transport;
 import software.amazon.awssdk.http.nio.netty.internal.http2.HttpOrHttp2ChannelPool;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.Either;
@@ -64,20 +73,46 @@ import software.amazon.awssdk.utils.Validate;
  * An implementation of {@link SdkAsyncHttpClient} that uses a Netty non-blocking HTTP client to communicate with the service.
  *
  * <p>This can be created via {@link #builder()}</p>
+ *
+ * <p>HTTPS connections send the host of the endpoint in the SNI extension of the TLS handshake, and cache their TLS session
+ * by endpoint host and port so later connections to the same endpoint can resume it.</p>
  */
 @SdkPublicApi
 public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
+
+    /**
+     * Maximum number of TLS sessions cached for resumption, shared by all endpoints of the client.
+     */
+    private static final int TLS_SESSION_CACHE_SIZE = 1024;
+
+    /**
+     * Default interval between the PINGs checking the health of HTTP/2 connections.
+     */
+    private static final Duration DEFAULT_HTTP2_PING_INTERVAL = Duration.ofSeconds(5);
+
+    /**
+     * Default maximum time a pooled connection may stay unused before it's closed.
+     */
+    private static final Duration DEFAULT_CONNECTION_MAX_IDLE_TIME = Duration.ofSeconds(60);
+
     private final SdkEventLoopGroup sdkEventLoopGroup;
     private final ChannelPoolMap<URI, ChannelPool> pools;
     private final SdkChannelOptions sdkChannelOptions;
     private final NettyConfiguration configuration;
     private final long maxStreams;
+    private final Duration http2PingInterval;
+    private final Duration connectionMaxIdleTime;
+    private final TlsHandshakeRecorder tlsHandshakeRecorder = new TlsHandshakeRecorder(TLS_SESSION_CACHE_SIZE);
+    private final Map<URI, HttpOrHttp2ChannelPool> endpointPools = new ConcurrentHashMap<>();
+    private volatile SslContext sslContext;
     private Protocol protocol;
 
     NettyNioAsyncHttpClient(DefaultBuilder builder, AttributeMap serviceDefaultsMap) {
         this.configuration = new NettyConfiguration(serviceDefaultsMap);
         this.protocol = serviceDefaultsMap.get(SdkHttpConfigurationOption.PROTOCOL);
         this.maxStreams = 200;
+        this.http2PingInterval = builder.http2PingInterval;
+        this.connectionMaxIdleTime = builder.connectionMaxIdleTime;
         this.sdkEventLoopGroup = eventLoopGroup(builder);
         this.pools = createChannelPoolMap();
         this.sdkChannelOptions = channelOptions(builder);
@@ -97,6 +132,24 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return new DefaultBuilder();
     }
 
+    /**
+     * @return Statistics on the TLS handshakes of all connections opened by this client.
+     */
+    public TlsHandshakeMetrics tlsHandshakeMetrics() {
+        return tlsHandshakeRecorder;
+    }
+
+    /**
+     * @return The state of the connection pool of each endpoint this client has sent requests to. For HTTP/2 leased
+     * connections are the streams in use.
+     */
+    @Override
+    public List<ConnectionPoolMetrics> connectionPoolMetrics() {
+        return endpointPools.values().stream()
+                            .map(HttpOrHttp2ChannelPool::metrics)
+                            .collect(Collectors.toList());
+    }
+
     private RequestContext createRequestContext(AsyncExecuteRequest request) {
         ChannelPool pool = pools.get(poolKey(request.request()));
         return new RequestContext(pool, request, configuration);
@@ -115,15 +168,34 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                           sdkRequest.port(), null, null, null));
     }
 
+    /**
+     * Returns the {@link SslContext} shared by the channel pools of all endpoints, so they share its TLS session cache.
+     * Created when the first HTTPS endpoint is used.
+     */
     private SslContext sslContext(String protocol) {
         if (!protocol.equalsIgnoreCase("https")) {
             return null;
         }
+        SslContext context = sslContext;
+        if (context == null) {
+            synchronized (this) {
+                context = sslContext;
+                if (context == null) {
+                    context = createSslContext();
+                    sslContext = context;
+                }
+            }
+        }
+        return context;
+    }
+
+    private SslContext createSslContext() {
         try {
             return SslContextBuilder.forClient()
                                     .sslProvider(SslContext.defaultClientProvider())
                                     .ciphers(Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE)
                                     .trustManager(getTrustManager())
+                                    .sessionCacheSize(TLS_SESSION_CACHE_SIZE)
                                     .build();
         } catch (SSLException e) {
             throw new RuntimeException(e);
@@ -146,14 +218,21 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                         .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, configuration.connectTimeoutMillis())
                         // TODO run some performance tests with and without this.
                         .remoteAddress(key.getHost(), key.getPort());
-                sdkChannelOptions.channelOptions().forEach(bootstrap::option);
+                // Native options like TCP_QUICKACK are only applied when the event loop group uses their transport
+                Transport transport = Transport.of(sdkEventLoopGroup.eventLoopGroup());
+                sdkChannelOptions.channelOptions(transport).forEach(bootstrap::option);
                 AtomicReference<ChannelPool> channelPoolRef = new AtomicReference<>();
+                ConnectionMetricsHandler connectionMetrics =
+                    new ConnectionMetricsHandler(new ConnectionPoolMetricsRecorder(key.toString()));
                 ChannelPipelineInitializer handler =
-                    new ChannelPipelineInitializer(protocol, sslContext, maxStreams, channelPoolRef);
-                channelPoolRef.set(new ReleaseOnceChannelPool(
-                    new HandlerRemovingChannelPool(
-                        new HttpOrHttp2ChannelPool(bootstrap, handler,
-                                                   configuration.maxConnections(), configuration))));
+                    new ChannelPipelineInitializer(protocol, sslContext, maxStreams, http2PingInterval.toMillis(),
+                                                   connectionMaxIdleTime.toMillis(), channelPoolRef, key,
+                                                   tlsHandshakeRecorder, connectionMetrics);
+                HttpOrHttp2ChannelPool endpointPool = new HttpOrHttp2ChannelPool(bootstrap, handler,
+                                                                                 configuration.maxConnections(),
+                                                                                 configuration, connectionMetrics);
+                endpointPools.put(key, endpointPool);
+                channelPoolRef.set(new ReleaseOnceChannelPool(new HandlerResettingChannelPool(endpointPool)));
                 return channelPoolRef.get();
             }
         };
@@ -285,6 +364,54 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          * @see SdkEventLoopGroup.Builder
          */
         Builder putChannelOption(ChannelOption channelOption, Object value);
+
+        /**
+         * Whether to set TCP_NODELAY on the connections, disabling Nagle's algorithm so small writes like request headers are
+         * sent right away. Defaults to true.
+         *
+         * @param tcpNoDelay False to enable Nagle's algorithm.
+         * @return This builder for method chaining.
+         */
+        Builder tcpNoDelay(Boolean tcpNoDelay);
+
+        /**
+         * Whether to set TCP_QUICKACK on the connections, acknowledging received segments right away instead of delaying the
+         * acknowledgement. Only applied when the client uses the epoll transport, see
+         * {@link SdkEventLoopGroup.Builder#useNativeTransport(Boolean)}. Defaults to false.
+         *
+         * @param tcpQuickAck True to acknowledge received segments right away.
+         * @return This builder for method chaining.
+         */
+        Builder tcpQuickAck(Boolean tcpQuickAck);
+
+        /**
+         * Whether to set SO_REUSEPORT on the connections, allowing several sockets to bind to the same local port. Only
+         * applied when the client uses the epoll transport, see {@link SdkEventLoopGroup.Builder#useNativeTransport(Boolean)}.
+         * Defaults to false.
+         *
+         * @param reusePort True to allow several sockets to bind to the same local port.
+         * @return This builder for method chaining.
+         */
+        Builder reusePort(Boolean reusePort);
+
+        /**
+         * The interval between the PINGs sent to check the health of HTTP/2 connections. A connection that didn't acknowledge
+         * a PING by the time the next one is due is closed and its requests fail. {@link Duration#ZERO} disables the health
+         * checks. Defaults to 5 seconds.
+         *
+         * @param http2PingInterval Interval between PINGs.
+         * @return This builder for method chaining.
+         */
+        Builder http2PingInterval(Duration http2PingInterval);
+
+        /**
+         * The maximum time a connection may stay in the pool without being used by any request before it's closed.
+         * {@link Duration#ZERO} keeps idle connections open until the server closes them. Defaults to 60 seconds.
+         *
+         * @param connectionMaxIdleTime Maximum idle time of a connection.
+         * @return This builder for method chaining.
+         */
+        Builder connectionMaxIdleTime(Duration connectionMaxIdleTime);
     }
 
     /**
@@ -299,6 +426,8 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
 
         private SdkEventLoopGroup eventLoopGroup;
         private SdkEventLoopGroup.Builder eventLoopGroupBuilder;
+        private Duration http2PingInterval = DEFAULT_HTTP2_PING_INTERVAL;
+        private Duration connectionMaxIdleTime = DEFAULT_CONNECTION_MAX_IDLE_TIME;
 
         private DefaultBuilder() {
         }
@@ -438,6 +567,56 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             return this;
         }
 
+        @Override
+        public Builder tcpNoDelay(Boolean tcpNoDelay) {
+            this.sdkChannelOptions.tcpNoDelay(Validate.paramNotNull(tcpNoDelay, "tcpNoDelay"));
+            return this;
+        }
+
+        public void setTcpNoDelay(Boolean tcpNoDelay) {
+            tcpNoDelay(tcpNoDelay);
+        }
+
+        @Override
+        public Builder tcpQuickAck(Boolean tcpQuickAck) {
+            this.sdkChannelOptions.tcpQuickAck(Validate.paramNotNull(tcpQuickAck, "tcpQuickAck"));
+            return this;
+        }
+
+        public void setTcpQuickAck(Boolean tcpQuickAck) {
+            tcpQuickAck(tcpQuickAck);
+        }
+
+        @Override
+        public Builder reusePort(Boolean reusePort) {
+            this.sdkChannelOptions.reusePort(Validate.paramNotNull(reusePort, "reusePort"));
+            return this;
+        }
+
+        public void setReusePort(Boolean reusePort) {
+            reusePort(reusePort);
+        }
+
+        @Override
+        public Builder http2PingInterval(Duration http2PingInterval) {
+            this.http2PingInterval = Validate.isNotNegative(http2PingInterval, "http2PingInterval");
+            return this;
+        }
+
+        public void setHttp2PingInterval(Duration http2PingInterval) {
+            http2PingInterval(http2PingInterval);
+        }
+
+        @Override
+        public Builder connectionMaxIdleTime(Duration connectionMaxIdleTime) {
+            this.connectionMaxIdleTime = Validate.isNotNegative(connectionMaxIdleTime, "connectionMaxIdleTime");
+            return this;
+        }
+
+        public void setConnectionMaxIdleTime(Duration connectionMaxIdleTime) {
+            connectionMaxIdleTime(connectionMaxIdleTime);
+        }
+
         @Override
         public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             return new NettyNioAsyncHttpClient(this, standardOptions.build()
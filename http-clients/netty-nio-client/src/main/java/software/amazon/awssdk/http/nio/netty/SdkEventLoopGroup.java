@@ -18,12 +18,13 @@ package software.amazon.awssdk.http.nio.netty;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFactory;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.nio.netty.internal.Transport;
 import software.amazon.awssdk.http.nio.netty.internal.utils.SocketChannelResolver;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SystemSetting;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.Validate;
 
@@ -49,6 +50,8 @@ import software.amazon.awssdk.utils.Validate;
 @SdkPublicApi
 public final class SdkEventLoopGroup {
 
+    private static final Logger log = Logger.loggerFor(SdkEventLoopGroup.class);
+
     private final EventLoopGroup eventLoopGroup;
     private final ChannelFactory<? extends Channel> channelFactory;
 
@@ -116,21 +119,33 @@ public final class SdkEventLoopGroup {
         ThreadFactory threadFactory = Optional.ofNullable(builder.threadFactory)
                                               .orElse(new ThreadFactoryBuilder().threadNamePrefix("aws-java-sdk-NettyEventLoop")
                                                                                 .build());
-        return new NioEventLoopGroup(numThreads, threadFactory);
         /*
         Need to investigate why epoll is raising channel inactive after successful response that causes
-        problems with retries.
-
-        if (Epoll.isAvailable() && isNotAwsLambda()) {
-            return new EpollEventLoopGroup(numThreads, resolveThreadFactory());
-        } else {
+        problems with retries. Native transports are therefore opt-in and never used on AWS Lambda.
+        */
+        boolean useNativeTransport = Optional.ofNullable(builder.useNativeTransport).orElse(Boolean.FALSE) && isNotAwsLambda();
+        for (Transport transport : Transport.values()) {
+            if (transport != Transport.NIO && (!useNativeTransport || !transport.isAvailable())) {
+                continue;
+            }
+            try {
+                EventLoopGroup group = transport.newEventLoopGroup(numThreads, threadFactory);
+                log.info(() -> "Using the " + transport + " transport for the Netty event loop group");
+                return group;
+            } catch (Exception | LinkageError e) {
+                // Fall back to the next transport
+                log.warn(() -> "Failed to create an event loop group for the " + transport + " transport", e);
+            }
+        }
+        throw new IllegalStateException("Failed to create an event loop group");
+    }
 
-        }*/
+    private static boolean isNotAwsLambda() {
+        return !AwsLambdaSetting.AWS_LAMBDA_FUNCTION_NAME.getStringValue().isPresent();
     }
 
     private ChannelFactory<? extends Channel> resolveChannelFactory() {
-        // Currently we only support NioEventLoopGroup
-        return NioSocketChannel::new;
+        return SocketChannelResolver.resolveSocketChannelFactory(eventLoopGroup);
     }
 
     /**
@@ -159,6 +174,18 @@ public final class SdkEventLoopGroup {
          */
         Builder threadFactory(ThreadFactory threadFactory);
 
+        /**
+         * Whether to use a native transport when it's available on the platform: io_uring when the Netty incubator transport
+         * is on the classpath, otherwise epoll on Linux. The NIO transport is used when no native transport is available or
+         * it fails to load. The transport in use is logged when the {@link EventLoopGroup} is created.
+         *
+         * <p>Defaults to false. Native transports are never used on AWS Lambda.</p>
+         *
+         * @param useNativeTransport True to use a native transport when it's available.
+         * @return This builder for method chaining.
+         */
+        Builder useNativeTransport(Boolean useNativeTransport);
+
         SdkEventLoopGroup build();
     }
 
@@ -166,6 +193,7 @@ public final class SdkEventLoopGroup {
 
         private Integer numberOfThreads;
         private ThreadFactory threadFactory;
+        private Boolean useNativeTransport;
 
         private DefaultBuilder() {
         }
@@ -190,9 +218,38 @@ public final class SdkEventLoopGroup {
             threadFactory(threadFactory);
         }
 
+        @Override
+        public Builder useNativeTransport(Boolean useNativeTransport) {
+            this.useNativeTransport = useNativeTransport;
+            return this;
+        }
+
+        public void setUseNativeTransport(Boolean useNativeTransport) {
+            useNativeTransport(useNativeTransport);
+        }
+
         @Override
         public SdkEventLoopGroup build() {
             return new SdkEventLoopGroup(this);
         }
     }
+
+    private enum AwsLambdaSetting implements SystemSetting {
+        AWS_LAMBDA_FUNCTION_NAME;
+
+        @Override
+        public String property() {
+            return null;
+        }
+
+        @Override
+        public String environmentVariable() {
+            return name();
+        }
+
+        @Override
+        public String defaultValue() {
+            return null;
+        }
+    }
 }
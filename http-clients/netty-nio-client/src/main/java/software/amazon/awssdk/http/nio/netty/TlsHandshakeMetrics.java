@@ -0,0 +1,64 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * TLS handshake statistics of a {@link NettyNioAsyncHttpClient}, accumulated across all connections the client has opened
+ * since it was created. Obtained via {@link NettyNioAsyncHttpClient#tlsHandshakeMetrics()}.
+ *
+ * <p>A high ratio of full to resumed handshakes means new connections pay for a full key exchange, which usually dominates
+ * connection setup time.</p>
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface TlsHandshakeMetrics {
+
+    /**
+     * @return Number of handshakes that completed successfully, resumed or not.
+     */
+    long handshakeCount();
+
+    /**
+     * Number of successful handshakes that resumed a previously established TLS session.
+     *
+     * <p>Resumption is detected from the session being reused or keeping the ID of the session it resumes, which holds
+     * for TLS 1.2 with both the JDK and OpenSSL providers. A TLS 1.3 resumption can't be told apart from a full handshake
+     * this way, so with TLS 1.3 the count stays at zero even when sessions are resumed.</p>
+     *
+     * @return Number of resumed handshakes.
+     */
+    long resumedHandshakeCount();
+
+    /**
+     * @return Number of handshakes that failed, including those interrupted by the connection closing.
+     */
+    long failedHandshakeCount();
+
+    /**
+     * @return Average time taken by a successful handshake, from the connection becoming active until the handshake
+     * completed. {@link Duration#ZERO} if no handshake has completed yet.
+     */
+    Duration averageHandshakeLatency();
+
+    /**
+     * @return Longest time taken by a successful handshake. {@link Duration#ZERO} if no handshake has completed yet.
+     */
+    Duration maxHandshakeLatency();
+}
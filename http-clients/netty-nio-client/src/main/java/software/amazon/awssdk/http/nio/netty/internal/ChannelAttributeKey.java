@@ -21,6 +21,7 @@ import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ConnectionCloseReason;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.nio.netty.internal.http2.MultiplexedChannelRecord;
 
@@ -46,6 +47,12 @@ public final class ChannelAttributeKey {
      */
     public static final AttributeKey<Long> MAX_CONCURRENT_STREAMS = AttributeKey.newInstance("maxConcurrentStreams");
 
+    /**
+     * Why the client closed the connection, see {@link ConnectionMetricsHandler}.
+     */
+    static final AttributeKey<ConnectionCloseReason> CLOSE_REASON =
+        AttributeKey.newInstance("aws.http.nio.netty.async.closeReason");
+
     /**
      * Attribute key for {@link RequestContext}.
      */
@@ -32,11 +32,14 @@ import io.netty.handler.codec.http2.Http2Settings;
 import io.netty.handler.codec.http2.Http2SettingsFrame;
 import io.netty.handler.ssl.SslContext;
 import java.io.IOException;
+import java.net.URI;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ConnectionCloseReason;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ConnectionHealthHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.MultiplexedChannelRecord;
 import software.amazon.awssdk.http.nio.netty.internal.http2.SdkHttp2FrameLogger;
 
@@ -45,27 +48,51 @@ import software.amazon.awssdk.http.nio.netty.internal.http2.SdkHttp2FrameLogger;
  */
 @SdkInternalApi
 public class ChannelPipelineInitializer extends AbstractChannelPoolHandler {
+
     private final Protocol protocol;
     private final SslContext sslCtx;
     private final long clientMaxStreams;
+    private final long http2PingIntervalMillis;
+    private final long connectionMaxIdleMillis;
     private final AtomicReference<ChannelPool> channelPoolRef;
+    private final URI poolKey;
+    private final TlsHandshakeRecorder tlsHandshakeRecorder;
+    private final ConnectionMetricsHandler connectionMetricsHandler;
 
     public ChannelPipelineInitializer(Protocol protocol,
                                       SslContext sslCtx,
                                       long clientMaxStreams,
-                                      AtomicReference<ChannelPool> channelPoolRef) {
+                                      long http2PingIntervalMillis,
+                                      long connectionMaxIdleMillis,
+                                      AtomicReference<ChannelPool> channelPoolRef,
+                                      URI poolKey,
+                                      TlsHandshakeRecorder tlsHandshakeRecorder,
+                                      ConnectionMetricsHandler connectionMetricsHandler) {
         this.protocol = protocol;
         this.sslCtx = sslCtx;
         this.clientMaxStreams = clientMaxStreams;
+        this.http2PingIntervalMillis = http2PingIntervalMillis;
+        this.connectionMaxIdleMillis = connectionMaxIdleMillis;
         this.channelPoolRef = channelPoolRef;
+        this.poolKey = poolKey;
+        this.tlsHandshakeRecorder = tlsHandshakeRecorder;
+        this.connectionMetricsHandler = connectionMetricsHandler;
     }
 
     @Override
     public void channelCreated(Channel ch) throws Exception {
         ch.attr(PROTOCOL_FUTURE).set(new CompletableFuture<>());
         ChannelPipeline pipeline = ch.pipeline();
+        pipeline.addFirst(connectionMetricsHandler);
+        if (connectionMaxIdleMillis > 0) {
+            pipeline.addLast(new IdleConnectionReaperHandler(connectionMaxIdleMillis));
+        }
         if (sslCtx != null) {
-            pipeline.addLast(sslCtx.newHandler(ch.alloc()));
+            // Passing the peer host and port changes more than session caching: besides keying the session cache of the
+            // shared context, so later connections to the same endpoint can resume the session, the host is sent in the
+            // server_name (SNI) extension of the ClientHello. Hostname verification isn't affected, it's still not enabled
+            pipeline.addLast(sslCtx.newHandler(ch.alloc(), poolKey.getHost(), poolKey.getPort()));
+            pipeline.addLast(tlsHandshakeRecorder);
         }
 
         if (protocol == Protocol.HTTP2) {
@@ -77,6 +104,16 @@ public class ChannelPipelineInitializer extends AbstractChannelPoolHandler {
         pipeline.addLast(new FutureCancelHandler());
     }
 
+    @Override
+    public void channelAcquired(Channel ch) {
+        connectionMetricsHandler.connectionLeased(ch);
+    }
+
+    @Override
+    public void channelReleased(Channel ch) {
+        connectionMetricsHandler.connectionReleased(ch);
+    }
+
     private void configureHttp2(Channel ch, ChannelPipeline pipeline) {
         ForkedHttp2MultiplexCodecBuilder codecBuilder = ForkedHttp2MultiplexCodecBuilder
             .forClient(new NoOpChannelInitializer())
@@ -86,6 +123,7 @@ public class ChannelPipelineInitializer extends AbstractChannelPoolHandler {
         SdkHttp2FrameLogger.frameLogger().ifPresent(codecBuilder::frameLogger);
 
         pipeline.addLast(codecBuilder.build());
+        pipeline.addLast(new Http2ConnectionHealthHandler(http2PingIntervalMillis));
 
         pipeline.addLast(new SimpleChannelInboundHandler<Http2SettingsFrame>() {
             @Override
@@ -111,6 +149,7 @@ public class ChannelPipelineInitializer extends AbstractChannelPoolHandler {
 
     private void channelError(Throwable cause, Channel ch) {
         ch.attr(PROTOCOL_FUTURE).get().completeExceptionally(cause);
+        ConnectionMetricsHandler.closeReason(ch, ConnectionCloseReason.ERROR);
         MultiplexedChannelRecord record = ch.attr(ChannelAttributeKey.CHANNEL_POOL_RECORD).get();
         // Deliver the exception to any child channels registered to this connection.
         if (record != null) {
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CHANNEL_POOL_RECORD;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CLOSE_REASON;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandler.Sharable;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.AttributeKey;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ConnectionCloseReason;
+import software.amazon.awssdk.http.ConnectionPoolMetricsRecorder;
+import software.amazon.awssdk.http.nio.netty.internal.http2.MultiplexedChannelRecord;
+
+/**
+ * Tracks the connections of the channel pool of a single endpoint for its {@link ConnectionPoolMetricsRecorder}. Shared by
+ * all connections of the pool and added first to their pipeline, so it sees every close initiated by the client.
+ *
+ * <p>A connection closed by the client is attributed to the reason recorded with {@link #closeReason(Channel,
+ * ConnectionCloseReason)} before closing it, or {@link ConnectionCloseReason#OTHER} if none was. A connection closed without
+ * the client closing it was closed by the server.</p>
+ */
+@Sharable
+@SdkInternalApi
+public final class ConnectionMetricsHandler extends ChannelDuplexHandler {
+
+    private static final AttributeKey<Boolean> LEASED = AttributeKey.newInstance("aws.http.nio.netty.async.leased");
+    private static final AttributeKey<Long> LAST_USED = AttributeKey.newInstance("aws.http.nio.netty.async.lastUsed");
+
+    private final ConnectionPoolMetricsRecorder recorder;
+    private final Set<Channel> openConnections = ConcurrentHashMap.newKeySet();
+
+    public ConnectionMetricsHandler(ConnectionPoolMetricsRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    public ConnectionPoolMetricsRecorder recorder() {
+        return recorder;
+    }
+
+    /**
+     * Records why the client is about to close the connection, unless a reason was already recorded.
+     */
+    public static void closeReason(Channel channel, ConnectionCloseReason reason) {
+        channel.attr(CLOSE_REASON).setIfAbsent(reason);
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        Channel channel = ctx.channel();
+        connectionUsed(channel);
+        recorder.connectionCreated();
+        openConnections.add(channel);
+        channel.closeFuture().addListener(f -> {
+            openConnections.remove(channel);
+            ConnectionCloseReason reason = channel.attr(CLOSE_REASON).get();
+            recorder.connectionClosed(reason == null ? ConnectionCloseReason.REMOTE : reason);
+        });
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        closeReason(ctx.channel(), ConnectionCloseReason.OTHER);
+        super.close(ctx, promise);
+    }
+
+    /**
+     * Called when the connection is acquired from the underlying pool, for HTTP/2 once by the pool multiplexing streams on it.
+     */
+    void connectionLeased(Channel channel) {
+        channel.attr(LEASED).set(Boolean.TRUE);
+    }
+
+    void connectionReleased(Channel channel) {
+        channel.attr(LEASED).set(Boolean.FALSE);
+        connectionUsed(channel);
+    }
+
+    /**
+     * Records that a request just stopped using the connection, for HTTP/2 called when a stream is released.
+     */
+    public static void connectionUsed(Channel channel) {
+        channel.attr(LAST_USED).set(System.nanoTime());
+    }
+
+    /**
+     * @return Whether a request is using the connection. An HTTP/2 connection is in use while any of its streams is.
+     */
+    static boolean isInUse(Channel channel) {
+        MultiplexedChannelRecord record = channel.attr(CHANNEL_POOL_RECORD).get();
+        return record != null ? record.hasStreamsInUse() : Boolean.TRUE.equals(channel.attr(LEASED).get());
+    }
+
+    /**
+     * @return The {@link System#nanoTime()} a request last stopped using the connection, or it was opened if none used it.
+     */
+    static long lastUsedNanos(Channel channel) {
+        Long lastUsed = channel.attr(LAST_USED).get();
+        return lastUsed != null ? lastUsed : System.nanoTime();
+    }
+
+    /**
+     * @return Number of open connections without a request in flight. An HTTP/2 connection is idle when none of its streams
+     * is in use.
+     */
+    public int idleConnections() {
+        int idle = 0;
+        for (Channel channel : openConnections) {
+            if (!isInUse(channel)) {
+                idle++;
+            }
+        }
+        return idle;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import java.io.IOException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Publishes the content of a file-backed request body read straight into pooled direct buffers of the channel's allocator,
+ * which the TLS handler can encrypt without first copying the content out of a heap buffer. One chunk is read per unit of
+ * demand.
+ */
+@SdkInternalApi
+final class DirectBufferFilePublisher implements Publisher<HttpContent> {
+
+    private static final Logger log = LoggerFactory.getLogger(DirectBufferFilePublisher.class);
+
+    /**
+     * Matches the maximum TLS record size so every chunk is encrypted into a single record.
+     */
+    private static final int CHUNK_SIZE = 16 * 1024;
+
+    private final Channel channel;
+    private final Path file;
+    private final long length;
+
+    DirectBufferFilePublisher(Channel channel, Path file, long length) {
+        this.channel = channel;
+        this.file = file;
+        this.length = length;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super HttpContent> subscriber) {
+        AsynchronousFileChannel fileChannel;
+        try {
+            fileChannel = AsynchronousFileChannel.open(file, StandardOpenOption.READ);
+        } catch (IOException e) {
+            subscriber.onSubscribe(new NoOpSubscription());
+            subscriber.onError(e);
+            return;
+        }
+        subscriber.onSubscribe(new FileReadSubscription(fileChannel, subscriber));
+    }
+
+    private final class FileReadSubscription implements Subscription, CompletionHandler<Integer, ByteBuf> {
+
+        private final AsynchronousFileChannel fileChannel;
+        private final Subscriber<? super HttpContent> subscriber;
+        private final AtomicLong demand = new AtomicLong(0);
+
+        /**
+         * Held while a chunk is being read and delivered, so chunks are delivered in order and one at a time.
+         */
+        private final AtomicBoolean reading = new AtomicBoolean(false);
+
+        private long position = 0;
+        private volatile boolean done = false;
+
+        private FileReadSubscription(AsynchronousFileChannel fileChannel, Subscriber<? super HttpContent> subscriber) {
+            this.fileChannel = fileChannel;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n < 1) {
+                fail(new IllegalArgumentException(subscriber + " violated the Reactive Streams rule 3.9 by requesting a "
+                                                  + "non-positive number of elements."));
+                return;
+            }
+            demand.getAndUpdate(current -> Long.MAX_VALUE - current < n ? Long.MAX_VALUE : current + n);
+            readIfNeeded();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+            closeFile();
+        }
+
+        private void readIfNeeded() {
+            if (done || demand.get() == 0 || !reading.compareAndSet(false, true)) {
+                return;
+            }
+            if (position >= length) {
+                done = true;
+                closeFile();
+                subscriber.onComplete();
+                return;
+            }
+            int size = (int) Math.min(CHUNK_SIZE, length - position);
+            ByteBuf buffer = channel.alloc().directBuffer(size);
+            try {
+                fileChannel.read(buffer.nioBuffer(buffer.writerIndex(), size), position, buffer, this);
+            } catch (RuntimeException e) {
+                buffer.release();
+                fail(e);
+            }
+        }
+
+        @Override
+        public void completed(Integer bytesRead, ByteBuf buffer) {
+            if (done) {
+                buffer.release();
+                return;
+            }
+            if (bytesRead < 0) {
+                buffer.release();
+                fail(new IOException("Reached the end of " + file + " before reading the " + length + " bytes of content"));
+                return;
+            }
+            buffer.writerIndex(buffer.writerIndex() + bytesRead);
+            position += bytesRead;
+            demand.decrementAndGet();
+            subscriber.onNext(new DefaultHttpContent(buffer));
+            reading.set(false);
+            readIfNeeded();
+        }
+
+        @Override
+        public void failed(Throwable exc, ByteBuf buffer) {
+            buffer.release();
+            fail(exc);
+        }
+
+        private void fail(Throwable t) {
+            if (!done) {
+                done = true;
+                closeFile();
+                subscriber.onError(t);
+            }
+        }
+
+        private void closeFile() {
+            try {
+                fileChannel.close();
+            } catch (IOException e) {
+                log.debug("Failed to close " + file, e);
+            }
+        }
+    }
+
+    private static final class NoOpSubscription implements Subscription {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
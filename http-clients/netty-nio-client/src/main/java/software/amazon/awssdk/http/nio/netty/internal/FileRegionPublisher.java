@@ -0,0 +1,87 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.doInEventLoop;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.handler.codec.http.HttpContent;
+import java.nio.file.Path;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Sends the content of a file-backed request body as a {@link DefaultFileRegion}, letting the transport transfer it from
+ * the file to the socket without copying it through user space (i.e. {@code sendfile}). Only usable on plaintext HTTP/1.1
+ * connections, as the region bypasses any handler that would need to transform the bytes.
+ *
+ * <p>No content is published. When the body is requested the region is written straight to the channel, following the
+ * request headers written by the {@link com.typesafe.netty.http.HttpStreamsClientHandler} before it subscribed. The
+ * publisher completes once the whole region was transferred so the handler ends the request, or fails with the cause of a
+ * failed transfer.</p>
+ *
+ * <p>The length must be the size of the file, a region longer than the file fails the transfer.</p>
+ */
+@SdkInternalApi
+final class FileRegionPublisher implements Publisher<HttpContent> {
+
+    private final Channel channel;
+    private final Path file;
+    private final long length;
+
+    FileRegionPublisher(Channel channel, Path file, long length) {
+        this.channel = channel;
+        this.file = file;
+        this.length = length;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super HttpContent> subscriber) {
+        subscriber.onSubscribe(new Subscription() {
+            private boolean done;
+
+            @Override
+            public void request(long n) {
+                doInEventLoop(channel.eventLoop(), () -> {
+                    if (done) {
+                        return;
+                    }
+                    done = true;
+                    // A progressive promise lets the write timeout track the progress of the transfer
+                    channel.writeAndFlush(new DefaultFileRegion(file.toFile(), 0, length), channel.newProgressivePromise())
+                           .addListener((ChannelFutureListener) f -> {
+                               if (f.isSuccess()) {
+                                   subscriber.onComplete();
+                               } else {
+                                   subscriber.onError(f.cause());
+                                   f.channel().close();
+                               }
+                           });
+                });
+            }
+
+            @Override
+            public void cancel() {
+                doInEventLoop(channel.eventLoop(), () -> done = true);
+            }
+        });
+    }
+}
@@ -37,8 +37,9 @@ public class FutureCancelHandler extends SimpleChannelInboundHandler {
 
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable e) {
-        if (cancelled(ctx, e)) {
-            RequestContext requestContext = ctx.channel().attr(REQUEST_CONTEXT_KEY).get();
+        RequestContext requestContext = ctx.channel().attr(REQUEST_CONTEXT_KEY).get();
+        // No request context means the channel was already released, the cancelled request is no longer using it
+        if (requestContext != null && cancelled(ctx, e)) {
             requestContext.handler().onError(e);
             ctx.fireExceptionCaught(new IOException("Request cancelled"));
             ctx.close();
@@ -15,28 +15,25 @@
 
 package software.amazon.awssdk.http.nio.netty.internal;
 
-import static software.amazon.awssdk.http.nio.netty.internal.utils.ChannelUtils.removeIfExists;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.REQUEST_CONTEXT_KEY;
 
-import com.typesafe.netty.http.HttpStreamsClientHandler;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.pool.ChannelPool;
-import io.netty.handler.timeout.ReadTimeoutHandler;
-import io.netty.handler.timeout.WriteTimeoutHandler;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 
 /**
- * Removes any per request {@link ChannelHandler} from the pipeline prior to releasing
- * it to the pool.
+ * Resets the per request {@link ChannelHandler}s of the pipeline prior to releasing it to the pool. The handlers
+ * themselves are installed once per connection and stay in the pipeline, see {@link NettyRequestExecutor}.
  */
 @SdkInternalApi
-public class HandlerRemovingChannelPool implements ChannelPool {
+public class HandlerResettingChannelPool implements ChannelPool {
 
     private final ChannelPool delegate;
 
-    public HandlerRemovingChannelPool(ChannelPool delegate) {
+    public HandlerResettingChannelPool(ChannelPool delegate) {
         this.delegate = delegate;
     }
 
@@ -52,13 +49,13 @@ public class HandlerRemovingChannelPool implements ChannelPool {
 
     @Override
     public Future<Void> release(Channel channel) {
-        removePerRequestHandlers(channel);
+        resetPerRequestHandlers(channel);
         return delegate.release(channel);
     }
 
     @Override
     public Future<Void> release(Channel channel, Promise<Void> promise) {
-        removePerRequestHandlers(channel);
+        resetPerRequestHandlers(channel);
         return delegate.release(channel, promise);
     }
 
@@ -67,11 +64,12 @@ public class HandlerRemovingChannelPool implements ChannelPool {
         delegate.close();
     }
 
-    private void removePerRequestHandlers(Channel channel) {
-        removeIfExists(channel.pipeline(),
-                       HttpStreamsClientHandler.class,
-                       ResponseHandler.class,
-                       ReadTimeoutHandler.class,
-                       WriteTimeoutHandler.class);
+    private void resetPerRequestHandlers(Channel channel) {
+        IdleTimeoutHandler timeoutHandler = channel.pipeline().get(IdleTimeoutHandler.class);
+        if (timeoutHandler != null) {
+            timeoutHandler.reset();
+        }
+        // Detaches the connection from the request, the handlers ignore anything that happens while it sits in the pool
+        channel.attr(REQUEST_CONTEXT_KEY).set(null);
     }
 }
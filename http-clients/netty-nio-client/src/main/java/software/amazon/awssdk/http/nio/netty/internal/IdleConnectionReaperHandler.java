@@ -0,0 +1,112 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CHANNEL_POOL_RECORD;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import java.util.concurrent.ScheduledFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ConnectionCloseReason;
+import software.amazon.awssdk.http.nio.netty.internal.http2.MultiplexedChannelRecord;
+
+/**
+ * Closes a connection that no request used for the maximum idle time, recording {@link ConnectionCloseReason#IDLE} as the
+ * reason. An HTTP/2 connection is retired instead, which closes it right away unless a stream was just opened on it.
+ *
+ * <p>The connection is checked on its event loop, where the pool also hands out HTTP/1.1 connections, so a connection is
+ * never closed under a request that acquired it. A closed connection stays in the pool until the next acquire discards
+ * it.</p>
+ */
+@SdkInternalApi
+public final class IdleConnectionReaperHandler extends ChannelInboundHandlerAdapter {
+
+    private final long maxIdleNanos;
+    private ScheduledFuture<?> check;
+
+    /**
+     * @param maxIdleMillis Maximum time in milliseconds a connection may stay unused, must be positive.
+     */
+    public IdleConnectionReaperHandler(long maxIdleMillis) {
+        this.maxIdleNanos = MILLISECONDS.toNanos(maxIdleMillis);
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        if (ctx.channel().isActive()) {
+            scheduleCheck(ctx, maxIdleNanos);
+        }
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        cancelCheck();
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        scheduleCheck(ctx, maxIdleNanos);
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        cancelCheck();
+        super.channelInactive(ctx);
+    }
+
+    private void scheduleCheck(ChannelHandlerContext ctx, long delayNanos) {
+        if (check == null) {
+            check = ctx.executor().schedule(() -> checkIdle(ctx), delayNanos, NANOSECONDS);
+        }
+    }
+
+    private void cancelCheck() {
+        if (check != null) {
+            check.cancel(false);
+            check = null;
+        }
+    }
+
+    private void checkIdle(ChannelHandlerContext ctx) {
+        check = null;
+        Channel channel = ctx.channel();
+        if (!channel.isOpen()) {
+            return;
+        }
+        if (ConnectionMetricsHandler.isInUse(channel)) {
+            // Released at the earliest now, so it can't have been idle for long enough before a full period passes
+            scheduleCheck(ctx, maxIdleNanos);
+            return;
+        }
+        long idleNanos = System.nanoTime() - ConnectionMetricsHandler.lastUsedNanos(channel);
+        if (idleNanos < maxIdleNanos) {
+            scheduleCheck(ctx, maxIdleNanos - idleNanos);
+            return;
+        }
+        ConnectionMetricsHandler.closeReason(channel, ConnectionCloseReason.IDLE);
+        MultiplexedChannelRecord record = channel.attr(CHANNEL_POOL_RECORD).get();
+        if (record != null) {
+            record.retire();
+        } else {
+            ctx.close();
+        }
+    }
+}
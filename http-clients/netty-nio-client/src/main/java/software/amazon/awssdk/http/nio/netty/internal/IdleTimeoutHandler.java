@@ -0,0 +1,225 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.doInEventLoop;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelProgressiveFuture;
+import io.netty.channel.ChannelProgressiveFutureListener;
+import io.netty.channel.ChannelProgressivePromise;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.timeout.ReadTimeoutException;
+import io.netty.handler.timeout.WriteTimeoutException;
+import java.util.concurrent.ScheduledFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Read and write timeouts for the request currently using a connection. Installed once per connection in place of adding a
+ * {@link io.netty.handler.timeout.ReadTimeoutHandler} and {@link io.netty.handler.timeout.WriteTimeoutHandler} to the
+ * pipeline for every request; the timeouts are started and stopped as the request progresses and {@link #reset()} when the
+ * connection is released to the pool, so an idle pooled connection never times out.
+ *
+ * <p>The read timeout fires when no data has been read for the configured time since it was started, the write timeout
+ * fires when a single write doesn't complete in the configured time. Either way the exception is fired down the pipeline
+ * and the connection is closed, mirroring the Netty handlers.</p>
+ *
+ * <p>The timeouts can be started and stopped from any thread, the state of the handler is only ever touched on the event
+ * loop of the channel.</p>
+ */
+@SdkInternalApi
+public final class IdleTimeoutHandler extends ChannelDuplexHandler {
+
+    private final long readTimeoutNanos;
+    private final long writeTimeoutNanos;
+    private final Runnable readTimeoutTask = this::checkReadTimeout;
+
+    private volatile ChannelHandlerContext ctx;
+    private boolean reading;
+    private boolean writing;
+    private long lastReadTime;
+    private ScheduledFuture<?> readTimeout;
+
+    /**
+     * @param readTimeoutMillis Read timeout in milliseconds, zero to disable.
+     * @param writeTimeoutMillis Write timeout in milliseconds, zero to disable.
+     */
+    public IdleTimeoutHandler(long readTimeoutMillis, long writeTimeoutMillis) {
+        this.readTimeoutNanos = MILLISECONDS.toNanos(readTimeoutMillis);
+        this.writeTimeoutNanos = MILLISECONDS.toNanos(writeTimeoutMillis);
+    }
+
+    /**
+     * Starts timing out writes of the current request.
+     */
+    public void startWriteTimeout() {
+        runOnEventLoop(() -> writing = true);
+    }
+
+    /**
+     * Stops timing out writes, writes already in progress still time out.
+     */
+    public void stopWriteTimeout() {
+        runOnEventLoop(() -> writing = false);
+    }
+
+    /**
+     * Starts the read timeout of the current request, counting from now.
+     */
+    public void startReadTimeout() {
+        runOnEventLoop(this::doStartReadTimeout);
+    }
+
+    /**
+     * Stops both timeouts, called when the connection is released to the pool.
+     */
+    public void reset() {
+        runOnEventLoop(() -> {
+            writing = false;
+            stopReadTimeout();
+        });
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        stopReadTimeout();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        stopReadTimeout();
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        lastReadTime = System.nanoTime();
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (writing && writeTimeoutNanos > 0 && promise instanceof ChannelProgressivePromise) {
+            ctx.write(msg, new ProgressiveWriteTimeout((ChannelProgressivePromise) promise).promise);
+        } else if (writing && writeTimeoutNanos > 0) {
+            ChannelPromise timedPromise = promise.unvoid();
+            ScheduledFuture<?> timeout = ctx.executor().schedule(() -> writeTimedOut(timedPromise),
+                                                                 writeTimeoutNanos, NANOSECONDS);
+            timedPromise.addListener((ChannelFutureListener) f -> timeout.cancel(false));
+            ctx.write(msg, timedPromise);
+        } else {
+            ctx.write(msg, promise);
+        }
+    }
+
+    private void doStartReadTimeout() {
+        reading = true;
+        lastReadTime = System.nanoTime();
+        if (readTimeout == null && readTimeoutNanos > 0 && ctx != null) {
+            readTimeout = ctx.executor().schedule(readTimeoutTask, readTimeoutNanos, NANOSECONDS);
+        }
+    }
+
+    private void stopReadTimeout() {
+        reading = false;
+        if (readTimeout != null) {
+            readTimeout.cancel(false);
+            readTimeout = null;
+        }
+    }
+
+    private void checkReadTimeout() {
+        readTimeout = null;
+        if (!reading || !ctx.channel().isOpen()) {
+            return;
+        }
+        long nextDelay = readTimeoutNanos - (System.nanoTime() - lastReadTime);
+        if (nextDelay > 0) {
+            // Data was read since the check was scheduled, check again once it could have timed out
+            readTimeout = ctx.executor().schedule(readTimeoutTask, nextDelay, NANOSECONDS);
+        } else {
+            reading = false;
+            ctx.fireExceptionCaught(ReadTimeoutException.INSTANCE);
+            ctx.close();
+        }
+    }
+
+    private void writeTimedOut(ChannelFuture future) {
+        if (!future.isDone()) {
+            ctx.fireExceptionCaught(WriteTimeoutException.INSTANCE);
+            ctx.close();
+        }
+    }
+
+    /**
+     * Times out a write reporting its progress, like the transfer of a {@link io.netty.channel.FileRegion}, only when it
+     * hasn't made progress for the write timeout rather than when it doesn't complete within it.
+     */
+    private final class ProgressiveWriteTimeout implements ChannelProgressiveFutureListener, Runnable {
+
+        private final ChannelProgressivePromise promise;
+        private long lastProgressTime = System.nanoTime();
+        private ScheduledFuture<?> timeout;
+
+        private ProgressiveWriteTimeout(ChannelProgressivePromise promise) {
+            this.promise = promise;
+            this.timeout = ctx.executor().schedule(this, writeTimeoutNanos, NANOSECONDS);
+            promise.addListener(this);
+        }
+
+        @Override
+        public void operationProgressed(ChannelProgressiveFuture future, long progress, long total) {
+            lastProgressTime = System.nanoTime();
+        }
+
+        @Override
+        public void operationComplete(ChannelProgressiveFuture future) {
+            timeout.cancel(false);
+        }
+
+        @Override
+        public void run() {
+            long nextDelay = writeTimeoutNanos - (System.nanoTime() - lastProgressTime);
+            if (promise.isDone()) {
+                return;
+            }
+            if (nextDelay > 0) {
+                timeout = ctx.executor().schedule(this, nextDelay, NANOSECONDS);
+            } else {
+                writeTimedOut(promise);
+            }
+        }
+    }
+
+    private void runOnEventLoop(Runnable runnable) {
+        if (ctx == null) {
+            // Not added to a pipeline yet, so not visible to the event loop either
+            runnable.run();
+        } else {
+            doInEventLoop(ctx.executor(), runnable);
+        }
+    }
+}
@@ -35,18 +35,18 @@ import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.timeout.ReadTimeoutException;
-import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutException;
-import io.netty.handler.timeout.WriteTimeoutHandler;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
@@ -57,10 +57,14 @@ import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ConnectionCloseReason;
+import software.amazon.awssdk.http.HttpRequestMetricsListener;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.http.async.SdkHttpFileContentPublisher;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ToHttpInboundAdapter;
 import software.amazon.awssdk.http.nio.netty.internal.http2.HttpToHttp2OutboundAdapter;
-import software.amazon.awssdk.http.nio.netty.internal.utils.ChannelUtils;
+import software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils;
 
 @SdkInternalApi
 public final class NettyRequestExecutor {
@@ -71,6 +75,7 @@ public final class NettyRequestExecutor {
     private final RequestContext context;
     private CompletableFuture<Void> executeFuture;
     private Channel channel;
+    private long acquireStart;
 
     public NettyRequestExecutor(RequestContext context) {
         this.context = context;
@@ -78,6 +83,9 @@ public final class NettyRequestExecutor {
 
     @SuppressWarnings("unchecked")
     public CompletableFuture<Void> execute() {
+        if (context.executeRequest().metricsListener() != HttpRequestMetricsListener.NONE) {
+            acquireStart = System.nanoTime();
+        }
         Future<Channel> channelFuture = context.channelPool().acquire();
         executeFuture = createExecuteFuture(channelFuture);
         channelFuture.addListener((GenericFutureListener) this::makeRequestListener);
@@ -114,12 +122,24 @@ public final class NettyRequestExecutor {
         return future;
     }
 
+    private void reportConnectionAcquired() {
+        HttpRequestMetricsListener metricsListener = context.executeRequest().metricsListener();
+        if (metricsListener != HttpRequestMetricsListener.NONE) {
+            metricsListener.connectionAcquired(System.nanoTime() - acquireStart);
+        }
+    }
+
     private void makeRequestListener(Future<Channel> channelFuture) {
         if (channelFuture.isSuccess()) {
             channel = channelFuture.getNow();
-            configureChannel();
-            configurePipeline();
-            makeRequest();
+            reportConnectionAcquired();
+            // The pipeline is inspected and the request written from the channel's own event loop
+            NettyUtils.doInEventLoop(channel.eventLoop(), () -> {
+                configureChannel();
+                if (configurePipeline()) {
+                    makeRequest();
+                }
+            });
         } else {
             handleFailure(() -> "Failed to create connection to " + endpoint(), channelFuture.cause());
         }
@@ -133,20 +153,37 @@ public final class NettyRequestExecutor {
         channel.config().setOption(ChannelOption.AUTO_READ, false);
     }
 
-    private void configurePipeline() {
+    /**
+     * Installs the request handlers the first time a channel is used. They stay in the pipeline for as long as the
+     * connection lives and are reset, rather than removed, when the channel is released (see
+     * {@link HandlerResettingChannelPool}).
+     *
+     * @return True if the channel is ready for the request, false if the request was failed.
+     */
+    private boolean configurePipeline() {
         Protocol protocol = ChannelAttributeKey.getProtocolNow(channel);
-        ChannelPipeline pipeline = channel.pipeline();
-        if (HTTP2.equals(protocol)) {
-            pipeline.addLast(new Http2ToHttpInboundAdapter());
-            pipeline.addLast(new HttpToHttp2OutboundAdapter());
-        } else if (!HTTP1_1.equals(protocol)) {
+        if (!HTTP2.equals(protocol) && !HTTP1_1.equals(protocol)) {
             String errorMsg = "Unknown protocol: " + protocol;
             closeAndRelease(channel);
             handleFailure(() -> errorMsg, new RuntimeException(errorMsg));
-            return;
+            return false;
         }
-        pipeline.addLast(new HttpStreamsClientHandler());
-        pipeline.addLast(new ResponseHandler());
+
+        ChannelPipeline pipeline = channel.pipeline();
+        if (pipeline.get(ResponseHandler.class) == null) {
+            pipeline.addFirst(new IdleTimeoutHandler(context.configuration().readTimeoutMillis(),
+                                                     context.configuration().writeTimeoutMillis()));
+            if (HTTP2.equals(protocol)) {
+                pipeline.addLast(new Http2ToHttpInboundAdapter());
+                pipeline.addLast(new HttpToHttp2OutboundAdapter());
+            }
+            pipeline.addLast(new HttpStreamsClientHandler());
+            pipeline.addLast(ResponseHandler.getInstance());
+        } else if (pipeline.get(HttpStreamsClientHandler.class) == null) {
+            // A response without a body swaps the streams handler out of the pipeline, see ResponseHandler
+            pipeline.addBefore(pipeline.context(ResponseHandler.class).name(), null, new HttpStreamsClientHandler());
+        }
+        return true;
     }
 
     private void makeRequest() {
@@ -155,20 +192,16 @@ public final class NettyRequestExecutor {
     }
 
     private void writeRequest(HttpRequest request) {
-        channel.pipeline().addFirst(new WriteTimeoutHandler(context.configuration().writeTimeoutMillis(),
-                                                            TimeUnit.MILLISECONDS));
-        StreamedRequest streamedRequest = new StreamedRequest(request,
-                                                              context.executeRequest().requestContentPublisher(),
-                                                              channel);
-        channel.writeAndFlush(streamedRequest)
+        IdleTimeoutHandler timeoutHandler = channel.pipeline().get(IdleTimeoutHandler.class);
+        timeoutHandler.startWriteTimeout();
+        channel.writeAndFlush(createStreamedRequest(request))
                .addListener(wireCall -> {
-                   // Done writing so remove the idle write timeout handler
-                   ChannelUtils.removeIfExists(channel.pipeline(), WriteTimeoutHandler.class);
+                   // Done writing so stop the write timeout
+                   timeoutHandler.stopWriteTimeout();
                    if (wireCall.isSuccess()) {
                        if (!context.executeRequest().fullDuplex()) {
-                           // Starting read so add the idle read timeout handler, removed when channel is released
-                           channel.pipeline().addFirst(new ReadTimeoutHandler(context.configuration().readTimeoutMillis(),
-                                                                              TimeUnit.MILLISECONDS));
+                           // Starting read so start the read timeout, stopped when channel is released
+                           timeoutHandler.startReadTimeout();
                            channel.read();
                        }
                    } else {
@@ -180,12 +213,50 @@ public final class NettyRequestExecutor {
 
         // FullDuplex calls need to start reading at the same time we make the request.
         if (context.executeRequest().fullDuplex()) {
-            channel.pipeline().addFirst(new ReadTimeoutHandler(context.configuration().readTimeoutMillis(),
-                                                               TimeUnit.MILLISECONDS));
+            timeoutHandler.startReadTimeout();
             channel.read();
         }
     }
 
+    /**
+     * Streams the body of file-backed requests straight from the file when the connection allows it: with a
+     * {@link FileRegionPublisher} on plaintext connections and a {@link DirectBufferFilePublisher} on TLS connections. Any
+     * other request, and file-backed requests over HTTP/2, full duplex, without a known length or whose Content-Length isn't
+     * the size of the file, are streamed from their content publisher.
+     */
+    private StreamedHttpRequest createStreamedRequest(HttpRequest request) {
+        SdkHttpContentPublisher publisher = context.executeRequest().requestContentPublisher();
+        Optional<Long> contentLength = StreamedRequest.contentLength(request);
+        if (publisher instanceof SdkHttpFileContentPublisher
+            && contentLength.isPresent()
+            && HTTP1_1.equals(ChannelAttributeKey.getProtocolNow(channel))
+            && !context.executeRequest().fullDuplex()) {
+            Path file = ((SdkHttpFileContentPublisher) publisher).file();
+            long fileSize = fileSize(file);
+            if (fileSize == contentLength.get()) {
+                Publisher<HttpContent> content = channel.pipeline().get(SslHandler.class) == null
+                                                 ? new FileRegionPublisher(channel, file, fileSize)
+                                                 : new DirectBufferFilePublisher(channel, file, fileSize);
+                return new FileStreamedRequest(request, content);
+            }
+            // The content publisher sends exactly the Content-Length, whatever the size of the file
+            log.debug("Content-Length {} doesn't match the size {} of {}, streaming it from the content publisher",
+                      contentLength.get(), fileSize, file);
+        }
+        return new StreamedRequest(request, publisher, channel);
+    }
+
+    /**
+     * @return The size of the file, or -1 if it can't be determined.
+     */
+    private static long fileSize(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
     private URI endpoint() {
         return context.executeRequest().request().getUri();
     }
@@ -266,6 +337,7 @@ public final class NettyRequestExecutor {
      */
     private void closeAndRelease(Channel channel) {
         log.trace("closing and releasing channel {}", channel.id().asLongText());
+        ConnectionMetricsHandler.closeReason(channel, ConnectionCloseReason.ERROR);
         channel.close().addListener(ignored -> context.channelPool().release(channel));
     }
 
@@ -353,6 +425,24 @@ public final class NettyRequestExecutor {
         }
     }
 
+    /**
+     * Decorator around {@link StreamedHttpRequest} publishing the content of a file-backed request.
+     */
+    private static class FileStreamedRequest extends DelegateHttpRequest implements StreamedHttpRequest {
+
+        private final Publisher<HttpContent> publisher;
+
+        FileStreamedRequest(HttpRequest request, Publisher<HttpContent> publisher) {
+            super(request);
+            this.publisher = publisher;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super HttpContent> subscriber) {
+            publisher.subscribe(subscriber);
+        }
+    }
+
     /**
      * Decorator around {@link StreamedHttpRequest} to adapt a publisher of {@link ByteBuffer} (i.e. {@link
      * software.amazon.awssdk.http.async.SdkHttpContentPublisher}) to a publisher of {@link HttpContent}.
@@ -49,6 +49,7 @@ import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ConnectionCloseReason;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SdkCancellationException;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
@@ -69,9 +70,25 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
      */
     private static final AttributeKey<Boolean> KEEP_ALIVE = AttributeKey.newInstance("KeepAlive");
 
+    private static final ResponseHandler INSTANCE = new ResponseHandler();
+
+    private ResponseHandler() {
+    }
+
+    /**
+     * @return The shared instance, installed once in the pipeline of every connection.
+     */
+    public static ResponseHandler getInstance() {
+        return INSTANCE;
+    }
+
     @Override
     protected void channelRead0(ChannelHandlerContext channelContext, HttpObject msg) throws Exception {
         RequestContext requestContext = channelContext.channel().attr(REQUEST_CONTEXT_KEY).get();
+        if (requestContext == null) {
+            log.debug("Ignoring {} received on a connection without a request", msg);
+            return;
+        }
 
         if (msg instanceof HttpResponse) {
             HttpResponse response = (HttpResponse) msg;
@@ -115,15 +132,26 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
         RequestContext requestContext = ctx.channel().attr(REQUEST_CONTEXT_KEY).get();
+        if (requestContext == null) {
+            // The connection sits idle in the pool, it is discarded on the next acquire once closed
+            log.debug("Closing idle connection after exception", cause);
+            ConnectionMetricsHandler.closeReason(ctx.channel(), ConnectionCloseReason.ERROR);
+            ctx.close();
+            return;
+        }
         log.error("Exception processing request: {}", requestContext.executeRequest().request(), cause);
         requestContext.handler().onError(cause);
         executeFuture(ctx).completeExceptionally(cause);
+        ConnectionMetricsHandler.closeReason(ctx.channel(), ConnectionCloseReason.ERROR);
         runAndLogError("Could not release channel back to the pool", () -> closeAndRelease(ctx));
     }
 
     @Override
     public void channelInactive(ChannelHandlerContext handlerCtx) throws Exception {
         RequestContext requestCtx = handlerCtx.channel().attr(REQUEST_CONTEXT_KEY).get();
+        if (requestCtx == null) {
+            return;
+        }
         boolean responseCompleted = handlerCtx.channel().attr(RESPONSE_COMPLETE_KEY).get();
         if (!responseCompleted) {
             IOException err = new IOException("Server failed to send complete response");
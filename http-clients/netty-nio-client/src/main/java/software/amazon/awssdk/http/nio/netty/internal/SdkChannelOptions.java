@@ -16,19 +16,26 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import io.netty.channel.ChannelOption;
+import io.netty.channel.epoll.EpollChannelOption;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 
+/**
+ * The options set on the socket channels of the client. Options only supported by the epoll transport, like
+ * {@link #tcpQuickAck(boolean)}, are only applied when the client uses it, see {@link #channelOptions(Transport)}.
+ */
 @SdkProtectedApi
 public class SdkChannelOptions {
 
     private Map<ChannelOption, Object> options;
+    private Map<ChannelOption, Object> epollOptions;
 
     public SdkChannelOptions() {
         options = new HashMap<>();
         options.put(ChannelOption.TCP_NODELAY, Boolean.TRUE);
+        epollOptions = new HashMap<>();
     }
 
     public <T> SdkChannelOptions putOption(ChannelOption<T> channelOption, T channelOptionValue) {
@@ -37,7 +44,46 @@ public class SdkChannelOptions {
         return this;
     }
 
+    /**
+     * Sets TCP_NODELAY, disabling Nagle's algorithm so small writes like request headers are sent right away. Enabled by
+     * default.
+     */
+    public SdkChannelOptions tcpNoDelay(boolean tcpNoDelay) {
+        return putOption(ChannelOption.TCP_NODELAY, tcpNoDelay);
+    }
+
+    /**
+     * Sets TCP_QUICKACK, acknowledging received segments right away instead of delaying the acknowledgement. Only applied with
+     * the epoll transport, disabled by default.
+     */
+    public SdkChannelOptions tcpQuickAck(boolean tcpQuickAck) {
+        epollOptions.put(EpollChannelOption.TCP_QUICKACK, tcpQuickAck);
+        return this;
+    }
+
+    /**
+     * Sets SO_REUSEPORT, allowing several sockets to bind to the same local port. Only applied with the epoll transport,
+     * disabled by default.
+     */
+    public SdkChannelOptions reusePort(boolean reusePort) {
+        epollOptions.put(EpollChannelOption.SO_REUSEPORT, reusePort);
+        return this;
+    }
+
     public Map<ChannelOption, Object> channelOptions() {
         return Collections.unmodifiableMap(options);
     }
+
+    /**
+     * @param transport The transport of the client's event loop group.
+     * @return The options supported by the transport.
+     */
+    public Map<ChannelOption, Object> channelOptions(Transport transport) {
+        if (transport != Transport.EPOLL) {
+            return channelOptions();
+        }
+        Map<ChannelOption, Object> transportOptions = new HashMap<>(epollOptions);
+        transportOptions.putAll(options);
+        return Collections.unmodifiableMap(transportOptions);
+    }
 }
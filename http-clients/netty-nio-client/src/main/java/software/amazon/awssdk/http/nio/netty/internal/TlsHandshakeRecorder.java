@@ -0,0 +1,153 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.ChannelHandler.Sharable;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.ssl.SslHandler;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.net.ssl.SSLSession;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.TlsHandshakeMetrics;
+
+/**
+ * Records the outcome and latency of the TLS handshake of every connection. Shared by all channel pools of a client and
+ * added to the pipeline right after the {@link SslHandler}, which starts the handshake when the channel becomes active.
+ *
+ * <p>A handshake is counted as resumed when its session was already negotiated by an earlier handshake. With the JDK provider
+ * the resumed handshake reuses the cached session object, which is marked with a session value the first time it's seen.
+ * Providers like OpenSSL wrap the session in a new object for every connection, so the IDs of the sessions negotiated
+ * recently are remembered as well, a resumed TLS 1.2 session keeps the ID of the session it resumes. A TLS 1.3 resumption
+ * gets neither the same session object nor the same ID, so it's counted as a full handshake.</p>
+ */
+@Sharable
+@SdkInternalApi
+public final class TlsHandshakeRecorder extends ChannelInboundHandlerAdapter implements TlsHandshakeMetrics {
+
+    /**
+     * Name of the session value marking a session as negotiated by a handshake this client already recorded.
+     */
+    private static final String RECORDED_SESSION = "software.amazon.awssdk.http.nio.netty.recordedSession";
+
+    private final Set<ByteBuffer> recentSessionIds;
+    private final LongAdder handshakes = new LongAdder();
+    private final LongAdder resumedHandshakes = new LongAdder();
+    private final LongAdder failedHandshakes = new LongAdder();
+    private final LongAdder totalHandshakeNanos = new LongAdder();
+    private final LongAccumulator maxHandshakeNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * @param maxSessionIds Number of session IDs remembered, at least the number of sessions the TLS context caches.
+     */
+    public TlsHandshakeRecorder(int maxSessionIds) {
+        this.recentSessionIds = Collections.synchronizedSet(Collections.newSetFromMap(new LruMap(maxSessionIds)));
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        SslHandler sslHandler = ctx.pipeline().get(SslHandler.class);
+        if (sslHandler != null) {
+            long startNanos = System.nanoTime();
+            sslHandler.handshakeFuture().addListener(f -> {
+                if (f.isSuccess()) {
+                    recordHandshake(System.nanoTime() - startNanos, isResumed(sslHandler.engine().getSession()));
+                } else {
+                    failedHandshakes.increment();
+                }
+            });
+        }
+        super.channelActive(ctx);
+    }
+
+    /**
+     * @return Whether the session was negotiated by an earlier handshake, marking it as negotiated if it wasn't.
+     */
+    boolean isResumed(SSLSession session) {
+        if (session == null) {
+            return false;
+        }
+        boolean marked = session.getValue(RECORDED_SESSION) != null;
+        if (!marked) {
+            session.putValue(RECORDED_SESSION, Boolean.TRUE);
+        }
+        byte[] id = session.getId();
+        // Set.add returns false when the ID was already seen, and refreshes it as the most recently seen either way
+        boolean knownId = id != null && id.length > 0 && !recentSessionIds.add(ByteBuffer.wrap(id.clone()));
+        return marked || knownId;
+    }
+
+    private void recordHandshake(long latencyNanos, boolean resumed) {
+        handshakes.increment();
+        if (resumed) {
+            resumedHandshakes.increment();
+        }
+        totalHandshakeNanos.add(latencyNanos);
+        maxHandshakeNanos.accumulate(latencyNanos);
+    }
+
+    @Override
+    public long handshakeCount() {
+        return handshakes.sum();
+    }
+
+    @Override
+    public long resumedHandshakeCount() {
+        return resumedHandshakes.sum();
+    }
+
+    @Override
+    public long failedHandshakeCount() {
+        return failedHandshakes.sum();
+    }
+
+    @Override
+    public Duration averageHandshakeLatency() {
+        long count = handshakes.sum();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalHandshakeNanos.sum() / count);
+    }
+
+    @Override
+    public Duration maxHandshakeLatency() {
+        return Duration.ofNanos(maxHandshakeNanos.get());
+    }
+
+    /**
+     * Map in access order that drops the least recently accessed entry once it holds more than its maximum size.
+     */
+    private static final class LruMap extends LinkedHashMap<ByteBuffer, Boolean> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxSize;
+
+        private LruMap(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Boolean> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * The Netty transports the SDK can create an event loop group for, in order of preference. The native transports are only
+ * used when their native library can be loaded on the current platform, otherwise the next transport is used.
+ */
+@SdkInternalApi
+public enum Transport {
+
+    /**
+     * The io_uring transport of the Netty incubator, only used when it's on the classpath.
+     */
+    IO_URING("io_uring") {
+        @Override
+        public boolean isAvailable() {
+            try {
+                Method isAvailable = Class.forName(IO_URING_PACKAGE + ".IOUring").getMethod("isAvailable");
+                return (Boolean) isAvailable.invoke(null);
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return false;
+            }
+        }
+
+        @Override
+        public EventLoopGroup newEventLoopGroup(int numberOfThreads, ThreadFactory threadFactory) throws Exception {
+            return (EventLoopGroup) Class.forName(IO_URING_PACKAGE + ".IOUringEventLoopGroup")
+                                         .getConstructor(int.class, ThreadFactory.class)
+                                         .newInstance(numberOfThreads, threadFactory);
+        }
+    },
+
+    EPOLL("epoll") {
+        @Override
+        public boolean isAvailable() {
+            return Epoll.isAvailable();
+        }
+
+        @Override
+        public EventLoopGroup newEventLoopGroup(int numberOfThreads, ThreadFactory threadFactory) {
+            return new EpollEventLoopGroup(numberOfThreads, threadFactory);
+        }
+    },
+
+    NIO("nio") {
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        public EventLoopGroup newEventLoopGroup(int numberOfThreads, ThreadFactory threadFactory) {
+            return new NioEventLoopGroup(numberOfThreads, threadFactory);
+        }
+    };
+
+    private static final String IO_URING_PACKAGE = "io.netty.incubator.channel.uring";
+
+    private final String transportName;
+
+    Transport(String transportName) {
+        this.transportName = transportName;
+    }
+
+    /**
+     * @return Whether the transport can be used on this platform.
+     */
+    public abstract boolean isAvailable();
+
+    /**
+     * Creates an event loop group of this transport.
+     *
+     * @param numberOfThreads Number of threads, zero for the Netty default.
+     * @param threadFactory Factory for the threads of the group.
+     * @return The event loop group.
+     * @throws Exception If the group can't be created, e.g. the native library fails to load.
+     */
+    public abstract EventLoopGroup newEventLoopGroup(int numberOfThreads, ThreadFactory threadFactory) throws Exception;
+
+    /**
+     * @param eventLoopGroup The event loop group, possibly wrapped in a {@link DelegatingEventLoopGroup}.
+     * @return The transport of the event loop group, {@link #NIO} for groups of other transports.
+     */
+    public static Transport of(EventLoopGroup eventLoopGroup) {
+        if (eventLoopGroup instanceof DelegatingEventLoopGroup) {
+            return of(((DelegatingEventLoopGroup) eventLoopGroup).getDelegate());
+        }
+        if (eventLoopGroup instanceof EpollEventLoopGroup) {
+            return EPOLL;
+        }
+        if (eventLoopGroup.getClass().getName().startsWith(IO_URING_PACKAGE)) {
+            return IO_URING;
+        }
+        return NIO;
+    }
+
+    @Override
+    public String toString() {
+        return transportName;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CHANNEL_POOL_RECORD;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http2.DefaultHttp2PingFrame;
+import io.netty.handler.codec.http2.Http2GoAwayFrame;
+import io.netty.handler.codec.http2.Http2PingFrame;
+import io.netty.util.ReferenceCountUtil;
+import java.io.IOException;
+import java.util.concurrent.ScheduledFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Keeps track of the health of an HTTP/2 connection. Installed in the pipeline of the socket channel after the HTTP/2 codec.
+ *
+ * <p>A PING is sent every ping interval while the connection is active. If the previous PING wasn't acknowledged by the time
+ * the next one is due the connection is considered dead: an {@link IOException} is fired down the pipeline, failing the
+ * streams in flight, and the connection is closed. When the server sends a GOAWAY the connection is retired from its pool
+ * (see {@link MultiplexedChannelRecord#retire()}) instead of waiting for streams to fail on it.</p>
+ */
+@SdkInternalApi
+public final class Http2ConnectionHealthHandler extends ChannelInboundHandlerAdapter {
+
+    private static final long PING_DATA = 0x5344_4b50_494e_47L;
+
+    private final long pingIntervalMillis;
+
+    private ScheduledFuture<?> pingTask;
+    private boolean awaitingAck;
+
+    /**
+     * @param pingIntervalMillis Interval between PINGs in milliseconds, zero to disable the health checks.
+     */
+    public Http2ConnectionHealthHandler(long pingIntervalMillis) {
+        this.pingIntervalMillis = pingIntervalMillis;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        if (ctx.channel().isActive()) {
+            startPinging(ctx);
+        }
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        stopPinging();
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        startPinging(ctx);
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        stopPinging();
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (msg instanceof Http2PingFrame && ((Http2PingFrame) msg).ack()) {
+            awaitingAck = false;
+        } else if (msg instanceof Http2GoAwayFrame) {
+            // The streams the server won't process are failed by the codec, stop opening new ones on this connection
+            MultiplexedChannelRecord record = ctx.channel().attr(CHANNEL_POOL_RECORD).get();
+            if (record != null) {
+                record.retire();
+            }
+            ReferenceCountUtil.release(msg);
+        } else {
+            ctx.fireChannelRead(msg);
+        }
+    }
+
+    private void startPinging(ChannelHandlerContext ctx) {
+        if (pingTask == null && pingIntervalMillis > 0) {
+            pingTask = ctx.executor().scheduleAtFixedRate(() -> ping(ctx), pingIntervalMillis, pingIntervalMillis,
+                                                          MILLISECONDS);
+        }
+    }
+
+    private void stopPinging() {
+        if (pingTask != null) {
+            pingTask.cancel(false);
+            pingTask = null;
+        }
+    }
+
+    private void ping(ChannelHandlerContext ctx) {
+        if (awaitingAck) {
+            stopPinging();
+            ctx.fireExceptionCaught(new IOException("The connection didn't acknowledge a PING within "
+                                                    + pingIntervalMillis + " milliseconds"));
+            ctx.close();
+            return;
+        }
+        awaitingAck = true;
+        ctx.writeAndFlush(new DefaultHttp2PingFrame(PING_DATA));
+    }
+}
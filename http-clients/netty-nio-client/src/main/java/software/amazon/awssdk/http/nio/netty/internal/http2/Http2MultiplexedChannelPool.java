@@ -33,8 +33,10 @@ import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPo
  * {@link ChannelPool} implementation that handles multiplexed streams. Child channels are created
  * for each HTTP/2 stream using {@link Http2StreamChannelBootstrap} with the parent channel being
  * the actual socket channel. This implementation assumes that all connections have the same setting
- * for MAX_CONCURRENT_STREAMS. Concurrent requests are load balanced across all available connections,
- * when the max concurrency for a connection is reached then a new connection will be opened.
+ * for MAX_CONCURRENT_STREAMS. Concurrent requests are load balanced across all available connections by opening each
+ * stream on the least loaded connection, when the max concurrency for all connections is reached then a new connection
+ * will be opened. A spare connection is warmed up before that happens, and connections that received a GOAWAY are retired
+ * (see {@link MultiplexedChannelRecord#retire()}).
  *
  * <p>
  * <b>Note:</b> This enforces no max concurrency. Relies on being wrapped with a {@link BetterFixedChannelPool}
@@ -44,6 +46,11 @@ import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPo
 @SdkInternalApi
 public class Http2MultiplexedChannelPool implements ChannelPool {
 
+    /**
+     * Fraction of the streams of the open connections in use above which a spare connection is established.
+     */
+    private static final double SPARE_CONNECTION_THRESHOLD = 0.8;
+
     private final EventLoop eventLoop;
     private final ChannelPool connectionPool;
     private final long maxConcurrencyPerConnection;
@@ -77,18 +84,71 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
     }
 
     private Future<Channel> acquire0(Promise<Channel> promise) {
+        MultiplexedChannelRecord connection;
+        do {
+            connection = leastLoadedConnection();
+            if (connection == null) {
+                // No available streams, establish new connection and add it to list
+                connection = newConnection();
+            }
+            // A connection retired by a GOAWAY since it was picked refuses the stream, pick again
+        } while (!connection.acquire(promise));
+        warmSpareConnectionIfNeeded();
+        return promise;
+    }
+
+    /**
+     * Picks the connection with the most available streams, so streams are spread across connections rather than piled onto
+     * the oldest one. Established connections are preferred over ones still connecting, retired connections are skipped.
+     *
+     * @return The connection to open the stream on, null if no connection has an available stream.
+     */
+    private MultiplexedChannelRecord leastLoadedConnection() {
+        MultiplexedChannelRecord leastLoaded = null;
         for (MultiplexedChannelRecord connection : connections) {
-            if (connection.availableStreams() > 0) {
-                connection.acquire(promise);
-                return promise;
+            if (connection.isRetired() || connection.availableStreams() <= 0) {
+                continue;
+            }
+            if (leastLoaded == null
+                || (connection.isConnected() && !leastLoaded.isConnected())
+                || (connection.isConnected() == leastLoaded.isConnected()
+                    && connection.availableStreams() > leastLoaded.availableStreams())) {
+                leastLoaded = connection;
             }
         }
-        // No available streams, establish new connection and add it to list
-        connections.add(new MultiplexedChannelRecord(connectionPool.acquire(),
-                                                     maxConcurrencyPerConnection,
-                                                     this::releaseParentChannel)
-                            .acquire(promise));
-        return promise;
+        return leastLoaded;
+    }
+
+    /**
+     * Starts establishing a spare connection when the streams in use cross {@link #SPARE_CONNECTION_THRESHOLD} of the
+     * capacity of the open connections, so a burst of acquires doesn't have to wait for the connection handshake. Only one
+     * connection is established at a time.
+     */
+    private void warmSpareConnectionIfNeeded() {
+        double capacity = 0;
+        double inUse = 0;
+        for (MultiplexedChannelRecord connection : connections) {
+            if (connection.isRetired()) {
+                continue;
+            }
+            if (!connection.isConnected()) {
+                return;
+            }
+            capacity += maxConcurrencyPerConnection;
+            inUse += maxConcurrencyPerConnection - connection.availableStreams();
+        }
+        if (capacity > 0 && inUse >= capacity * SPARE_CONNECTION_THRESHOLD) {
+            newConnection();
+        }
+    }
+
+    private MultiplexedChannelRecord newConnection() {
+        MultiplexedChannelRecord connection = new MultiplexedChannelRecord(connectionPool.acquire(),
+                                                                           maxConcurrencyPerConnection,
+                                                                           this::releaseParentChannel);
+        // Added before connecting, a connection failing right away removes itself from the list
+        connections.add(connection);
+        return connection.connect();
     }
 
     /**
@@ -30,7 +30,9 @@ import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import io.netty.util.concurrent.Promise;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ConnectionPoolMetrics;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.internal.ConnectionMetricsHandler;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPool;
 
@@ -46,18 +48,21 @@ public class HttpOrHttp2ChannelPool implements ChannelPool {
     private final int maxConcurrency;
     private final EventLoop eventLoop;
     private final NettyConfiguration configuration;
+    private final ConnectionMetricsHandler connectionMetrics;
 
     private Promise<ChannelPool> protocolImplPromise;
-    private ChannelPool protocolImpl;
+    private volatile BetterFixedChannelPool protocolImpl;
 
     public HttpOrHttp2ChannelPool(Bootstrap bootstrap,
                                   ChannelPoolHandler handler,
                                   int maxConcurrency,
-                                  NettyConfiguration configuration) {
+                                  NettyConfiguration configuration,
+                                  ConnectionMetricsHandler connectionMetrics) {
         this.simpleChannelPool = new SimpleChannelPool(bootstrap, handler);
         this.maxConcurrency = maxConcurrency;
         this.eventLoop = bootstrap.config().group().next();
         this.configuration = configuration;
+        this.connectionMetrics = connectionMetrics;
     }
 
     @Override
@@ -67,10 +72,30 @@ public class HttpOrHttp2ChannelPool implements ChannelPool {
 
     @Override
     public Future<Channel> acquire(Promise<Channel> promise) {
+        long acquireStart = System.nanoTime();
+        promise.addListener(f -> {
+            if (f.isSuccess()) {
+                connectionMetrics.recorder().connectionAcquired(System.nanoTime() - acquireStart);
+            }
+        });
         doInEventLoop(eventLoop, () -> acquire0(promise), promise);
         return promise;
     }
 
+    /**
+     * @return The current state of this pool along with the statistics of its connections. Until the protocol is negotiated
+     * by the first connection nothing can be leased.
+     */
+    public ConnectionPoolMetrics metrics() {
+        BetterFixedChannelPool pool = protocolImpl;
+        int idle = connectionMetrics.idleConnections();
+        if (pool == null) {
+            return connectionMetrics.recorder().snapshot(0, idle, 0, maxConcurrency);
+        }
+        return connectionMetrics.recorder().snapshot(pool.acquiredChannelCount(), idle, pool.pendingAcquireCount(),
+                                                     pool.maxConnections());
+    }
+
     private void acquire0(Promise<Channel> promise) {
         if (protocolImpl != null) {
             protocolImpl.acquire(promise);
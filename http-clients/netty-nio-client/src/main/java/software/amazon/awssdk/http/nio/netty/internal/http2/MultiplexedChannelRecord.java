@@ -32,21 +32,29 @@ import io.netty.util.concurrent.Promise;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.internal.ConnectionMetricsHandler;
 
 /**
  * Contains a {@link Future} for the actual socket channel and tracks available
  * streams based on the MAX_CONCURRENT_STREAMS setting for the connection.
+ *
+ * <p>A connection is retired when the server sends a GOAWAY: no new streams are opened on it and it is closed once its
+ * last stream is released. Acquires and retirement may race on different threads, a stream is only counted as acquired once
+ * it is known the connection is still open, so a retired connection is never closed under a stream being opened on it.</p>
  */
 @SdkInternalApi
 public final class MultiplexedChannelRecord {
 
     private final Future<Channel> connectionFuture;
     private final Map<ChannelId, Channel> childChannels;
+    private final long maxConcurrencyPerConnection;
     private final AtomicLong availableStreams;
     private final BiConsumer<Channel, MultiplexedChannelRecord> channelReleaser;
+    private final AtomicReference<State> state = new AtomicReference<>(State.OPEN);
 
     private volatile Channel connection;
 
@@ -59,28 +67,71 @@ public final class MultiplexedChannelRecord {
                              long maxConcurrencyPerConnection,
                              BiConsumer<Channel, MultiplexedChannelRecord> channelReleaser) {
         this.connectionFuture = connectionFuture;
+        this.maxConcurrencyPerConnection = maxConcurrencyPerConnection;
         this.availableStreams = new AtomicLong(maxConcurrencyPerConnection);
         this.childChannels = new ConcurrentHashMap<>(saturatedCast(maxConcurrencyPerConnection));
         this.channelReleaser = channelReleaser;
     }
 
-    MultiplexedChannelRecord acquire(Promise<Channel> channelPromise) {
+    /**
+     * Tracks the establishment of the socket channel, must be called once before any stream is acquired so the connection is
+     * set before acquires are notified of it. The record is released if the connection fails.
+     */
+    MultiplexedChannelRecord connect() {
+        connectionFuture.addListener((GenericFutureListener<Future<Channel>>) future -> {
+            if (future.isSuccess()) {
+                connection = future.getNow();
+                connection.attr(CHANNEL_POOL_RECORD).set(this);
+            } else {
+                channelReleaser.accept(null, this);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Opens a stream on this connection unless it was retired.
+     *
+     * @param channelPromise Promise to notify when the stream channel is available.
+     * @return False if the connection was retired and the stream must be opened on another connection.
+     */
+    boolean acquire(Promise<Channel> channelPromise) {
+        // Claim the stream before checking the state: a retire() that doesn't see the claim is seen here, and this acquire
+        // backs off and closes the connection in its stead
         availableStreams.decrementAndGet();
+        if (state.get() != State.OPEN) {
+            availableStreams.incrementAndGet();
+            closeIfRetiredAndIdle();
+            return false;
+        }
         if (connection != null) {
             createChildChannel(channelPromise, connection);
         } else {
             connectionFuture.addListener((GenericFutureListener<Future<Channel>>) future -> {
                 if (future.isSuccess()) {
-                    connection = future.getNow();
-                    connection.attr(CHANNEL_POOL_RECORD).set(this);
-                    createChildChannel(channelPromise, connection);
+                    createChildChannel(channelPromise, future.getNow());
                 } else {
                     channelPromise.setFailure(future.cause());
-                    channelReleaser.accept(connection, this);
                 }
             });
         }
-        return this;
+        return true;
+    }
+
+    /**
+     * @return Whether any stream of this connection is acquired.
+     */
+    public boolean hasStreamsInUse() {
+        return availableStreams.get() < maxConcurrencyPerConnection;
+    }
+
+    /**
+     * Stops opening streams on this connection, e.g. because the server sent a GOAWAY, and closes it once the streams in
+     * flight are released.
+     */
+    public void retire() {
+        state.compareAndSet(State.OPEN, State.RETIRED);
+        closeIfRetiredAndIdle();
     }
 
     /**
@@ -130,18 +181,62 @@ public final class MultiplexedChannelRecord {
                         channelReleaser.accept(connection, this);
                     }
                     availableStreams.incrementAndGet();
+                    closeIfRetiredAndIdle();
                 }
             })
             .addListener(promiseNotifyingListener(p));
     }
 
     void release(Channel channel) {
+        if (connection != null) {
+            // Before the stream is given back, so a connection seen idle is never seen idle since before this release
+            ConnectionMetricsHandler.connectionUsed(connection);
+        }
         availableStreams.incrementAndGet();
         childChannels.remove(channel.id());
+        closeIfRetiredAndIdle();
+    }
+
+    private void closeIfRetiredAndIdle() {
+        if (state.get() == State.RETIRED && connection != null && availableStreams.get() == maxConcurrencyPerConnection
+            && state.compareAndSet(State.RETIRED, State.CLOSED)) {
+            channelReleaser.accept(connection, this);
+        }
     }
 
     long availableStreams() {
         return availableStreams.get();
     }
 
+    /**
+     * @return Whether the socket channel has been established, streams acquired before then wait for it.
+     */
+    boolean isConnected() {
+        return connection != null;
+    }
+
+    /**
+     * @return Whether new streams can be opened on this connection.
+     */
+    boolean isRetired() {
+        return state.get() != State.OPEN;
+    }
+
+    private enum State {
+        /**
+         * Streams may be opened on the connection.
+         */
+        OPEN,
+
+        /**
+         * No new streams are opened, the connection is closed once the streams in flight are released.
+         */
+        RETIRED,
+
+        /**
+         * The connection was released to be closed.
+         */
+        CLOSED
+    }
+
 }
@@ -69,12 +69,12 @@ public class BetterFixedChannelPool implements ChannelPool {
     private final ChannelPool delegateChannelPool;
 
     // There is no need to worry about synchronization as everything that modified the queue or counts is done
-    // by the above EventExecutor.
+    // by the above EventExecutor. The counts are volatile only so they can be read from other threads for metrics.
     private final Queue<AcquireTask> pendingAcquireQueue = new ArrayDeque<AcquireTask>();
     private final int maxConnections;
     private final int maxPendingAcquires;
-    private int acquiredChannelCount;
-    private int pendingAcquireCount;
+    private volatile int acquiredChannelCount;
+    private volatile int pendingAcquireCount;
     private boolean closed;
 
 
@@ -369,6 +369,25 @@ public class BetterFixedChannelPool implements ChannelPool {
         });
     }
 
+    /**
+     * @return Number of channels currently acquired. Only updated on the executor, a read from another thread sees the latest
+     * update but may race with one in progress, which is fine for reporting metrics.
+     */
+    public int acquiredChannelCount() {
+        return acquiredChannelCount;
+    }
+
+    /**
+     * @return Number of acquires waiting for a channel to become available, see {@link #acquiredChannelCount()} for staleness.
+     */
+    public int pendingAcquireCount() {
+        return pendingAcquireCount;
+    }
+
+    public int maxConnections() {
+        return maxConnections;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
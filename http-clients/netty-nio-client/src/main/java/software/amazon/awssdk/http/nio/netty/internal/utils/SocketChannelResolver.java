@@ -38,6 +38,8 @@ public final class SocketChannelResolver {
     static {
         KNOWN_EL_GROUPS.put("io.netty.channel.kqueue.KQueueEventLoopGroup", "io.netty.channel.kqueue.KQueueSocketChannel");
         KNOWN_EL_GROUPS.put("io.netty.channel.oio.OioEventLoopGroup", "io.netty.channel.socket.oio.OioSocketChannel");
+        KNOWN_EL_GROUPS.put("io.netty.incubator.channel.uring.IOUringEventLoopGroup",
+                            "io.netty.incubator.channel.uring.IOUringSocketChannel");
     }
 
     private SocketChannelResolver() {
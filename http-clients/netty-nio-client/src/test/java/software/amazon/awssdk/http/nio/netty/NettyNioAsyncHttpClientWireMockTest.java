@@ -20,6 +20,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.any;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.putRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
@@ -53,6 +54,8 @@ import java.net.Socket;
 import java.net.URI;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -77,6 +80,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 import org.mockito.stubbing.Answer;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.ConnectionPoolMetrics;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
@@ -84,6 +88,7 @@ import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.http.async.SdkHttpFileContentPublisher;
 import software.amazon.awssdk.utils.AttributeMap;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -242,6 +247,96 @@ public class NettyNioAsyncHttpClientWireMockTest {
         assertCanReceiveBasicRequest(uri, largishBody);
     }
 
+    @Test
+    public void connectionReusedAfterEmptyResponse_CanReceiveBody() throws Exception {
+        SdkAsyncHttpClient singleConnectionClient = NettyNioAsyncHttpClient.builder()
+                                                                           .maxConcurrency(1)
+                                                                           .buildWithDefaults(mapWithTrustAllCerts());
+        URI uri = URI.create("http://localhost:" + mockServer.port());
+        String body = randomAlphabetic(10);
+        stubFor(any(urlPathEqualTo("/empty")).willReturn(aResponse().withStatus(204)));
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withBody(body)));
+
+        for (int i = 0; i < 3; i++) {
+            RecordingResponseHandler emptyRecorder = new RecordingResponseHandler();
+            singleConnectionClient.execute(AsyncExecuteRequest.builder()
+                                                              .request(createRequest(uri, "/empty", null, SdkHttpMethod.GET,
+                                                                                     emptyMap()))
+                                                              .requestContentPublisher(createProvider(""))
+                                                              .responseHandler(emptyRecorder)
+                                                              .build());
+            emptyRecorder.completeFuture.get(5, TimeUnit.SECONDS);
+
+            RecordingResponseHandler recorder = new RecordingResponseHandler();
+            singleConnectionClient.execute(AsyncExecuteRequest.builder()
+                                                              .request(createRequest(uri))
+                                                              .requestContentPublisher(createProvider(""))
+                                                              .responseHandler(recorder)
+                                                              .build());
+            recorder.completeFuture.get(5, TimeUnit.SECONDS);
+            assertThat(recorder.fullResponseAsString()).isEqualTo(body);
+        }
+        singleConnectionClient.close();
+    }
+
+    @Test
+    public void newConnectionToSameEndpoint_ResumesTlsSession() throws Exception {
+        NettyNioAsyncHttpClient tlsClient = (NettyNioAsyncHttpClient) NettyNioAsyncHttpClient.builder()
+                                                                                            .buildWithDefaults(mapWithTrustAllCerts());
+        URI uri = URI.create("https://localhost:" + mockServer.httpsPort());
+        // Closing the connection after every response forces a new connection, and handshake, per request
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withHeader("Connection", "close").withBody("body")));
+
+        for (int i = 0; i < 2; i++) {
+            RecordingResponseHandler recorder = new RecordingResponseHandler();
+            tlsClient.execute(AsyncExecuteRequest.builder()
+                                                 .request(createRequest(uri))
+                                                 .requestContentPublisher(createProvider(""))
+                                                 .responseHandler(recorder)
+                                                 .build());
+            recorder.completeFuture.get(5, TimeUnit.SECONDS);
+        }
+
+        TlsHandshakeMetrics metrics = tlsClient.tlsHandshakeMetrics();
+        assertThat(metrics.handshakeCount()).isEqualTo(2);
+        assertThat(metrics.resumedHandshakeCount()).isEqualTo(1);
+        assertThat(metrics.failedHandshakeCount()).isZero();
+        assertThat(metrics.maxHandshakeLatency()).isGreaterThanOrEqualTo(metrics.averageHandshakeLatency());
+        tlsClient.close();
+    }
+
+    @Test
+    public void connectionPoolMetrics_ReportConnectionsOfEachEndpoint() throws Exception {
+        SdkAsyncHttpClient metricsClient = NettyNioAsyncHttpClient.builder()
+                                                                  .maxConcurrency(5)
+                                                                  .buildWithDefaults(mapWithTrustAllCerts());
+        makeSimpleRequest(metricsClient);
+        makeSimpleRequest(metricsClient);
+
+        ConnectionPoolMetrics metrics = awaitIdleConnection(metricsClient);
+        assertThat(metrics.endpoint()).isEqualTo("http://localhost:" + mockServer.port());
+        assertThat(metrics.createdConnections()).isEqualTo(1);
+        assertThat(metrics.pendingAcquires()).isZero();
+        assertThat(metrics.maxConnections()).isEqualTo(5);
+        assertThat(metrics.acquireLatency().count()).isEqualTo(2);
+        metricsClient.close();
+    }
+
+    private static ConnectionPoolMetrics awaitIdleConnection(SdkAsyncHttpClient client) throws InterruptedException {
+        // The connection is released to the pool right after the response completes
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        ConnectionPoolMetrics metrics;
+        do {
+            assertThat(client.connectionPoolMetrics()).hasSize(1);
+            metrics = client.connectionPoolMetrics().get(0);
+            if (metrics.leasedConnections() == 0 && metrics.idleConnections() == 1) {
+                return metrics;
+            }
+            Thread.sleep(10);
+        } while (System.nanoTime() < deadline);
+        throw new AssertionError("Connection wasn't released to the pool: " + metrics);
+    }
+
     @Test
     public void canSendContentAndGetThatContentBack() throws Exception {
         String body = randomAlphabetic(50);
@@ -285,6 +380,63 @@ public class NettyNioAsyncHttpClientWireMockTest {
         assertThat(wiremockTrafficListener.requests.toString()).endsWith(content);
     }
 
+    @Test
+    public void fileContent_SentOverPlaintextConnection() throws Exception {
+        assertCanSendFileContent(URI.create("http://localhost:" + mockServer.port()));
+    }
+
+    @Test
+    public void fileContent_SentOverTlsConnection() throws Exception {
+        assertCanSendFileContent(URI.create("https://localhost:" + mockServer.httpsPort()));
+    }
+
+    private void assertCanSendFileContent(URI uri) throws Exception {
+        String body = randomAlphabetic(100 * 1024);
+        Path file = Files.createTempFile("NettyNioAsyncHttpClientWireMockTest", ".txt");
+        try {
+            Files.write(file, body.getBytes(UTF_8));
+            stubFor(any(urlEqualTo("/upload")).withRequestBody(equalTo(body)).willReturn(aResponse().withBody("done")));
+
+            SdkHttpRequest request = createRequest(uri, "/upload", body, SdkHttpMethod.PUT, emptyMap());
+            RecordingResponseHandler recorder = new RecordingResponseHandler();
+            client.execute(AsyncExecuteRequest.builder()
+                                              .request(request)
+                                              .requestContentPublisher(createFileProvider(file))
+                                              .responseHandler(recorder)
+                                              .build());
+
+            recorder.completeFuture.get(5, TimeUnit.SECONDS);
+
+            assertThat(recorder.fullResponseAsString()).isEqualTo("done");
+            verify(1, putRequestedFor(urlEqualTo("/upload")));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Fails when subscribed to, so the file has to be sent without reading it through the publisher.
+     */
+    private SdkHttpFileContentPublisher createFileProvider(Path file) throws IOException {
+        long length = Files.size(file);
+        return new SdkHttpFileContentPublisher() {
+            @Override
+            public Path file() {
+                return file;
+            }
+
+            @Override
+            public Optional<Long> contentLength() {
+                return Optional.of(length);
+            }
+
+            @Override
+            public void subscribe(Subscriber<? super ByteBuffer> s) {
+                s.onError(new UnsupportedOperationException("File content should not be read through the publisher"));
+            }
+        };
+    }
+
     private void assertCanReceiveBasicRequest(URI uri, String body) throws Exception {
         stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withHeader("Some-Header", "With Value").withBody(body)));
 
@@ -18,9 +18,12 @@ package software.amazon.awssdk.http.nio.netty;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import org.junit.Test;
+import software.amazon.awssdk.http.nio.netty.internal.Transport;
 
 public class SdkEventLoopGroupTest {
 
@@ -45,6 +48,41 @@ public class SdkEventLoopGroupTest {
         assertThat(sdkEventLoopGroup.channelFactory()).isNotNull();
     }
 
+    @Test
+    public void nativeTransportNotEnabled_UsesNio() {
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder().numberOfThreads(1).build();
+        try {
+            assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(NioEventLoopGroup.class);
+            assertThat(sdkEventLoopGroup.channelFactory().newChannel()).isInstanceOf(NioSocketChannel.class);
+        } finally {
+            sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void nativeTransportEnabledAndAvailable_UsesNativeTransport() {
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder().numberOfThreads(1).useNativeTransport(true).build();
+        try {
+            Transport expected = Epoll.isAvailable() ? Transport.EPOLL : Transport.NIO;
+            assertThat(Transport.of(sdkEventLoopGroup.eventLoopGroup())).isEqualTo(expected);
+            assertThat(sdkEventLoopGroup.channelFactory().newChannel())
+                .isInstanceOf(Epoll.isAvailable() ? EpollSocketChannel.class : NioSocketChannel.class);
+        } finally {
+            sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void nativeTransportDisabled_UsesNio() {
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder().numberOfThreads(1).useNativeTransport(false).build();
+        try {
+            assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(NioEventLoopGroup.class);
+            assertThat(sdkEventLoopGroup.channelFactory().newChannel()).isInstanceOf(NioSocketChannel.class);
+        } finally {
+            sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+        }
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void notProvidingChannelFactory_unknownEventLoopGroup() {
         SdkEventLoopGroup.create(new DefaultEventLoopGroup());
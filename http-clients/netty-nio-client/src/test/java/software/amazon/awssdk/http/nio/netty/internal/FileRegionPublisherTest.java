@@ -0,0 +1,91 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.netty.channel.FileRegion;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.HttpContent;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Unit tests for {@link FileRegionPublisher}.
+ */
+public class FileRegionPublisherTest {
+
+    private Path file;
+    private EmbeddedChannel channel;
+
+    @Before
+    public void methodSetup() throws Exception {
+        file = Files.createTempFile("file-region", ".txt");
+        Files.write(file, "Hello, World!".getBytes(StandardCharsets.UTF_8));
+        channel = new EmbeddedChannel();
+    }
+
+    @After
+    public void methodTeardown() throws Exception {
+        channel.finishAndReleaseAll();
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void regionWritten_CompletesAfterTransfer() throws Exception {
+        Subscriber<HttpContent> subscriber = subscribe();
+
+        FileRegion region = channel.readOutbound();
+        assertThat(region.count()).isEqualTo(Files.size(file));
+        verify(subscriber).onComplete();
+        verify(subscriber, never()).onError(any(Throwable.class));
+        region.release();
+    }
+
+    @Test
+    public void regionWriteFails_FailsSubscriber() throws Exception {
+        channel.close();
+        Subscriber<HttpContent> subscriber = subscribe();
+
+        ArgumentCaptor<Throwable> cause = ArgumentCaptor.forClass(Throwable.class);
+        verify(subscriber).onError(cause.capture());
+        assertThat(cause.getValue()).isInstanceOf(ClosedChannelException.class);
+        verify(subscriber, never()).onComplete();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Subscriber<HttpContent> subscribe() throws Exception {
+        Subscriber<HttpContent> subscriber = mock(Subscriber.class);
+        new FileRegionPublisher(channel, file, Files.size(file)).subscribe(subscriber);
+        ArgumentCaptor<Subscription> subscription = ArgumentCaptor.forClass(Subscription.class);
+        verify(subscriber).onSubscribe(subscription.capture());
+        subscription.getValue().request(1);
+        channel.runPendingTasks();
+        return subscriber;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.http.ConnectionCloseReason;
+import software.amazon.awssdk.http.ConnectionPoolMetricsRecorder;
+
+/**
+ * Unit tests for {@link IdleConnectionReaperHandler}.
+ */
+public class IdleConnectionReaperHandlerTest {
+
+    private static final long MAX_IDLE_MILLIS = 200;
+
+    private ConnectionPoolMetricsRecorder recorder;
+    private ConnectionMetricsHandler metricsHandler;
+    private EmbeddedChannel channel;
+
+    @Before
+    public void methodSetup() {
+        recorder = new ConnectionPoolMetricsRecorder("https://localhost");
+        metricsHandler = new ConnectionMetricsHandler(recorder);
+        channel = new EmbeddedChannel(metricsHandler, new IdleConnectionReaperHandler(MAX_IDLE_MILLIS));
+    }
+
+    @Test
+    public void unusedConnection_ClosedAsIdle() throws Exception {
+        Thread.sleep(MAX_IDLE_MILLIS + 50);
+        channel.runScheduledPendingTasks();
+
+        assertThat(channel.isOpen()).isFalse();
+        assertThat(closed(ConnectionCloseReason.IDLE)).isEqualTo(1);
+        assertThat(closed(ConnectionCloseReason.OTHER)).isZero();
+    }
+
+    @Test
+    public void leasedConnection_NotClosed() throws Exception {
+        metricsHandler.connectionLeased(channel);
+        Thread.sleep(MAX_IDLE_MILLIS + 50);
+        channel.runScheduledPendingTasks();
+
+        assertThat(channel.isOpen()).isTrue();
+    }
+
+    @Test
+    public void connectionReleasedRecently_NotClosedUntilIdleSinceRelease() throws Exception {
+        metricsHandler.connectionLeased(channel);
+        Thread.sleep(MAX_IDLE_MILLIS / 2);
+        metricsHandler.connectionReleased(channel);
+        Thread.sleep(MAX_IDLE_MILLIS / 2 + 50);
+        channel.runScheduledPendingTasks();
+
+        assertThat(channel.isOpen()).isTrue();
+
+        Thread.sleep(MAX_IDLE_MILLIS);
+        channel.runScheduledPendingTasks();
+
+        assertThat(channel.isOpen()).isFalse();
+        assertThat(closed(ConnectionCloseReason.IDLE)).isEqualTo(1);
+    }
+
+    @Test
+    public void closedForAnotherReason_NotRecordedAsIdle() {
+        channel.close();
+
+        assertThat(closed(ConnectionCloseReason.IDLE)).isZero();
+        assertThat(closed(ConnectionCloseReason.OTHER)).isEqualTo(1);
+    }
+
+    private long closed(ConnectionCloseReason reason) {
+        return recorder.snapshot(0, 0, 0, 1).closedConnections(reason);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link IdleTimeoutHandler}.
+ */
+public class IdleTimeoutHandlerTest {
+
+    private static final long READ_TIMEOUT_MILLIS = 200;
+
+    private IdleTimeoutHandler handler;
+    private EmbeddedChannel channel;
+
+    @Before
+    public void methodSetup() {
+        handler = new IdleTimeoutHandler(READ_TIMEOUT_MILLIS, 0);
+        channel = new EmbeddedChannel(handler);
+    }
+
+    @Test
+    public void readTimeoutNotStarted_DoesNotTimeOut() throws Exception {
+        Thread.sleep(READ_TIMEOUT_MILLIS + 50);
+        channel.runScheduledPendingTasks();
+
+        assertThat(channel.isOpen()).isTrue();
+    }
+
+    @Test
+    public void noDataRead_TimesOutAndClosesChannel() throws Exception {
+        handler.startReadTimeout();
+        Thread.sleep(READ_TIMEOUT_MILLIS + 50);
+        channel.runScheduledPendingTasks();
+
+        assertThatThrownBy(channel::checkException).isInstanceOf(ReadTimeoutException.class);
+        assertThat(channel.isOpen()).isFalse();
+    }
+
+    @Test
+    public void dataRead_PostponesTimeout() throws Exception {
+        handler.startReadTimeout();
+        Thread.sleep(READ_TIMEOUT_MILLIS / 2);
+        channel.writeInbound("data");
+        Thread.sleep(READ_TIMEOUT_MILLIS / 2 + 50);
+        channel.runScheduledPendingTasks();
+
+        assertThat(channel.isOpen()).isTrue();
+        channel.checkException();
+    }
+
+    @Test
+    public void reset_StopsReadTimeout() throws Exception {
+        handler.startReadTimeout();
+        handler.reset();
+        Thread.sleep(READ_TIMEOUT_MILLIS + 50);
+        channel.runScheduledPendingTasks();
+
+        assertThat(channel.isOpen()).isTrue();
+        channel.checkException();
+    }
+}
@@ -18,6 +18,8 @@ package software.amazon.awssdk.http.nio.netty.internal;
 import static org.junit.Assert.assertEquals;
 
 import io.netty.channel.ChannelOption;
+import io.netty.channel.epoll.EpollChannelOption;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
@@ -44,4 +46,26 @@ public class SdkChannelOptionsTest {
 
         assertEquals(expectedOptions, channelOptions.channelOptions());
     }
+
+    @Test
+    public void epollTransport_NoEpollOptionsByDefault() {
+        SdkChannelOptions channelOptions = new SdkChannelOptions();
+
+        assertEquals(Collections.singletonMap(ChannelOption.TCP_NODELAY, Boolean.TRUE),
+                     channelOptions.channelOptions(Transport.EPOLL));
+    }
+
+    @Test
+    public void epollTransport_IncludesEpollOptions() {
+        SdkChannelOptions channelOptions = new SdkChannelOptions().tcpQuickAck(true).reusePort(true);
+
+        Map<ChannelOption, Object> expectedOptions = new HashMap<>();
+        expectedOptions.put(ChannelOption.TCP_NODELAY, Boolean.TRUE);
+        expectedOptions.put(EpollChannelOption.TCP_QUICKACK, Boolean.TRUE);
+        expectedOptions.put(EpollChannelOption.SO_REUSEPORT, Boolean.TRUE);
+
+        assertEquals(expectedOptions, channelOptions.channelOptions(Transport.EPOLL));
+        assertEquals(Collections.singletonMap(ChannelOption.TCP_NODELAY, Boolean.TRUE),
+                     channelOptions.channelOptions(Transport.NIO));
+    }
 }
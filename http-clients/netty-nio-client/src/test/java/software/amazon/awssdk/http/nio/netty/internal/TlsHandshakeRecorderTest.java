@@ -0,0 +1,98 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.net.ssl.SSLSession;
+import org.junit.Test;
+
+/**
+ * Unit tests for the resumption detection of {@link TlsHandshakeRecorder}.
+ */
+public class TlsHandshakeRecorderTest {
+
+    private final TlsHandshakeRecorder recorder = new TlsHandshakeRecorder(2);
+
+    @Test
+    public void isResumed_NewSession_IsNotResumed() {
+        assertThat(recorder.isResumed(newSession())).isFalse();
+    }
+
+    @Test
+    public void isResumed_SessionOfEarlierHandshake_IsResumed() {
+        SSLSession session = newSession();
+        recorder.isResumed(session);
+
+        assertThat(recorder.isResumed(session)).isTrue();
+    }
+
+    @Test
+    public void isResumed_NewSessionObjectWithIdOfEarlierHandshake_IsResumed() {
+        recorder.isResumed(newSession(1));
+
+        assertThat(recorder.isResumed(newSession(1))).isTrue();
+        assertThat(recorder.isResumed(newSession(2))).isFalse();
+    }
+
+    @Test
+    public void isResumed_IdNoLongerRemembered_IsNotResumed() {
+        recorder.isResumed(newSession(1));
+        recorder.isResumed(newSession(2));
+        recorder.isResumed(newSession(3));
+
+        assertThat(recorder.isResumed(newSession(1))).isFalse();
+        assertThat(recorder.isResumed(newSession(3))).isTrue();
+    }
+
+    @Test
+    public void isResumed_EmptySessionIds_AreNotCompared() {
+        recorder.isResumed(newSession());
+
+        assertThat(recorder.isResumed(newSession())).isFalse();
+    }
+
+    @Test
+    public void isResumed_NoSession_IsNotResumed() {
+        assertThat(recorder.isResumed(null)).isFalse();
+    }
+
+    private static SSLSession newSession() {
+        return newSession(new byte[0]);
+    }
+
+    private static SSLSession newSession(int id) {
+        return newSession(new byte[] {(byte) id, 42});
+    }
+
+    private static SSLSession newSession(byte[] id) {
+        Map<String, Object> values = new HashMap<>();
+        SSLSession session = mock(SSLSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.getValue(anyString())).thenAnswer(i -> values.get(i.getArgumentAt(0, String.class)));
+        doAnswer(i -> values.put(i.getArgumentAt(0, String.class), i.getArgumentAt(1, Object.class)))
+            .when(session).putValue(anyString(), any());
+        return session;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.DefaultHttp2GoAwayFrame;
+import io.netty.handler.codec.http2.Http2Error;
+import io.netty.handler.codec.http2.Http2PingFrame;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Unit tests for {@link Http2ConnectionHealthHandler}. The scheduled PING task is captured and run directly, so the tests
+ * don't depend on the wall clock.
+ */
+public class Http2ConnectionHealthHandlerTest {
+
+    private static final long PING_INTERVAL_MILLIS = 100;
+
+    private Http2ConnectionHealthHandler handler;
+    private ChannelHandlerContext ctx;
+    private EventExecutor executor;
+    private ScheduledFuture<?> scheduledPing;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void methodSetup() {
+        handler = new Http2ConnectionHealthHandler(PING_INTERVAL_MILLIS);
+        ctx = mock(ChannelHandlerContext.class);
+        executor = mock(EventExecutor.class);
+        scheduledPing = mock(ScheduledFuture.class);
+        Channel channel = mock(Channel.class);
+        when(channel.isActive()).thenReturn(true);
+        when(ctx.channel()).thenReturn(channel);
+        when(ctx.executor()).thenReturn(executor);
+        when(executor.scheduleAtFixedRate(any(Runnable.class), anyLong(), anyLong(), any(TimeUnit.class)))
+            .thenReturn((ScheduledFuture) scheduledPing);
+    }
+
+    @Test
+    public void handlerAdded_SchedulesPingAtInterval() {
+        handler.handlerAdded(ctx);
+
+        assertThat(pingTask()).isNotNull();
+    }
+
+    @Test
+    public void zeroInterval_DoesNotSchedulePing() {
+        new Http2ConnectionHealthHandler(0).handlerAdded(ctx);
+
+        verify(executor, never()).scheduleAtFixedRate(any(Runnable.class), anyLong(), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void pingIntervalElapsed_SendsPing() {
+        handler.handlerAdded(ctx);
+        pingTask().run();
+
+        ArgumentCaptor<Object> ping = ArgumentCaptor.forClass(Object.class);
+        verify(ctx).writeAndFlush(ping.capture());
+        assertThat(ping.getValue()).isInstanceOf(Http2PingFrame.class);
+        assertThat(((Http2PingFrame) ping.getValue()).ack()).isFalse();
+    }
+
+    @Test
+    public void pingAcknowledged_KeepsConnectionOpen() {
+        handler.handlerAdded(ctx);
+        Runnable pingTask = pingTask();
+        pingTask.run();
+        Http2PingFrame ack = mock(Http2PingFrame.class);
+        when(ack.ack()).thenReturn(true);
+        handler.channelRead(ctx, ack);
+        pingTask.run();
+
+        verify(ctx, times(2)).writeAndFlush(any(Http2PingFrame.class));
+        verify(ctx, never()).fireExceptionCaught(any(Throwable.class));
+        verify(ctx, never()).close();
+        verify(ctx, never()).fireChannelRead(ack);
+    }
+
+    @Test
+    public void pingNotAcknowledged_FailsAndClosesConnection() {
+        handler.handlerAdded(ctx);
+        Runnable pingTask = pingTask();
+        pingTask.run();
+        pingTask.run();
+
+        ArgumentCaptor<Throwable> cause = ArgumentCaptor.forClass(Throwable.class);
+        verify(ctx).fireExceptionCaught(cause.capture());
+        assertThat(cause.getValue()).isInstanceOf(IOException.class).hasMessageContaining("PING");
+        verify(ctx).close();
+        verify(scheduledPing).cancel(false);
+    }
+
+    @Test
+    public void channelInactive_CancelsPing() throws Exception {
+        handler.handlerAdded(ctx);
+        handler.channelInactive(ctx);
+
+        verify(scheduledPing).cancel(false);
+    }
+
+    @Test
+    public void goAwayReceived_RetiresIdleConnection() {
+        EmbeddedChannel channel = new EmbeddedChannel(new Http2ConnectionHealthHandler(0));
+        AtomicReference<Channel> released = new AtomicReference<>();
+        MultiplexedChannelRecord record = new MultiplexedChannelRecord(channel.eventLoop().newSucceededFuture(channel), 10,
+                                                                       (ch, r) -> released.set(ch))
+            .connect();
+
+        channel.writeInbound(new DefaultHttp2GoAwayFrame(Http2Error.NO_ERROR));
+
+        assertThat(record.isRetired()).isTrue();
+        assertThat(released.get()).isSameAs(channel);
+        assertThat((Object) channel.readInbound()).isNull();
+    }
+
+    private Runnable pingTask() {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).scheduleAtFixedRate(task.capture(), anyLong(), anyLong(), any(TimeUnit.class));
+        verify(executor).scheduleAtFixedRate(any(Runnable.class), eq(PING_INTERVAL_MILLIS), eq(PING_INTERVAL_MILLIS),
+                                             eq(MILLISECONDS));
+        return task.getValue();
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CHANNEL_POOL_RECORD;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.util.concurrent.Promise;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the connection selection of {@link Http2MultiplexedChannelPool}. The protocol of the connections is never
+ * negotiated, so acquired streams stay pending and only count against the available streams of their connection.
+ */
+public class Http2MultiplexedChannelPoolTest {
+
+    private static final long MAX_STREAMS = 10;
+
+    private final List<EmbeddedChannel> connections = new ArrayList<>();
+    private final List<Promise<Channel>> pendingConnections = new ArrayList<>();
+
+    private EventLoop eventLoop;
+    private ChannelPool connectionPool;
+    private Http2MultiplexedChannelPool pool;
+    private boolean connectImmediately;
+
+    @Before
+    public void methodSetup() {
+        eventLoop = new EmbeddedChannel().eventLoop();
+        connectionPool = mock(ChannelPool.class);
+        connectImmediately = true;
+        when(connectionPool.acquire()).thenAnswer(i -> {
+            EmbeddedChannel connection = new EmbeddedChannel();
+            connection.attr(PROTOCOL_FUTURE).set(new CompletableFuture<>());
+            connections.add(connection);
+            if (connectImmediately) {
+                return eventLoop.newSucceededFuture(connection);
+            }
+            Promise<Channel> pending = eventLoop.newPromise();
+            pendingConnections.add(pending);
+            return pending;
+        });
+        pool = new Http2MultiplexedChannelPool(connectionPool, eventLoop, MAX_STREAMS);
+    }
+
+    @Test
+    public void acquire_OpensStreamOnLeastLoadedConnection() {
+        acquire(8);
+        assertThat(connections).hasSize(2);
+
+        acquire(2);
+
+        assertThat(record(0).availableStreams()).isEqualTo(2);
+        assertThat(record(1).availableStreams()).isEqualTo(8);
+    }
+
+    @Test
+    public void acquire_BelowSpareThreshold_UsesSingleConnection() {
+        acquire(7);
+
+        assertThat(connections).hasSize(1);
+        assertThat(record(0).availableStreams()).isEqualTo(3);
+    }
+
+    @Test
+    public void acquire_AboveSpareThreshold_WarmsSpareConnection() {
+        acquire(8);
+
+        assertThat(connections).hasSize(2);
+        assertThat(record(1).isConnected()).isTrue();
+        assertThat(record(1).hasStreamsInUse()).isFalse();
+    }
+
+    @Test
+    public void acquire_WhileConnecting_WaitsForConnectionInsteadOfWarmingSpare() {
+        connectImmediately = false;
+        acquire((int) MAX_STREAMS);
+        assertThat(connections).hasSize(1);
+
+        acquire(1);
+
+        assertThat(connections).hasSize(2);
+        for (int i = 0; i < pendingConnections.size(); i++) {
+            pendingConnections.get(i).setSuccess(connections.get(i));
+        }
+        assertThat(record(0).availableStreams()).isEqualTo(0);
+        assertThat(record(1).availableStreams()).isEqualTo(MAX_STREAMS - 1);
+    }
+
+    @Test
+    public void acquire_RetiredConnection_IsSkipped() {
+        acquire(1);
+        record(0).retire();
+
+        acquire(1);
+
+        assertThat(connections).hasSize(2);
+        assertThat(record(0).availableStreams()).isEqualTo(MAX_STREAMS - 1);
+        assertThat(record(1).availableStreams()).isEqualTo(MAX_STREAMS - 1);
+        verify(connectionPool, never()).release(connections.get(0));
+    }
+
+    @Test
+    public void release_LastStreamOfRetiredConnection_ClosesConnection() {
+        acquire(1);
+        record(0).retire();
+        verify(connectionPool, never()).release(connections.get(0));
+
+        record(0).release(new EmbeddedChannel());
+
+        verify(connectionPool, times(1)).release(connections.get(0));
+        assertThat(connections.get(0).isOpen()).isFalse();
+    }
+
+    private void acquire(int streams) {
+        for (int i = 0; i < streams; i++) {
+            pool.acquire();
+        }
+    }
+
+    private MultiplexedChannelRecord record(int connection) {
+        return connections.get(connection).attr(CHANNEL_POOL_RECORD).get();
+    }
+}
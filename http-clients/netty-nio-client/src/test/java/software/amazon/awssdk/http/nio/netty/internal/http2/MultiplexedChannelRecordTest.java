@@ -0,0 +1,103 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
+
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the retirement of a {@link MultiplexedChannelRecord}.
+ */
+public class MultiplexedChannelRecordTest {
+
+    private static final long MAX_STREAMS = 10;
+
+    private final List<Channel> released = new ArrayList<>();
+
+    private EmbeddedChannel connection;
+    private MultiplexedChannelRecord record;
+
+    @Before
+    public void methodSetup() {
+        connection = new EmbeddedChannel();
+        connection.attr(PROTOCOL_FUTURE).set(new CompletableFuture<>());
+        record = new MultiplexedChannelRecord(connection.eventLoop().newSucceededFuture(connection), MAX_STREAMS,
+                                              (ch, r) -> released.add(ch))
+            .connect();
+    }
+
+    @Test
+    public void retire_IdleConnection_ReleasesConnection() {
+        record.retire();
+
+        assertThat(record.isRetired()).isTrue();
+        assertThat(released).containsExactly(connection);
+    }
+
+    @Test
+    public void retire_StreamInUse_ReleasesConnectionOnceLastStreamIsReleased() {
+        assertThat(acquire()).isTrue();
+        assertThat(acquire()).isTrue();
+        record.retire();
+        assertThat(released).isEmpty();
+
+        record.release(new EmbeddedChannel());
+        assertThat(released).isEmpty();
+        record.release(new EmbeddedChannel());
+
+        assertThat(released).containsExactly(connection);
+    }
+
+    @Test
+    public void retire_CalledTwice_ReleasesConnectionOnce() {
+        record.retire();
+        record.retire();
+
+        assertThat(released).containsExactly(connection);
+    }
+
+    @Test
+    public void acquire_RetiredConnection_IsRefused() {
+        assertThat(acquire()).isTrue();
+        record.retire();
+
+        assertThat(acquire()).isFalse();
+        assertThat(record.availableStreams()).isEqualTo(MAX_STREAMS - 1);
+        assertThat(released).isEmpty();
+    }
+
+    @Test
+    public void acquire_ClosedConnection_IsRefused() {
+        record.retire();
+
+        assertThat(acquire()).isFalse();
+        assertThat(record.availableStreams()).isEqualTo(MAX_STREAMS);
+        assertThat(released).containsExactly(connection);
+    }
+
+    private boolean acquire() {
+        return record.acquire(connection.eventLoop().newPromise());
+    }
+}
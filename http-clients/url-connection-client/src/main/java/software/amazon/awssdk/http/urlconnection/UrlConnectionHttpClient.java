@@ -23,11 +23,14 @@ import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.http.AbortableCallable;
 import software.amazon.awssdk.http.AbortableInputStream;
@@ -39,12 +42,17 @@ import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
 
 /**
  * An implementation of {@link SdkHttpClient} that uses {@link HttpURLConnection} to communicate with the service. This is the
  * leanest synchronous client that optimizes for minimum dependencies and startup latency in exchange for having less
  * functionality than other implementations.
  *
+ * <p>Connections are reused through the keep-alive cache of the JDK, which is shared by every {@link HttpURLConnection} in
+ * the JVM. The client doesn't configure it; the {@code http.keepAlive} and {@code http.maxConnections} system properties
+ * documented by the JDK apply.</p>
+ *
  * <p>See software.amazon.awssdk.http.apache.ApacheHttpClient for an alternative implementation.</p>
  *
  * <p>This can be created via {@link #builder()}</p>
@@ -52,6 +60,8 @@ import software.amazon.awssdk.utils.IoUtils;
 @SdkPublicApi
 public final class UrlConnectionHttpClient implements SdkHttpClient {
 
+    private static final Logger log = Logger.loggerFor(UrlConnectionHttpClient.class);
+
     private final AttributeMap options;
 
     private UrlConnectionHttpClient(AttributeMap options) {
@@ -79,6 +89,7 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
         invokeSafely(() -> connection.setRequestMethod(request.method().name()));
         if (request.contentStreamProvider().isPresent()) {
             connection.setDoOutput(true);
+            configureStreamingMode(connection, request);
         }
 
         connection.setConnectTimeout(saturatedCast(options.get(CONNECTION_TIMEOUT).toMillis()));
@@ -87,6 +98,35 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
         return connection;
     }
 
+    /**
+     * Streams the request body straight to the socket instead of letting {@link HttpURLConnection} buffer all of it in memory
+     * to compute its length. Without a valid Content-Length the body is only sent chunked when the request asks for it, as not
+     * every service accepts chunked uploads; otherwise it is still buffered.
+     */
+    private static void configureStreamingMode(HttpURLConnection connection, SdkHttpFullRequest request) {
+        Optional<Long> contentLength = request.firstMatchingHeader("Content-Length")
+                                              .flatMap(UrlConnectionHttpClient::parseContentLength);
+        if (contentLength.isPresent()) {
+            connection.setFixedLengthStreamingMode(contentLength.get());
+        } else if (request.firstMatchingHeader("Transfer-Encoding").filter("chunked"::equalsIgnoreCase).isPresent()) {
+            // Zero selects the default chunk size of the JDK
+            connection.setChunkedStreamingMode(0);
+        }
+    }
+
+    private static Optional<Long> parseContentLength(String contentLength) {
+        try {
+            long length = Long.parseLong(contentLength.trim());
+            if (length >= 0) {
+                return Optional.of(length);
+            }
+        } catch (NumberFormatException e) {
+            // Treated like a missing Content-Length below
+        }
+        log.debug(() -> "Ignoring invalid Content-Length " + contentLength + ", the request body isn't streamed");
+        return Optional.empty();
+    }
+
     private static class RequestCallable implements AbortableCallable<SdkHttpFullResponse> {
 
         private final HttpURLConnection connection;
@@ -101,8 +141,12 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
         public SdkHttpFullResponse call() throws Exception {
             connection.connect();
 
-            request.contentStreamProvider().ifPresent(provider ->
-                    invokeSafely(() -> IoUtils.copy(provider.newStream(), connection.getOutputStream())));
+            request.contentStreamProvider().ifPresent(provider -> invokeSafely(() -> {
+                try (InputStream body = provider.newStream();
+                     OutputStream out = connection.getOutputStream()) {
+                    IoUtils.copy(body, out);
+                }
+            }));
 
             int responseCode = connection.getResponseCode();
             boolean isErrorResponse = HttpStatusFamily.of(responseCode).isOneOf(CLIENT_ERROR, SERVER_ERROR);
@@ -117,10 +161,22 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
                                       .build();
         }
 
+        /**
+         * Reads the headers by index, {@link HttpURLConnection#getHeaderFields()} builds a new unmodifiable copy of them on
+         * every call. The status line is the only field without a key.
+         */
         private Map<String, List<String>> extractHeaders(HttpURLConnection response) {
-            return response.getHeaderFields().entrySet().stream()
-                           .filter(e -> e.getKey() != null)
-                           .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            for (int i = 0; ; i++) {
+                String key = response.getHeaderFieldKey(i);
+                String value = response.getHeaderField(i);
+                if (key == null && value == null) {
+                    return headers;
+                }
+                if (key != null) {
+                    headers.computeIfAbsent(key, k -> new ArrayList<>(1)).add(value);
+                }
+            }
         }
 
         @Override
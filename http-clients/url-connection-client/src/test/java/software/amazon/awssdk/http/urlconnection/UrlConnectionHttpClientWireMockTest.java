@@ -12,14 +12,93 @@
  * express or implied. See the License for the specific language governing
  * permissions and limitations under the License.
  */
+
 package software.amazon.awssdk.http.urlconnection;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.putRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import org.junit.Test;
+import software.amazon.awssdk.http.ExecuteRequest;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpClientTestSuite;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.SdkHttpMethod;
 
 public final class UrlConnectionHttpClientWireMockTest extends SdkHttpClientTestSuite {
     @Override
     protected SdkHttpClient createSdkHttpClient(SdkHttpClientOptions options) {
         return UrlConnectionHttpClient.builder().build();
     }
+
+    @Test
+    public void contentLengthSet_StreamsBodyWithFixedLength() throws Exception {
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)));
+        byte[] body = new byte[64 * 1024];
+
+        SdkHttpFullRequest request = requestBuilder().putHeader("Content-Length", String.valueOf(body.length))
+                                                     .contentStreamProvider(() -> new ByteArrayInputStream(body))
+                                                     .build();
+        createSdkHttpClient().prepareRequest(ExecuteRequest.builder().request(request).build()).call();
+
+        verify(putRequestedFor(urlPathEqualTo("/")).withHeader("Content-Length", equalTo(String.valueOf(body.length)))
+                                                   .withHeader("Transfer-Encoding", absent()));
+    }
+
+    @Test
+    public void invalidContentLength_BodyBufferedAndSent() throws Exception {
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)));
+
+        SdkHttpFullRequest request = requestBuilder().putHeader("Content-Length", "not-a-number")
+                                                     .contentStreamProvider(() -> new ByteArrayInputStream(new byte[100]))
+                                                     .build();
+        createSdkHttpClient().prepareRequest(ExecuteRequest.builder().request(request).build()).call();
+
+        verify(putRequestedFor(urlPathEqualTo("/")).withHeader("Content-Length", equalTo("100")));
+    }
+
+    @Test
+    public void chunkedTransferEncodingRequested_StreamsBodyChunked() throws Exception {
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)));
+
+        SdkHttpFullRequest request = requestBuilder().putHeader("Transfer-Encoding", "chunked")
+                                                     .contentStreamProvider(() -> new ByteArrayInputStream(new byte[100]))
+                                                     .build();
+        createSdkHttpClient().prepareRequest(ExecuteRequest.builder().request(request).build()).call();
+
+        verify(putRequestedFor(urlPathEqualTo("/")).withHeader("Transfer-Encoding", equalTo("chunked"))
+                                                   .withHeader("Content-Length", absent()));
+    }
+
+    @Test
+    public void repeatedResponseHeader_AllValuesExtracted() throws Exception {
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)
+                                                               .withHeader("Multi-Header", "one", "two")));
+
+        SdkHttpFullResponse response = createSdkHttpClient().prepareRequest(ExecuteRequest.builder()
+                                                                                          .request(requestBuilder().build())
+                                                                                          .build())
+                                                            .call();
+
+        assertThat(response.headers().get("Multi-Header")).containsExactly("one", "two");
+    }
+
+    private SdkHttpFullRequest.Builder requestBuilder() {
+        URI uri = URI.create("http://localhost:" + mockServer.port());
+        return SdkHttpFullRequest.builder()
+                                 .host(uri.getHost())
+                                 .protocol(uri.getScheme())
+                                 .port(uri.getPort())
+                                 .method(SdkHttpMethod.PUT);
+    }
 }
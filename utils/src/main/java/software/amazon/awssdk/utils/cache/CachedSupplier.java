@@ -17,13 +17,20 @@ package software.amazon.awssdk.utils.cache;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.ReviewBeforeRelease;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.Validate;
 
 /**
@@ -34,6 +41,10 @@ import software.amazon.awssdk.utils.Validate;
  * For example, the {@link OneCallerBlocks} strategy will have a single caller block to update the value, and the
  * {@link NonBlocking} strategy maintains a thread pool for updating the value asynchronously in the background.
  *
+ * Callers that must not block, such as event loop threads, can use {@link #getAsync()} instead of {@link #get()}. Optionally,
+ * a {@link Builder#staleValueGracePeriod(Duration)} can be configured during which a stale value is still returned while a
+ * single refresh is in progress.
+ *
  * This should be created using {@link #builder(Supplier)}.
  */
 @SdkProtectedApi
@@ -57,13 +68,34 @@ public final class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
      */
     private final PrefetchStrategy prefetchStrategy;
 
+    /**
+     * The executor on which refreshes initiated by {@link #getAsync()} are performed. This is configured when the cache is
+     * created via {@link Builder#asyncRefreshExecutor(Executor)}.
+     */
+    private final Executor asyncRefreshExecutor;
+
+    /**
+     * The executor created by this cache when no {@link #asyncRefreshExecutor} was configured, shut down on {@link #close()}.
+     */
+    private final ExecutorService ownedAsyncRefreshExecutor;
+
+    /**
+     * How long past its {@link RefreshResult#staleTime} a value may still be returned while it is being refreshed.
+     */
+    private final long staleValueGracePeriodNanos;
+
+    /**
+     * The refresh currently in progress on the {@link #asyncRefreshExecutor}, or null if there is none.
+     */
+    private final AtomicReference<CompletableFuture<T>> asyncRefresh = new AtomicReference<>();
+
     /**
      * The value currently stored in this cache.
      */
-    private volatile RefreshResult<T> cachedValue = RefreshResult.builder((T) null)
-                                                                 .staleTime(Instant.MIN)
-                                                                 .prefetchTime(Instant.MIN)
-                                                                 .build();
+    private volatile CachedValue<T> cachedValue = new CachedValue<>(RefreshResult.builder((T) null)
+                                                                                 .staleTime(Instant.MIN)
+                                                                                 .prefetchTime(Instant.MIN)
+                                                                                 .build());
 
     /**
      * The "expensive" to call supplier that is used to refresh the {@link #cachedValue}.
@@ -73,6 +105,28 @@ public final class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
     private CachedSupplier(Builder<T> builder) {
         this.valueSupplier = Validate.notNull(builder.supplier, "builder.supplier");
         this.prefetchStrategy = Validate.notNull(builder.prefetchStrategy, "builder.prefetchStrategy");
+        if (builder.asyncRefreshExecutor != null) {
+            this.ownedAsyncRefreshExecutor = null;
+            this.asyncRefreshExecutor = builder.asyncRefreshExecutor;
+        } else {
+            this.ownedAsyncRefreshExecutor = createAsyncRefreshExecutor();
+            this.asyncRefreshExecutor = ownedAsyncRefreshExecutor;
+        }
+        this.staleValueGracePeriodNanos =
+            Validate.isNotNegative(builder.staleValueGracePeriod, "builder.staleValueGracePeriod").toNanos();
+    }
+
+    /**
+     * A single daemon thread, only started while a refresh is in progress. At most one refresh is in progress at a time, so at
+     * most one refresh is ever queued.
+     */
+    private static ExecutorService createAsyncRefreshExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 5, TimeUnit.SECONDS, new LinkedBlockingQueue<>(1),
+                                                             new ThreadFactoryBuilder().daemonThreads(true)
+                                                                                       .threadNamePrefix("sdk-cache-refresh")
+                                                                                       .build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     /**
@@ -86,20 +140,47 @@ public final class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
 
     @Override
     public T get() {
-        if (cacheIsStale()) {
-            refreshCache();
-        } else if (shouldInitiateCachePrefetch()) {
+        CachedValue<T> current = this.cachedValue;
+        long now = System.nanoTime();
+
+        if (current.isStale(now)) {
+            if (current.isWithinGracePeriod(now, staleValueGracePeriodNanos)) {
+                refreshAsync();
+            } else {
+                refreshCache(null);
+            }
+        } else if (current.shouldPrefetch(now)) {
             prefetchCache();
         }
 
         return this.cachedValue.value();
     }
 
+    /**
+     * Retrieve the cached value without blocking the calling thread on a refresh.
+     *
+     * If the cached value is still valid, or stale but within the configured grace period, the returned future is already
+     * completed and a refresh is initiated on the {@link Builder#asyncRefreshExecutor(Executor)} if the value needs one.
+     * Otherwise, the returned future is completed once the single refresh in progress completes.
+     */
+    public CompletableFuture<T> getAsync() {
+        CachedValue<T> current = this.cachedValue;
+        long now = System.nanoTime();
+
+        if (current.isStale(now) && !current.isWithinGracePeriod(now, staleValueGracePeriodNanos)) {
+            return refreshAsync();
+        }
+        if (current.isStale(now) || current.shouldPrefetch(now)) {
+            refreshAsync();
+        }
+        return CompletableFuture.completedFuture(current.value());
+    }
+
     /**
      * Determines whether the value in this cache is stale, and all threads should block and wait for an updated value.
      */
     private boolean cacheIsStale() {
-        return Instant.now().isAfter(cachedValue.staleTime());
+        return cachedValue.isStale(System.nanoTime());
     }
 
     /**
@@ -107,30 +188,71 @@ public final class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
      * configured {@link #prefetchStrategy}.
      */
     private boolean shouldInitiateCachePrefetch() {
-        return Instant.now().isAfter(cachedValue.prefetchTime());
+        return cachedValue.shouldPrefetch(System.nanoTime());
     }
 
     /**
      * Initiate a pre-fetch of the data using the configured {@link #prefetchStrategy}.
      */
     private void prefetchCache() {
-        prefetchStrategy.prefetch(this::refreshCache);
+        prefetchStrategy.prefetch(() -> refreshCache(null));
+    }
+
+    /**
+     * Initiate a refresh of the data on the {@link #asyncRefreshExecutor}, unless one is already in progress.
+     *
+     * @return A future that is completed with the value once the refresh completes.
+     */
+    private CompletableFuture<T> refreshAsync() {
+        while (true) {
+            CompletableFuture<T> inProgress = asyncRefresh.get();
+            if (inProgress != null) {
+                return inProgress;
+            }
+
+            CompletableFuture<T> refresh = new CompletableFuture<>();
+            if (asyncRefresh.compareAndSet(null, refresh)) {
+                try {
+                    asyncRefreshExecutor.execute(() -> completeAsyncRefresh(refresh));
+                } catch (RuntimeException e) {
+                    asyncRefresh.compareAndSet(refresh, null);
+                    refresh.completeExceptionally(e);
+                }
+                return refresh;
+            }
+        }
+    }
+
+    private void completeAsyncRefresh(CompletableFuture<T> refresh) {
+        try {
+            refreshCache(null);
+            asyncRefresh.compareAndSet(refresh, null);
+            refresh.complete(cachedValue.value());
+        } catch (Throwable t) {
+            asyncRefresh.compareAndSet(refresh, null);
+            refresh.completeExceptionally(t);
+        }
     }
 
     /**
      * Perform a blocking refresh of the cached value. This will rate limit synchronous refresh calls based on the
      * {@link #BLOCKING_REFRESH_MAX_WAIT} time. This ensures that when the data needs to be updated, we won't immediately hammer
      * the underlying value refresher if it can get back to us in a reasonable time.
+     *
+     * @param expectedValue If not null, the value is refreshed only if it is still the cached value, regardless of whether its
+     * prefetch time has arrived. Otherwise, the value is only refreshed if it is stale or its prefetch time has arrived.
      */
-    private void refreshCache() {
+    private void refreshCache(CachedValue<T> expectedValue) {
         try {
             boolean lockAcquired = refreshLock.tryLock(BLOCKING_REFRESH_MAX_WAIT.getSeconds(), TimeUnit.SECONDS);
 
             try {
                 // Make sure the value was not refreshed while we waited for the lock.
-                if (cacheIsStale() || shouldInitiateCachePrefetch()) {
+                boolean needsRefresh = expectedValue != null ? cachedValue == expectedValue
+                                                             : cacheIsStale() || shouldInitiateCachePrefetch();
+                if (needsRefresh) {
                     // It wasn't, call the supplier to update it.
-                    cachedValue = valueSupplier.get();
+                    updateCachedValue(valueSupplier.get());
                 }
             } finally {
                 if (lockAcquired) {
@@ -142,6 +264,12 @@ public final class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
         }
     }
 
+    private void updateCachedValue(RefreshResult<T> refreshResult) {
+        CachedValue<T> newValue = new CachedValue<>(refreshResult);
+        cachedValue = newValue;
+        prefetchStrategy.scheduleNextPrefetch(() -> refreshCache(newValue), refreshResult.prefetchTime());
+    }
+
     @ReviewBeforeRelease("Should this throw a different exception, like AbortedException, from the core?")
     private void handleInterruptedException(String message, InterruptedException cause) {
         Thread.currentThread().interrupt();
@@ -149,11 +277,60 @@ public final class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
     }
 
     /**
-     * Free any resources consumed by the prefetch strategy this supplier is using.
+     * Free any resources consumed by the prefetch strategy this supplier is using, and by the default
+     * {@link Builder#asyncRefreshExecutor(Executor)}.
      */
     @Override
     public void close() {
         prefetchStrategy.close();
+        if (ownedAsyncRefreshExecutor != null) {
+            ownedAsyncRefreshExecutor.shutdown();
+        }
+    }
+
+    /**
+     * A {@link RefreshResult} along with its stale and prefetch times converted to offsets on the monotonic
+     * {@link System#nanoTime()} clock, so that checking them does not require reading the wall clock.
+     */
+    private static final class CachedValue<T> {
+        private final T value;
+        private final long createdNanos;
+        private final long staleAfterNanos;
+        private final long prefetchAfterNanos;
+
+        private CachedValue(RefreshResult<T> refreshResult) {
+            Instant now = Instant.now();
+            this.createdNanos = System.nanoTime();
+            this.value = refreshResult.value();
+            this.staleAfterNanos = nanosBetween(now, refreshResult.staleTime());
+            this.prefetchAfterNanos = nanosBetween(now, refreshResult.prefetchTime());
+        }
+
+        private static long nanosBetween(Instant start, Instant end) {
+            try {
+                return Duration.between(start, end).toNanos();
+            } catch (ArithmeticException e) {
+                return end.isBefore(start) ? Long.MIN_VALUE : Long.MAX_VALUE;
+            }
+        }
+
+        private T value() {
+            return value;
+        }
+
+        private boolean isStale(long nanoTime) {
+            return nanoTime - createdNanos > staleAfterNanos;
+        }
+
+        private boolean isWithinGracePeriod(long nanoTime, long gracePeriodNanos) {
+            long graceEndNanos = staleAfterNanos > Long.MAX_VALUE - gracePeriodNanos ? Long.MAX_VALUE
+                                                                                     : staleAfterNanos + gracePeriodNanos;
+            return nanoTime - createdNanos <= graceEndNanos;
+        }
+
+        private boolean shouldPrefetch(long nanoTime) {
+            return nanoTime - createdNanos > prefetchAfterNanos;
+        }
     }
 
     /**
@@ -162,6 +339,8 @@ public final class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
     public static final class Builder<T> {
         private final Supplier<RefreshResult<T>> supplier;
         private PrefetchStrategy prefetchStrategy = new OneCallerBlocks();
+        private Executor asyncRefreshExecutor;
+        private Duration staleValueGracePeriod = Duration.ZERO;
 
         private Builder(Supplier<RefreshResult<T>> supplier) {
             this.supplier = supplier;
@@ -179,6 +358,30 @@ public final class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
             return this;
         }
 
+        /**
+         * Configure the executor on which refreshes initiated by {@link CachedSupplier#getAsync()}, or by {@link #get()} during
+         * the {@link #staleValueGracePeriod(Duration)}, are performed. Only one such refresh is in progress at a time.
+         *
+         * By default, the refresh is performed by a single background thread owned by the cache, which is started when a
+         * refresh is initiated and stopped once it has been idle for a few seconds or the cache is closed. A configured
+         * executor is not shut down when the cache is closed.
+         */
+        public Builder<T> asyncRefreshExecutor(Executor asyncRefreshExecutor) {
+            this.asyncRefreshExecutor = asyncRefreshExecutor;
+            return this;
+        }
+
+        /**
+         * Configure how long past the data's {@link RefreshResult#staleTime()} the stale value may still be returned while a
+         * single refresh is in progress, instead of blocking all callers until the value is updated.
+         *
+         * By default, this is zero and stale values are never returned.
+         */
+        public Builder<T> staleValueGracePeriod(Duration staleValueGracePeriod) {
+            this.staleValueGracePeriod = staleValueGracePeriod;
+            return this;
+        }
+
         /**
          * Create a {@link CachedSupplier} using the current configuration of this builder.
          */
@@ -200,6 +403,14 @@ public final class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
          */
         void prefetch(Runnable valueUpdater);
 
+        /**
+         * Invoked each time the cached value is updated, with the time at which the new value should be pre-fetched. Strategies
+         * that update the value in the background may use this to schedule the next update ahead of time, instead of waiting
+         * for a caller to initiate a {@link #prefetch(Runnable)}. The provided value updater does nothing if the value was
+         * updated in the meantime.
+         */
+        default void scheduleNextPrefetch(Runnable valueUpdater, Instant prefetchTime) {}
+
         /**
          * Free any resources associated with the strategy. This is invoked when the {@link CachedSupplier#close()} method is
          * invoked.
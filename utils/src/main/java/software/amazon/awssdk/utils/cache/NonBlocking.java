@@ -15,35 +15,82 @@
 
 package software.amazon.awssdk.utils.cache;
 
-import java.util.concurrent.ExecutorService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
-import software.amazon.awssdk.utils.ExecutorUtils;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * A {@link CachedSupplier.PrefetchStrategy} that will run a single thread in the background to update the value. A call to
  * prefetch on this strategy will never return.
  *
  * Multiple calls to {@link #prefetch(Runnable)} will still only result in one background task performing the update.
+ *
+ * Each time the value is updated, the next update is also scheduled ahead of the value's prefetch time, so that it usually
+ * completes before any caller observes the prefetch time. The scheduled time is moved earlier by a random jitter, so that many
+ * clients caching the same kind of value do not all refresh at the same moment. The jitter is only applied when the prefetch
+ * time moved past the previous one: a supplier returning the same prefetch time again, e.g. because it's bounded by the
+ * expiration of the value, would otherwise be refreshed again and again ahead of that time.
  */
 @SdkProtectedApi
 public class NonBlocking implements CachedSupplier.PrefetchStrategy {
+    /**
+     * The default maximum amount of time by which a scheduled update is moved ahead of the prefetch time.
+     */
+    private static final Duration DEFAULT_MAX_PREFETCH_JITTER = Duration.ofMinutes(1);
+
     /**
      * Whether we are currently refreshing the supplier. This is used to make sure only one caller is blocking at a time.
      */
     private final AtomicBoolean currentlyRefreshing = new AtomicBoolean(false);
 
+    /**
+     * The update scheduled by the last call to {@link #scheduleNextPrefetch(Runnable, Instant)}, if any.
+     */
+    private final AtomicReference<ScheduledFuture<?>> scheduledPrefetch = new AtomicReference<>();
+
+    /**
+     * The prefetch time of the last call to {@link #scheduleNextPrefetch(Runnable, Instant)}, if any.
+     */
+    private final AtomicReference<Instant> lastPrefetchTime = new AtomicReference<>();
+
     /**
      * Single threaded executor to asynchronous refresh the value.
      */
-    private final ExecutorService executor;
+    private final ScheduledThreadPoolExecutor executor;
+
+    private final long maxPrefetchJitterNanos;
 
     /**
      * Create a non-blocking prefetch strategy that uses the provided value for the name of the background thread that will be
      * performing the update.
      */
     public NonBlocking(String asyncThreadName) {
-        this.executor = ExecutorUtils.newSingleDaemonThreadExecutor(1, asyncThreadName);
+        this(asyncThreadName, DEFAULT_MAX_PREFETCH_JITTER);
+    }
+
+    /**
+     * Create a non-blocking prefetch strategy that uses the provided value for the name of the background thread that will be
+     * performing the update, and moves scheduled updates ahead of the prefetch time by a random jitter of up to the provided
+     * duration.
+     */
+    public NonBlocking(String asyncThreadName, Duration maxPrefetchJitter) {
+        this.maxPrefetchJitterNanos = Validate.isNotNegative(maxPrefetchJitter, "maxPrefetchJitter").toNanos();
+        this.executor = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder().daemonThreads(true)
+                                                                                     .threadNamePrefix(asyncThreadName)
+                                                                                     .build());
+        this.executor.setKeepAliveTime(5, TimeUnit.SECONDS);
+        this.executor.allowCoreThreadTimeOut(true);
+        this.executor.setRemoveOnCancelPolicy(true);
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
     }
 
     @Override
@@ -51,7 +98,7 @@ public class NonBlocking implements CachedSupplier.PrefetchStrategy {
         // Only run one async refresh at a time.
         if (currentlyRefreshing.compareAndSet(false, true)) {
             try {
-                executor.submit(() -> {
+                executor.execute(() -> {
                     try {
                         valueUpdater.run();
                     } finally {
@@ -65,6 +112,54 @@ public class NonBlocking implements CachedSupplier.PrefetchStrategy {
         }
     }
 
+    @Override
+    public void scheduleNextPrefetch(Runnable valueUpdater, Instant prefetchTime) {
+        long delayNanos = nanosUntil(prefetchTime);
+        Instant previousPrefetchTime = lastPrefetchTime.getAndSet(prefetchTime);
+
+        // Values that are already due are left to callers, to avoid refreshing in a loop.
+        if (delayNanos <= 0 || delayNanos == Long.MAX_VALUE || executor.isShutdown()) {
+            return;
+        }
+
+        boolean prefetchTimeAdvanced = previousPrefetchTime == null || prefetchTime.isAfter(previousPrefetchTime);
+        long jitterNanos = prefetchTimeAdvanced
+                           ? ThreadLocalRandom.current().nextLong(Math.min(maxPrefetchJitterNanos, delayNanos) + 1)
+                           : 0;
+        ScheduledFuture<?> scheduled = executor.schedule(() -> runExclusively(valueUpdater),
+                                                         delayNanos - jitterNanos, TimeUnit.NANOSECONDS);
+        ScheduledFuture<?> previous = scheduledPrefetch.getAndSet(scheduled);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    /**
+     * @return The update scheduled by the last call to {@link #scheduleNextPrefetch(Runnable, Instant)}, if any.
+     */
+    @SdkTestInternalApi
+    ScheduledFuture<?> scheduledPrefetch() {
+        return scheduledPrefetch.get();
+    }
+
+    private void runExclusively(Runnable valueUpdater) {
+        if (currentlyRefreshing.compareAndSet(false, true)) {
+            try {
+                valueUpdater.run();
+            } finally {
+                currentlyRefreshing.set(false);
+            }
+        }
+    }
+
+    private static long nanosUntil(Instant time) {
+        try {
+            return Duration.between(Instant.now(), time).toNanos();
+        } catch (ArithmeticException e) {
+            return time.isBefore(Instant.now()) ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
     @Override
     public void close() {
         executor.shutdown();
@@ -19,10 +19,13 @@ import static org.junit.Assert.fail;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
 import java.io.Closeable;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -238,6 +241,97 @@ public class CachedSupplierTest {
         }
     }
 
+    @Test
+    public void nonBlockingPrefetchStrategySchedulesRefreshBeforePrefetchTime() {
+        try (WaitingSupplier waitingSupplier = new WaitingSupplier(future(), Instant.now().plusMillis(200));
+             CachedSupplier<String> cachedSupplier = CachedSupplier.builder(waitingSupplier)
+                                                                   .prefetchStrategy(new NonBlocking("test-%s", Duration.ZERO))
+                                                                   .build()) {
+            // Perform one successful "get" to prime the cache.
+            waitingSupplier.permits.release(1);
+            waitFor(performAsyncGet(cachedSupplier));
+
+            // Without any further "get", the value is refreshed in the background once the prefetch time arrives.
+            waitingSupplier.waitForGetsToHaveStarted(2);
+        }
+    }
+
+    @Test
+    public void getAsyncReturnsCachedValue() {
+        try (WaitingSupplier waitingSupplier = new WaitingSupplier(future(), future())) {
+            CachedSupplier<String> cachedSupplier = CachedSupplier.builder(waitingSupplier).build();
+
+            // Perform one successful "get" to prime the cache.
+            waitingSupplier.permits.release(1);
+            waitFor(performAsyncGet(cachedSupplier));
+
+            Assert.assertEquals("value", cachedSupplier.getAsync().join());
+
+            // Make extra sure only 1 "get" actually happened.
+            waitingSupplier.waitForGetsToHaveFinished(1);
+        }
+    }
+
+    @Test
+    public void getAsyncRefreshesOffTheCallerThreadByDefault() {
+        List<Thread> refreshThreads = new CopyOnWriteArrayList<>();
+        try (CachedSupplier<String> cachedSupplier = CachedSupplier.builder(() -> {
+            refreshThreads.add(Thread.currentThread());
+            return RefreshResult.builder("value").staleTime(future()).build();
+        }).build()) {
+            Assert.assertEquals("value", invokeSafely(() -> cachedSupplier.getAsync().get(10, TimeUnit.SECONDS)));
+            Assert.assertEquals(1, refreshThreads.size());
+            Assert.assertNotSame(Thread.currentThread(), refreshThreads.get(0));
+        }
+    }
+
+    @Test
+    public void getAsyncOnStaleValueSharesOneRefresh() {
+        try (WaitingSupplier waitingSupplier = new WaitingSupplier(past(), future())) {
+            CachedSupplier<String> cachedSupplier = CachedSupplier.builder(waitingSupplier)
+                                                                  .asyncRefreshExecutor(executorService)
+                                                                  .build();
+
+            // Perform one successful "get" to prime the cache.
+            waitingSupplier.permits.release(1);
+            waitFor(performAsyncGet(cachedSupplier));
+
+            // Perform two "getAsync"s on the stale value, neither of which blocks.
+            CompletableFuture<String> first = cachedSupplier.getAsync();
+            CompletableFuture<String> second = cachedSupplier.getAsync();
+            waitingSupplier.waitForGetsToHaveStarted(2);
+            Assert.assertSame(first, second);
+            Assert.assertFalse(first.isDone());
+
+            // Release the refresh and make sure both callers get the refreshed value.
+            waitingSupplier.permits.release(1);
+            Assert.assertEquals("value", invokeSafely(() -> first.get(10, TimeUnit.SECONDS)));
+            waitingSupplier.waitForGetsToHaveFinished(2);
+        }
+    }
+
+    @Test
+    public void staleValueIsReturnedDuringGracePeriod() {
+        try (WaitingSupplier waitingSupplier = new WaitingSupplier(past(), future())) {
+            CachedSupplier<String> cachedSupplier = CachedSupplier.builder(waitingSupplier)
+                                                                  .asyncRefreshExecutor(executorService)
+                                                                  .staleValueGracePeriod(Duration.ofHours(1))
+                                                                  .build();
+
+            // Perform one successful "get" to prime the cache.
+            waitingSupplier.permits.release(1);
+            waitFor(performAsyncGet(cachedSupplier));
+
+            // Perform two successful "gets" on the stale value, which start a single refresh in the background.
+            Assert.assertEquals("value", cachedSupplier.get());
+            Assert.assertEquals("value", cachedSupplier.get());
+            waitingSupplier.waitForGetsToHaveStarted(2);
+
+            // Make sure only one "get" has actually happened (the async get is currently waiting to be released).
+            waitingSupplier.waitForGetsToHaveFinished(1);
+        }
+    }
+
     /**
      * Asynchronously perform a "get" on the provided supplier, returning the future that will be completed when the "get"
      * finishes.
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Validate the scheduling of {@link NonBlocking} prefetches.
+ */
+public class NonBlockingTest {
+
+    private final NonBlocking strategy = new NonBlocking("test-%s", Duration.ofHours(1));
+
+    @After
+    public void shutdown() {
+        strategy.close();
+    }
+
+    @Test
+    public void prefetchTimeNotAdvanced_ScheduledWithoutJitter() {
+        Instant prefetchTime = Instant.now().plus(Duration.ofHours(2));
+        strategy.scheduleNextPrefetch(() -> { }, prefetchTime);
+
+        strategy.scheduleNextPrefetch(() -> { }, prefetchTime);
+
+        assertThat(strategy.scheduledPrefetch().getDelay(TimeUnit.MINUTES)).isGreaterThanOrEqualTo(119);
+    }
+
+    @Test
+    public void prefetchTimeAdvanced_ScheduledWithinJitterOfPrefetchTime() {
+        strategy.scheduleNextPrefetch(() -> { }, Instant.now().plus(Duration.ofHours(2)));
+
+        strategy.scheduleNextPrefetch(() -> { }, Instant.now().plus(Duration.ofHours(3)));
+
+        assertThat(strategy.scheduledPrefetch().getDelay(TimeUnit.MINUTES)).isBetween(119L, 180L);
+    }
+}